@@ -3,9 +3,13 @@ package greencity.aspects;
 import greencity.annotations.CurrentUserId;
 import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.NotCurrentUserException;
+import greencity.security.jwt.UserPrincipal;
 import greencity.service.UserService;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -21,6 +25,19 @@ import org.springframework.stereotype.Component;
 @Aspect
 @Component
 public class CurrentUserIdValidationAspect {
+    private static final int NO_POSITION = -1;
+
+    /**
+     * Position of the current user id parameter by controller class and method, computed once per method.
+     */
+    private static final ClassValue<Map<Method, Integer>> USER_ID_POSITIONS =
+        new ClassValue<Map<Method, Integer>>() {
+            @Override
+            protected Map<Method, Integer> computeValue(Class<?> targetClass) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final UserService userService;
 
     /**
@@ -41,14 +58,15 @@ public class CurrentUserIdValidationAspect {
      * parameter at an arbitrary position.
      *
      * @param joinPoint {@link JoinPoint} that is used for annotated parameter observation.
-     * @throws NoSuchMethodException    if the method pointed by joinPoint cannot be found.
      * @throws IllegalArgumentException if the supplied user id does not match real authenticated users id.
      */
     @Before("execution(public * greencity.controller..*.*(..,java.lang.Long,..))")
-    public void validateCurrentUserIdParameter(JoinPoint joinPoint) throws NoSuchMethodException {
+    public void validateCurrentUserIdParameter(JoinPoint joinPoint) {
         getAnnotatedArgument(joinPoint).ifPresent(userId -> {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            Long currentUserId = userService.findByEmail(authentication.getName()).getId();
+            Long currentUserId = authentication.getPrincipal() instanceof UserPrincipal
+                ? ((UserPrincipal) authentication.getPrincipal()).getId()
+                : userService.findIdByEmail(authentication.getName());
             if (!currentUserId.equals(userId)) {
                 throw new NotCurrentUserException(ErrorMessage.NOT_A_CURRENT_USER);
             }
@@ -61,23 +79,40 @@ public class CurrentUserIdValidationAspect {
      *
      * @param joinPoint is used for annotated parameter observation.
      * @return {@link Optional} containing supplied user id or empty Optional if the parameter cannot be found.
-     * @throws NoSuchMethodException if the method pointed by joinPoint cannot be found.
      */
-    private Optional<Long> getAnnotatedArgument(JoinPoint joinPoint) throws NoSuchMethodException {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String methodName = signature.getMethod().getName();
-        Class<?>[] parameterTypes = signature.getMethod().getParameterTypes();
-        Annotation[][] annotations = joinPoint.getTarget().getClass()
-            .getMethod(methodName, parameterTypes).getParameterAnnotations();
+    private Optional<Long> getAnnotatedArgument(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        int position = USER_ID_POSITIONS.get(targetClass)
+            .computeIfAbsent(method, key -> findUserIdPosition(targetClass, key));
+        return position == NO_POSITION ? Optional.empty() : Optional.of((Long) joinPoint.getArgs()[position]);
+    }
+
+    /**
+     * Finds position of {@link Long} parameter annotated with {@link CurrentUserId} in the method
+     * as it is declared in the target class.
+     *
+     * @param targetClass class of the controller.
+     * @param method      method pointed by the join point.
+     * @return position of the parameter or {@code -1} if there is no such parameter.
+     */
+    private static int findUserIdPosition(Class<?> targetClass, Method method) {
+        Method targetMethod;
+        try {
+            targetMethod = targetClass.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            targetMethod = method;
+        }
+        Class<?>[] parameterTypes = targetMethod.getParameterTypes();
+        Annotation[][] annotations = targetMethod.getParameterAnnotations();
         for (int i = 0; i < annotations.length; i++) {
-            Annotation[] parameterAnnotations = annotations[i];
-            for (Annotation parameterAnnotation : parameterAnnotations) {
+            for (Annotation parameterAnnotation : annotations[i]) {
                 if (parameterAnnotation.annotationType().equals(CurrentUserId.class)
                     && parameterTypes[i].equals(Long.class)) {
-                    return Optional.of((Long) joinPoint.getArgs()[i]);
+                    return i;
                 }
             }
         }
-        return Optional.empty();
+        return NO_POSITION;
     }
 }
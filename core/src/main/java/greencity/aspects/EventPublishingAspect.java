@@ -4,6 +4,11 @@ import greencity.annotations.EventPublishing;
 import greencity.constant.ErrorMessage;
 import greencity.event.CustomApplicationEvent;
 import greencity.exception.exceptions.EventCreationException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
@@ -20,6 +25,17 @@ import org.springframework.stereotype.Component;
 @Aspect
 @Component
 public class EventPublishingAspect {
+    /**
+     * Constructors of events by event class and class of event data, looked up once per pair.
+     */
+    private static final ClassValue<Map<Class<?>, MethodHandle>> EVENT_CONSTRUCTORS =
+        new ClassValue<Map<Class<?>, MethodHandle>>() {
+            @Override
+            protected Map<Class<?>, MethodHandle> computeValue(Class<?> eventClass) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private ApplicationEventPublisher publisher;
     private RabbitTemplate rabbitTemplate;
 
@@ -73,17 +89,43 @@ public class EventPublishingAspect {
      */
     private ApplicationEvent buildEvent(
         Class<? extends CustomApplicationEvent> eventClass, Object body, Object source) {
+        Class<?> bodyClass = body == null ? Void.class : body.getClass();
+        MethodHandle constructor = EVENT_CONSTRUCTORS.get(eventClass)
+            .computeIfAbsent(bodyClass, key -> findConstructor(eventClass, key));
+        try {
+            return (ApplicationEvent) constructor.invokeExact(source, body);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // exception thrown by the constructor of the event
+            throw new EventCreationException(ErrorMessage.CAN_NOT_CREATE_EVENT_INSTANCE);
+        }
+    }
+
+    /**
+     * Finds constructor of event, that takes the source and the body, or only the source if there is
+     * no such one, and adapts it to the {@code (Object source, Object body)} signature.
+     *
+     * @param eventClass class of needed event.
+     * @param bodyClass  class of data, that will be put into event, {@link Void} if there is no data.
+     * @return {@link MethodHandle} of constructor.
+     */
+    private static MethodHandle findConstructor(Class<?> eventClass, Class<?> bodyClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodType type = MethodType.methodType(ApplicationEvent.class, Object.class, Object.class);
         try {
-            if (body == null) {
-                return eventClass.getConstructor(Object.class).newInstance(source);
+            if (bodyClass != Void.class) {
+                return lookup.unreflectConstructor(eventClass.getConstructor(Object.class, bodyClass)).asType(type);
             }
-            return eventClass.getConstructor(Object.class, body.getClass()).newInstance(source, body);
         } catch (ReflectiveOperationException e) {
-            try {
-                return eventClass.getConstructor(Object.class).newInstance(source);
-            } catch (ReflectiveOperationException ex) {
-                throw new EventCreationException(ErrorMessage.CAN_NOT_CREATE_EVENT_INSTANCE);
-            }
+            // falls back to constructor with the source only
+        }
+        try {
+            MethodHandle constructor = lookup.unreflectConstructor(eventClass.getConstructor(Object.class))
+                .asType(type.dropParameterTypes(1, 2));
+            return MethodHandles.dropArguments(constructor, 1, Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new EventCreationException(ErrorMessage.CAN_NOT_CREATE_EVENT_INSTANCE);
         }
     }
-}
\ No newline at end of file
+}
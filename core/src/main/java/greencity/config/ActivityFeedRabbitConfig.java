@@ -0,0 +1,49 @@
+package greencity.config;
+
+import static greencity.constant.RabbitConstants.*;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of RabbitMQ exchanges and queues used for delivering activities to friends' feeds.
+ */
+@Configuration
+public class ActivityFeedRabbitConfig {
+    /**
+     * Topic exchange declaration that is used for activity feed messages.
+     *
+     * @return topic exchange for activity feed messages.
+     */
+    @Bean
+    public TopicExchange activityFeedExchange() {
+        return new TopicExchange(ACTIVITY_FEED_EXCHANGE_NAME);
+    }
+
+    /**
+     * Queue of activities waiting to be added to feeds of the actor's friends.
+     *
+     * @return durable queue of friend activities.
+     */
+    @Bean
+    public Queue friendActivityQueue() {
+        return new Queue(FRIEND_ACTIVITY_QUEUE_NAME, true);
+    }
+
+    /**
+     * The binding that is used for linking activity feed exchange to friend activity queue.
+     *
+     * @return Binding with activity feed exchange and friend activity queue linked.
+     */
+    @Bean
+    public Binding friendActivityQueueToActivityFeedBinding(TopicExchange activityFeedExchange) {
+        return BindingBuilder
+            .bind(friendActivityQueue())
+            .to(activityFeedExchange)
+            .with(FRIEND_ACTIVITY_ROUTING_KEY);
+    }
+}
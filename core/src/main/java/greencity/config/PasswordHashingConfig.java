@@ -0,0 +1,48 @@
+package greencity.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Config of the executor that runs password hashing requests.
+ *
+ * <p>BCrypt is deliberately slow, so sign-in, sign-up and password updates are moved off the servlet
+ * threads onto a small pool with a bounded queue. When the queue is full new requests are rejected
+ * instead of waiting, which keeps a burst of logins from stalling the rest of the API.
+ */
+@Configuration
+public class PasswordHashingConfig {
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    /**
+     * Bean {@link ThreadPoolTaskExecutor} that runs password hashing requests.
+     *
+     * @param poolSize      amount of hashing threads.
+     * @param queueCapacity amount of requests that may wait for a thread.
+     * @param meterRegistry registry of queue depth and active threads gauges.
+     */
+    @Bean(PASSWORD_HASHING_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+        @Value("${passwordHashing.poolSize:4}") int poolSize,
+        @Value("${passwordHashing.queueCapacity:100}") int queueCapacity,
+        MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+        Gauge.builder("password.hashing.queued", executor,
+            pool -> pool.getThreadPoolExecutor().getQueue().size())
+            .description("Password hashing requests waiting for a thread")
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .description("Password hashing requests in progress")
+            .register(meterRegistry);
+        return executor;
+    }
+}
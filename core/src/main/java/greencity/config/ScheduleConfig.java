@@ -8,11 +8,15 @@ import greencity.repository.HabitRepo;
 import greencity.repository.UserRepo;
 import lombok.AllArgsConstructor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
@@ -21,6 +25,7 @@ import java.util.Optional;
 
 import static greencity.constant.CacheConstants.FACT_OF_THE_DAY_CACHE_NAME;
 import static greencity.constant.CacheConstants.HABIT_FACT_OF_DAY_CACHE;
+import static greencity.constant.CacheConstants.USER_ID_BY_EMAIL_CACHE_NAME;
 import static greencity.constant.RabbitConstants.EMAIL_TOPIC_EXCHANGE_NAME;
 import static greencity.constant.RabbitConstants.SEND_HABIT_NOTIFICATION_ROUTING_KEY;
 import static greencity.entity.enums.EmailNotification.*;
@@ -129,9 +134,24 @@ public class ScheduleConfig {
      *
      * @author Vasyl Zhovnir
      **/
+    @CacheEvict(value = USER_ID_BY_EMAIL_CACHE_NAME, allEntries = true)
     @Scheduled(cron = "0 0 0 * * *")
     @Transactional
     public void scheduleDeleteDeactivatedUsers() {
         userRepo.scheduleDeleteDeactivatedUsers();
     }
+
+    /**
+     * Bean {@link ThreadPoolTaskScheduler} that runs {@link Scheduled} jobs. Without it the jobs would run
+     * on the heartbeat scheduler of the message broker, the only other scheduler in the context.
+     *
+     * @param poolSize amount of threads of scheduled jobs.
+     */
+    @Bean(ScheduledAnnotationBeanPostProcessor.DEFAULT_TASK_SCHEDULER_BEAN_NAME)
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.poolSize:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
 }
@@ -3,15 +3,25 @@ package greencity.config;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
+import greencity.security.encoder.TimedPasswordEncoder;
 import greencity.security.filters.AccessTokenAuthenticationFilter;
+import greencity.security.filters.ConcurrencyLimitFilter;
+import greencity.security.google.CachingGoogleIdTokenVerifier;
+import greencity.security.google.GooglePublicKeysStore;
 import greencity.security.jwt.JwtTool;
 import greencity.security.providers.JwtAuthenticationProvider;
+import greencity.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import org.apache.catalina.filters.RemoteIpFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -41,21 +51,28 @@ import static javax.servlet.http.HttpServletResponse.SC_UNAUTHORIZED;
 @EnableWebSecurity
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final JwtTool jwtTool;
+    private final UserService userService;
+    private final int ownSecurityConcurrencyLimit;
 
     /**
      * Constructor.
      */
     @Autowired
-    public SecurityConfig(JwtTool jwtTool) {
+    public SecurityConfig(JwtTool jwtTool, @Lazy UserService userService,
+                          @Value("${ownSecurity.concurrentRequestsPerAddress:4}") int ownSecurityConcurrencyLimit) {
         this.jwtTool = jwtTool;
+        this.userService = userService;
+        this.ownSecurityConcurrencyLimit = ownSecurityConcurrencyLimit;
     }
 
     /**
      * Bean {@link PasswordEncoder} that uses in coding password.
+     *
+     * @param meterRegistry registry of the hashing time.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     /**
@@ -75,6 +92,11 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 new AccessTokenAuthenticationFilter(jwtTool, authenticationManager()),
                 UsernamePasswordAuthenticationFilter.class
             )
+            .addFilterBefore(
+                new ConcurrencyLimitFilter("/ownSecurity/**", ownSecurityConcurrencyLimit),
+                AccessTokenAuthenticationFilter.class
+            )
+            .addFilterBefore(new RemoteIpFilter(), ConcurrencyLimitFilter.class)
             .exceptionHandling()
             .authenticationEntryPoint((req, resp, exc) -> resp.sendError(SC_UNAUTHORIZED, "Authorize first."))
             .accessDeniedHandler((req, resp, exc) -> resp.sendError(SC_FORBIDDEN, "You don't have authorities."))
@@ -149,12 +171,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 "/achievements",
                 "/facts/dayFact/*",
                 "/user/{userId}/sixUserFriends/",
+                "/user/{userId}/friendSuggestions/",
+                "/user/leaderboard",
+                "/user/{userId}/rank",
+                "/user/{userId}/feed",
                 "/user/{userId}/profile/",
                 "/user/{userId}/profileStatistics/",
                 "/goals/shoppingList/{userId}/language/{languageCode}",
                     "/user/userAndSixFriendsWithOnlineStatus",
                     "/user/userAndAllFriendsWithOnlineStatus"
             ).hasAnyRole(USER, ADMIN, MODERATOR)
+            .antMatchers(HttpMethod.GET,
+                "/place/duplicates/**"
+            ).hasAnyRole(ADMIN, MODERATOR)
             .antMatchers(
                 "/place/propose/**",
                 "/place/{status}/**",
@@ -268,7 +297,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      */
     @Override
     protected void configure(AuthenticationManagerBuilder auth) {
-        auth.authenticationProvider(new JwtAuthenticationProvider(jwtTool));
+        auth.authenticationProvider(new JwtAuthenticationProvider(jwtTool, userService));
     }
 
     /**
@@ -301,15 +330,28 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     }
 
     /**
-     * Bean {@link GoogleIdTokenVerifier} that uses in verify googleIdToken.
+     * Bean {@link GooglePublicKeysStore} that keeps the keys Google signs ID tokens with.
+     */
+    @Bean
+    public GooglePublicKeysStore googlePublicKeysStore() {
+        return new GooglePublicKeysStore(new NetHttpTransport(), JacksonFactory.getDefaultInstance(),
+            GOOGLE_PUBLIC_CERTS_URL, Clock.systemUTC());
+    }
+
+    /**
+     * Bean {@link CachingGoogleIdTokenVerifier} that uses in verify googleIdToken.
      *
-     * @param clientId {@link String} - google client id.
+     * @param clientId              {@link String} - google client id.
+     * @param googlePublicKeysStore {@link GooglePublicKeysStore} - keys the tokens are signed with.
      */
     @Bean
-    public GoogleIdTokenVerifier googleIdTokenVerifier(@Value("${google.clientId}") String clientId) {
-        return new GoogleIdTokenVerifier
+    public CachingGoogleIdTokenVerifier googleIdTokenVerifier(@Value("${google.clientId}") String clientId,
+                                                              GooglePublicKeysStore googlePublicKeysStore) {
+        GoogleIdTokenVerifier claimsVerifier = new GoogleIdTokenVerifier
             .Builder(new NetHttpTransport(), JacksonFactory.getDefaultInstance())
             .setAudience(Collections.singletonList(clientId))
             .build();
+        return new CachingGoogleIdTokenVerifier(claimsVerifier, googlePublicKeysStore, Clock.systemUTC(),
+            Duration.ofMillis(VERIFIED_GOOGLE_TOKENS_TTL), VERIFIED_GOOGLE_TOKENS_MAX_SIZE);
     }
 }
@@ -1,9 +1,12 @@
 package greencity.config;
 
+import greencity.converters.PlaceMarkersHttpMessageConverter;
 import greencity.security.interceptor.UserActivityInterceptor;
 import greencity.service.UserService;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -16,5 +19,14 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new UserActivityInterceptor(userService));
     }
+
+    /**
+     * Adds the binary format of map markers after the default converters, so JSON stays the
+     * response format for clients that accept any type.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PlaceMarkersHttpMessageConverter());
+    }
 }
 
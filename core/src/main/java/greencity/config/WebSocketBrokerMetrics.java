@@ -0,0 +1,146 @@
+package greencity.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * Metrics of the STOMP broker: open sessions, sessions dropped for being too slow, messages passed
+ * through the client channels and queues of the channel executors.
+ *
+ * <p>Message counts are monotonic counters, so monitoring reports them as messages per second.
+ */
+public class WebSocketBrokerMetrics implements MeterBinder {
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final LongAdder droppedSessions = new LongAdder();
+    private final LongAdder inboundMessages = new LongAdder();
+    private final LongAdder outboundMessages = new LongAdder();
+    private final Map<String, ThreadPoolTaskExecutor> executors = new LinkedHashMap<>();
+
+    /**
+     * Adds queue size and active threads of the channel executor to the metrics.
+     *
+     * @param channel  name of the channel.
+     * @param executor executor of the channel.
+     */
+    public void monitor(String channel, ThreadPoolTaskExecutor executor) {
+        executors.put(channel, executor);
+    }
+
+    /**
+     * Returns amount of open WebSocket sessions.
+     *
+     * @return amount of sessions.
+     */
+    public int getSessions() {
+        return sessions.get();
+    }
+
+    /**
+     * Returns amount of sessions closed because they could not keep up with sent messages.
+     *
+     * @return amount of dropped sessions.
+     */
+    public long getDroppedSessions() {
+        return droppedSessions.sum();
+    }
+
+    /**
+     * Returns interceptor that counts messages received from clients.
+     *
+     * @return {@link ChannelInterceptor}.
+     */
+    public ChannelInterceptor inboundCounter() {
+        return counter(inboundMessages);
+    }
+
+    /**
+     * Returns interceptor that counts messages sent to clients.
+     *
+     * @return {@link ChannelInterceptor}.
+     */
+    public ChannelInterceptor outboundCounter() {
+        return counter(outboundMessages);
+    }
+
+    /**
+     * Returns decorator factory that counts open and dropped sessions.
+     *
+     * @return {@link WebSocketHandlerDecoratorFactory}.
+     */
+    public WebSocketHandlerDecoratorFactory sessionCounter() {
+        return handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    droppedSessions.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("websocket.sessions", sessions, AtomicInteger::get)
+            .description("Open WebSocket sessions")
+            .register(registry);
+        FunctionCounter.builder("websocket.sessions.dropped", droppedSessions, LongAdder::sum)
+            .description("Sessions closed for exceeding the send time or buffer limit")
+            .register(registry);
+        FunctionCounter.builder("websocket.messages", inboundMessages, LongAdder::sum)
+            .tag("direction", "inbound")
+            .description("Messages received from clients")
+            .register(registry);
+        FunctionCounter.builder("websocket.messages", outboundMessages, LongAdder::sum)
+            .tag("direction", "outbound")
+            .description("Messages sent to clients")
+            .register(registry);
+        executors.forEach((channel, executor) -> {
+            Gauge.builder("websocket.channel.queued", executor,
+                pool -> pool.getThreadPoolExecutor().getQueue().size())
+                .tag("channel", channel)
+                .description("Messages waiting for a channel thread")
+                .register(registry);
+            Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("Messages being handled by channel threads")
+                .register(registry);
+        });
+    }
+
+    private static ChannelInterceptor counter(LongAdder messages) {
+        return new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                if (sent) {
+                    messages.increment();
+                }
+            }
+        };
+    }
+}
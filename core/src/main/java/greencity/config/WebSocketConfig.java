@@ -1,17 +1,68 @@
 package greencity.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * Config of the STOMP broker.
+ *
+ * <p>Client channels run on dedicated pools with bounded queues. Every session gets a send time
+ * limit and a send buffer limit, so a client that cannot keep up is disconnected instead of holding
+ * an outbound thread. The broker and clients exchange heartbeats, which closes dead connections
+ * that were never closed properly.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final WebSocketBrokerMetrics metrics = new WebSocketBrokerMetrics();
+    private TaskScheduler heartbeatScheduler;
+
+    @Value("${websocket.inbound.poolSize:8}")
+    private int inboundPoolSize;
+    @Value("${websocket.inbound.queueCapacity:10000}")
+    private int inboundQueueCapacity;
+    @Value("${websocket.outbound.poolSize:8}")
+    private int outboundPoolSize;
+    @Value("${websocket.outbound.queueCapacity:10000}")
+    private int outboundQueueCapacity;
+    @Value("${websocket.sendTimeLimit:10000}")
+    private int sendTimeLimit;
+    @Value("${websocket.sendBufferSizeLimit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${websocket.messageSizeLimit:65536}")
+    private int messageSizeLimit;
+    @Value("${websocket.heartbeat:10000}")
+    private long heartbeat;
+
+    /**
+     * Sets scheduler of broker heartbeats. It is created by the broker configuration itself, so it is
+     * injected lazily.
+     *
+     * @param heartbeatScheduler {@link TaskScheduler} of the broker.
+     */
+    @Autowired
+    public void setHeartbeatScheduler(
+        @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic")
+            .setHeartbeatValue(new long[] {heartbeat, heartbeat})
+            .setTaskScheduler(heartbeatScheduler);
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -21,4 +72,45 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .setAllowedOrigins("*")
             .withSockJS();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(inboundPoolSize)
+            .maxPoolSize(inboundPoolSize)
+            .queueCapacity(inboundQueueCapacity);
+        registration.interceptors(metrics.inboundCounter());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(outboundPoolSize)
+            .maxPoolSize(outboundPoolSize)
+            .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(metrics.outboundCounter());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setMessageSizeLimit(messageSizeLimit)
+            .addDecoratorFactory(metrics.sessionCounter());
+    }
+
+    /**
+     * Bean {@link WebSocketBrokerMetrics} that reports sessions, messages and channel queues of the broker.
+     *
+     * @param inboundExecutor  executor of messages received from clients.
+     * @param outboundExecutor executor of messages sent to clients.
+     */
+    @Bean
+    public WebSocketBrokerMetrics webSocketBrokerMetrics(
+        @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+        @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        metrics.monitor("inbound", inboundExecutor);
+        metrics.monitor("outbound", outboundExecutor);
+        return metrics;
+    }
+}
@@ -10,10 +10,48 @@ public final class AppConstant {
     public static final String MODERATOR = "MODERATOR";
     public static final String USER = "USER";
     public static final String AUTHORITIES = "authorities";
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String USER_STATUS_CLAIM = "userStatus";
     public static final String VALIDATION_EMAIL = "^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$";
     public static final String DEFAULT_LANGUAGE_CODE = "en";
     public static final String VALIDATION_FOLDER = "(^eco_news$)";
     public static final Float DEFAULT_RATING = 0.0f;
+    public static final long TAG_INDEX_REBUILD_DELAY = 3_600_000L;
+    public static final int RECOMMENDED_ECO_NEWS_AMOUNT = 3;
+    public static final long RANDOM_CONTENT_POOL_REFRESH_DELAY = 600_000L;
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final long OUTBOX_RELAY_DELAY = 1_000L;
+    public static final int OUTBOX_BATCH_SIZE = 100;
+    public static final long OUTBOX_CONFIRM_TIMEOUT = 5_000L;
+    public static final long OUTBOX_RETRY_DELAY = 5_000L;
+    public static final long OUTBOX_MAX_RETRY_DELAY = 600_000L;
+    public static final String GOOGLE_PUBLIC_CERTS_URL = "https://www.googleapis.com/oauth2/v1/certs";
+    public static final long GOOGLE_PUBLIC_KEYS_CHECK_DELAY = 60_000L;
+    public static final long GOOGLE_PUBLIC_KEYS_REFRESH_SKEW = 300_000L;
+    public static final long VERIFIED_GOOGLE_TOKENS_TTL = 60_000L;
+    public static final int VERIFIED_GOOGLE_TOKENS_MAX_SIZE = 10_000;
+    public static final long FRIENDSHIP_GRAPH_REBUILD_DELAY = 3_600_000L;
+    public static final int TOP_RATED_FRIENDS_AMOUNT = 6;
+    public static final int FRIEND_SUGGESTIONS_AMOUNT = 10;
+    public static final long RATING_LEADERBOARD_REBUILD_DELAY = 3_600_000L;
+    public static final int LEADERBOARD_MAX_SIZE = 100;
+    public static final int FEED_TIMELINE_CAPACITY = 200;
+    public static final int FEED_TIMELINES_MAX_SIZE = 10_000;
+    public static final long FEED_TIMELINE_TTL = 600_000L;
+    public static final int FEED_PAGE_MAX_SIZE = 50;
+    public static final int ACTIVITY_RETENTION_DAYS = 90;
+    public static final long ACTIVITY_CLEANUP_DELAY = 86_400_000L;
+    public static final long COMMENT_LIKES_BROADCAST_DELAY = 250L;
+    public static final int MARKER_CLUSTERS_MAX_ZOOM = 15;
+    public static final int MARKER_CLUSTER_CELL_SIZE = 64;
+    public static final int MARKER_CLUSTERS_MAX_CELLS = 1024;
+    public static final int MARKER_CLUSTERS_MAX_MARKERS = 1000;
+    public static final long MARKER_CLUSTERS_REBUILD_DELAY = 600_000L;
+    public static final long MARKER_CLUSTERS_REFRESH_DELAY = 5_000L;
+    public static final int FAVORITE_PLACES_CACHE_MAX_SIZE = 10_000;
+    public static final long FAVORITE_PLACES_CACHE_TTL = 600_000L;
+    public static final long DUPLICATE_PLACES_REBUILD_DELAY = 600_000L;
+    public static final int HABIT_ENROLLMENT_MAX_DAYS_BACK = 365;
 
     private AppConstant() {
     }
@@ -10,6 +10,8 @@ public final class CacheConstants {
     public static final String HABIT_FACT_OF_DAY_CACHE = "habit_fact_of_day_cache";
     public static final String TIPS_AND_TRICKS_CACHE_NAME = "tips_and_tricks_cache";
     public static final String FACT_OF_THE_DAY_CACHE_NAME = "fact_of_the_day_cache";
+    public static final String USER_ID_BY_EMAIL_CACHE_NAME = "user_id_by_email_cache";
+    public static final String USER_STATUS_CACHE_NAME = "user_status_cache";
 
     private CacheConstants() {
     }
@@ -8,6 +8,7 @@ public final class ErrorMessage {
     public static final String FAVORITE_PLACE_NOT_FOUND = "The favorite place does not exist ";
     public static final String FAVORITE_PLACE_ALREADY_EXISTS =
         "Favorite place already exist for this placeId: %d and user with email: %s";
+    public static final String FAVORITE_PLACE_STATUSES_WITHOUT_CRITERIA = "Place ids or map bounds must be given";
     public static final String PLACE_STATUS_NOT_DIFFERENT = "Place with id: %d already has this status: %s";
     public static final String LOCATION_NOT_FOUND_BY_ID = "The location does not exist by this id: ";
     public static final String DISCOUNT_NOT_FOUND_BY_ID = "The discount does not exist by this id: ";
@@ -36,6 +37,8 @@ public final class ErrorMessage {
     public static final String NO_ANY_VERIFY_EMAIL_TO_DELETE = "No any VerifyEmail to delete with this id: ";
     public static final String REPEATING_VALUE_OF_WEEKDAY_VALUE = "Value of week day repeating";
     public static final String USER_DEACTIVATED = "User is deactivated";
+    public static final String ACCESS_TOKEN_WITHOUT_USER = "Access token has no user id or status";
+    public static final String USER_STATUS_CHANGED = "User status has changed, access token must be refreshed";
     public static final String BAD_GOOGLE_TOKEN = "Bad google token";
     public static final String BAD_FACEBOOK_TOKEN = "Bad facebook token";
     public static final String NOT_SAVE_DELETION = "This is can't be deleted";
@@ -133,6 +136,7 @@ public final class ErrorMessage {
     public static final String WRONG_COUNT_OF_TAGS_EXCEPTION =
         "Count of tags should be at least one but not more three";
     public static final String NOT_FOUND_ANY_FRIENDS = "Not found any friends by id: ";
+    public static final String USER_NOT_ON_LEADERBOARD = "The user is not on the leaderboard: ";
     public static final String FRIEND_EXISTS = "Friend with this id has already been added : ";
     public static final String CANNOT_REPLY_THE_REPLY = "Can not make a reply to a reply";
     public static final String CANNOT_REPLY_TO_DELETED_COMMENT = "Can not reply to deleted comment";
@@ -155,6 +159,8 @@ public final class ErrorMessage {
     public static final String WRONG_PARAMETER = "You must choose one goal id  custom or simple. ";
     public static final String HABIT_HAS_BEEN_ALREADY_IN_THAT_DAY = "Habit has been enrolled";
     public static final String HABIT_IS_NOT_ENROLLED = "Habit is not enrolled";
+    public static final String HABIT_ENROLLMENT_DATE_OUT_OF_RANGE = "Habit can be enrolled only for the last "
+        + AppConstant.HABIT_ENROLLMENT_MAX_DAYS_BACK + " days";
 
     private ErrorMessage() {
     }
@@ -3,6 +3,7 @@ package greencity.constant;
 public final class LogMessage {
     public static final String IN_SAVE = "in save(), entity: {}";
     public static final String IN_FIND_BY_ID = "in findById(), id: {}";
+    public static final String IN_FIND_DUPLICATES = "in findDuplicates(), id: {}";
     public static final String IN_UPDATE = "in update(), updated entity: {}";
     public static final String IN_DELETE_BY_ID = "in deleteById(), id: {}";
     public static final String IN_FIND_ALL = "in findAll()";
@@ -20,11 +21,13 @@ public final class LogMessage {
     public static final String SET_PLACE_TO_LOCATION = "in setPlaceToLocation(Place place) - {}";
     public static final String CREATE_CATEGORY_BY_NAME = "in createCategoryByName(String name) - {}";
     public static final String IN_GET_FAVORITE_PLACE_WITH_LOCATION = "in getFavoritePlaceWithLocation(), place id: {} and email: {}";
+    public static final String IN_GET_FAVORITE_PLACE_STATUSES = "in getStatuses(), user id: {}";
     public static final String IN_GET_FAVORITE_PLACE_WITH_PLACE_ID = "in getFavoritePlaceWithPlaceId(), email: {}";
     public static final String SET_PLACE_TO_DISCOUNTS = "in setToDiscountPlaceAndCategoty()";
     public static final String IN_UPDATE_DISCOUNT_FOR_PLACE = "in updateDiscountForUpdatedPlace()";
     public static final String IN_UPDATE_OPENING_HOURS_FOR_PLACE = "in updateOpeningHoursForUpdatedPlace()";
     public static final String IN_SEND_IMMEDIATELY_REPORT = "in sendImmediatelyReport(), newPlace: {}";
+    public static final String IN_SEND_IMMEDIATELY_REPORTS = "in sendImmediatelyReports(), places count: {}";
     public static final String IN_SEND_DAILY_REPORT = "in sendDailyReport(), time: {}";
     public static final String IN_SEND_WEEKLY_REPORT = "in sendWeeklyReport(), time: {}";
     public static final String IN_SEND_MONTHLY_REPORT = "in sendMonthlyReport(), time: {}";
@@ -32,6 +35,9 @@ public final class LogMessage {
     public static final String IN_GET_SUBSCRIBERS = "in getSubscribers(), notificationType: {}";
     public static final String IN_GET_CATEGORIES_WITH_PLACES_MAP = "in getCategoriesWithPlacesMap(), places: {}";
     public static final String IN_GET_UNIQUE_CATEGORIES_FROM_PLACES = "in getUniqueCategoriesFromPlaces(), places: {}";
+    public static final String IN_RECONCILE_USER_COUNTERS = "in reconcileUserCounters(), reconciled users: {}";
+    public static final String OUTBOX_MESSAGE_NOT_PUBLISHED = "Outbox message {} was not published, attempt {}";
+    public static final String GOOGLE_PUBLIC_KEYS_NOT_REFRESHED = "Google public keys were not refreshed: {}";
 
     private LogMessage() {
     }
@@ -8,6 +8,9 @@ public final class RabbitConstants {
     public static final String VERIFY_EMAIL_ROUTING_KEY = "verify.email";
     public static final String SEND_REPORT_ROUTING_KEY = "send.report";
     public static final String SEND_HABIT_NOTIFICATION_ROUTING_KEY = "send.habit.notification";
+    public static final String ACTIVITY_FEED_EXCHANGE_NAME = "activity-feed-exchange";
+    public static final String FRIEND_ACTIVITY_ROUTING_KEY = "activity.friend";
+    public static final String FRIEND_ACTIVITY_QUEUE_NAME = "friend-activity-queue";
 
     private RabbitConstants() {
     }
@@ -4,10 +4,7 @@ public final class RepoConstants {
     public static final String LOCATION = "location";
     public static final String LOCATION_LAT = "lat";
     public static final String LOCATION_LNG = "lng";
-    public static final String HOURS_LIST = "openingHoursList";
-    public static final String HOURS_DAY = "weekDay";
-    public static final String HOURS_OPEN = "openTime";
-    public static final String HOURS_CLOSE = "closeTime";
+    public static final String OPEN_MINUTES = "openMinutes";
     public static final String SPECIFICATION = "specification";
     public static final String DISCOUNT_VALUES = "discountValues";
     public static final String MODIFIED_DATE = "modifiedDate";
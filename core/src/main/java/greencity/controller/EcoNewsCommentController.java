@@ -5,7 +5,6 @@ import greencity.constant.HttpStatuses;
 import greencity.dto.PageableDto;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoRequest;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoResponse;
-import greencity.dto.econewscomment.AmountCommentLikesDto;
 import greencity.dto.econewscomment.EcoNewsCommentDto;
 import greencity.entity.User;
 import greencity.service.EcoNewsCommentService;
@@ -20,8 +19,6 @@ import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -182,6 +179,7 @@ public class EcoNewsCommentController {
 
     /**
      * Method to like/dislike certain {@link greencity.entity.EcoNewsComment} specified by id.
+     * Subscribers of {@code /topic/econews/{ecoNewsId}/comment} receive the new amount of likes.
      *
      * @param id of {@link greencity.entity.EcoNewsComment} to like/dislike
      */
@@ -213,19 +211,6 @@ public class EcoNewsCommentController {
         return ecoNewsCommentService.countLikes(id);
     }
 
-    /**
-     * Method to like/dislike comment and count likes.
-     *
-     * @param id specifies comment
-     * @return amount of likes
-     */
-    @MessageMapping("/likeAndCount")
-    @SendTo("/topic/comment")
-    public AmountCommentLikesDto getCountOfLike(Long id) {
-        int amountLikes = ecoNewsCommentService.countLikes(id);
-        return AmountCommentLikesDto.builder().amountLikes(amountLikes).id(id).build();
-    }
-
     /**
      * Method to get all active comments to {@link greencity.entity.EcoNews} specified by ecoNewsId.
      *
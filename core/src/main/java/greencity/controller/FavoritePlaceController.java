@@ -1,10 +1,13 @@
 package greencity.controller;
 
 import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusRequestDto;
 import greencity.dto.place.PlaceByBoundsDto;
 import greencity.entity.FavoritePlace;
 import greencity.entity.Place;
 import greencity.entity.User;
+import greencity.security.jwt.UserPrincipal;
 import greencity.service.FavoritePlaceService;
 import java.security.Principal;
 import java.util.List;
@@ -12,6 +15,7 @@ import javax.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
 
@@ -83,4 +87,19 @@ public class FavoritePlaceController {
         return ResponseEntity.status(HttpStatus.OK).body(favoritePlaceService
             .getFavoritePlaceWithLocation(placeId, principal.getName()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Get favorite flags and custom names of many {@link Place}s for {@link User} in one call.
+     * With place ids a status is returned for every id, otherwise for every {@link FavoritePlace} in the map bounds.
+     *
+     * @param request   - ids of places or map bounds
+     * @param principal - {@link UserPrincipal} of the current user
+     * @return list of {@link FavoritePlaceStatusDto}
+     */
+    @PostMapping("/statuses")
+    public ResponseEntity<List<FavoritePlaceStatusDto>> getStatuses(
+        @Valid @RequestBody FavoritePlaceStatusRequestDto request,
+        @ApiIgnore @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.status(HttpStatus.OK).body(favoritePlaceService.getStatuses(request, principal.getId()));
+    }
+}
@@ -2,13 +2,11 @@ package greencity.controller;
 
 import greencity.constant.HttpStatuses;
 import greencity.dto.habitstatus.HabitStatusDto;
-import greencity.entity.User;
+import greencity.security.jwt.UserPrincipal;
 import greencity.service.HabitStatusService;
-import greencity.service.UserService;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
-import java.security.Principal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -28,7 +26,6 @@ import springfox.documentation.annotations.ApiIgnore;
 @RequestMapping("/habit/status")
 public class HabitStatusController {
     private HabitStatusService habitStatusService;
-    private UserService userService;
 
     /**
      * Method return {@link greencity.entity.HabitStatus} for user by habit.
@@ -45,11 +42,9 @@ public class HabitStatusController {
     @GetMapping("/{habitId}")
     public ResponseEntity<HabitStatusDto> getHabitStatusForUser(@PathVariable Long habitId,
                                                                 @ApiIgnore @AuthenticationPrincipal
-                                                                    Principal principal) {
-        User user = userService.findByEmail(principal.getName());
-
+                                                                    UserPrincipal principal) {
         return ResponseEntity.status(HttpStatus.OK)
-            .body(habitStatusService.findStatusByHabitIdAndUserId(habitId, user.getId()));
+            .body(habitStatusService.findStatusByHabitIdAndUserId(habitId, principal.getId()));
     }
 
     /**
@@ -67,9 +62,8 @@ public class HabitStatusController {
     @PostMapping("/enroll/{habitId}")
     public ResponseEntity<HabitStatusDto> enrollHabit(@PathVariable Long habitId,
                                                       @ApiIgnore @AuthenticationPrincipal
-                                                          Principal principal) {
-        User user = userService.findByEmail(principal.getName());
-        return ResponseEntity.status(HttpStatus.OK).body(habitStatusService.enrollHabit(habitId, user.getId()));
+                                                          UserPrincipal principal) {
+        return ResponseEntity.status(HttpStatus.OK).body(habitStatusService.enrollHabit(habitId, principal.getId()));
     }
 
     /**
@@ -90,9 +84,8 @@ public class HabitStatusController {
                                                         @PathVariable(value = "date")
                                                         @DateTimeFormat(pattern = "MM-dd-yyyy") LocalDate date,
                                                         @ApiIgnore @AuthenticationPrincipal
-                                                            Principal principal) {
-        User user = userService.findByEmail(principal.getName());
-        habitStatusService.unenrollHabit(date, habitId, user.getId());
+                                                            UserPrincipal principal) {
+        habitStatusService.unenrollHabit(date, habitId, principal.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -113,9 +106,9 @@ public class HabitStatusController {
     public ResponseEntity<HabitStatusDto> enrollHabitInDate(@PathVariable Long habitId,
                                                             @PathVariable(value = "date")
                                                             @DateTimeFormat(pattern = "MM-dd-yyyy") LocalDate date,
-                                                            @ApiIgnore @AuthenticationPrincipal Principal principal) {
-        User user = userService.findByEmail(principal.getName());
-        habitStatusService.enrollHabitInDate(habitId, user.getId(), date);
+                                                            @ApiIgnore @AuthenticationPrincipal
+                                                                UserPrincipal principal) {
+        habitStatusService.enrollHabitInDate(habitId, principal.getId(), date);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package greencity.controller;
 import greencity.annotations.ApiPageable;
 import greencity.constant.ErrorMessage;
 import greencity.constant.HttpStatuses;
+import greencity.converters.PlaceMarkersHttpMessageConverter;
 import greencity.dto.PageableDto;
 import greencity.dto.favoriteplace.FavoritePlaceDto;
 import greencity.dto.filter.FilterPlaceDto;
+import greencity.dto.location.MapBoundsDto;
 import greencity.dto.place.*;
 import greencity.entity.Place;
 import greencity.entity.User;
@@ -155,6 +157,8 @@ public class PlaceController {
      * The method which return a list {@code PlaceByBoundsDto} with information about place,
      * location depends on the map bounds.
      *
+     * <p>Clients that accept {@link PlaceMarkersHttpMessageConverter#MARKERS} get the binary format of markers.
+     *
      * @param filterPlaceDto Contains South-West and North-East bounds of map .
      * @return a list of {@code PlaceByBoundsDto}
      * @author Marian Milian
@@ -174,6 +178,27 @@ public class PlaceController {
             .body(placeService.findPlacesByMapsBounds(filterPlaceDto));
     }
 
+    /**
+     * The method which returns clusters of approved places in the map bounds for the zoom level of
+     * the map, together with places that are shown separately. Clients that accept
+     * {@link PlaceMarkersHttpMessageConverter#MARKERS} get the binary format of markers.
+     *
+     * @param mapBoundsDto South-West and North-East bounds of map.
+     * @param zoom         zoom level of the map.
+     * @return {@code PlaceClustersDto} with clusters and separate places.
+     */
+    @ApiOperation(value = "Get clusters of places by Map Bounds and zoom level.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK, response = PlaceClustersDto.class),
+        @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PostMapping("/getListPlaceLocationByMapsBounds/clusters")
+    public ResponseEntity<PlaceClustersDto> getClustersByMapsBounds(
+        @Valid @RequestBody MapBoundsDto mapBoundsDto, @RequestParam int zoom) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(placeService.findClustersByMapsBounds(mapBoundsDto, zoom));
+    }
+
     /**
      * The method parse the string param to PlaceStatus value.
      * Parameter pageable ignored because swagger ui shows the wrong params,
@@ -291,6 +316,25 @@ public class PlaceController {
             .body(placeService.getInfoForUpdatingById(id));
     }
 
+    /**
+     * Controller to get places which may duplicate a proposed {@link Place}: proposed and approved
+     * places nearby with a similar name.
+     *
+     * @param id of proposed {@link Place}
+     * @return list of {@link PlaceDuplicateDto} with the most similar names first
+     */
+    @ApiOperation(value = "Get possible duplicates of place.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK),
+        @ApiResponse(code = 303, message = HttpStatuses.SEE_OTHER),
+        @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+        @ApiResponse(code = 404, message = HttpStatuses.NOT_FOUND)
+    })
+    @GetMapping("/duplicates/{id}")
+    public ResponseEntity<List<PlaceDuplicateDto>> findDuplicates(@NotNull @PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.OK).body(placeService.findDuplicates(id));
+    }
+
     /**
      * The method which update array of {@link Place}'s from DB.
      *
@@ -5,6 +5,7 @@ import greencity.constant.AppConstant;
 import greencity.constant.HttpStatuses;
 import greencity.constant.ValidationConstants;
 import greencity.dto.PageableDto;
+import greencity.dto.feed.FeedPageDto;
 import greencity.dto.filter.FilterUserDto;
 import greencity.dto.goal.BulkCustomGoalDto;
 import greencity.dto.goal.BulkSaveCustomGoalDto;
@@ -19,6 +20,7 @@ import greencity.entity.EcoNews;
 import greencity.entity.User;
 import greencity.entity.enums.EmailNotification;
 import greencity.entity.enums.UserStatus;
+import greencity.service.ActivityFeedService;
 import greencity.service.CustomGoalService;
 import greencity.service.HabitStatisticService;
 import greencity.service.UserService;
@@ -29,6 +31,8 @@ import io.swagger.annotations.ApiResponses;
 import java.security.Principal;
 import java.util.List;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -51,6 +55,7 @@ public class UserController {
     private UserService userService;
     private HabitStatisticService habitStatisticService;
     private CustomGoalService customGoalService;
+    private ActivityFeedService activityFeedService;
 
     /**
      * The method which update user status.
@@ -665,6 +670,95 @@ public class UserController {
                 .body(userService.getSixFriendsWithTheHighestRating(userId));
     }
 
+    /**
+     * Method returns friends of user friends ranked by amount of mutual friends.
+     *
+     * @param userId id of current user.
+     * @return list of {@link UserFriendSuggestionDto}.
+     */
+    @ApiOperation(value = "Get friend suggestions ranked by amount of mutual friends")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
+    })
+    @GetMapping("/{userId}/friendSuggestions/")
+    public ResponseEntity<List<UserFriendSuggestionDto>> getFriendSuggestions(
+            @ApiParam("Id of current user. Cannot be empty.")
+            @PathVariable @CurrentUserId Long userId) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(userService.getFriendSuggestions(userId));
+    }
+
+    /**
+     * Method returns a page of activities of user friends, newest first.
+     *
+     * @param userId id of current user.
+     * @param cursor cursor returned with the previous page, absent for the first page.
+     * @param limit  amount of activities to return.
+     * @return {@link FeedPageDto}.
+     */
+    @ApiOperation(value = "Get activities of user friends")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
+    })
+    @GetMapping("/{userId}/feed")
+    public ResponseEntity<FeedPageDto> getFeed(
+            @ApiParam("Id of current user. Cannot be empty.")
+            @PathVariable @CurrentUserId Long userId,
+            @ApiParam("Cursor returned with the previous page")
+            @RequestParam(required = false) Long cursor,
+            @ApiParam("Amount of activities, at most " + AppConstant.FEED_PAGE_MAX_SIZE)
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(activityFeedService.getFeed(userId, cursor, limit));
+    }
+
+    /**
+     * Method returns users with the highest rating.
+     *
+     * @param limit amount of users to return.
+     * @return list of {@link LeaderboardEntryDto}.
+     */
+    @ApiOperation(value = "Get users with the highest rating")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
+    })
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDto>> getLeaderboard(
+            @ApiParam("Amount of users, at most " + AppConstant.LEADERBOARD_MAX_SIZE)
+            @RequestParam(defaultValue = "10") @Min(1) @Max(AppConstant.LEADERBOARD_MAX_SIZE) int limit) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(userService.getLeaderboard(limit));
+    }
+
+    /**
+     * Method returns position of the user on the rating leaderboard.
+     *
+     * @param userId id of the user.
+     * @return {@link LeaderboardEntryDto}.
+     */
+    @ApiOperation(value = "Get position of the user on the rating leaderboard")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 404, message = HttpStatuses.NOT_FOUND)
+    })
+    @GetMapping("/{userId}/rank")
+    public ResponseEntity<LeaderboardEntryDto> getLeaderboardPosition(@PathVariable Long userId) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(userService.getLeaderboardPosition(userId));
+    }
+
     /**
      * Method for save user profile information {@link EcoNews}.
      *
@@ -0,0 +1,199 @@
+package greencity.converters;
+
+import greencity.dto.location.LocationDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClusterDto;
+import greencity.dto.place.PlaceClustersDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes map markers, {@link PlaceClustersDto} or a list of {@link PlaceByBoundsDto}, in a compact
+ * binary format. Map endpoints return it instead of JSON when the client accepts {@link #MARKERS}.
+ *
+ * <p>Version 1 of the format. Varints are unsigned LEB128, signed values are zigzag varints.
+ * Coordinates are fixed-point numbers of 1e-5 degree, about a meter, each written as the difference
+ * from the previous coordinate of the message, which starts at 0.
+ * <pre>
+ * byte    version
+ * varint  amount of clusters, then for every cluster:
+ *         varint count, svarint lat, svarint lng,
+ *         svarint south-west lat, south-west lng, north-east lat, north-east lng, relative to lat and lng
+ * varint  amount of places, then for every place in order of ids:
+ *         varint id minus id of the previous place, svarint lat, svarint lng,
+ *         byte rate in tenths plus 1, or 0 without rate,
+ *         varint location id, string name, string address
+ * </pre>
+ * Strings are written as varint byte length plus 1, or 0 for {@code null}, followed by UTF-8 bytes.
+ */
+public class PlaceMarkersHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType MARKERS = new MediaType("application", "vnd.greencity.markers");
+    private static final int VERSION = 1;
+    private static final double COORDINATE_SCALE = 1e5;
+
+    /**
+     * Constructor.
+     */
+    public PlaceMarkersHttpMessageConverter() {
+        super(MARKERS);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PlaceClustersDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && (supports(clazz) || isPlaceList(type));
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Map markers can not be read", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Map markers can not be read", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object markers, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes = markers instanceof PlaceClustersDto
+            ? encode((PlaceClustersDto) markers)
+            : encode(new PlaceClustersDto(Collections.emptyList(), (List<PlaceByBoundsDto>) markers));
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    /**
+     * Encodes clusters and places of the map.
+     *
+     * @param markers clusters and places.
+     * @return encoded markers.
+     */
+    public static byte[] encode(PlaceClustersDto markers) {
+        Encoder encoder = new Encoder();
+        encoder.byteValue(VERSION);
+        List<PlaceClusterDto> clusters = nonNull(markers.getClusters());
+        encoder.varint(clusters.size());
+        for (PlaceClusterDto cluster : clusters) {
+            encoder.varint(cluster.getCount());
+            encoder.coordinates(cluster.getLat(), cluster.getLng());
+            MapBoundsDto bounds = cluster.getBounds();
+            encoder.offset(bounds.getSouthWestLat(), cluster.getLat());
+            encoder.offset(bounds.getSouthWestLng(), cluster.getLng());
+            encoder.offset(bounds.getNorthEastLat(), cluster.getLat());
+            encoder.offset(bounds.getNorthEastLng(), cluster.getLng());
+        }
+        List<PlaceByBoundsDto> places = new ArrayList<>(nonNull(markers.getPlaces()));
+        places.sort(Comparator.comparing(PlaceByBoundsDto::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        encoder.varint(places.size());
+        long previousId = 0;
+        for (PlaceByBoundsDto place : places) {
+            long id = place.getId() == null ? previousId : place.getId();
+            encoder.varint(id - previousId);
+            previousId = id;
+            LocationDto location = place.getLocation();
+            encoder.coordinates(location.getLat(), location.getLng());
+            encoder.byteValue(place.getRate() == null ? 0 : (int) Math.round(place.getRate() * 10) + 1);
+            encoder.varint(location.getId() == null ? 0 : location.getId());
+            encoder.string(place.getName());
+            encoder.string(location.getAddress());
+        }
+        return encoder.toByteArray();
+    }
+
+    private static boolean isPlaceList(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        return Collection.class.isAssignableFrom(resolved.toClass())
+            && PlaceByBoundsDto.class.equals(resolved.asCollection().resolveGeneric(0));
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    /**
+     * Buffer of the encoded message, which remembers the previous coordinates.
+     */
+    private static final class Encoder {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private long lat;
+        private long lng;
+
+        private void byteValue(int value) {
+            out.write(value);
+        }
+
+        private void varint(long value) {
+            long rest = value;
+            while ((rest & ~0x7FL) != 0) {
+                out.write((int) (rest & 0x7F) | 0x80);
+                rest >>>= 7;
+            }
+            out.write((int) rest);
+        }
+
+        private void signedVarint(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        private void coordinates(double latitude, double longitude) {
+            long newLat = toFixedPoint(latitude);
+            long newLng = toFixedPoint(longitude);
+            signedVarint(newLat - lat);
+            signedVarint(newLng - lng);
+            lat = newLat;
+            lng = newLng;
+        }
+
+        private void offset(double coordinate, double origin) {
+            signedVarint(toFixedPoint(coordinate) - toFixedPoint(origin));
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1L);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private static long toFixedPoint(double degrees) {
+            return Math.round(degrees * COORDINATE_SCALE);
+        }
+
+        private byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
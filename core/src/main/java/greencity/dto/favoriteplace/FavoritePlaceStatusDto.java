@@ -0,0 +1,20 @@
+package greencity.dto.favoriteplace;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class FavoritePlaceStatusDto {
+    private Long placeId;
+    private boolean favorite;
+    private String name;
+}
@@ -0,0 +1,25 @@
+package greencity.dto.favoriteplace;
+
+import greencity.dto.location.MapBoundsDto;
+import java.util.Set;
+import javax.validation.Valid;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class FavoritePlaceStatusRequestDto {
+    @Size(max = 1000)
+    private Set<Long> placeIds;
+    @Valid
+    private MapBoundsDto mapBoundsDto;
+}
@@ -0,0 +1,27 @@
+package greencity.dto.feed;
+
+import greencity.entity.enums.ActivityType;
+import java.time.ZonedDateTime;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class FeedItemDto {
+    private Long id;
+
+    private ActivityType type;
+
+    private Long targetId;
+
+    private ZonedDateTime createdDate;
+
+    private Long actorId;
+
+    private String actorName;
+
+    private String actorProfilePicturePath;
+}
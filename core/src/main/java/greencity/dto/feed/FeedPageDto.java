@@ -0,0 +1,18 @@
+package greencity.dto.feed;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedPageDto {
+    private List<FeedItemDto> items;
+
+    /**
+     * Cursor of the next page, {@code null} if there are no more items.
+     */
+    private Long nextCursor;
+}
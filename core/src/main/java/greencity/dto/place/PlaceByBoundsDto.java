@@ -18,4 +18,5 @@ public class PlaceByBoundsDto {
     private Long id;
     private String name;
     private LocationDto location;
+    private Double rate;
 }
@@ -0,0 +1,22 @@
+package greencity.dto.place;
+
+import greencity.dto.location.MapBoundsDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class PlaceClusterDto {
+    private Integer count;
+    private Double lat;
+    private Double lng;
+    private MapBoundsDto bounds;
+}
@@ -0,0 +1,18 @@
+package greencity.dto.place;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class PlaceClustersDto {
+    private List<PlaceClusterDto> clusters;
+    private List<PlaceByBoundsDto> places;
+}
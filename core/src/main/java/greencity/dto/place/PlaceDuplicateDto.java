@@ -0,0 +1,26 @@
+package greencity.dto.place;
+
+import greencity.entity.enums.PlaceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class PlaceDuplicateDto {
+    private Long id;
+    private String name;
+    private String address;
+    private Double lat;
+    private Double lng;
+    private PlaceStatus status;
+    private Double distance;
+    private Double nameSimilarity;
+}
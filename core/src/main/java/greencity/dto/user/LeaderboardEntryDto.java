@@ -0,0 +1,23 @@
+package greencity.dto.user;
+
+import javax.validation.constraints.NotNull;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class LeaderboardEntryDto {
+    private int rank;
+
+    @NotNull
+    private Long id;
+
+    private String name;
+
+    private String profilePicturePath;
+
+    private Float rating;
+}
@@ -0,0 +1,21 @@
+package greencity.dto.user;
+
+import javax.validation.constraints.NotNull;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Builder
+public class UserFriendSuggestionDto {
+    @NotNull
+    private Long id;
+
+    private String name;
+
+    private String profilePicturePath;
+
+    private int mutualFriends;
+}
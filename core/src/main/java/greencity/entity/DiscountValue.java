@@ -1,11 +1,13 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +26,9 @@ import lombok.Setter;
 @Table(name = "discount_values")
 public class DiscountValue {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "discount_values_id_seq")
+    @SequenceGenerator(name = "discount_values_id_seq", sequenceName = "discount_values_id_seq",
+        allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import java.time.ZonedDateTime;
 import java.util.List;
 import javax.persistence.*;
@@ -16,7 +17,9 @@ import org.hibernate.annotations.CreationTimestamp;
 @Table(name = "fact_of_the_day")
 public class FactOfTheDay {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fact_of_the_day_id_seq")
+    @SequenceGenerator(name = "fact_of_the_day_id_seq", sequenceName = "fact_of_the_day_id_seq",
+        allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 300)
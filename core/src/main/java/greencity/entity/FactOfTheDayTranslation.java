@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import greencity.entity.enums.FactOfDayStatus;
 import javax.persistence.*;
 import lombok.*;
@@ -13,7 +14,9 @@ import lombok.*;
 @EqualsAndHashCode
 public class FactOfTheDayTranslation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fact_of_the_day_translations_id_seq")
+    @SequenceGenerator(name = "fact_of_the_day_translations_id_seq",
+        sequenceName = "fact_of_the_day_translations_id_seq", allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import java.time.ZonedDateTime;
 import java.util.List;
 import javax.persistence.*;
@@ -25,7 +26,9 @@ import lombok.ToString;
     exclude = {"users", "habitDictionary", "habitStatistics"})
 public class Habit {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habits_id_seq")
+    @SequenceGenerator(name = "habits_id_seq", sequenceName = "habits_id_seq",
+        allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     @Column(nullable = false)
     private Long id;
 
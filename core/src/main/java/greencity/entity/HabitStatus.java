@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -33,6 +34,12 @@ public class HabitStatus {
     @Column(name = "create_date", nullable = false)
     private LocalDateTime createDate;
 
+    @Column(name = "enrollment_bitmap")
+    private byte[] enrollmentBitmap;
+
+    @Column(name = "enrollment_bitmap_start")
+    private LocalDate enrollmentBitmapStart;
+
     @ManyToOne
     private Habit habit;
 
@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import javax.persistence.*;
@@ -15,7 +16,9 @@ import org.springframework.format.annotation.DateTimeFormat;
 @Table(name = "opening_hours")
 public class OpeningHours {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "opening_hours_id_seq")
+    @SequenceGenerator(name = "opening_hours_id_seq", sequenceName = "opening_hours_id_seq",
+        allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
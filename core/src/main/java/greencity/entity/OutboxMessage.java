@@ -0,0 +1,57 @@
+package greencity.entity;
+
+import greencity.constant.AppConstant;
+import java.time.ZonedDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * RabbitMQ message written in the same transaction as the change it reports and published later
+ * by the outbox relay. The payload is already converted, so the relay sends exactly the bytes
+ * that a direct {@code convertAndSend} would have sent.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "outbox_messages")
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_messages_id_seq")
+    @SequenceGenerator(name = "outbox_messages_id_seq", sequenceName = "outbox_messages_id_seq",
+        allocationSize = AppConstant.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "created_date", nullable = false)
+    private ZonedDateTime createdDate;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_date", nullable = false)
+    private ZonedDateTime nextAttemptDate;
+}
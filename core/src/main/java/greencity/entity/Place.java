@@ -35,10 +35,10 @@ import lombok.ToString;
 @Builder
 @EqualsAndHashCode(
     exclude = {"discountValues", "author", "openingHoursList", "comments", "photos",
-        "location", "favoritePlaces", "category", "webPages", "status", "discountValues"})
+        "location", "favoritePlaces", "category", "webPages", "status", "discountValues", "openMinutes"})
 @ToString(
     exclude = {"discountValues", "author", "openingHoursList", "comments", "photos",
-        "location", "favoritePlaces", "category", "webPages", "status", "discountValues"}
+        "location", "favoritePlaces", "category", "webPages", "status", "discountValues", "openMinutes"}
 )
 @Table(name = "places")
 public class Place {
@@ -93,4 +93,26 @@ public class Place {
     @Enumerated(value = EnumType.ORDINAL)
     @Column(name = "status")
     private PlaceStatus status = PlaceStatus.PROPOSED;
+
+    @Column(name = "open_minutes")
+    private byte[] openMinutes;
+
+    /**
+     * Rating aggregates are written only by {@link greencity.repository.PlaceRepo#updateRating}, so saving
+     * a place loaded before a rating change does not overwrite them. New places get the column default 0.
+     */
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+    private int ratingCount;
+
+    /**
+     * Returns average rate of the place, computed from the rating aggregates.
+     *
+     * @return average rate, or {@code null} if the place has no estimates.
+     */
+    public Double getAverageRate() {
+        return ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+    }
 }
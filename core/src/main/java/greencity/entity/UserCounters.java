@@ -0,0 +1,40 @@
+package greencity.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-user profile counters kept in step with the content they count, so that the profile
+ * statistics are read with a single primary key lookup.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "user_counters")
+public class UserCounters {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "published_news", nullable = false)
+    private Long publishedNews;
+
+    @Column(name = "written_tips_and_tricks", nullable = false)
+    private Long writtenTipsAndTricks;
+
+    @Column(name = "acquired_habits", nullable = false)
+    private Long acquiredHabits;
+
+    @Column(name = "habits_in_progress", nullable = false)
+    private Long habitsInProgress;
+}
@@ -0,0 +1,9 @@
+package greencity.entity.enums;
+
+public enum ActivityType {
+    ECO_NEWS,
+    TIPS_AND_TRICKS,
+    ECO_NEWS_COMMENT,
+    TIPS_AND_TRICKS_COMMENT,
+    HABIT
+}
@@ -0,0 +1,27 @@
+package greencity.index;
+
+import greencity.entity.enums.ActivityType;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One activity of a feed kept in an {@link ActivityTimeline}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ActivityEntry {
+    private Long id;
+
+    private Long actorId;
+
+    private ActivityType type;
+
+    private Long targetId;
+
+    private ZonedDateTime createdDate;
+}
@@ -0,0 +1,110 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Newest activities of one user's feed, held in a capped ring buffer ordered by activity id.
+ *
+ * <p>The buffer keeps at most {@code capacity} entries. Adding an entry to a full buffer evicts the
+ * oldest one, which from then on is only available from the persisted feed. The timeline remembers
+ * whether it still holds the whole feed, so it can tell a page it answers completely from a page
+ * that has to be read from the database. Activities normally arrive newest last and are added in
+ * constant time; late ones are moved into place.
+ */
+public class ActivityTimeline {
+    private final ActivityEntry[] entries;
+    private int newest = -1;
+    private int size;
+    private boolean complete;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity      maximal amount of entries.
+     * @param newestEntries newest entries of the feed, newest first, at most {@code capacity}.
+     * @param complete      whether {@code newestEntries} is the whole feed.
+     */
+    public ActivityTimeline(int capacity, List<ActivityEntry> newestEntries, boolean complete) {
+        this.entries = new ActivityEntry[capacity];
+        this.complete = complete;
+        for (int i = Math.min(newestEntries.size(), capacity) - 1; i >= 0; i--) {
+            add(newestEntries.get(i));
+        }
+    }
+
+    /**
+     * Adds the activity to the timeline. Activities that are already there are ignored.
+     *
+     * @param entry activity.
+     */
+    public synchronized void add(ActivityEntry entry) {
+        long id = entry.getId();
+        if (size == 0 || id > get(0).getId()) {
+            if (size == entries.length) {
+                complete = false;
+            } else {
+                size++;
+            }
+            newest = (newest + 1) % entries.length;
+            entries[newest] = entry;
+            return;
+        }
+        int position = 0;
+        while (position < size && get(position).getId() > id) {
+            position++;
+        }
+        if (position < size && get(position).getId() == id) {
+            return;
+        }
+        if (size == entries.length) {
+            complete = false;
+            if (position == size) {
+                return;
+            }
+        } else {
+            size++;
+        }
+        for (int i = size - 1; i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, entry);
+    }
+
+    /**
+     * Returns activities older than the cursor if the timeline holds all of them that belong to the page.
+     *
+     * @param cursor id of the last activity already shown, {@code null} for the first page.
+     * @param limit  maximal amount of activities.
+     * @return page of activities, newest first, or empty {@link Optional} if the page has to be read
+     *     from the persisted feed.
+     */
+    public synchronized Optional<List<ActivityEntry>> findPage(Long cursor, int limit) {
+        int position = 0;
+        if (cursor != null) {
+            while (position < size && get(position).getId() >= cursor) {
+                position++;
+            }
+        }
+        List<ActivityEntry> page = new ArrayList<>(Math.min(limit, size - position));
+        for (int i = position; i < size && page.size() < limit; i++) {
+            page.add(get(i));
+        }
+        if (page.size() < limit && !complete) {
+            return Optional.empty();
+        }
+        return Optional.of(page);
+    }
+
+    /**
+     * Returns entry at the position counted from the newest one.
+     */
+    private ActivityEntry get(int position) {
+        return entries[Math.floorMod(newest - position, entries.length)];
+    }
+
+    private void set(int position, ActivityEntry entry) {
+        entries[Math.floorMod(newest - position, entries.length)] = entry;
+    }
+}
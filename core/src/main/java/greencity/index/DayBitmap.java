@@ -0,0 +1,144 @@
+package greencity.index;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Set of calendar days stored as a bitmap, one bit per day counted from a start date.
+ *
+ * <p>Membership, day count and the length of a run of consecutive days are answered with bit
+ * operations, so they do not depend on how long the history is.
+ */
+public class DayBitmap {
+    private LocalDate start;
+    private BitSet days;
+
+    /**
+     * Constructor.
+     *
+     * @param start first day covered by the bitmap.
+     * @param bytes bitmap in {@link BitSet#toByteArray()} format, may be {@code null} for an empty bitmap.
+     */
+    public DayBitmap(LocalDate start, byte[] bytes) {
+        this.start = start;
+        this.days = bytes == null ? new BitSet() : BitSet.valueOf(bytes);
+    }
+
+    /**
+     * Builds bitmap of the given days.
+     *
+     * @param start first day covered by the bitmap.
+     * @param dates days to add.
+     * @return {@link DayBitmap} of the days.
+     */
+    public static DayBitmap of(LocalDate start, Collection<LocalDate> dates) {
+        DayBitmap bitmap = new DayBitmap(start, null);
+        dates.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    /**
+     * Returns first day covered by the bitmap.
+     *
+     * @return {@link LocalDate}
+     */
+    public LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * Checks whether the day is in the set.
+     *
+     * @param date day to check.
+     * @return {@code true} if the day is set.
+     */
+    public boolean contains(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(start, date);
+        return index >= 0 && index < days.length() && days.get((int) index);
+    }
+
+    /**
+     * Adds the day to the set. Days before the start date move the start date back.
+     *
+     * @param date day to add.
+     */
+    public void add(LocalDate date) {
+        int offset = indexOf(date);
+        if (offset < 0) {
+            BitSet shifted = new BitSet();
+            days.stream().forEach(bit -> shifted.set(bit - offset));
+            days = shifted;
+            start = date;
+        }
+        days.set(indexOf(date));
+    }
+
+    /**
+     * Removes the day from the set.
+     *
+     * @param date day to remove.
+     */
+    public void remove(LocalDate date) {
+        if (contains(date)) {
+            days.clear(indexOf(date));
+        }
+    }
+
+    /**
+     * Returns amount of days in the set.
+     *
+     * @return amount of days.
+     */
+    public int count() {
+        return days.cardinality();
+    }
+
+    /**
+     * Returns the latest day in the set.
+     *
+     * @return {@link LocalDate} or {@code null} if the set is empty.
+     */
+    public LocalDate last() {
+        int index = days.length() - 1;
+        return index < 0 ? null : start.plusDays(index);
+    }
+
+    /**
+     * Returns amount of consecutive days in the set that end with the given day.
+     *
+     * @param date last day of the run.
+     * @return length of the run, {@code 0} if the day is not set.
+     */
+    public int streakEndingAt(LocalDate date) {
+        if (!contains(date)) {
+            return 0;
+        }
+        int index = indexOf(date);
+        return index - days.previousClearBit(index);
+    }
+
+    /**
+     * Returns amount of consecutive days in the set that end with the latest day.
+     *
+     * @return length of the latest run, {@code 0} if the set is empty.
+     */
+    public int streak() {
+        LocalDate last = last();
+        return last == null ? 0 : streakEndingAt(last);
+    }
+
+    /**
+     * Returns the bitmap in {@link BitSet#toByteArray()} format.
+     *
+     * @return bytes of the bitmap.
+     */
+    public byte[] toByteArray() {
+        return days.toByteArray();
+    }
+
+    private int indexOf(LocalDate date) {
+        return Math.toIntExact(ChronoUnit.DAYS.between(start, date));
+    }
+}
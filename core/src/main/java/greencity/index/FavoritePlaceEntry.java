@@ -0,0 +1,20 @@
+package greencity.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Favorite place of a user with its custom name and location.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class FavoritePlaceEntry {
+    private final Long placeId;
+    private final String name;
+    private final Double lat;
+    private final Double lng;
+}
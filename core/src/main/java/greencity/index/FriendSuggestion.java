@@ -0,0 +1,19 @@
+package greencity.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Friend of a friend suggested by {@link FriendshipGraph} with the amount of mutual friends.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class FriendSuggestion {
+    private Long userId;
+
+    private int mutualFriends;
+}
@@ -0,0 +1,19 @@
+package greencity.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One (user, friend) pair used to build a {@link FriendshipGraph}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class FriendshipEntry {
+    private Long userId;
+
+    private Long friendId;
+}
@@ -0,0 +1,193 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory adjacency lists of the friendship relation.
+ *
+ * <p>Friends of every user are kept in a sorted {@code long} array, so membership is a binary search
+ * and the friend count is the array length, so friends and friends of friends are found without touching
+ * the database.
+ * The relation is directed, like the {@code users_friends} table it is built from.
+ */
+public class FriendshipGraph {
+    private static final long[] NO_FRIENDS = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, long[]> friendsById = new HashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Shows whether the graph was built and can answer queries.
+     *
+     * @return {@code true} if the graph is loaded.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replaces the graph content.
+     *
+     * @param entries (user, friend) pairs.
+     */
+    public void rebuild(List<FriendshipEntry> entries) {
+        Map<Long, List<Long>> lists = new HashMap<>();
+        for (FriendshipEntry entry : entries) {
+            lists.computeIfAbsent(entry.getUserId(), id -> new ArrayList<>()).add(entry.getFriendId());
+        }
+        lock.writeLock().lock();
+        try {
+            friendsById.clear();
+            lists.forEach((id, friends) -> friendsById.put(id, friends.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray()));
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the friend to the user's friends.
+     *
+     * @param userId   user id.
+     * @param friendId friend id.
+     */
+    public void add(Long userId, Long friendId) {
+        write(() -> {
+            long[] friends = friendsById.getOrDefault(userId, NO_FRIENDS);
+            int index = Arrays.binarySearch(friends, friendId);
+            if (index < 0) {
+                int position = -index - 1;
+                long[] extended = new long[friends.length + 1];
+                System.arraycopy(friends, 0, extended, 0, position);
+                extended[position] = friendId;
+                System.arraycopy(friends, position, extended, position + 1, friends.length - position);
+                friendsById.put(userId, extended);
+            }
+        });
+    }
+
+    /**
+     * Removes the friend from the user's friends.
+     *
+     * @param userId   user id.
+     * @param friendId friend id.
+     */
+    public void remove(Long userId, Long friendId) {
+        write(() -> {
+            long[] friends = friendsById.getOrDefault(userId, NO_FRIENDS);
+            int index = Arrays.binarySearch(friends, friendId);
+            if (index < 0) {
+                return;
+            }
+            if (friends.length == 1) {
+                friendsById.remove(userId);
+                return;
+            }
+            long[] shrunk = new long[friends.length - 1];
+            System.arraycopy(friends, 0, shrunk, 0, index);
+            System.arraycopy(friends, index + 1, shrunk, index, friends.length - index - 1);
+            friendsById.put(userId, shrunk);
+        });
+    }
+
+    /**
+     * Checks whether the friend is among the user's friends.
+     *
+     * @param userId   user id.
+     * @param friendId friend id.
+     * @return {@code true} if they are friends.
+     */
+    public boolean areFriends(Long userId, Long friendId) {
+        return read(() -> Arrays.binarySearch(friendsById.getOrDefault(userId, NO_FRIENDS), friendId) >= 0);
+    }
+
+    /**
+     * Returns amount of the user's friends.
+     *
+     * @param userId user id.
+     * @return amount of friends.
+     */
+    public int countFriends(Long userId) {
+        return read(() -> friendsById.getOrDefault(userId, NO_FRIENDS).length);
+    }
+
+    /**
+     * Returns the user's friends.
+     *
+     * @param userId user id.
+     * @return friend ids in ascending order.
+     */
+    public List<Long> getFriends(Long userId) {
+        return read(() -> Arrays.stream(friendsById.getOrDefault(userId, NO_FRIENDS))
+            .boxed()
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Suggests friends of the user's friends that are not the user's friends yet.
+     *
+     * @param userId user id.
+     * @param limit  amount of suggestions to return.
+     * @return up to {@code limit} suggestions, most mutual friends first.
+     */
+    public List<FriendSuggestion> suggestFriends(Long userId, int limit) {
+        return read(() -> {
+            long[] friends = friendsById.getOrDefault(userId, NO_FRIENDS);
+            Map<Long, Integer> mutualFriends = new HashMap<>();
+            for (long friend : friends) {
+                for (long candidate : friendsById.getOrDefault(friend, NO_FRIENDS)) {
+                    if (candidate != userId && Arrays.binarySearch(friends, candidate) < 0) {
+                        mutualFriends.merge(candidate, 1, Integer::sum);
+                    }
+                }
+            }
+            Comparator<Map.Entry<Long, Integer>> byMutualFriends = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed());
+            PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(limit + 1, byMutualFriends);
+            for (Map.Entry<Long, Integer> candidate : mutualFriends.entrySet()) {
+                top.offer(candidate);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Map.Entry<Long, Integer>> result = new ArrayList<>(top);
+            result.sort(byMutualFriends.reversed());
+            List<FriendSuggestion> suggestions = new ArrayList<>(result.size());
+            result.forEach(entry -> suggestions.add(new FriendSuggestion(entry.getKey(), entry.getValue())));
+            return suggestions;
+        });
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
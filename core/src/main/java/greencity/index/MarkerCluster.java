@@ -0,0 +1,85 @@
+package greencity.index;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Group of {@link PlaceMarker}s that fall into one grid cell of a zoom level.
+ */
+@Getter
+@ToString
+public class MarkerCluster {
+    private final int count;
+    @Getter(AccessLevel.NONE)
+    private final double latSum;
+    @Getter(AccessLevel.NONE)
+    private final double lngSum;
+    private final double southWestLat;
+    private final double southWestLng;
+    private final double northEastLat;
+    private final double northEastLng;
+    /**
+     * Marker with the lowest place id, which is the only marker when {@code count} is 1.
+     */
+    private final PlaceMarker marker;
+
+    /**
+     * Creates a cluster of one marker.
+     *
+     * @param marker the marker.
+     */
+    public MarkerCluster(PlaceMarker marker) {
+        this(1, marker.getLat(), marker.getLng(), marker.getLat(), marker.getLng(), marker.getLat(),
+            marker.getLng(), marker);
+    }
+
+    private MarkerCluster(int count, double latSum, double lngSum, double southWestLat, double southWestLng,
+                          double northEastLat, double northEastLng, PlaceMarker marker) {
+        this.count = count;
+        this.latSum = latSum;
+        this.lngSum = lngSum;
+        this.southWestLat = southWestLat;
+        this.southWestLng = southWestLng;
+        this.northEastLat = northEastLat;
+        this.northEastLng = northEastLng;
+        this.marker = marker;
+    }
+
+    /**
+     * Creates a cluster that contains markers of both given clusters.
+     *
+     * @param first  a cluster.
+     * @param second another cluster.
+     * @return merged cluster.
+     */
+    public static MarkerCluster merge(MarkerCluster first, MarkerCluster second) {
+        PlaceMarker marker = first.marker.getPlaceId() <= second.marker.getPlaceId() ? first.marker : second.marker;
+        return new MarkerCluster(first.count + second.count,
+            first.latSum + second.latSum,
+            first.lngSum + second.lngSum,
+            Math.min(first.southWestLat, second.southWestLat),
+            Math.min(first.southWestLng, second.southWestLng),
+            Math.max(first.northEastLat, second.northEastLat),
+            Math.max(first.northEastLng, second.northEastLng),
+            marker);
+    }
+
+    /**
+     * Returns latitude of the centroid of the markers.
+     *
+     * @return latitude.
+     */
+    public double getLat() {
+        return latSum / count;
+    }
+
+    /**
+     * Returns longitude of the centroid of the markers.
+     *
+     * @return longitude.
+     */
+    public double getLng() {
+        return lngSum / count;
+    }
+}
@@ -0,0 +1,229 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory grid clusters of {@link PlaceMarker}s, precomputed for every zoom level of the map.
+ *
+ * <p>Markers are projected with Web Mercator, the projection of map tiles, and every zoom level is
+ * divided into square cells of {@code cellSize} pixels. Each level has twice as many cells per axis
+ * as the previous one, so a level is built by merging the cells of the next finer level. Cells of a
+ * level are kept sorted by column and row, which lets a query read only the columns of the viewport.
+ *
+ * <p>A query never reads more than {@code maxCells} cells: when the viewport covers more cells of the
+ * requested zoom level, a coarser level is used. Above the finest level, cells are replaced by their
+ * markers while at most {@code maxMarkers} markers are returned. This bounds both the time of a query
+ * and the size of its result at every zoom level.
+ */
+public class MarkerClusterIndex {
+    private static final int TILE_SIZE = 256;
+    private static final double MAX_LAT = 85.05112878;
+
+    private final int maxZoom;
+    private final long cellsPerTile;
+    private final int maxCells;
+    private final int maxMarkers;
+    private volatile Level[] levels;
+
+    private static final class Level {
+        private final long cellsPerAxis;
+        private final long[] keys;
+        private final MarkerCluster[] clusters;
+        private final PlaceMarker[][] markers;
+
+        private Level(long cellsPerAxis, Map<Long, MarkerCluster> clustersByKey,
+                      Map<Long, List<PlaceMarker>> markersByKey) {
+            this.cellsPerAxis = cellsPerAxis;
+            this.keys = clustersByKey.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            this.clusters = new MarkerCluster[keys.length];
+            this.markers = markersByKey == null ? null : new PlaceMarker[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                clusters[i] = clustersByKey.get(keys[i]);
+                if (markers != null) {
+                    markers[i] = markersByKey.get(keys[i]).toArray(new PlaceMarker[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxZoom    the finest zoom level with clusters, markers are returned above it.
+     * @param cellSize   size of a cell in pixels, a power of two not greater than 256.
+     * @param maxCells   maximal amount of cells read by a query.
+     * @param maxMarkers maximal amount of separate markers returned above {@code maxZoom}.
+     */
+    public MarkerClusterIndex(int maxZoom, int cellSize, int maxCells, int maxMarkers) {
+        if (cellSize <= 0 || cellSize > TILE_SIZE || Integer.bitCount(cellSize) != 1) {
+            throw new IllegalArgumentException("Cell size must be a power of two not greater than " + TILE_SIZE);
+        }
+        this.maxZoom = maxZoom;
+        this.cellsPerTile = TILE_SIZE / cellSize;
+        this.maxCells = maxCells;
+        this.maxMarkers = maxMarkers;
+    }
+
+    /**
+     * Shows whether the index was built and can answer queries.
+     *
+     * @return {@code true} if the index is loaded.
+     */
+    public boolean isLoaded() {
+        return levels != null;
+    }
+
+    /**
+     * Drops the index content, so it has to be rebuilt before the next query.
+     */
+    public void invalidate() {
+        levels = null;
+    }
+
+    /**
+     * Replaces the index content.
+     *
+     * @param markers all markers to show on the map.
+     */
+    public void rebuild(List<PlaceMarker> markers) {
+        Level[] built = new Level[maxZoom + 1];
+        long cells = cellsPerAxis(maxZoom);
+        Map<Long, List<PlaceMarker>> markersByKey = new HashMap<>();
+        Map<Long, MarkerCluster> clustersByKey = new HashMap<>();
+        for (PlaceMarker marker : markers) {
+            long key = key(column(marker.getLng(), cells), row(marker.getLat(), cells), cells);
+            markersByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(marker);
+            clustersByKey.merge(key, new MarkerCluster(marker), MarkerCluster::merge);
+        }
+        markersByKey.values().forEach(list -> list.sort(Comparator.comparing(PlaceMarker::getPlaceId)));
+        built[maxZoom] = new Level(cells, clustersByKey, markersByKey);
+        for (int zoom = maxZoom - 1; zoom >= 0; zoom--) {
+            Level finer = built[zoom + 1];
+            long coarserCells = finer.cellsPerAxis / 2;
+            Map<Long, MarkerCluster> merged = new HashMap<>();
+            for (int i = 0; i < finer.keys.length; i++) {
+                long column = finer.keys[i] / finer.cellsPerAxis;
+                long row = finer.keys[i] % finer.cellsPerAxis;
+                merged.merge(key(column / 2, row / 2, coarserCells), finer.clusters[i], MarkerCluster::merge);
+            }
+            built[zoom] = new Level(coarserCells, merged, null);
+        }
+        levels = built;
+    }
+
+    /**
+     * Finds clusters of markers in the given bounds. A cluster with {@code count} 1 stands for its
+     * only marker. When the south-west longitude is greater than the north-east one, the bounds cross
+     * the 180th meridian.
+     *
+     * @param zoom         zoom level of the map.
+     * @param southWestLat latitude of the south-west corner.
+     * @param southWestLng longitude of the south-west corner.
+     * @param northEastLat latitude of the north-east corner.
+     * @param northEastLng longitude of the north-east corner.
+     * @return clusters that intersect the bounds, or an empty list if the index is not loaded.
+     */
+    public List<MarkerCluster> find(int zoom, double southWestLat, double southWestLng,
+                                    double northEastLat, double northEastLng) {
+        Level[] snapshot = levels;
+        if (snapshot == null) {
+            return Collections.emptyList();
+        }
+        boolean separate = zoom > maxZoom;
+        int zoomLevel = Math.max(0, Math.min(zoom, maxZoom));
+        while (zoomLevel > 0 && countCells(snapshot[zoomLevel].cellsPerAxis,
+            southWestLat, southWestLng, northEastLat, northEastLng) > maxCells) {
+            zoomLevel--;
+            separate = false;
+        }
+        Level level = snapshot[zoomLevel];
+        long cells = level.cellsPerAxis;
+        long firstRow = row(northEastLat, cells);
+        long lastRow = row(southWestLat, cells);
+        List<MarkerCluster> result = new ArrayList<>();
+        int budget = maxMarkers;
+        for (long[] columns : columnRanges(southWestLng, northEastLng, cells)) {
+            for (long column = columns[0]; column <= columns[1]; column++) {
+                long last = key(column, lastRow, cells);
+                int i = lowerBound(level.keys, key(column, firstRow, cells));
+                for (; i < level.keys.length && level.keys[i] <= last; i++) {
+                    MarkerCluster cluster = level.clusters[i];
+                    if (!separate || cluster.getCount() == 1 || cluster.getCount() > budget) {
+                        result.add(cluster);
+                        continue;
+                    }
+                    for (PlaceMarker marker : level.markers[i]) {
+                        if (contains(marker, southWestLat, southWestLng, northEastLat, northEastLng)) {
+                            result.add(new MarkerCluster(marker));
+                            budget--;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private long cellsPerAxis(int zoom) {
+        return cellsPerTile << zoom;
+    }
+
+    private static long countCells(long cells, double southWestLat, double southWestLng,
+                                   double northEastLat, double northEastLng) {
+        long rows = row(southWestLat, cells) - row(northEastLat, cells) + 1;
+        long columns = 0;
+        for (long[] range : columnRanges(southWestLng, northEastLng, cells)) {
+            columns += range[1] - range[0] + 1;
+        }
+        return rows * columns;
+    }
+
+    private static List<long[]> columnRanges(double southWestLng, double northEastLng, long cells) {
+        long first = column(southWestLng, cells);
+        long last = column(northEastLng, cells);
+        if (southWestLng <= northEastLng) {
+            return Collections.singletonList(new long[] {first, last});
+        }
+        return Arrays.asList(new long[] {first, cells - 1}, new long[] {0, last});
+    }
+
+    private static boolean contains(PlaceMarker marker, double southWestLat, double southWestLng,
+                                    double northEastLat, double northEastLng) {
+        boolean inLat = marker.getLat() >= southWestLat && marker.getLat() <= northEastLat;
+        boolean inLng = southWestLng <= northEastLng
+            ? marker.getLng() >= southWestLng && marker.getLng() <= northEastLng
+            : marker.getLng() >= southWestLng || marker.getLng() <= northEastLng;
+        return inLat && inLng;
+    }
+
+    private static long key(long column, long row, long cells) {
+        return column * cells + row;
+    }
+
+    private static long column(double lng, long cells) {
+        return cell((lng + 180) / 360, cells);
+    }
+
+    /**
+     * Rows grow southwards, like the y axis of map tiles.
+     */
+    private static long row(double lat, long cells) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_LAT, Math.min(MAX_LAT, lat))));
+        return cell(0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI), cells);
+    }
+
+    private static long cell(double position, long cells) {
+        return Math.max(0, Math.min(cells - 1, (long) Math.floor(position * cells)));
+    }
+
+    private static int lowerBound(long[] keys, long key) {
+        int i = Arrays.binarySearch(keys, key);
+        return i >= 0 ? i : -i - 1;
+    }
+}
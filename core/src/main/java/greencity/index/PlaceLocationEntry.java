@@ -0,0 +1,23 @@
+package greencity.index;
+
+import greencity.entity.enums.PlaceStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Name and location of a place, compared with proposed places to find duplicates.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PlaceLocationEntry {
+    private final Long placeId;
+    private final String name;
+    private final Double lat;
+    private final Double lng;
+    private final String address;
+    private final PlaceStatus status;
+}
@@ -0,0 +1,38 @@
+package greencity.index;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Approved place as it is shown on the map.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PlaceMarker {
+    private final Long placeId;
+    private final String name;
+    private final Long locationId;
+    private final Double lat;
+    private final Double lng;
+    private final String address;
+    private final Double rate;
+
+    /**
+     * Constructor.
+     *
+     * @param ratingSum   sum of rates of the place.
+     * @param ratingCount amount of rates of the place.
+     */
+    public PlaceMarker(Long placeId, String name, Long locationId, Double lat, Double lng, String address,
+                       Long ratingSum, Integer ratingCount) {
+        this.placeId = placeId;
+        this.name = name;
+        this.locationId = locationId;
+        this.lat = lat;
+        this.lng = lng;
+        this.address = address;
+        this.rate = ratingCount == null || ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+    }
+}
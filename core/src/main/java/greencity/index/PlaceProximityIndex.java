@@ -0,0 +1,192 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory grid of {@link PlaceLocationEntry}s, which finds places within a fixed radius of a point.
+ *
+ * <p>The globe is divided into rows as high as the radius, and every row into columns at least as wide
+ * as the radius measured one row closer to the pole. No path shorter than the radius can leave that
+ * latitude, so the places near a point lie in at most three rows and three columns of each row. A query
+ * reads at most nine cells, however many places there are.
+ *
+ * <p>Cells are copied on write, so queries never lock. {@link #add} and {@link #remove} change the loaded
+ * content one writer at a time.
+ */
+public class PlaceProximityIndex {
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private final double radius;
+    private final double rowHeight;
+    private final int rows;
+    private volatile Map<Long, List<PlaceLocationEntry>> cells;
+    private Map<Long, PlaceLocationEntry> entriesById;
+
+    /**
+     * Constructor.
+     *
+     * @param radius radius of the search in meters.
+     */
+    public PlaceProximityIndex(double radius) {
+        if (!(radius >= 1)) {
+            throw new IllegalArgumentException("Radius must be at least one meter");
+        }
+        this.radius = radius;
+        this.rowHeight = Math.toDegrees(radius / EARTH_RADIUS_METERS);
+        this.rows = (int) Math.ceil(180 / rowHeight);
+    }
+
+    /**
+     * Shows whether the index was built and can answer queries.
+     *
+     * @return {@code true} if the index is loaded.
+     */
+    public boolean isLoaded() {
+        return cells != null;
+    }
+
+    /**
+     * Drops the index content, so it has to be rebuilt before the next query.
+     */
+    public synchronized void invalidate() {
+        cells = null;
+        entriesById = null;
+    }
+
+    /**
+     * Replaces the index content.
+     *
+     * @param entries all places to search in.
+     */
+    public void rebuild(List<PlaceLocationEntry> entries) {
+        Map<Long, List<PlaceLocationEntry>> built = new ConcurrentHashMap<>();
+        Map<Long, PlaceLocationEntry> builtEntries = new HashMap<>();
+        for (PlaceLocationEntry entry : entries) {
+            built.computeIfAbsent(key(entry.getLat(), entry.getLng()), k -> new ArrayList<>()).add(entry);
+            builtEntries.put(entry.getPlaceId(), entry);
+        }
+        synchronized (this) {
+            cells = built;
+            entriesById = builtEntries;
+        }
+    }
+
+    /**
+     * Adds a place to the loaded index, or replaces its previous name, location and status.
+     *
+     * @param entry place to add.
+     */
+    public synchronized void add(PlaceLocationEntry entry) {
+        if (cells == null) {
+            return;
+        }
+        remove(entry.getPlaceId());
+        cells.compute(key(entry.getLat(), entry.getLng()), (key, cell) -> {
+            List<PlaceLocationEntry> copy = cell == null ? new ArrayList<>() : new ArrayList<>(cell);
+            copy.add(entry);
+            return copy;
+        });
+        entriesById.put(entry.getPlaceId(), entry);
+    }
+
+    /**
+     * Removes a place from the loaded index.
+     *
+     * @param placeId id of the place.
+     */
+    public synchronized void remove(Long placeId) {
+        PlaceLocationEntry removed = cells == null ? null : entriesById.remove(placeId);
+        if (removed == null) {
+            return;
+        }
+        cells.computeIfPresent(key(removed.getLat(), removed.getLng()), (key, cell) -> {
+            List<PlaceLocationEntry> copy = new ArrayList<>(cell);
+            copy.removeIf(old -> old.getPlaceId().equals(placeId));
+            return copy.isEmpty() ? null : copy;
+        });
+    }
+
+    /**
+     * Finds places not farther than the radius from the given point.
+     *
+     * @param lat latitude of the point.
+     * @param lng longitude of the point.
+     * @return places near the point, or an empty list if the index is not loaded.
+     */
+    public List<PlaceLocationEntry> findNear(double lat, double lng) {
+        Map<Long, List<PlaceLocationEntry>> snapshot = cells;
+        if (snapshot == null) {
+            return Collections.emptyList();
+        }
+        List<PlaceLocationEntry> result = new ArrayList<>();
+        for (int row = row(lat - rowHeight); row <= row(lat + rowHeight); row++) {
+            int columns = columns(row);
+            int first = 0;
+            int last = columns - 1;
+            if (columns > 3) {
+                double width = 360.0 / columns;
+                double halfWidth = rowHeight / Math.cos(Math.toRadians(polewardLat(row)));
+                first = (int) Math.floor((lng - halfWidth + 180) / width);
+                last = (int) Math.floor((lng + halfWidth + 180) / width);
+            }
+            for (int column = first; column <= last; column++) {
+                List<PlaceLocationEntry> cell = snapshot.get(key(row, Math.floorMod(column, columns)));
+                if (cell == null) {
+                    continue;
+                }
+                for (PlaceLocationEntry entry : cell) {
+                    if (distance(lat, lng, entry.getLat(), entry.getLng()) <= radius) {
+                        result.add(entry);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the great-circle distance between two points with the haversine formula.
+     *
+     * @return distance in meters.
+     */
+    public static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+        double a = sinLat * sinLat
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private long key(double lat, double lng) {
+        int row = row(lat);
+        int columns = columns(row);
+        int column = (int) Math.floor((lng + 180) / (360.0 / columns));
+        return key(row, Math.floorMod(column, columns));
+    }
+
+    private static long key(int row, int column) {
+        return (long) row << 32 | column;
+    }
+
+    private int row(double lat) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((lat + 90) / rowHeight)));
+    }
+
+    private int columns(int row) {
+        double width = rowHeight / Math.cos(Math.toRadians(polewardLat(row)));
+        return (int) Math.max(1, Math.min(360 / rowHeight, Math.floor(360 / width)));
+    }
+
+    /**
+     * Latitude which no path shorter than the radius from a point of the row crosses.
+     */
+    private double polewardLat(int row) {
+        double south = -90 + row * rowHeight;
+        return Math.min(90, Math.max(Math.abs(south), Math.abs(south + rowHeight)) + rowHeight);
+    }
+}
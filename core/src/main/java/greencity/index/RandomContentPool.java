@@ -0,0 +1,74 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory per-habit, per-language arrays of content ids to pick random content from
+ * without sorting the candidates in the database.
+ */
+public class RandomContentPool {
+    private volatile Map<Long, Map<String, long[]>> pool;
+
+    /**
+     * Shows whether the pool was built and can answer queries.
+     *
+     * @return {@code true} if the pool is loaded.
+     */
+    public boolean isLoaded() {
+        return pool != null;
+    }
+
+    /**
+     * Drops the pool content, so it has to be rebuilt before the next query.
+     */
+    public void invalidate() {
+        pool = null;
+    }
+
+    /**
+     * Replaces the pool content.
+     *
+     * @param entries translated content of habits.
+     */
+    public void rebuild(List<RandomContentPoolEntry> entries) {
+        Map<Long, Map<String, List<Long>>> grouped = new HashMap<>();
+        for (RandomContentPoolEntry entry : entries) {
+            grouped.computeIfAbsent(entry.getHabitId(), habitId -> new HashMap<>())
+                .computeIfAbsent(entry.getLanguageCode(), languageCode -> new ArrayList<>())
+                .add(entry.getContentId());
+        }
+        Map<Long, Map<String, long[]>> built = new HashMap<>();
+        grouped.forEach((habitId, byLanguage) -> {
+            Map<String, long[]> ids = new HashMap<>();
+            byLanguage.forEach((languageCode, contentIds) ->
+                ids.put(languageCode, contentIds.stream().mapToLong(Long::longValue).toArray()));
+            built.put(habitId, ids);
+        });
+        pool = built;
+    }
+
+    /**
+     * Picks random content id of a habit in a language.
+     *
+     * @param habitId      id of habit.
+     * @param languageCode code of language.
+     * @return random content id, or empty {@link Optional} if the habit has no content in the language.
+     */
+    public Optional<Long> pickRandom(Long habitId, String languageCode) {
+        Map<Long, Map<String, long[]>> current = pool;
+        if (current == null) {
+            return Optional.empty();
+        }
+        long[] ids = current.getOrDefault(habitId, Collections.emptyMap()).get(languageCode);
+        if (ids == null || ids.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+}
@@ -0,0 +1,21 @@
+package greencity.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One translated content item of a habit used to build a {@link RandomContentPool}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class RandomContentPoolEntry {
+    private Long habitId;
+
+    private String languageCode;
+
+    private Long contentId;
+}
@@ -0,0 +1,286 @@
+package greencity.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory leaderboard of users ordered by rating, highest first, ties broken by lower user id.
+ *
+ * <p>Users are kept in a treap where every node knows the size of its subtree, so a rating change,
+ * the rank of a user and the first users of the board all take {@code O(log n)} steps plus the
+ * size of the answer. Current ratings are kept in a map next to the tree, which is enough to
+ * rank a small set of users, like someone's friends, without walking the tree.
+ */
+public class RatingLeaderboard {
+    private final Map<Long, Float> ratingsById = new HashMap<>();
+    private Node root;
+    private volatile boolean loaded;
+
+    private static final class Node {
+        private final long userId;
+        private final float rating;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long userId, float rating) {
+            this.userId = userId;
+            this.rating = rating;
+        }
+    }
+
+    /**
+     * Shows whether the leaderboard was built and can answer queries.
+     *
+     * @return {@code true} if the leaderboard is loaded.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replaces the leaderboard content.
+     *
+     * @param entries ratings of users.
+     */
+    public void rebuild(List<UserRatingEntry> entries) {
+        Map<Long, Float> ratings = new HashMap<>();
+        Node tree = null;
+        for (UserRatingEntry entry : entries) {
+            float rating = toRating(entry.getRating());
+            Float old = ratings.put(entry.getUserId(), rating);
+            if (old != null) {
+                tree = remove(tree, entry.getUserId(), old);
+            }
+            tree = insert(tree, new Node(entry.getUserId(), rating));
+        }
+        synchronized (this) {
+            ratingsById.clear();
+            ratingsById.putAll(ratings);
+            root = tree;
+            loaded = true;
+        }
+    }
+
+    /**
+     * Sets rating of the user, adding the user to the leaderboard if needed.
+     *
+     * @param userId user id.
+     * @param rating new rating.
+     */
+    public synchronized void update(Long userId, Float rating) {
+        float newRating = toRating(rating);
+        Float old = ratingsById.put(userId, newRating);
+        if (old != null) {
+            root = remove(root, userId, old);
+        }
+        root = insert(root, new Node(userId, newRating));
+    }
+
+    /**
+     * Removes the user from the leaderboard.
+     *
+     * @param userId user id.
+     */
+    public synchronized void remove(Long userId) {
+        Float old = ratingsById.remove(userId);
+        if (old != null) {
+            root = remove(root, userId, old);
+        }
+    }
+
+    /**
+     * Returns amount of users on the leaderboard.
+     *
+     * @return amount of users.
+     */
+    public synchronized int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns position of the user on the leaderboard.
+     *
+     * @param userId user id.
+     * @return rank starting from 1, or {@code 0} if the user is not on the leaderboard.
+     */
+    public synchronized int getRank(Long userId) {
+        Float rating = ratingsById.get(userId);
+        if (rating == null) {
+            return 0;
+        }
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(userId, rating, node.userId, node.rating);
+            if (cmp == 0) {
+                return before + size(node.left) + 1;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns rating of the user.
+     *
+     * @param userId user id.
+     * @return rating, or {@code null} if the user is not on the leaderboard.
+     */
+    public synchronized Float getRating(Long userId) {
+        return ratingsById.get(userId);
+    }
+
+    /**
+     * Returns the first users of the leaderboard.
+     *
+     * @param limit amount of users to return.
+     * @return up to {@code limit} user ids, highest rating first.
+     */
+    public synchronized List<Long> getTop(int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, size(root)));
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (result.size() < limit && (node != null || !path.isEmpty())) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            result.add(node.userId);
+            node = node.right;
+        }
+        return result;
+    }
+
+    /**
+     * Returns users of the given set with the highest rating. Users that are not on the leaderboard
+     * are skipped.
+     *
+     * @param userIds ids of users to rank, for example friends of a user.
+     * @param limit   amount of users to return.
+     * @return up to {@code limit} user ids, highest rating first.
+     */
+    public synchronized List<Long> getTopAmong(Collection<Long> userIds, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        Comparator<Long> byRank = (a, b) -> compare(a, ratingsById.get(a), b, ratingsById.get(b));
+        PriorityQueue<Long> top = new PriorityQueue<>(limit + 1, byRank.reversed());
+        for (Long userId : userIds) {
+            if (ratingsById.containsKey(userId)) {
+                top.offer(userId);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        List<Long> result = new ArrayList<>(top);
+        result.sort(byRank);
+        return result;
+    }
+
+    private static float toRating(Float rating) {
+        return rating == null ? 0 : rating;
+    }
+
+    private static int compare(long userId, float rating, long otherUserId, float otherRating) {
+        int byRating = Float.compare(otherRating, rating);
+        return byRating != 0 ? byRating : Long.compare(userId, otherUserId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node resize(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted.userId, inserted.rating);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            return resize(inserted);
+        }
+        if (compare(inserted.userId, inserted.rating, node.userId, node.rating) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return resize(node);
+    }
+
+    private static Node remove(Node node, long userId, float rating) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(userId, rating, node.userId, node.rating);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, userId, rating);
+        } else {
+            node.right = remove(node.right, userId, rating);
+        }
+        return resize(node);
+    }
+
+    /**
+     * Splits the tree into nodes ranked before the key and nodes ranked after it.
+     */
+    private static Node[] split(Node node, long userId, float rating) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(node.userId, node.rating, userId, rating) < 0) {
+            Node[] parts = split(node.right, userId, rating);
+            node.right = parts[0];
+            parts[0] = resize(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, userId, rating);
+        node.left = parts[1];
+        parts[1] = resize(node);
+        return parts;
+    }
+
+    /**
+     * Merges two trees where every node of {@code left} is ranked before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return resize(left);
+        }
+        right.left = merge(left, right.left);
+        return resize(right);
+    }
+}
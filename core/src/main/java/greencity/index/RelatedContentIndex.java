@@ -0,0 +1,251 @@
+package greencity.index;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Precomputed top-k related content per content item.
+ *
+ * <p>Two items are related when they share tags. Candidates are ranked by the number of shared tags,
+ * then by creation date, newest first. When an item has fewer related items than the limit, the list
+ * is filled up with the newest content at lookup time.
+ *
+ * <p>Only the newest {@code candidatesPerTag} items of every tag are considered as candidates, so the
+ * work per item does not grow with the size of popular tags. The content is published through a
+ * volatile reference: {@link #rebuild} builds a new state without holding any lock, and lookups never
+ * lock. {@link #add} and {@link #remove} change the published state in place, one writer at a time.
+ * Callers serialize them with the read and the rebuild, so no change is lost by a concurrent rebuild.
+ */
+public class RelatedContentIndex {
+    private static final int DEFAULT_CANDIDATES_PER_TAG = 200;
+    private static final Comparator<Item> NEWEST_FIRST = Comparator.comparing(Item::getCreationDate)
+        .thenComparing(Item::getId)
+        .reversed();
+
+    private final int limit;
+    private final int candidatesPerTag;
+    private volatile State state;
+
+    /**
+     * Constructor.
+     *
+     * @param limit amount of related items kept per item.
+     */
+    public RelatedContentIndex(int limit) {
+        this(limit, DEFAULT_CANDIDATES_PER_TAG);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param limit            amount of related items kept per item.
+     * @param candidatesPerTag amount of the newest items of every tag considered as candidates.
+     */
+    public RelatedContentIndex(int limit, int candidatesPerTag) {
+        this.limit = limit;
+        this.candidatesPerTag = candidatesPerTag;
+    }
+
+    /**
+     * Shows whether the index was built and can answer queries.
+     *
+     * @return {@code true} if the index is loaded.
+     */
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    /**
+     * Replaces the index content and recomputes related items of every item.
+     *
+     * @param entries (content, tag) pairs.
+     */
+    public void rebuild(List<TagIndexEntry> entries) {
+        Map<Long, Set<String>> tagsById = new HashMap<>();
+        Map<Long, ZonedDateTime> creationDates = new HashMap<>();
+        for (TagIndexEntry entry : entries) {
+            creationDates.putIfAbsent(entry.getContentId(), entry.getCreationDate());
+            tagsById.computeIfAbsent(entry.getContentId(), id -> new HashSet<>())
+                .add(entry.getTagName().toLowerCase());
+        }
+        State built = new State();
+        tagsById.forEach((id, tags) -> built.put(new Item(id, creationDates.get(id), tags)));
+        built.items.values().forEach(item -> built.relatedById.put(item.getId(), computeRelated(built, item)));
+        synchronized (this) {
+            state = built;
+        }
+    }
+
+    /**
+     * Adds new content and offers it to the related lists of the items found as its candidates.
+     *
+     * @param id           content id.
+     * @param creationDate content creation date.
+     * @param tags         tag names of the content.
+     */
+    public synchronized void add(Long id, ZonedDateTime creationDate, Collection<String> tags) {
+        State current = state;
+        if (current == null || current.items.containsKey(id)) {
+            return;
+        }
+        Set<String> lowerCaseTags = new HashSet<>();
+        tags.forEach(tag -> lowerCaseTags.add(tag.toLowerCase()));
+        Item item = new Item(id, creationDate, lowerCaseTags);
+        current.put(item);
+        current.relatedById.put(id, computeRelated(current, item));
+        for (Item other : findCandidates(current, item)) {
+            List<Item> candidates = new ArrayList<>();
+            for (Long relatedId : current.relatedById.getOrDefault(other.getId(), Collections.emptyList())) {
+                Item related = current.items.get(relatedId);
+                if (related != null) {
+                    candidates.add(related);
+                }
+            }
+            candidates.add(item);
+            current.relatedById.put(other.getId(), topRelated(other, candidates));
+        }
+    }
+
+    /**
+     * Removes content and recomputes the related lists of its candidates which contained it. Other
+     * lists which still contain it skip it at lookup time.
+     *
+     * @param id content id.
+     */
+    public synchronized void remove(Long id) {
+        State current = state;
+        Item item = current == null ? null : current.items.get(id);
+        if (item == null) {
+            return;
+        }
+        Set<Item> affected = findCandidates(current, item);
+        current.remove(item);
+        current.relatedById.remove(id);
+        for (Item other : affected) {
+            if (current.relatedById.getOrDefault(other.getId(), Collections.emptyList()).contains(id)) {
+                current.relatedById.put(other.getId(), computeRelated(current, other));
+            }
+        }
+    }
+
+    /**
+     * Returns ids of content related to the given one.
+     *
+     * @param id content id.
+     * @return up to {@code limit} ids, most related first.
+     */
+    public List<Long> getRelated(Long id) {
+        State current = state;
+        if (current == null) {
+            return new ArrayList<>();
+        }
+        List<Long> result = new ArrayList<>(limit);
+        for (Long related : current.relatedById.getOrDefault(id, Collections.emptyList())) {
+            if (current.items.containsKey(related)) {
+                result.add(related);
+            }
+        }
+        Iterator<Item> newestItems = current.newest.iterator();
+        while (result.size() < limit && newestItems.hasNext()) {
+            Long candidate = newestItems.next().getId();
+            if (!candidate.equals(id) && !result.contains(candidate)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private Set<Item> findCandidates(State current, Item item) {
+        Set<Item> result = new HashSet<>();
+        for (String tag : item.getTags()) {
+            Iterator<Item> tagged = current.idsByTag.getOrDefault(tag, Collections.emptyNavigableSet()).iterator();
+            int taken = 0;
+            while (taken < candidatesPerTag && tagged.hasNext()) {
+                Item candidate = tagged.next();
+                if (candidate != item) {
+                    result.add(candidate);
+                    taken++;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Long> computeRelated(State current, Item item) {
+        return topRelated(item, findCandidates(current, item));
+    }
+
+    private List<Long> topRelated(Item item, Collection<Item> candidates) {
+        Comparator<Item> byRank = Comparator.<Item>comparingInt(other -> countSharedTags(item, other))
+            .thenComparing(NEWEST_FIRST.reversed());
+        PriorityQueue<Item> top = new PriorityQueue<>(limit + 1, byRank);
+        for (Item candidate : candidates) {
+            top.offer(candidate);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Item> ranked = new ArrayList<>(top);
+        ranked.sort(byRank.reversed());
+        List<Long> result = new ArrayList<>(ranked.size());
+        ranked.forEach(related -> result.add(related.getId()));
+        return Collections.unmodifiableList(result);
+    }
+
+    private static int countSharedTags(Item item, Item other) {
+        int count = 0;
+        for (String tag : item.getTags()) {
+            if (other.getTags().contains(tag)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Content of the index. Lists stored in {@code relatedById} are never changed, only replaced.
+     */
+    private static class State {
+        private final Map<Long, Item> items = new ConcurrentHashMap<>();
+        private final Map<String, NavigableSet<Item>> idsByTag = new ConcurrentHashMap<>();
+        private final Map<Long, List<Long>> relatedById = new ConcurrentHashMap<>();
+        private final NavigableSet<Item> newest = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+
+        private void put(Item item) {
+            items.put(item.getId(), item);
+            newest.add(item);
+            item.getTags().forEach(tag -> idsByTag
+                .computeIfAbsent(tag, key -> new ConcurrentSkipListSet<>(NEWEST_FIRST))
+                .add(item));
+        }
+
+        private void remove(Item item) {
+            items.remove(item.getId());
+            newest.remove(item);
+            item.getTags().forEach(tag -> idsByTag.get(tag).remove(item));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Item {
+        private final Long id;
+        private final ZonedDateTime creationDate;
+        private final Set<String> tags;
+    }
+}
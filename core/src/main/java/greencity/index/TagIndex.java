@@ -0,0 +1,228 @@
+package greencity.index;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * In-memory inverted index from lower-cased tag name to a bitmap of content ids.
+ *
+ * <p>Every indexed content item gets a slot, and slots are handed out in creation date order,
+ * so the highest set bit of a bitmap is always the newest item. Slots are dense, which keeps
+ * a plain {@link BitSet} at one bit per item per tag. Deleted items leave an empty slot behind
+ * until the next {@link #rebuild(List)}.
+ */
+public class TagIndex {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, BitSet> bitmaps = new HashMap<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private long[] idsBySlot = new long[INITIAL_CAPACITY];
+    private int size;
+    private ZonedDateTime lastCreationDate;
+    private volatile boolean loaded;
+
+    /**
+     * Shows whether the index was built and can answer queries.
+     *
+     * @return {@code true} if the index is loaded.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Drops the index content, so it has to be rebuilt before the next query.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index content.
+     *
+     * @param entries (content, tag) pairs sorted by creation date and content id.
+     */
+    public void rebuild(List<TagIndexEntry> entries) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (TagIndexEntry entry : entries) {
+                Integer slot = slotsById.get(entry.getContentId());
+                if (slot == null) {
+                    slot = allocateSlot(entry.getContentId(), entry.getCreationDate());
+                }
+                bitmaps.computeIfAbsent(normalize(entry.getTagName()), tag -> new BitSet()).set(slot);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds newly created content to the index. When the content is older than the newest indexed item
+     * it cannot get an ordered slot, so the index invalidates itself instead.
+     *
+     * @param id           content id.
+     * @param creationDate content creation date.
+     * @param tags         tag names of the content.
+     */
+    public void add(Long id, ZonedDateTime creationDate, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            if (slotsById.containsKey(id)
+                || (lastCreationDate != null && creationDate.isBefore(lastCreationDate))) {
+                clear();
+                loaded = false;
+                return;
+            }
+            int slot = allocateSlot(id, creationDate);
+            tags.forEach(tag -> bitmaps.computeIfAbsent(normalize(tag), key -> new BitSet()).set(slot));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces tags of already indexed content.
+     *
+     * @param id   content id.
+     * @param tags new tag names of the content.
+     */
+    public void updateTags(Long id, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot == null) {
+                return;
+            }
+            bitmaps.values().forEach(bitmap -> bitmap.clear(slot));
+            tags.forEach(tag -> bitmaps.computeIfAbsent(normalize(tag), key -> new BitSet()).set(slot));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes content from the index.
+     *
+     * @param id content id.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                bitmaps.values().forEach(bitmap -> bitmap.clear(slot));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds ids of content that has at least one of the given tags, newest first.
+     *
+     * @param pageable page to return.
+     * @param tags     tag names.
+     * @return page of content ids.
+     */
+    public Page<Long> findAny(Pageable pageable, Collection<String> tags) {
+        return find(pageable, tags, (left, right) -> {
+            left.or(right);
+            return left;
+        });
+    }
+
+    /**
+     * Finds ids of content that has all of the given tags, newest first.
+     *
+     * @param pageable page to return.
+     * @param tags     tag names.
+     * @return page of content ids.
+     */
+    public Page<Long> findAll(Pageable pageable, Collection<String> tags) {
+        return find(pageable, tags, (left, right) -> {
+            left.and(right);
+            return left;
+        });
+    }
+
+    private Page<Long> find(Pageable pageable, Collection<String> tags, BinaryOperator<BitSet> combiner) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (String tag : tags) {
+                BitSet bitmap = bitmaps.getOrDefault(normalize(tag), new BitSet());
+                result = result == null ? (BitSet) bitmap.clone() : combiner.apply(result, bitmap);
+            }
+            if (result == null) {
+                return new PageImpl<>(Collections.emptyList(), pageable, 0);
+            }
+            return new PageImpl<>(newestFirst(result, pageable), pageable, result.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> newestFirst(BitSet bitmap, Pageable pageable) {
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        for (int slot = bitmap.previousSetBit(size - 1);
+             slot >= 0 && ids.size() < pageable.getPageSize();
+             slot = bitmap.previousSetBit(slot - 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                ids.add(idsBySlot[slot]);
+            }
+        }
+        return ids;
+    }
+
+    private int allocateSlot(Long id, ZonedDateTime creationDate) {
+        if (size == idsBySlot.length) {
+            idsBySlot = Arrays.copyOf(idsBySlot, size * 2);
+        }
+        idsBySlot[size] = id;
+        slotsById.put(id, size);
+        lastCreationDate = creationDate;
+        return size++;
+    }
+
+    private void clear() {
+        bitmaps.clear();
+        slotsById.clear();
+        idsBySlot = new long[INITIAL_CAPACITY];
+        size = 0;
+        lastCreationDate = null;
+    }
+
+    private static String normalize(String tag) {
+        return Objects.requireNonNull(tag).toLowerCase();
+    }
+}
@@ -0,0 +1,22 @@
+package greencity.index;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One (content, tag) pair used to build a {@link TagIndex}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class TagIndexEntry {
+    private Long contentId;
+
+    private ZonedDateTime creationDate;
+
+    private String tagName;
+}
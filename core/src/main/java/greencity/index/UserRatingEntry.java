@@ -0,0 +1,19 @@
+package greencity.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Rating of one user used to build a {@link RatingLeaderboard}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class UserRatingEntry {
+    private Long userId;
+
+    private Float rating;
+}
@@ -0,0 +1,97 @@
+package greencity.index;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Set of minutes of a week stored as a bitmap, one bit per minute counted from Monday midnight.
+ *
+ * <p>The bitmap always has {@link #BYTES} bytes in {@link BitSet#toByteArray()} order, so bit {@code n}
+ * is bit {@code n % 8} of byte {@code n / 8}. This is the order PostgreSQL {@code get_bit} uses on
+ * {@code bytea}, so a stored bitmap can be checked for a minute without decoding it.
+ */
+public class WeekMinutesBitmap {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    public static final int BYTES = MINUTES_PER_WEEK / Byte.SIZE;
+
+    private final BitSet minutes;
+
+    /**
+     * Constructor.
+     *
+     * @param bytes bitmap in {@link BitSet#toByteArray()} format, may be {@code null} for an empty bitmap.
+     */
+    public WeekMinutesBitmap(byte[] bytes) {
+        this.minutes = bytes == null ? new BitSet(MINUTES_PER_WEEK) : BitSet.valueOf(bytes);
+    }
+
+    /**
+     * Returns position of the minute in the bitmap.
+     *
+     * @param day  day of week.
+     * @param time time of the day, seconds are ignored.
+     * @return index of the minute.
+     */
+    public static int indexOf(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Adds minutes of the day from {@code from} inclusive to {@code to} exclusive.
+     * Nothing is added when {@code to} is not after {@code from}.
+     *
+     * @param day  day of week.
+     * @param from first minute.
+     * @param to   minute after the last one.
+     */
+    public void add(DayOfWeek day, LocalTime from, LocalTime to) {
+        if (from.isBefore(to)) {
+            minutes.set(indexOf(day, from), indexOf(day, to));
+        }
+    }
+
+    /**
+     * Removes minutes of the day from {@code from} inclusive to {@code to} exclusive.
+     *
+     * @param day  day of week.
+     * @param from first minute.
+     * @param to   minute after the last one.
+     */
+    public void remove(DayOfWeek day, LocalTime from, LocalTime to) {
+        if (from.isBefore(to)) {
+            minutes.clear(indexOf(day, from), indexOf(day, to));
+        }
+    }
+
+    /**
+     * Checks whether the minute is in the set.
+     *
+     * @param day  day of week.
+     * @param time time of the day.
+     * @return {@code true} if the minute is set.
+     */
+    public boolean contains(DayOfWeek day, LocalTime time) {
+        return minutes.get(indexOf(day, time));
+    }
+
+    /**
+     * Checks whether the set has no minutes.
+     *
+     * @return {@code true} if no minute is set.
+     */
+    public boolean isEmpty() {
+        return minutes.isEmpty();
+    }
+
+    /**
+     * Returns the bitmap in {@link BitSet#toByteArray()} format padded to {@link #BYTES} bytes.
+     *
+     * @return bytes of the bitmap.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(minutes.toByteArray(), BYTES);
+    }
+}
@@ -26,6 +26,7 @@ public class FavoritePlaceWithLocationMapper extends AbstractConverter<FavoriteP
         location.setLat(entity.getPlace().getLocation().getLat());
         location.setAddress(entity.getPlace().getLocation().getAddress());
         placeByBoundsDto.setLocation(location);
+        placeByBoundsDto.setRate(entity.getPlace().getAverageRate());
         return placeByBoundsDto;
     }
 }
@@ -0,0 +1,22 @@
+package greencity.message;
+
+import greencity.entity.enums.ActivityType;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message, that is used for adding an activity to feeds of the actor's friends.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendActivityMessage implements Serializable {
+    private Long activityId;
+    private Long actorId;
+    private ActivityType type;
+    private Long targetId;
+    private ZonedDateTime createdDate;
+}
@@ -0,0 +1,57 @@
+package greencity.repository;
+
+import greencity.entity.Activity;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Provides an interface to manage {@link Activity} entity and feeds built from it.
+ */
+@Repository
+public interface ActivityRepo extends JpaRepository<Activity, Long> {
+    /**
+     * Adds the activity to feeds of all users that have its actor as a friend. Feeds that already
+     * have the activity are skipped, so a redelivered activity is not shown twice.
+     *
+     * @param activityId - id of {@link Activity}.
+     * @param actorId    - id of the user that did the activity.
+     * @return amount of feeds the activity was added to.
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "INSERT INTO feed_items (user_id, activity_id) "
+        + " SELECT uf.user_id, :activityId FROM users_friends uf WHERE uf.friend_id = :actorId "
+        + " ON CONFLICT DO NOTHING")
+    int fanOut(@Param("activityId") Long activityId, @Param("actorId") Long actorId);
+
+    /**
+     * Returns activities of the user's feed that are older than the cursor, newest first.
+     *
+     * @param userId - id of the feed owner.
+     * @param cursor - id of the last activity already shown.
+     * @param limit  - maximal amount of activities.
+     * @return list of {@link Activity}.
+     */
+    @Query(nativeQuery = true, value = "SELECT a.* FROM feed_items f "
+        + " JOIN activities a ON a.id = f.activity_id "
+        + " WHERE f.user_id = :userId AND f.activity_id < :cursor "
+        + " ORDER BY f.activity_id DESC LIMIT :limit")
+    List<Activity> findFeed(@Param("userId") Long userId, @Param("cursor") Long cursor, @Param("limit") int limit);
+
+    /**
+     * Deletes activities created before the date together with their feed items.
+     *
+     * @param date - oldest creation date to keep.
+     * @return amount of deleted activities.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Activity a WHERE a.createdDate < :date")
+    int deleteAllByCreatedDateBefore(@Param("date") ZonedDateTime date);
+}
@@ -3,6 +3,8 @@ package greencity.repository;
 import greencity.entity.Advice;
 import greencity.entity.Language;
 import greencity.entity.localization.AdviceTranslation;
+import greencity.index.RandomContentPoolEntry;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,18 +13,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AdviceTranslationRepo extends JpaRepository<AdviceTranslation, Long> {
     /**
-     * Method for getting random content by habit id and language code.
-     * This method use native SQL query to reduce the load on the backend
+     * Method returns (habit, language, translation) triples of all {@link AdviceTranslation}
+     * used to pick random advices in memory.
      *
-     * @param habitId Id of HabitDictionary
-     * @return {@link AdviceTranslation} in Optional
-     * @author Vitaliy Dzen
+     * @return list of {@link RandomContentPoolEntry}
      */
-    @Query(nativeQuery = true, value = "SELECT * FROM advice_translations WHERE language_id = "
-        + "(SELECT id FROM languages WHERE code = ?1)"
-        + " AND advice_id = "
-        + "(SELECT id FROM advices WHERE habit_dictionary_id = ?2 ORDER BY RANDOM() LIMIT 1);")
-    Optional<AdviceTranslation> getRandomAdviceTranslationByHabitIdAndLanguage(String languageCode, Long habitId);
+    @Query("SELECT new greencity.index.RandomContentPoolEntry(a.habitDictionary.id, adt.language.code, adt.id) "
+        + "FROM AdviceTranslation adt JOIN adt.advice a")
+    List<RandomContentPoolEntry> findAllRandomContentPoolEntries();
 
     /**
      * Method find {@link AdviceTranslation} by content and language code.
@@ -1,10 +1,14 @@
 package greencity.repository;
 
+import greencity.dto.econewscomment.AmountCommentLikesDto;
 import greencity.entity.EcoNewsComment;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -57,4 +61,14 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      */
     Page<EcoNewsComment> findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateAsc(Pageable pageable,
                                                                                                       Long ecoNewsId);
+
+    /**
+     * Method returns amounts of likes of comments, specified by ids.
+     *
+     * @param ids ids of {@link EcoNewsComment}.
+     * @return {@link AmountCommentLikesDto} of every found comment.
+     */
+    @Query("SELECT new greencity.dto.econewscomment.AmountCommentLikesDto(ec.id, size(ec.usersLiked)) "
+        + "FROM EcoNewsComment ec WHERE ec.id IN :ids")
+    List<AmountCommentLikesDto> countLikesByIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,6 +1,7 @@
 package greencity.repository;
 
 import greencity.entity.EcoNews;
+import greencity.index.TagIndexEntry;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,30 +21,14 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long> {
     List<EcoNews> getThreeLastEcoNews();
 
     /**
-     * Method for getting three recommended eco news.
-     * Query is based on database function fn_Recommended_EcoNews_By_Opened_Eco_News
+     * Method returns (news, tag) pairs of all {@link EcoNews} used to build tag and recommendation indexes.
      *
-     * @param openedEcoNewsId id of opened eco news.
-     * @return list of three recommended {@link EcoNews} instances.
+     * @return list of {@link TagIndexEntry} sorted by creation date.
      */
-    @Query(nativeQuery = true,
-        value = "SELECT * FROM fn_Recommended_EcoNews_By_Opened_Eco_News(:openedEcoNewsId)")
-    List<EcoNews> getThreeRecommendedEcoNews(Long openedEcoNewsId);
-
-    /**
-     * Method returns {@link EcoNews} for specific tags.
-     *
-     * @param tags list of tags to search.
-     * @return {@link EcoNews} for specific tags.
-     */
-    @Query(nativeQuery = true, value =
-        "SELECT DISTINCT en.* FROM eco_news AS en "
-            + "INNER JOIN eco_news_tags AS entag "
-            + "ON en.id = entag.eco_news_id "
-            + "INNER JOIN tags AS t ON entag.tags_id = t.id "
-            + "WHERE lower(t.name) IN (:tags) "
-            + "ORDER BY  en.creation_date DESC")
-    Page<EcoNews> find(Pageable pageable, List<String> tags);
+    @Query("SELECT new greencity.index.TagIndexEntry(en.id, en.creationDate, lower(t.name)) "
+        + "FROM EcoNews en JOIN en.tags t "
+        + "ORDER BY en.creationDate, en.id")
+    List<TagIndexEntry> findAllTagIndexEntries();
 
     /**
      * Method returns all {@link EcoNews} by page.
@@ -4,6 +4,7 @@ import greencity.entity.FactTranslation;
 import greencity.entity.HabitFact;
 import greencity.entity.Language;
 import greencity.entity.enums.FactOfDayStatus;
+import greencity.index.RandomContentPoolEntry;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,18 +15,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FactTranslationRepo extends JpaRepository<FactTranslation, Long> {
     /**
-     * Method for getting random content by habit id and language code.
-     * This method use native SQL query to reduce the load on the backend
+     * Method returns (habit, language, translation) triples of all {@link FactTranslation}
+     * used to pick random facts in memory.
      *
-     * @param habitId Id of HabitDictionary
-     * @return {@link FactTranslation} in Optional
-     * @author Vitaliy Dzen
+     * @return list of {@link RandomContentPoolEntry}
      */
-    @Query(nativeQuery = true, value = "SELECT * FROM fact_translations WHERE language_id = "
-        + "(SELECT id FROM languages WHERE code = ?1)"
-        + " AND habit_fact_id = "
-        + "(SELECT id FROM habit_facts WHERE habit_dictionary_id = ?2 ORDER BY RANDOM() LIMIT 1);")
-    Optional<FactTranslation> getRandomFactTranslationByHabitIdAndLanguage(String languageCode, Long habitId);
+    @Query("SELECT new greencity.index.RandomContentPoolEntry(hf.habitDictionary.id, ft.language.code, ft.id) "
+        + "FROM FactTranslation ft JOIN ft.habitFact hf")
+    List<RandomContentPoolEntry> findAllRandomContentPoolEntries();
 
     /**
      * Method find {@link FactTranslation} by content and language code.
@@ -1,8 +1,11 @@
 package greencity.repository;
 
 import greencity.entity.FavoritePlace;
+import greencity.index.FavoritePlaceEntry;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -34,4 +37,14 @@ public interface FavoritePlaceRepo extends JpaRepository<FavoritePlace, Long> {
      * @author Zakhar Skaletskyi
      */
     FavoritePlace findByPlaceId(Long placeId);
+
+    /**
+     * Find all favorite places of the user together with their locations.
+     *
+     * @param userId - user's id
+     * @return list of {@link FavoritePlaceEntry}
+     */
+    @Query("SELECT new greencity.index.FavoritePlaceEntry(p.id, fp.name, l.lat, l.lng) "
+        + " FROM FavoritePlace fp JOIN fp.place p JOIN p.location l WHERE fp.user.id = :userId")
+    List<FavoritePlaceEntry> findAllEntriesByUserId(@Param("userId") Long userId);
 }
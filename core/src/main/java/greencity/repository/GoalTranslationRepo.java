@@ -28,17 +28,6 @@ public interface GoalTranslationRepo extends JpaRepository<GoalTranslation, Long
         + "AND g.language.code = ?2")
     List<GoalTranslation> findAvailableByUserId(Long userId, String languageCode);
 
-    /**
-     * Method returns goal translation for particular selected goal for specific user and language code.
-     *
-     * @param userId       target user id
-     * @param languageCode code of needed language
-     * @return {@link GoalTranslation}
-     */
-    @Query("SELECT g FROM GoalTranslation g WHERE g.goal.id IN "
-        + "(SELECT ug.goal FROM UserGoal ug WHERE ug.user.id = ?1 AND ug.id = ?3) AND g.language.code = ?2")
-    GoalTranslation findByUserIdLangAndUserGoalId(Long userId, String languageCode, Long userGoalId);
-
     /**
      * Method returns goal translations for specific goal and language code.
      *
@@ -50,6 +50,24 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      */
     List<HabitStatistic> findAllByHabitId(Long habitId);
 
+    /**
+     * Method for finding {@link HabitStatistic} of several habits that fall into the first days
+     * of each habit, counting from the habit creation date.
+     *
+     * @param habitIds list of {@link Habit} ids.
+     * @param days     amount of days from the habit creation date.
+     * @return list of {@link HabitStatistic} sorted by date.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT hs.* FROM habit_statistics AS hs "
+            + " JOIN habits AS h ON hs.habit_id = h.id "
+            + " WHERE h.id IN (:habitIds) "
+            + " AND hs.date >= date_trunc('day', h.create_date) "
+            + " AND hs.date < date_trunc('day', h.create_date) + :days * INTERVAL '1 day' "
+            + " ORDER BY hs.date")
+    List<HabitStatistic> findAllInFirstDaysOfHabits(@Param("habitIds") List<Long> habitIds,
+                                                    @Param("days") int days);
+
     /**
      * Method for finding amount of items for the previous day.
      *
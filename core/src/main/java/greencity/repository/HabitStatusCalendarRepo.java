@@ -44,4 +44,13 @@ public interface HabitStatusCalendarRepo extends JpaRepository<HabitStatusCalend
      * @return {@link List} of {@link HabitStatusCalendar}
      */
     List<HabitStatusCalendar> findAllByEnrollDateBeforeAndHabitStatus(LocalDate dateTime, HabitStatus habitStatus);
+
+    /**
+     * Method return all enroll dates of {@link HabitStatus}.
+     *
+     * @param habitStatus target {@link HabitStatus}
+     * @return {@link List} of {@link LocalDate}
+     */
+    @Query("SELECT hsc.enrollDate FROM HabitStatusCalendar hsc WHERE hsc.habitStatus = ?1")
+    List<LocalDate> findAllEnrollDatesByHabitStatus(HabitStatus habitStatus);
 }
@@ -0,0 +1,48 @@
+package greencity.repository;
+
+import greencity.entity.OutboxMessage;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Provides an interface to manage {@link OutboxMessage} entity.
+ */
+@Repository
+public interface OutboxMessageRepo extends JpaRepository<OutboxMessage, Long> {
+    /**
+     * Locks and returns the oldest messages that are due to be published. Rows locked by another
+     * relay are skipped, so several application instances can drain the outbox at the same time.
+     *
+     * @param now   - current date.
+     * @param limit - maximal amount of messages.
+     * @return list of {@link OutboxMessage}
+     */
+    @Query(nativeQuery = true, value = "SELECT * FROM outbox_messages "
+        + " WHERE next_attempt_date <= :now "
+        + " ORDER BY id LIMIT :limit "
+        + " FOR UPDATE SKIP LOCKED")
+    List<OutboxMessage> findDueForPublishing(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+    /**
+     * Returns creation date of the oldest message that is not published yet.
+     *
+     * @return {@link ZonedDateTime} or {@code null} if the outbox is empty.
+     */
+    @Query("SELECT MIN(o.createdDate) FROM OutboxMessage o")
+    ZonedDateTime findOldestCreatedDate();
+
+    /**
+     * Deletes published messages.
+     *
+     * @param ids - ids of messages.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage o WHERE o.id IN :ids")
+    void deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
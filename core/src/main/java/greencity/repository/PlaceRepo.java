@@ -2,12 +2,17 @@ package greencity.repository;
 
 import greencity.entity.Place;
 import greencity.entity.enums.PlaceStatus;
+import greencity.index.PlaceLocationEntry;
+import greencity.index.PlaceMarker;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,13 +33,17 @@ public interface PlaceRepo extends JpaRepository<Place, Long>, JpaSpecificationE
     Page<Place> findAllByStatusOrderByModifiedDateDesc(PlaceStatus status, Pageable pageable);
 
     /**
-     * Method to find average rate.
+     * Adds estimates to the rating aggregates of the place with one atomic statement.
      *
-     * @param id place
-     * @return average rate
+     * @param id    - id of place.
+     * @param sum   - sum of rates of added estimates, negative when estimates are removed.
+     * @param count - amount of added estimates, negative when estimates are removed.
+     * @return amount of updated places.
      */
-    @Query(value = "SELECT AVG(r.rate) FROM Estimate r " + "WHERE place_id = :id")
-    Double getAverageRate(@Param("id") Long id);
+    @Modifying
+    @Query("UPDATE Place p SET p.ratingSum = p.ratingSum + :sum, p.ratingCount = p.ratingCount + :count "
+        + " WHERE p.id = :id")
+    int updateRating(@Param("id") Long id, @Param("sum") long sum, @Param("count") int count);
 
     /**
      * Generated javadoc, must be replaced with real one.
@@ -70,6 +79,27 @@ public interface PlaceRepo extends JpaRepository<Place, Long>, JpaSpecificationE
         @Param("status") PlaceStatus status
     );
 
+    /**
+     * Finds markers of all places with the given {@link PlaceStatus}.
+     *
+     * @param status - {@link PlaceStatus} of places.
+     * @return list of {@link PlaceMarker}'s.
+     */
+    @Query("SELECT new greencity.index.PlaceMarker(p.id, p.name, l.id, l.lat, l.lng, l.address, "
+        + " p.ratingSum, p.ratingCount) "
+        + " FROM Place p JOIN p.location l WHERE p.status = :status")
+    List<PlaceMarker> findAllPlaceMarkers(@Param("status") PlaceStatus status);
+
+    /**
+     * Finds names and locations of all places with one of the given {@link PlaceStatus}'es.
+     *
+     * @param statuses - {@link PlaceStatus}'es of places.
+     * @return list of {@link PlaceLocationEntry}'s.
+     */
+    @Query("SELECT new greencity.index.PlaceLocationEntry(p.id, p.name, l.lat, l.lng, l.address, p.status) "
+        + " FROM Place p JOIN p.location l WHERE p.status IN :statuses")
+    List<PlaceLocationEntry> findAllPlaceLocationEntries(@Param("statuses") Collection<PlaceStatus> statuses);
+
     /**
      * The method to find all {@link Place}'s which was added between 2 dates and has {@link PlaceStatus}.
      *
@@ -80,4 +110,29 @@ public interface PlaceRepo extends JpaRepository<Place, Long>, JpaSpecificationE
      */
     List<Place> findAllByModifiedDateBetweenAndStatus(
         LocalDateTime startDate, LocalDateTime endDate, PlaceStatus status);
+
+    /**
+     * Finds {@link Place}'s by ids together with their authors and categories in one query.
+     *
+     * @param ids - ids of places.
+     * @return list of {@link Place}'s
+     */
+    @Query("SELECT DISTINCT p FROM Place p LEFT JOIN FETCH p.author LEFT JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Place> findAllWithAuthorAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sets {@link PlaceStatus} and modified date of all given places with one statement.
+     * Places loaded in the current persistence context are detached afterwards.
+     *
+     * @param ids          - ids of places.
+     * @param status       - new {@link PlaceStatus}.
+     * @param modifiedDate - new modified date.
+     * @return amount of updated places.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Place p SET p.status = :status, p.modifiedDate = :modifiedDate "
+        + " WHERE p.id IN :ids AND p.status <> :status")
+    int updateStatuses(@Param("ids") Collection<Long> ids,
+                       @Param("status") PlaceStatus status,
+                       @Param("modifiedDate") ZonedDateTime modifiedDate);
 }
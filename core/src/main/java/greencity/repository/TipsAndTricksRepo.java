@@ -1,6 +1,7 @@
 package greencity.repository;
 
 import greencity.entity.TipsAndTricks;
+import greencity.index.TagIndexEntry;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,16 +13,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface TipsAndTricksRepo extends JpaRepository<TipsAndTricks, Long> {
     /**
-     * Method returns {@link TipsAndTricks} by specific tags.
+     * Method returns (tips & tricks, tag) pairs of all {@link TipsAndTricks} used to build tag index.
      *
-     * @param tags list of tags to search by.
-     * @return {@link TipsAndTricks} by specific tags.
+     * @return list of {@link TagIndexEntry} sorted by creation date.
      */
-    @Query("SELECT DISTINCT tt FROM TipsAndTricks tt "
-        + "JOIN tt.tags ttt "
-        + "WHERE lower(ttt.name) in :tags "
-        + "ORDER BY tt.creationDate DESC")
-    Page<TipsAndTricks> find(Pageable pageable, List<String> tags);
+    @Query("SELECT new greencity.index.TagIndexEntry(tt.id, tt.creationDate, lower(ttt.name)) "
+        + "FROM TipsAndTricks tt JOIN tt.tags ttt "
+        + "ORDER BY tt.creationDate, tt.id")
+    List<TagIndexEntry> findAllTagIndexEntries();
 
     /**
      * Method returns all {@link TipsAndTricks} by page.
@@ -0,0 +1,117 @@
+package greencity.repository;
+
+import greencity.entity.UserCounters;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserCountersRepo extends JpaRepository<UserCounters, Long> {
+    /**
+     * Columns of {@code user_counters} filled by {@link #COUNTED_VALUES}.
+     */
+    String COUNTER_COLUMNS = " user_counters AS uc (user_id, published_news, written_tips_and_tricks, "
+        + " acquired_habits, habits_in_progress) ";
+
+    /**
+     * Counter values computed from the source tables for the user {@code u}.
+     */
+    String COUNTED_VALUES = " SELECT u.id, "
+        + " (SELECT COUNT(*) FROM eco_news en WHERE en.author_id = u.id), "
+        + " (SELECT COUNT(*) FROM tips_and_tricks tt WHERE tt.author_id = u.id), "
+        + " (SELECT COUNT(*) FROM habits h JOIN habits_users_assign hua ON hua.habit_id = h.id "
+        + "  WHERE hua.users_id = u.id AND h.status = true), "
+        + " (SELECT COUNT(*) FROM habits h JOIN habits_users_assign hua ON hua.habit_id = h.id "
+        + "  WHERE hua.users_id = u.id AND h.status = false) "
+        + " FROM users u ";
+
+    /**
+     * Method adds the given amounts to counters of the user. When the user has no counters yet
+     * they are created from the current state of the source tables, which already contains the change.
+     *
+     * @param userId           id of {@link greencity.entity.User}.
+     * @param publishedNews    change of published eco news amount.
+     * @param writtenTips      change of written tips & tricks amount.
+     * @param acquiredHabits   change of acquired habits amount.
+     * @param habitsInProgress change of habits in progress amount.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO" + COUNTER_COLUMNS + COUNTED_VALUES
+        + " WHERE u.id = :userId "
+        + " ON CONFLICT (user_id) DO UPDATE SET "
+        + " published_news = uc.published_news + :publishedNews, "
+        + " written_tips_and_tricks = uc.written_tips_and_tricks + :writtenTips, "
+        + " acquired_habits = uc.acquired_habits + :acquiredHabits, "
+        + " habits_in_progress = uc.habits_in_progress + :habitsInProgress")
+    void addToCounters(@Param("userId") Long userId,
+                       @Param("publishedNews") long publishedNews,
+                       @Param("writtenTips") long writtenTips,
+                       @Param("acquiredHabits") long acquiredHabits,
+                       @Param("habitsInProgress") long habitsInProgress);
+
+    /**
+     * Method changes amount of published eco news of the user.
+     *
+     * @param userId id of {@link greencity.entity.User}.
+     * @param delta  change of the amount.
+     */
+    default void addPublishedNews(Long userId, long delta) {
+        addToCounters(userId, delta, 0, 0, 0);
+    }
+
+    /**
+     * Method changes amount of written tips & tricks of the user.
+     *
+     * @param userId id of {@link greencity.entity.User}.
+     * @param delta  change of the amount.
+     */
+    default void addWrittenTipsAndTricks(Long userId, long delta) {
+        addToCounters(userId, 0, delta, 0, 0);
+    }
+
+    /**
+     * Method changes amounts of acquired habits and habits in progress of the user.
+     *
+     * @param userId           id of {@link greencity.entity.User}.
+     * @param acquiredHabits   change of acquired habits amount.
+     * @param habitsInProgress change of habits in progress amount.
+     */
+    default void addHabits(Long userId, long acquiredHabits, long habitsInProgress) {
+        addToCounters(userId, 0, 0, acquiredHabits, habitsInProgress);
+    }
+
+    /**
+     * Method changes amount of habits of the user with the given habit status.
+     *
+     * @param userId      id of {@link greencity.entity.User}.
+     * @param statusHabit status of {@link greencity.entity.Habit}, {@code true} for acquired habits.
+     * @param delta       change of the amount.
+     */
+    default void addHabit(Long userId, Boolean statusHabit, long delta) {
+        if (Boolean.TRUE.equals(statusHabit)) {
+            addHabits(userId, delta, 0);
+        } else {
+            addHabits(userId, 0, delta);
+        }
+    }
+
+    /**
+     * Method recomputes counters of all users from the source tables, repairing any drift caused
+     * by changes made bypassing the application.
+     *
+     * @return amount of reconciled users.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO" + COUNTER_COLUMNS + COUNTED_VALUES
+        + " ON CONFLICT (user_id) DO UPDATE SET "
+        + " published_news = EXCLUDED.published_news, "
+        + " written_tips_and_tricks = EXCLUDED.written_tips_and_tricks, "
+        + " acquired_habits = EXCLUDED.acquired_habits, "
+        + " habits_in_progress = EXCLUDED.habits_in_progress "
+        + " WHERE (uc.published_news, uc.written_tips_and_tricks, uc.acquired_habits, uc.habits_in_progress) "
+        + " IS DISTINCT FROM (EXCLUDED.published_news, EXCLUDED.written_tips_and_tricks, "
+        + " EXCLUDED.acquired_habits, EXCLUDED.habits_in_progress)")
+    int reconcileAll();
+}
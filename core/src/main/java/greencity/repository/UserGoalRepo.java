@@ -1,13 +1,28 @@
 package greencity.repository;
 
-import greencity.entity.Goal;
+import greencity.dto.user.UserGoalResponseDto;
 import greencity.entity.UserGoal;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserGoalRepo extends JpaRepository<UserGoal, Long> {
+    /**
+     * Selects {@link UserGoalResponseDto} of user goals together with the text of either the goal
+     * translation in the requested language or the custom goal. Only the translation in the requested
+     * language is joined, so a goal without it is still selected, with no text.
+     */
+    String SELECT_USER_GOAL_RESPONSE_DTOS = "SELECT new greencity.dto.user.UserGoalResponseDto("
+        + " ug.id, COALESCE(gt.text, cg.text), ug.status) "
+        + " FROM UserGoal ug "
+        + " LEFT JOIN ug.goal g "
+        + " LEFT JOIN g.translations gt "
+        + " ON gt.language.id = (SELECT l.id FROM Language l WHERE l.code = :languageCode) "
+        + " LEFT JOIN ug.customGoal cg "
+        + " WHERE ug.user.id = :userId ";
+
     /**
      * Method returns list of {@link UserGoal} for specific user.
      *
@@ -17,12 +32,26 @@ public interface UserGoalRepo extends JpaRepository<UserGoal, Long> {
     List<UserGoal> findAllByUserId(Long userId);
 
     /**
-     * Method returns predefined goal as specific UserGoal.
+     * Method returns all goals of specific user with their text in one query.
      *
-     * @param userGoalId - id of userGoal.
-     * @return {@link Goal}
+     * @param userId       - id of user.
+     * @param languageCode - code of language of predefined goals text.
+     * @return list of {@link UserGoalResponseDto}
      */
+    @Query(SELECT_USER_GOAL_RESPONSE_DTOS + " ORDER BY ug.id")
+    List<UserGoalResponseDto> findAllUserGoalResponseDtos(@Param("userId") Long userId,
+                                                          @Param("languageCode") String languageCode);
 
-    @Query("SELECT ug.goal FROM UserGoal ug WHERE ug.id = ?1")
-    Optional<Goal> findGoalByUserGoalId(Long userGoalId);
+    /**
+     * Method returns specific goal of user with its text in one query.
+     *
+     * @param userId       - id of user.
+     * @param userGoalId   - id of userGoal.
+     * @param languageCode - code of language of predefined goal text.
+     * @return {@link UserGoalResponseDto}
+     */
+    @Query(SELECT_USER_GOAL_RESPONSE_DTOS + " AND ug.id = :userGoalId")
+    Optional<UserGoalResponseDto> findUserGoalResponseDto(@Param("userId") Long userId,
+                                                          @Param("userGoalId") Long userGoalId,
+                                                          @Param("languageCode") String languageCode);
 }
@@ -3,6 +3,8 @@ package greencity.repository;
 import greencity.entity.User;
 import greencity.entity.enums.EmailNotification;
 import greencity.entity.enums.UserStatus;
+import greencity.index.FriendshipEntry;
+import greencity.index.UserRatingEntry;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -50,6 +52,15 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
     @Query("SELECT id FROM User WHERE email=:email")
     Optional<Long> findIdByEmail(String email);
 
+    /**
+     * Find {@link UserStatus} of user by id.
+     *
+     * @param id - {@link User} id
+     * @return {@link UserStatus}
+     */
+    @Query("SELECT u.userStatus FROM User u WHERE u.id = :id")
+    Optional<UserStatus> findUserStatusById(Long id);
+
     /**
      * Find all {@link User}'s with {@link EmailNotification} type.
      *
@@ -120,14 +131,30 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
     void addNewFriend(Long userId, Long friendId);
 
     /**
-     * Get six friends with the highest rating {@link User}.
+     * Get ids of users that have the user as a friend.
+     *
+     * @param friendId - id of the friend.
+     * @return list of user ids.
      */
-    @Query(nativeQuery = true,
-            value = " SELECT * FROM users_friends "
-                    + " LEFT JOIN users ON users.id = users_friends.friend_id "
-                    + " WHERE users_friends.user_id = :userId "
-                    + " ORDER BY users.rating DESC LIMIT 6 ")
-    List<User> getSixFriendsWithTheHighestRating(Long userId);
+    @Query(nativeQuery = true, value = "SELECT user_id FROM users_friends WHERE friend_id = :friendId")
+    List<Long> findAllIdsByFriendId(Long friendId);
+
+    /**
+     * Get all (user, friend) pairs.
+     *
+     * @return list of {@link FriendshipEntry}.
+     */
+    @Query("SELECT new greencity.index.FriendshipEntry(u.id, f.id) FROM User u JOIN u.userFriends f")
+    List<FriendshipEntry> findAllFriendshipEntries();
+
+    /**
+     * Get ratings of all users that are not deactivated.
+     *
+     * @return list of {@link UserRatingEntry}.
+     */
+    @Query("SELECT new greencity.index.UserRatingEntry(u.id, u.rating) FROM User u "
+        + "WHERE u.userStatus <> greencity.entity.enums.UserStatus.DEACTIVATED")
+    List<UserRatingEntry> findAllUserRatingEntries();
 
     /**
      * Updates last activity time for a given user.
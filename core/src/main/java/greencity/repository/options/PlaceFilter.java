@@ -7,6 +7,7 @@ import greencity.dto.filter.FilterPlaceDto;
 import greencity.dto.location.MapBoundsDto;
 import greencity.entity.Place;
 import greencity.entity.enums.PlaceStatus;
+import greencity.index.WeekMinutesBitmap;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -96,8 +97,9 @@ public class PlaceFilter implements Specification<Place> {
 
     /**
      * Checks if {@link Place} is open at the time described in the {@code currentTime} string argument.
-     * The method can throw a {@link DateTimeParseException} if the {@code currentTime} string doesn't
-     * match a {@code AppConstant.DATE_FORMAT} format string.
+     * The minute is looked up in the precomputed {@link WeekMinutesBitmap} of the place, so opening hours
+     * and breaks are not joined. The method can throw a {@link DateTimeParseException} if the
+     * {@code currentTime} string doesn't match a {@code AppConstant.DATE_FORMAT} format string.
      *
      * @param r           must not be {@literal null}.
      * @param cb          must not be {@literal null}.
@@ -109,9 +111,9 @@ public class PlaceFilter implements Specification<Place> {
             return cb.conjunction();
         }
         LocalDateTime time = LocalDateTime.parse(currentTime, DateTimeFormatter.ofPattern(AppConstant.DATE_FORMAT));
-        return cb.and(cb.equal(r.join(RepoConstants.HOURS_LIST).get(RepoConstants.HOURS_DAY), time.getDayOfWeek()),
-            cb.lessThan(r.join(RepoConstants.HOURS_LIST).get(RepoConstants.HOURS_OPEN), time.toLocalTime()),
-            cb.greaterThan(r.join(RepoConstants.HOURS_LIST).get(RepoConstants.HOURS_CLOSE), time.toLocalTime()));
+        int minute = WeekMinutesBitmap.indexOf(time.getDayOfWeek(), time.toLocalTime());
+        return cb.equal(
+            cb.function("get_bit", Integer.class, r.get(RepoConstants.OPEN_MINUTES), cb.literal(minute)), 1);
     }
 
     /**
@@ -16,11 +16,14 @@ import io.swagger.annotations.ApiResponses;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -30,6 +33,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
 
+import static greencity.config.PasswordHashingConfig.PASSWORD_HASHING_EXECUTOR;
 import static greencity.constant.ErrorMessage.*;
 import static greencity.constant.ValidationConstants.INVALID_RESTORE_EMAIL_ADDRESS;
 import static greencity.constant.ValidationConstants.USER_CREATED;
@@ -49,6 +53,7 @@ public class OwnSecurityController {
     private final OwnSecurityService service;
     private final VerifyEmailService verifyEmailService;
     private final PasswordRecoveryService passwordRecoveryService;
+    private final Executor passwordHashingExecutor;
 
     /**
      * Constructor.
@@ -56,16 +61,19 @@ public class OwnSecurityController {
      * @param clientAddress      - Google client address.
      * @param service            - {@link OwnSecurityService} - service for security logic.
      * @param verifyEmailService {@link VerifyEmailService} - service for email verification.
+     * @param passwordHashingExecutor {@link Executor} - bounded executor of requests that hash passwords.
      */
     @Autowired
     public OwnSecurityController(@Value("${client.address}") String clientAddress,
                                  OwnSecurityService service,
                                  VerifyEmailService verifyEmailService,
-                                 PasswordRecoveryService passwordRecoveryService) {
+                                 PasswordRecoveryService passwordRecoveryService,
+                                 @Qualifier(PASSWORD_HASHING_EXECUTOR) Executor passwordHashingExecutor) {
         this.clientAddress = clientAddress;
         this.service = service;
         this.verifyEmailService = verifyEmailService;
         this.passwordRecoveryService = passwordRecoveryService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     /**
@@ -80,8 +88,9 @@ public class OwnSecurityController {
         @ApiResponse(code = 400, message = USER_ALREADY_REGISTERED_WITH_THIS_EMAIL)
     })
     @PostMapping("/signUp")
-    public ResponseEntity<SuccessSignUpDto> singUp(@Valid @RequestBody OwnSignUpDto dto) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(service.signUp(dto));
+    public CompletableFuture<ResponseEntity<SuccessSignUpDto>> singUp(@Valid @RequestBody OwnSignUpDto dto) {
+        return CompletableFuture.supplyAsync(
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(service.signUp(dto)), passwordHashingExecutor);
     }
 
     /**
@@ -96,8 +105,8 @@ public class OwnSecurityController {
         @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
     @PostMapping("/signIn")
-    public SuccessSignInDto singIn(@Valid @RequestBody OwnSignInDto dto) {
-        return service.signIn(dto);
+    public CompletableFuture<SuccessSignInDto> singIn(@Valid @RequestBody OwnSignInDto dto) {
+        return CompletableFuture.supplyAsync(() -> service.signIn(dto), passwordHashingExecutor);
     }
 
     /**
@@ -167,9 +176,11 @@ public class OwnSecurityController {
         @ApiResponse(code = 400, message = TOKEN_FOR_RESTORE_IS_INVALID)
     })
     @PostMapping("/changePassword")
-    public ResponseEntity<Object> changePassword(@Valid @RequestBody OwnRestoreDto form) {
-        passwordRecoveryService.updatePasswordUsingToken(form.getToken(), form.getPassword());
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Object>> changePassword(@Valid @RequestBody OwnRestoreDto form) {
+        return CompletableFuture.supplyAsync(() -> {
+            passwordRecoveryService.updatePasswordUsingToken(form.getToken(), form.getPassword());
+            return ResponseEntity.ok().build();
+        }, passwordHashingExecutor);
     }
 
     /**
@@ -185,10 +196,13 @@ public class OwnSecurityController {
         @ApiResponse(code = 400, message = PASSWORD_DOES_NOT_MATCH)
     })
     @PutMapping
-    public ResponseEntity<Object> updatePassword(@Valid @RequestBody UpdatePasswordDto updateDto,
-                                                 @ApiIgnore @AuthenticationPrincipal Principal principal) {
+    public CompletableFuture<ResponseEntity<Object>> updatePassword(
+        @Valid @RequestBody UpdatePasswordDto updateDto,
+        @ApiIgnore @AuthenticationPrincipal Principal principal) {
         String email = principal.getName();
-        service.updateCurrentPassword(updateDto, email);
-        return ResponseEntity.ok().build();
+        return CompletableFuture.supplyAsync(() -> {
+            service.updateCurrentPassword(updateDto, email);
+            return ResponseEntity.ok().build();
+        }, passwordHashingExecutor);
     }
 }
@@ -0,0 +1,125 @@
+package greencity.security.filters;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits amount of requests one client address may have in progress at the same time.
+ *
+ * <p>A request holds its slot until the response is completed, including asynchronous processing.
+ * Requests over the limit are answered with {@code 429 Too Many Requests}. Behind a proxy the filter
+ * must run after {@link org.apache.catalina.filters.RemoteIpFilter}, which replaces the proxy address
+ * with the client address from {@code X-Forwarded-For}.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final RequestMatcher requestMatcher;
+    private final int limit;
+    private final Map<String, Integer> inProgress = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param pattern ant pattern of the limited requests.
+     * @param limit   amount of requests one address may have in progress.
+     */
+    public ConcurrencyLimitFilter(String pattern, int limit) {
+        this.requestMatcher = new AntPathRequestMatcher(pattern);
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !requestMatcher.matches(request);
+    }
+
+    /**
+     * Takes a slot of the client address for the time the request is processed.
+     *
+     * @param request  this is servlet that take request
+     * @param response this is response servlet
+     * @param chain    this is filter of chain
+     */
+    @Override
+    protected void doFilterInternal(@SuppressWarnings("NullableProblems") HttpServletRequest request,
+                                    @SuppressWarnings("NullableProblems") HttpServletResponse response,
+                                    @SuppressWarnings("NullableProblems") FilterChain chain)
+        throws ServletException, IOException {
+        String address = request.getRemoteAddr();
+        if (inProgress.merge(address, 1, Integer::sum) > limit) {
+            release(address);
+            log.info("Too many concurrent requests from " + address);
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+            return;
+        }
+        boolean releasedOnCompletion = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(address));
+                releasedOnCompletion = true;
+            }
+        } finally {
+            if (!releasedOnCompletion) {
+                release(address);
+            }
+        }
+    }
+
+    /**
+     * Returns amount of requests the address has in progress.
+     *
+     * @param address client address.
+     * @return amount of requests.
+     */
+    int countInProgress(String address) {
+        return inProgress.getOrDefault(address, 0);
+    }
+
+    private void release(String address) {
+        inProgress.computeIfPresent(address, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private class ReleasingListener implements AsyncListener {
+        private final String address;
+
+        ReleasingListener(String address) {
+            this.address = address;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(address);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // slot is released on completion, which follows a timeout
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // slot is released on completion, which follows an error
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
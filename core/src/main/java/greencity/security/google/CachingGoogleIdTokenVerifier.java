@@ -0,0 +1,91 @@
+package greencity.security.google;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.api.client.auth.openidconnect.IdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Verifies Google ID tokens against the keys of {@link GooglePublicKeysStore} and remembers the payloads
+ * of verified tokens for a short time.
+ *
+ * <p>Tokens are remembered by their SHA-256 digest, so retries and double submits of the same token are
+ * answered without checking the signature again. A remembered payload is not returned after the token
+ * itself has expired.
+ */
+public class CachingGoogleIdTokenVerifier {
+    private final GoogleIdTokenVerifier claimsVerifier;
+    private final GooglePublicKeysStore publicKeysStore;
+    private final Clock clock;
+    private final Cache<String, GoogleIdToken.Payload> verifiedPayloads;
+
+    /**
+     * Constructor.
+     *
+     * @param claimsVerifier  {@link GoogleIdTokenVerifier} that checks audience, issuer and expiration.
+     * @param publicKeysStore {@link GooglePublicKeysStore} with the keys that signatures are checked with.
+     * @param clock           {@link Clock} the token expiration is compared with.
+     * @param timeToLive      how long a verified payload is remembered.
+     * @param maximumSize     how many verified payloads are remembered.
+     */
+    public CachingGoogleIdTokenVerifier(GoogleIdTokenVerifier claimsVerifier, GooglePublicKeysStore publicKeysStore,
+                                        Clock clock, Duration timeToLive, int maximumSize) {
+        this.claimsVerifier = claimsVerifier;
+        this.publicKeysStore = publicKeysStore;
+        this.clock = clock;
+        this.verifiedPayloads = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * Verifies the token.
+     *
+     * @param idToken encoded Google ID token.
+     * @return payload of the token or {@code null} if the token is not valid.
+     * @throws GeneralSecurityException if the keys can not be parsed.
+     * @throws IOException              if the token can not be parsed or the keys can not be fetched.
+     */
+    public GoogleIdToken.Payload verify(String idToken) throws GeneralSecurityException, IOException {
+        String digest = digest(idToken);
+        GoogleIdToken.Payload payload = verifiedPayloads.getIfPresent(digest);
+        if (payload != null && !isExpired(payload)) {
+            return payload;
+        }
+        GoogleIdToken token = GoogleIdToken.parse(claimsVerifier.getJsonFactory(), idToken);
+        if (!claimsVerifier.verify((IdToken) token) || !isSignedByGoogle(token)) {
+            return null;
+        }
+        verifiedPayloads.put(digest, token.getPayload());
+        return token.getPayload();
+    }
+
+    private boolean isSignedByGoogle(GoogleIdToken token) throws GeneralSecurityException, IOException {
+        for (PublicKey publicKey : publicKeysStore.getPublicKeys()) {
+            if (token.verifySignature(publicKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isExpired(GoogleIdToken.Payload payload) {
+        Long expirationTimeSeconds = payload.getExpirationTimeSeconds();
+        return expirationTimeSeconds == null || clock.millis() >= expirationTimeSeconds * 1000;
+    }
+
+    private static String digest(String idToken) throws GeneralSecurityException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(idToken.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+}
@@ -0,0 +1,144 @@
+package greencity.security.google;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.json.JsonFactory;
+import greencity.constant.AppConstant;
+import greencity.constant.LogMessage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Local copy of the public keys Google signs ID tokens with.
+ *
+ * <p>Keys are fetched once on first use and then refreshed on a schedule shortly before they expire,
+ * according to the cache headers of the certificates endpoint. When a refresh fails the last known
+ * keys stay in use, so sign-in does not wait for or depend on the outbound request.
+ */
+@Slf4j
+public class GooglePublicKeysStore {
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final HttpTransport transport;
+    private final JsonFactory jsonFactory;
+    private final String certificatesUrl;
+    private final Clock clock;
+    private volatile List<PublicKey> publicKeys = Collections.emptyList();
+    private volatile Instant expirationTime = Instant.MIN;
+
+    /**
+     * Constructor.
+     *
+     * @param transport       {@link HttpTransport} used to fetch the certificates.
+     * @param jsonFactory     {@link JsonFactory} used to parse the certificates.
+     * @param certificatesUrl url of the certificates endpoint.
+     * @param clock           {@link Clock} the expiration time is compared with.
+     */
+    public GooglePublicKeysStore(HttpTransport transport, JsonFactory jsonFactory, String certificatesUrl,
+                                 Clock clock) {
+        this.transport = transport;
+        this.jsonFactory = jsonFactory;
+        this.certificatesUrl = certificatesUrl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the current public keys, fetching them if the store was never loaded.
+     *
+     * @return list of {@link PublicKey}.
+     * @throws GeneralSecurityException if the certificates can not be parsed.
+     * @throws IOException              if the certificates can not be fetched.
+     */
+    public List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException {
+        List<PublicKey> keys = publicKeys;
+        if (keys.isEmpty()) {
+            synchronized (this) {
+                if (publicKeys.isEmpty()) {
+                    refresh();
+                }
+                keys = publicKeys;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns time after which the keys should not be trusted without a refresh.
+     *
+     * @return {@link Instant}
+     */
+    public Instant getExpirationTime() {
+        return expirationTime;
+    }
+
+    /**
+     * Refreshes the keys when they are about to expire. A failed refresh keeps the current keys
+     * and is retried on the next run.
+     */
+    @Scheduled(fixedDelay = AppConstant.GOOGLE_PUBLIC_KEYS_CHECK_DELAY)
+    public void refreshIfExpiring() {
+        if (clock.instant().plusMillis(AppConstant.GOOGLE_PUBLIC_KEYS_REFRESH_SKEW).isBefore(expirationTime)) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn(LogMessage.GOOGLE_PUBLIC_KEYS_NOT_REFRESHED, e.getMessage());
+        }
+    }
+
+    /**
+     * Fetches the certificates and replaces the keys.
+     *
+     * @throws GeneralSecurityException if the certificates can not be parsed.
+     * @throws IOException              if the certificates can not be fetched.
+     */
+    public synchronized void refresh() throws GeneralSecurityException, IOException {
+        HttpResponse response = transport.createRequestFactory()
+            .buildGetRequest(new GenericUrl(certificatesUrl))
+            .execute();
+        try {
+            GenericJson certificates = jsonFactory.fromInputStream(response.getContent(), GenericJson.class);
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            List<PublicKey> keys = new ArrayList<>();
+            for (Object certificate : certificates.values()) {
+                byte[] bytes = String.valueOf(certificate).getBytes(StandardCharsets.UTF_8);
+                keys.add(factory.generateCertificate(new ByteArrayInputStream(bytes)).getPublicKey());
+            }
+            publicKeys = Collections.unmodifiableList(keys);
+            expirationTime = clock.instant().plusSeconds(getCacheTimeInSeconds(response.getHeaders()));
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    private static long getCacheTimeInSeconds(HttpHeaders headers) {
+        long maxAge = 0;
+        if (headers.getCacheControl() != null) {
+            Matcher matcher = MAX_AGE.matcher(headers.getCacheControl());
+            if (matcher.find()) {
+                maxAge = Long.parseLong(matcher.group(1));
+            }
+        }
+        if (headers.getAge() != null) {
+            maxAge -= headers.getAge();
+        }
+        return Math.max(0, maxAge);
+    }
+}
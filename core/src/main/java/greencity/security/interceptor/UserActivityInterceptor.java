@@ -1,5 +1,6 @@
 package greencity.security.interceptor;
 
+import greencity.security.jwt.UserPrincipal;
 import greencity.service.UserService;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -41,13 +42,10 @@ public class UserActivityInterceptor extends HandlerInterceptorAdapter {
                              @SuppressWarnings("NullableProblems") Object handler)
             throws Exception {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null) {
-            String email = authentication.getPrincipal().toString();
-            if (!email.equals("anonymousUser")) {
-                Long userId = userService.findIdByEmail(email);
-                Date userLastActivityTime = new Date();
-                userService.updateUserLastActivityTime(userId, userLastActivityTime);
-            }
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            Long userId = ((UserPrincipal) authentication.getPrincipal()).getId();
+            Date userLastActivityTime = new Date();
+            userService.updateUserLastActivityTime(userId, userLastActivityTime);
         }
         return super.preHandle(request, response, handler);
     }
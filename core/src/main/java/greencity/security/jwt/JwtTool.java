@@ -1,8 +1,9 @@
 package greencity.security.jwt;
 
 import static greencity.constant.AppConstant.AUTHORITIES;
+import static greencity.constant.AppConstant.USER_ID_CLAIM;
+import static greencity.constant.AppConstant.USER_STATUS_CLAIM;
 import greencity.entity.User;
-import greencity.entity.enums.ROLE;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwt;
 import io.jsonwebtoken.Jwts;
@@ -41,14 +42,16 @@ public class JwtTool {
     }
 
     /**
-     * Method for creating access token.
+     * Method for creating access token. Besides email and role the token carries id and status of the user,
+     * so that authenticated requests do not have to load the user to know them.
      *
-     * @param email this is email of user.
-     * @param role  this is role of user.
+     * @param user - entity {@link User}
      */
-    public String createAccessToken(String email, ROLE role) {
-        Claims claims = Jwts.claims().setSubject(email);
-        claims.put(AUTHORITIES, Collections.singleton(role.name()));
+    public String createAccessToken(User user) {
+        Claims claims = Jwts.claims().setSubject(user.getEmail());
+        claims.put(AUTHORITIES, Collections.singleton(user.getRole().name()));
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(USER_STATUS_CLAIM, user.getUserStatus().name());
         Date now = new Date();
         Calendar calendar = Calendar.getInstance();
         calendar.setTime(now);
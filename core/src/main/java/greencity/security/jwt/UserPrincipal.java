@@ -0,0 +1,40 @@
+package greencity.security.jwt;
+
+import greencity.entity.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal of a user authenticated by access token. It carries the claims of the token, so the
+ * user id is known without loading the user.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserPrincipal implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String email;
+    private final UserStatus userStatus;
+
+    /**
+     * Returns email of the user, which is the name of the authentication.
+     *
+     * @return email of the user.
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Returns email of the user, as the principal used to be the plain email.
+     *
+     * @return email of the user.
+     */
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -1,12 +1,22 @@
 package greencity.security.providers;
 
 import static greencity.constant.AppConstant.AUTHORITIES;
+import static greencity.constant.AppConstant.USER_ID_CLAIM;
+import static greencity.constant.AppConstant.USER_STATUS_CLAIM;
+import greencity.constant.ErrorMessage;
+import greencity.entity.enums.UserStatus;
 import greencity.security.jwt.JwtTool;
+import greencity.security.jwt.UserPrincipal;
+import greencity.service.UserService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.UnsupportedJwtException;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,40 +29,54 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
  */
 public class JwtAuthenticationProvider implements AuthenticationProvider {
     private final JwtTool jwtTool;
+    private final UserService userService;
 
     /**
      * Constructor.
-     * @param jwtTool {@link JwtTool}
+     * @param jwtTool     {@link JwtTool}
+     * @param userService {@link UserService} - used for the cached check of current user status.
      */
-    public JwtAuthenticationProvider(JwtTool jwtTool) {
+    public JwtAuthenticationProvider(JwtTool jwtTool, UserService userService) {
         this.jwtTool = jwtTool;
+        this.userService = userService;
     }
 
     /**
-     * Method that provide authentication.
+     * Method that provide authentication. The token is rejected when the user was deactivated or
+     * the status of the user changed after the token was issued.
      *
      * @param authentication {@link Authentication} - authentication that has jwt access token.
-     * @return {@link Authentication} if user successfully authenticated.
+     * @return {@link Authentication} with {@link UserPrincipal} if user successfully authenticated.
      * @throws io.jsonwebtoken.ExpiredJwtException - if the token expired.
      * @throws UnsupportedJwtException  if the argument does not represent an Claims JWS
      * @throws io.jsonwebtoken.MalformedJwtException if the string is not a valid JWS
      * @throws io.jsonwebtoken.SignatureException if the JWS signature validation fails
+     * @throws BadCredentialsException if the token has no user id.
+     * @throws DisabledException if the user is deactivated.
+     * @throws CredentialsExpiredException if the status of the user changed after the token was issued.
      */
     @Override
     public Authentication authenticate(Authentication authentication) {
-        String email = Jwts.parser()
+        Claims claims = Jwts.parser()
             .setSigningKey(jwtTool.getAccessTokenKey())
             .parseClaimsJws(authentication.getName())
-            .getBody()
-            .getSubject();
+            .getBody();
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String tokenStatus = claims.get(USER_STATUS_CLAIM, String.class);
+        if (userId == null || tokenStatus == null) {
+            throw new BadCredentialsException(ErrorMessage.ACCESS_TOKEN_WITHOUT_USER);
+        }
+        UserStatus userStatus = userService.findStatusById(userId);
+        if (userStatus == UserStatus.DEACTIVATED) {
+            throw new DisabledException(ErrorMessage.USER_DEACTIVATED);
+        }
+        if (!userStatus.name().equals(tokenStatus)) {
+            throw new CredentialsExpiredException(ErrorMessage.USER_STATUS_CHANGED);
+        }
         @SuppressWarnings({"unchecked, rawtype"})
-        List<String> authorities = (List<String>) Jwts.parser()
-            .setSigningKey(jwtTool.getAccessTokenKey())
-            .parseClaimsJws(authentication.getName())
-            .getBody()
-            .get(AUTHORITIES);
+        List<String> authorities = (List<String>) claims.get(AUTHORITIES);
         return new UsernamePasswordAuthenticationToken(
-            email,
+            new UserPrincipal(userId, claims.getSubject(), userStatus),
             "",
             authorities.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
         );
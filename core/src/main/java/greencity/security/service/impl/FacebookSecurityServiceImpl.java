@@ -121,7 +121,7 @@ public class FacebookSecurityServiceImpl implements FacebookSecurityService {
     }
 
     private SuccessSignInDto getSuccessSignInDto(User user) {
-        String accessToken = jwtTool.createAccessToken(user.getEmail(), user.getRole());
+        String accessToken = jwtTool.createAccessToken(user);
         String refreshToken = jwtTool.createRefreshToken(user);
         return new SuccessSignInDto(user.getId(), accessToken, refreshToken, user.getName(), false);
     }
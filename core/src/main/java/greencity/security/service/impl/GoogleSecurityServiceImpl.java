@@ -1,7 +1,6 @@
 package greencity.security.service.impl;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import greencity.constant.AppConstant;
 import static greencity.constant.AppConstant.GOOGLE_USERNAME;
 import static greencity.constant.ErrorMessage.*;
@@ -11,6 +10,7 @@ import greencity.entity.enums.ROLE;
 import greencity.entity.enums.UserStatus;
 import greencity.exception.exceptions.UserDeactivatedException;
 import greencity.security.dto.SuccessSignInDto;
+import greencity.security.google.CachingGoogleIdTokenVerifier;
 import greencity.security.jwt.JwtTool;
 import greencity.security.service.GoogleSecurityService;
 import greencity.service.UserService;
@@ -31,7 +31,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class GoogleSecurityServiceImpl implements GoogleSecurityService {
     private final UserService userService;
-    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final CachingGoogleIdTokenVerifier googleIdTokenVerifier;
     private final JwtTool jwtTool;
     private final ApplicationEventPublisher appEventPublisher;
     private final String defaultProfilePicture;
@@ -42,13 +42,13 @@ public class GoogleSecurityServiceImpl implements GoogleSecurityService {
      *
      * @param userService           {@link UserService} - service of {@link User} logic.
      * @param jwtTool               {@link JwtTool} - tool for jwt logic.
-     * @param googleIdTokenVerifier {@link GoogleIdTokenVerifier} - tool for verify googleIdToken.
+     * @param googleIdTokenVerifier {@link CachingGoogleIdTokenVerifier} - tool for verify googleIdToken.
      * @param appEventPublisher     {@link ApplicationEventPublisher} - tool for eventPublisher logic.
      */
     @Autowired
     public GoogleSecurityServiceImpl(UserService userService,
                                      JwtTool jwtTool,
-                                     GoogleIdTokenVerifier googleIdTokenVerifier,
+                                     CachingGoogleIdTokenVerifier googleIdTokenVerifier,
                                      ApplicationEventPublisher appEventPublisher,
                                      @Value("${defaultProfilePicture}") String defaultProfilePicture
     ) {
@@ -66,9 +66,8 @@ public class GoogleSecurityServiceImpl implements GoogleSecurityService {
     @Override
     public SuccessSignInDto authenticate(String idToken) {
         try {
-            GoogleIdToken googleIdToken = googleIdTokenVerifier.verify(idToken);
-            if (googleIdToken != null) {
-                GoogleIdToken.Payload payload = googleIdToken.getPayload();
+            GoogleIdToken.Payload payload = googleIdTokenVerifier.verify(idToken);
+            if (payload != null) {
                 String email = payload.getEmail();
                 String userName = (String) payload.get(GOOGLE_USERNAME);
                 User byEmail;
@@ -111,7 +110,7 @@ public class GoogleSecurityServiceImpl implements GoogleSecurityService {
     }
 
     private SuccessSignInDto getSuccessSignInDto(User user) {
-        String accessToken = jwtTool.createAccessToken(user.getEmail(), user.getRole());
+        String accessToken = jwtTool.createAccessToken(user);
         String refreshToken = jwtTool.createRefreshToken(user);
         return new SuccessSignInDto(user.getId(), accessToken, refreshToken, user.getName(), false);
     }
@@ -20,11 +20,11 @@ import greencity.security.dto.ownsecurity.UpdatePasswordDto;
 import greencity.security.jwt.JwtTool;
 import greencity.security.repository.OwnSecurityRepo;
 import greencity.security.service.OwnSecurityService;
+import greencity.service.OutboxService;
 import greencity.service.UserService;
 import io.jsonwebtoken.ExpiredJwtException;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -43,7 +43,7 @@ public class OwnSecurityServiceImpl implements OwnSecurityService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTool jwtTool;
     private final Integer expirationTime;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     @Value("${messaging.rabbit.email.topic}")
     private String sendEmailTopic;
     private final String defaultProfilePicture;
@@ -57,14 +57,14 @@ public class OwnSecurityServiceImpl implements OwnSecurityService {
                                   PasswordEncoder passwordEncoder,
                                   JwtTool jwtTool,
                                   @Value("${verifyEmailTimeHour}") Integer expirationTime,
-                                  RabbitTemplate rabbitTemplate,
+                                  OutboxService outboxService,
                                   @Value("${defaultProfilePicture}") String defaultProfilePicture) {
         this.ownSecurityRepo = ownSecurityRepo;
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
         this.jwtTool = jwtTool;
         this.expirationTime = expirationTime;
-        this.rabbitTemplate = rabbitTemplate;
+        this.outboxService = outboxService;
         this.defaultProfilePicture = defaultProfilePicture;
     }
 
@@ -83,7 +83,7 @@ public class OwnSecurityServiceImpl implements OwnSecurityService {
         user.setVerifyEmail(verifyEmail);
         try {
             User savedUser = userService.save(user);
-            rabbitTemplate.convertAndSend(
+            outboxService.send(
                 sendEmailTopic,
                 VERIFY_EMAIL_ROUTING_KEY,
                 new VerifyEmailMessage(savedUser.getId(), savedUser.getName(), savedUser.getEmail(),
@@ -148,7 +148,7 @@ public class OwnSecurityServiceImpl implements OwnSecurityService {
         if (user.getUserStatus() == UserStatus.DEACTIVATED) {
             throw new UserDeactivatedException(USER_DEACTIVATED);
         }
-        String accessToken = jwtTool.createAccessToken(user.getEmail(), user.getRole());
+        String accessToken = jwtTool.createAccessToken(user);
         String refreshToken = jwtTool.createRefreshToken(user);
         return new SuccessSignInDto(user.getId(), accessToken, refreshToken, user.getName(), true);
     }
@@ -179,7 +179,7 @@ public class OwnSecurityServiceImpl implements OwnSecurityService {
         if (jwtTool.isTokenValid(refreshToken, user.getRefreshTokenKey())) {
             user.setRefreshTokenKey(newRefreshTokenKey);
             return new AccessRefreshTokensDto(
-                jwtTool.createAccessToken(user.getEmail(), user.getRole()),
+                jwtTool.createAccessToken(user),
                 jwtTool.createRefreshToken(user)
             );
         }
@@ -15,9 +15,9 @@ import greencity.security.events.UpdatePasswordEvent;
 import greencity.security.jwt.JwtTool;
 import greencity.security.repository.RestorePasswordEmailRepo;
 import greencity.security.service.PasswordRecoveryService;
+import greencity.service.OutboxService;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -36,7 +36,7 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
     private final UserRepo userRepo;
     private final RestorePasswordEmailRepo restorePasswordEmailRepo;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     private final JwtTool jwtTool;
     @Value("${verifyEmailTimeHour}")
     private Integer tokenExpirationTimeInHours;
@@ -49,20 +49,20 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
      * @param restorePasswordEmailRepo  {@link RestorePasswordEmailRepo} - Used for storing recovery tokens
      * @param applicationEventPublisher {@link ApplicationEventPublisher} - Used for publishing events,
      *                                  such as email sending or password update
-     * @param rabbitTemplate            template for sending RabbitMQ messages
+     * @param outboxService             {@link OutboxService} - Used for sending RabbitMQ messages after commit
      * @param jwtTool                   {@link JwtTool} - Used for recovery token generation
      */
     public PasswordRecoveryServiceImpl(
         RestorePasswordEmailRepo restorePasswordEmailRepo,
         UserRepo userRepo,
         ApplicationEventPublisher applicationEventPublisher,
-        RabbitTemplate rabbitTemplate,
+        OutboxService outboxService,
         JwtTool jwtTool
     ) {
         this.restorePasswordEmailRepo = restorePasswordEmailRepo;
         this.userRepo = userRepo;
         this.applicationEventPublisher = applicationEventPublisher;
-        this.rabbitTemplate = rabbitTemplate;
+        this.outboxService = outboxService;
         this.jwtTool = jwtTool;
     }
 
@@ -120,7 +120,7 @@ public class PasswordRecoveryServiceImpl implements PasswordRecoveryService {
                 .expiryDate(calculateExpirationDate(tokenExpirationTimeInHours))
                 .build();
         restorePasswordEmailRepo.save(restorePasswordEmail);
-        rabbitTemplate.convertAndSend(
+        outboxService.send(
             sendEmailTopic,
             PASSWORD_RECOVERY_ROUTING_KEY,
             new PasswordRecoveryMessage(
@@ -0,0 +1,42 @@
+package greencity.service;
+
+import greencity.dto.feed.FeedPageDto;
+import greencity.entity.enums.ActivityType;
+import greencity.message.FriendActivityMessage;
+
+public interface ActivityFeedService {
+    /**
+     * Method records the activity in the current transaction and sends it to feeds of users that have
+     * the actor as a friend once the transaction commits.
+     *
+     * @param actorId  - id of the user that did the activity.
+     * @param type     - {@link ActivityType} of the activity.
+     * @param targetId - id of the news, tips and tricks or habit the activity is about.
+     */
+    void publish(Long actorId, ActivityType type, Long targetId);
+
+    /**
+     * Method adds the activity to feeds of users that have its actor as a friend.
+     *
+     * @param message - {@link FriendActivityMessage} sent by {@link #publish(Long, ActivityType, Long)}.
+     */
+    void fanOut(FriendActivityMessage message);
+
+    /**
+     * Method returns a page of the user's feed, newest activities first.
+     *
+     * @param userId - id of the feed owner.
+     * @param cursor - cursor returned with the previous page, {@code null} for the first page.
+     * @param limit  - amount of activities, capped by {@link greencity.constant.AppConstant#FEED_PAGE_MAX_SIZE}.
+     * @return {@link FeedPageDto}.
+     */
+    FeedPageDto getFeed(Long userId, Long cursor, int limit);
+
+    /**
+     * Method deletes activities older than
+     * {@link greencity.constant.AppConstant#ACTIVITY_RETENTION_DAYS} days from all feeds.
+     *
+     * @return amount of deleted activities.
+     */
+    int deleteExpiredActivities();
+}
@@ -0,0 +1,30 @@
+package greencity.service;
+
+public interface CommentLikesBroadcastService {
+    /**
+     * Method remembers that likes of the comment were changed. It is sent once by the next {@link #flush()},
+     * however many times it was submitted, with the amount of likes read at that time.
+     *
+     * @param ecoNewsId - id of {@link greencity.entity.EcoNews} the comment belongs to.
+     * @param commentId - id of {@link greencity.entity.EcoNewsComment}.
+     */
+    void submit(Long ecoNewsId, Long commentId);
+
+    /**
+     * Method sends the current amounts of likes of submitted comments to topics of the eco news the comments
+     * belong to.
+     *
+     * @return amount of sent messages.
+     */
+    int flush();
+
+    /**
+     * Method returns destination that receives amounts of likes of comments to the eco news.
+     *
+     * @param ecoNewsId - id of {@link greencity.entity.EcoNews}.
+     * @return STOMP destination.
+     */
+    static String getDestination(Long ecoNewsId) {
+        return "/topic/econews/" + ecoNewsId + "/comment";
+    }
+}
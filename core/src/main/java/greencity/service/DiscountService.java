@@ -1,6 +1,7 @@
 package greencity.service;
 
 import greencity.entity.DiscountValue;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -15,6 +16,14 @@ public interface DiscountService {
      */
     DiscountValue save(DiscountValue discount);
 
+    /**
+     * Method for saving several new Discounts to database in one batch.
+     *
+     * @param discounts - Discount entities.
+     * @return saved discounts.
+     */
+    List<DiscountValue> saveAll(List<DiscountValue> discounts);
+
     /**
      * Find Discount entity by id.
      *
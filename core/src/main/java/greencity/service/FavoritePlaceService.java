@@ -1,6 +1,8 @@
 package greencity.service;
 
 import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusRequestDto;
 import greencity.dto.place.PlaceByBoundsDto;
 import greencity.dto.place.PlaceInfoDto;
 import greencity.entity.FavoritePlace;
@@ -78,4 +80,13 @@ public interface FavoritePlaceService {
      * @author Zakhar Skaletskyi
      */
     PlaceByBoundsDto getFavoritePlaceWithLocation(Long id, String email);
+
+    /**
+     * Get favorite flags and custom names of places for {@link User} in one call.
+     *
+     * @param request - ids of places, or map bounds when ids are not given
+     * @param userId  - {@link User} id
+     * @return status of every given place, or of every {@link FavoritePlace} in the map bounds
+     */
+    List<FavoritePlaceStatusDto> getStatuses(FavoritePlaceStatusRequestDto request, Long userId);
 }
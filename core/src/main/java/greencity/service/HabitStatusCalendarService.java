@@ -55,4 +55,12 @@ public interface HabitStatusCalendarService {
      * @return {@link List} of {@link HabitStatusCalendar}
      */
     List<LocalDate> findEnrolledDatesBefore(LocalDate dateTime, HabitStatus habitStatus);
+
+    /**
+     * Method return all enrolled dates of {@link HabitStatus}.
+     *
+     * @param habitStatus target {@link HabitStatus}
+     * @return {@link List} of {@link LocalDate}
+     */
+    List<LocalDate> findAllEnrolledDates(HabitStatus habitStatus);
 }
@@ -3,6 +3,7 @@ package greencity.service;
 import greencity.entity.Place;
 import greencity.entity.User;
 import greencity.entity.enums.EmailNotification;
+import java.util.List;
 
 public interface NotificationService {
     /**
@@ -13,6 +14,14 @@ public interface NotificationService {
      */
     void sendImmediatelyReport(Place newPlace);
 
+    /**
+     * Method for sending one report about several new places immediately to {@link User}'s who subscribed
+     * and has {@link EmailNotification} type - IMMEDIATELY. Subscribers are loaded once for all places.
+     *
+     * @param newPlaces - new {@link Place}'s which were added on the map
+     */
+    void sendImmediatelyReports(List<Place> newPlaces);
+
     /**
      * Method for sending report about new places at 12:00:00pm every day to {@link User}'s who subscribed
      * and has {@link EmailNotification} type - DAILY.
@@ -17,6 +17,14 @@ public interface OpenHoursService {
      */
     OpeningHours save(OpeningHours hours);
 
+    /**
+     * Save several OpeningHours to DB in one batch.
+     *
+     * @param hours - entities of OpeningHours.
+     * @return saved OpeningHours.
+     */
+    List<OpeningHours> saveAll(List<OpeningHours> hours);
+
     /**
      * Find OpeningHours entity by id.
      *
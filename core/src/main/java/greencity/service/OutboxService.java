@@ -0,0 +1,24 @@
+package greencity.service;
+
+import greencity.entity.OutboxMessage;
+
+public interface OutboxService {
+    /**
+     * Method converts the message and stores it as {@link OutboxMessage} in the current transaction.
+     * The message is published by {@link #relay()} only if the transaction commits. Must be called
+     * within a transaction.
+     *
+     * @param exchange   - name of exchange.
+     * @param routingKey - routing key of the message.
+     * @param message    - message to send.
+     */
+    void send(String exchange, String routingKey, Object message);
+
+    /**
+     * Method publishes a batch of pending {@link OutboxMessage}'s, waits for broker confirms and
+     * deletes the confirmed ones. Messages that were not confirmed are retried later with backoff.
+     *
+     * @return amount of published messages.
+     */
+    int relay();
+}
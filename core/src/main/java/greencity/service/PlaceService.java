@@ -2,6 +2,7 @@ package greencity.service;
 
 import greencity.dto.PageableDto;
 import greencity.dto.filter.FilterPlaceDto;
+import greencity.dto.location.MapBoundsDto;
 import greencity.dto.place.*;
 import greencity.entity.Place;
 import greencity.entity.enums.PlaceStatus;
@@ -127,6 +128,18 @@ public interface PlaceService {
      */
     List<PlaceByBoundsDto> findPlacesByMapsBounds(FilterPlaceDto filterPlaceDto);
 
+    /**
+     * The method which returns clusters of approved places in the map bounds for the zoom level of
+     * the map. Places are returned separately when they are alone in their cluster or when the map
+     * is zoomed in far enough.
+     *
+     * @param mapBoundsDto contains northEastLng, northEastLat, southWestLat, southWestLng of current
+     *                     state of map
+     * @param zoom         zoom level of the map
+     * @return {@code PlaceClustersDto} with clusters and separate places
+     */
+    PlaceClustersDto findClustersByMapsBounds(MapBoundsDto mapBoundsDto, int zoom);
+
     /**
      * Get average rate of {@link Place}.
      *
@@ -136,6 +149,15 @@ public interface PlaceService {
      */
     Double averageRate(Long id);
 
+    /**
+     * Adds estimates to the rating aggregates of {@link Place}.
+     *
+     * @param id    - {@link Place} id
+     * @param sum   - sum of rates of added estimates, negative when estimates are removed
+     * @param count - amount of added estimates, negative when estimates are removed
+     */
+    void updateRating(Long id, long sum, int count);
+
     /**
      * The method finds all {@link Place}'s filtered by the parameters contained in {@param filterDto} object.
      *
@@ -172,4 +194,13 @@ public interface PlaceService {
      * @author Kateryna Horokh
      */
     PlaceUpdateDto getInfoForUpdatingById(Long id);
+
+    /**
+     * Method finds proposed and approved places near the {@link Place} with a similar name, so a
+     * moderator can merge or decline duplicates.
+     *
+     * @param id - {@link Place} id
+     * @return list of {@link PlaceDuplicateDto} with the most similar names first
+     */
+    List<PlaceDuplicateDto> findDuplicates(Long id);
 }
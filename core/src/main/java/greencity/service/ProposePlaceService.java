@@ -2,6 +2,7 @@ package greencity.service;
 
 import greencity.dto.location.LocationAddressAndGeoDto;
 import greencity.dto.openhours.OpeningHoursDto;
+import greencity.dto.place.PlaceDuplicateDto;
 import greencity.entity.DiscountValue;
 import greencity.entity.Photo;
 import greencity.entity.Place;
@@ -31,4 +32,20 @@ public interface ProposePlaceService {
      * Method save DiscountValue in object Place.
      */
     void saveDiscountValuesWithPlace(Set<DiscountValue> discountValues, Place place);
+
+    /**
+     * Method finds places near the given one with a similar name, which may duplicate it.
+     *
+     * @param place - proposed {@link Place}
+     * @return list of {@link PlaceDuplicateDto} with the most similar names first
+     */
+    List<PlaceDuplicateDto> findDuplicates(Place place);
+
+    /**
+     * Method applies the name, location and status of a saved place to the search of duplicates
+     * after commit.
+     *
+     * @param place - saved {@link Place}
+     */
+    void updateDuplicateIndex(Place place);
 }
@@ -57,7 +57,7 @@ public interface UserService {
     User findByEmail(String email);
 
     /**
-     * Find User's id by User email.
+     * Find User's id by User email. The id of an email never changes, so it is cached.
      *
      * @param email - {@link User} email
      * @return {@link User} id
@@ -65,6 +65,15 @@ public interface UserService {
      */
     Long findIdByEmail(String email);
 
+    /**
+     * Find current {@link UserStatus} of User by id. The status is cached until it is changed
+     * through this service.
+     *
+     * @param id - {@link User} id
+     * @return {@link UserStatus}
+     */
+    UserStatus findStatusById(Long id);
+
     /**
      * Update {@code ROLE} of user.
      *
@@ -321,6 +330,30 @@ public interface UserService {
      */
     List<UserProfilePictureDto> getSixFriendsWithTheHighestRating(Long userId);
 
+    /**
+     * Get friends of user friends that user is not friends with yet, ranked by amount of mutual friends.
+     *
+     * @param userId {@link Long}
+     * @return list of {@link UserFriendSuggestionDto}, most mutual friends first.
+     */
+    List<UserFriendSuggestionDto> getFriendSuggestions(Long userId);
+
+    /**
+     * Get users with the highest rating.
+     *
+     * @param limit amount of users, from 1 to {@link greencity.constant.AppConstant#LEADERBOARD_MAX_SIZE}.
+     * @return list of {@link LeaderboardEntryDto}, highest rating first.
+     */
+    List<LeaderboardEntryDto> getLeaderboard(int limit);
+
+    /**
+     * Get position of the user on the rating leaderboard.
+     *
+     * @param userId {@link Long}
+     * @return {@link LeaderboardEntryDto} of the user.
+     */
+    LeaderboardEntryDto getLeaderboardPosition(Long userId);
+
     /**
      * Save user profile information {@link User}.
      *
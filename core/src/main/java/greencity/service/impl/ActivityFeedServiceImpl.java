@@ -0,0 +1,152 @@
+package greencity.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.constant.AppConstant;
+import greencity.constant.RabbitConstants;
+import greencity.dto.feed.FeedItemDto;
+import greencity.dto.feed.FeedPageDto;
+import greencity.entity.Activity;
+import greencity.entity.User;
+import greencity.entity.enums.ActivityType;
+import greencity.index.ActivityEntry;
+import greencity.index.ActivityTimeline;
+import greencity.message.FriendActivityMessage;
+import greencity.repository.ActivityRepo;
+import greencity.repository.UserRepo;
+import greencity.service.ActivityFeedService;
+import greencity.service.OutboxService;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The class provides implementation of the {@code ActivityFeedService}.
+ *
+ * <p>Feeds are built on write: every activity is added to {@code feed_items} of all users that have
+ * its actor as a friend, so reading a feed never joins friends with content. The newest part of
+ * recently read feeds is also kept in memory as {@link ActivityTimeline}s. Timelines expire a while
+ * after they were loaded, which bounds how long an instance misses activities delivered to another one.
+ */
+@Service
+public class ActivityFeedServiceImpl implements ActivityFeedService {
+    private final ActivityRepo activityRepo;
+    private final UserRepo userRepo;
+    private final OutboxService outboxService;
+    private final Cache<Long, ActivityTimeline> timelines = Caffeine.newBuilder()
+        .maximumSize(AppConstant.FEED_TIMELINES_MAX_SIZE)
+        .expireAfterWrite(AppConstant.FEED_TIMELINE_TTL, TimeUnit.MILLISECONDS)
+        .build();
+
+    /**
+     * Constructor.
+     */
+    @Autowired
+    public ActivityFeedServiceImpl(ActivityRepo activityRepo, UserRepo userRepo, OutboxService outboxService) {
+        this.activityRepo = activityRepo;
+        this.userRepo = userRepo;
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void publish(Long actorId, ActivityType type, Long targetId) {
+        Activity activity = activityRepo.save(Activity.builder()
+            .actorId(actorId)
+            .type(type)
+            .targetId(targetId)
+            .createdDate(ZonedDateTime.now())
+            .build());
+        outboxService.send(RabbitConstants.ACTIVITY_FEED_EXCHANGE_NAME, RabbitConstants.FRIEND_ACTIVITY_ROUTING_KEY,
+            new FriendActivityMessage(activity.getId(), actorId, type, targetId, activity.getCreatedDate()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @RabbitListener(queues = RabbitConstants.FRIEND_ACTIVITY_QUEUE_NAME)
+    @Override
+    public void fanOut(FriendActivityMessage message) {
+        activityRepo.fanOut(message.getActivityId(), message.getActorId());
+        if (timelines.estimatedSize() == 0) {
+            return;
+        }
+        ActivityEntry entry = new ActivityEntry(message.getActivityId(), message.getActorId(), message.getType(),
+            message.getTargetId(), message.getCreatedDate());
+        for (Long userId : userRepo.findAllIdsByFriendId(message.getActorId())) {
+            ActivityTimeline timeline = timelines.getIfPresent(userId);
+            if (timeline != null) {
+                timeline.add(entry);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FeedPageDto getFeed(Long userId, Long cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, AppConstant.FEED_PAGE_MAX_SIZE));
+        List<ActivityEntry> page = timelines.get(userId, this::loadTimeline)
+            .findPage(cursor, size)
+            .orElseGet(() -> findFeed(userId, cursor == null ? Long.MAX_VALUE : cursor, size));
+        Map<Long, User> actorsById = userRepo.findAllById(page.stream()
+            .map(ActivityEntry::getActorId)
+            .distinct()
+            .collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<FeedItemDto> items = page.stream()
+            .filter(entry -> actorsById.containsKey(entry.getActorId()))
+            .map(entry -> toFeedItemDto(entry, actorsById.get(entry.getActorId())))
+            .collect(Collectors.toList());
+        Long nextCursor = page.size() < size ? null : page.get(page.size() - 1).getId();
+        return new FeedPageDto(items, nextCursor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Scheduled(fixedDelay = AppConstant.ACTIVITY_CLEANUP_DELAY)
+    @Override
+    public int deleteExpiredActivities() {
+        return activityRepo.deleteAllByCreatedDateBefore(
+            ZonedDateTime.now().minusDays(AppConstant.ACTIVITY_RETENTION_DAYS));
+    }
+
+    private ActivityTimeline loadTimeline(Long userId) {
+        List<ActivityEntry> newest = findFeed(userId, Long.MAX_VALUE, AppConstant.FEED_TIMELINE_CAPACITY + 1);
+        boolean complete = newest.size() <= AppConstant.FEED_TIMELINE_CAPACITY;
+        return new ActivityTimeline(AppConstant.FEED_TIMELINE_CAPACITY, newest, complete);
+    }
+
+    private List<ActivityEntry> findFeed(Long userId, Long cursor, int limit) {
+        return activityRepo.findFeed(userId, cursor, limit).stream()
+            .map(activity -> new ActivityEntry(activity.getId(), activity.getActorId(), activity.getType(),
+                activity.getTargetId(), activity.getCreatedDate()))
+            .collect(Collectors.toList());
+    }
+
+    private FeedItemDto toFeedItemDto(ActivityEntry entry, User actor) {
+        return FeedItemDto.builder()
+            .id(entry.getId())
+            .type(entry.getType())
+            .targetId(entry.getTargetId())
+            .createdDate(entry.getCreatedDate())
+            .actorId(actor.getId())
+            .actorName(actor.getName())
+            .actorProfilePicturePath(actor.getProfilePicturePath())
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.dto.advice.AdviceDTO;
 import greencity.dto.advice.AdvicePostDTO;
@@ -8,6 +9,7 @@ import greencity.entity.Advice;
 import greencity.exception.exceptions.NotDeletedException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotUpdatedException;
+import greencity.index.RandomContentPool;
 import greencity.repository.AdviceRepo;
 import greencity.repository.AdviceTranslationRepo;
 import greencity.repository.HabitDictionaryRepo;
@@ -17,6 +19,7 @@ import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
@@ -31,6 +34,8 @@ public class AdviceServiceImpl implements AdviceService {
     private final AdviceTranslationRepo adviceTranslationRepo;
 
     private final ModelMapper modelMapper;
+    private final RandomContentPool randomAdvicePool = new RandomContentPool();
+    private final Object randomAdvicePoolLock = new Object();
 
     /**
      * Constructor with parameters.
@@ -66,7 +71,8 @@ public class AdviceServiceImpl implements AdviceService {
      */
     @Override
     public LanguageTranslationDTO getRandomAdviceByHabitIdAndLanguage(Long id, String language) {
-        return modelMapper.map(adviceTranslationRepo.getRandomAdviceTranslationByHabitIdAndLanguage(language, id)
+        return modelMapper.map(getRandomAdvicePool().pickRandom(id, language)
+            .flatMap(adviceTranslationRepo::findById)
             .orElseThrow(() ->
                 new NotFoundException(ErrorMessage.ADVICE_NOT_FOUND_BY_ID + id)), LanguageTranslationDTO.class);
     }
@@ -107,7 +113,9 @@ public class AdviceServiceImpl implements AdviceService {
      */
     @Override
     public Advice save(AdvicePostDTO advicePostDTO) {
-        return adviceRepo.save(modelMapper.map(advicePostDTO, Advice.class));
+        Advice saved = adviceRepo.save(modelMapper.map(advicePostDTO, Advice.class));
+        invalidateRandomAdvicePool();
+        return saved;
     }
 
     /**
@@ -122,7 +130,9 @@ public class AdviceServiceImpl implements AdviceService {
         return adviceRepo.findById(id)
             .map(employee -> {
                 employee.setHabitDictionary(habitDictionaryRepo.findById(advice.getHabitDictionary().getId()).get());
-                return adviceRepo.save(employee);
+                Advice updated = adviceRepo.save(employee);
+                invalidateRandomAdvicePool();
+                return updated;
             })
             .orElseThrow(() -> new NotUpdatedException(ErrorMessage.ADVICE_NOT_UPDATED));
     }
@@ -141,6 +151,46 @@ public class AdviceServiceImpl implements AdviceService {
         } catch (EmptyResultDataAccessException e) {
             throw new NotDeletedException(ErrorMessage.ADVICE_NOT_DELETED);
         }
+        invalidateRandomAdvicePool();
         return id;
     }
+
+    /**
+     * Method reloads in-memory pool of advices used by {@link #getRandomAdviceByHabitIdAndLanguage}.
+     * Runs periodically to pick up translations changed bypassing this service.
+     */
+    @Scheduled(fixedDelay = AppConstant.RANDOM_CONTENT_POOL_REFRESH_DELAY)
+    public void refreshRandomAdvicePool() {
+        synchronized (randomAdvicePoolLock) {
+            randomAdvicePool.rebuild(adviceTranslationRepo.findAllRandomContentPoolEntries());
+        }
+    }
+
+    /**
+     * Method returns pool of advices, loading it on first use. Concurrent requests wait for one load
+     * instead of each reading all translations.
+     *
+     * @return loaded {@link RandomContentPool}.
+     */
+    private RandomContentPool getRandomAdvicePool() {
+        if (randomAdvicePool.isLoaded()) {
+            return randomAdvicePool;
+        }
+        synchronized (randomAdvicePoolLock) {
+            if (!randomAdvicePool.isLoaded()) {
+                refreshRandomAdvicePool();
+            }
+        }
+        return randomAdvicePool;
+    }
+
+    /**
+     * Method drops pool of advices after they were changed. A running reload is finished first, so it
+     * cannot publish advices read before the change.
+     */
+    private void invalidateRandomAdvicePool() {
+        synchronized (randomAdvicePoolLock) {
+            randomAdvicePool.invalidate();
+        }
+    }
 }
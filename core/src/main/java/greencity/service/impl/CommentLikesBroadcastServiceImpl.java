@@ -0,0 +1,62 @@
+package greencity.service.impl;
+
+import greencity.constant.AppConstant;
+import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.repository.EcoNewsCommentRepo;
+import greencity.service.CommentLikesBroadcastService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code CommentLikesBroadcastService}.
+ *
+ * <p>Changed comments are collected and sent every {@link AppConstant#COMMENT_LIKES_BROADCAST_DELAY}
+ * milliseconds to the topic of the eco news, so a burst of likes costs one frame per comment and only
+ * viewers of that eco news receive it. Amounts are read from the database when they are sent, so
+ * likes committed in any order end with the committed amount.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentLikesBroadcastServiceImpl implements CommentLikesBroadcastService {
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final EcoNewsCommentRepo ecoNewsCommentRepo;
+    private final Map<Long, Long> pendingEcoNewsIdByCommentId = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(Long ecoNewsId, Long commentId) {
+        pendingEcoNewsIdByCommentId.put(commentId, ecoNewsId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Scheduled(fixedDelay = AppConstant.COMMENT_LIKES_BROADCAST_DELAY)
+    @Override
+    public int flush() {
+        Map<Long, Long> ecoNewsIdByCommentId = new HashMap<>();
+        for (Long commentId : pendingEcoNewsIdByCommentId.keySet()) {
+            Long ecoNewsId = pendingEcoNewsIdByCommentId.remove(commentId);
+            if (ecoNewsId != null) {
+                ecoNewsIdByCommentId.put(commentId, ecoNewsId);
+            }
+        }
+        if (ecoNewsIdByCommentId.isEmpty()) {
+            return 0;
+        }
+        List<AmountCommentLikesDto> amounts = ecoNewsCommentRepo.countLikesByIds(ecoNewsIdByCommentId.keySet());
+        for (AmountCommentLikesDto amount : amounts) {
+            messagingTemplate.convertAndSend(
+                CommentLikesBroadcastService.getDestination(ecoNewsIdByCommentId.get(amount.getId())), amount);
+        }
+        return amounts.size();
+    }
+}
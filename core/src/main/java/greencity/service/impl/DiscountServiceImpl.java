@@ -6,6 +6,7 @@ import greencity.entity.DiscountValue;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.repository.DiscountValuesRepo;
 import greencity.service.DiscountService;
+import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,14 @@ public class DiscountServiceImpl implements DiscountService {
         return repo.save(discountValue);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DiscountValue> saveAll(List<DiscountValue> discounts) {
+        return repo.saveAll(discounts);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -8,12 +8,16 @@ import greencity.dto.econewscomment.EcoNewsCommentDto;
 import greencity.entity.EcoNews;
 import greencity.entity.EcoNewsComment;
 import greencity.entity.User;
+import greencity.entity.enums.ActivityType;
 import greencity.entity.enums.ROLE;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.repository.EcoNewsCommentRepo;
+import greencity.service.ActivityFeedService;
+import greencity.service.CommentLikesBroadcastService;
 import greencity.service.EcoNewsCommentService;
 import greencity.service.EcoNewsService;
+import greencity.utils.TransactionUtils;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -28,6 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     private EcoNewsCommentRepo ecoNewsCommentRepo;
     private EcoNewsService ecoNewsService;
+    private ActivityFeedService activityFeedService;
+    private CommentLikesBroadcastService commentLikesBroadcastService;
     private ModelMapper modelMapper;
 
 
@@ -57,7 +63,10 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             }
         }
 
-        return modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
+        AddEcoNewsCommentDtoResponse response =
+            modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
+        activityFeedService.publish(user.getId(), ActivityType.ECO_NEWS_COMMENT, econewsId);
+        return response;
     }
 
     /**
@@ -161,6 +170,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
 
     /**
      * Method to like or dislike {@link greencity.entity.EcoNewsComment} specified by id.
+     * After commit the new amount of likes is broadcast to viewers of the eco news.
      *
      * @param id   of {@link greencity.entity.EcoNewsComment} to like/dislike.
      * @param user current {@link User} that wants to like/dislike.
@@ -174,6 +184,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             comment.getUsersLiked().add(user);
         }
         ecoNewsCommentRepo.save(comment);
+        Long ecoNewsId = comment.getEcoNews().getId();
+        TransactionUtils.afterCommit(() -> commentLikesBroadcastService.submit(ecoNewsId, id));
     }
 
     /**
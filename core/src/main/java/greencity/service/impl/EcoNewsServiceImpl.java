@@ -1,5 +1,6 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
 import greencity.constant.RabbitConstants;
@@ -9,24 +10,34 @@ import greencity.dto.econews.AddEcoNewsDtoResponse;
 import greencity.dto.econews.EcoNewsDto;
 import greencity.dto.search.SearchNewsDto;
 import greencity.entity.EcoNews;
+import greencity.entity.Tag;
+import greencity.entity.enums.ActivityType;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
+import greencity.index.RelatedContentIndex;
+import greencity.index.TagIndex;
+import greencity.index.TagIndexEntry;
 import greencity.message.AddEcoNewsMessage;
 import greencity.repository.EcoNewsRepo;
+import greencity.repository.UserCountersRepo;
 import greencity.service.*;
+import greencity.utils.TransactionUtils;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -36,7 +47,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.apache.commons.codec.binary.Base64.decodeBase64;
@@ -54,7 +67,9 @@ public class EcoNewsServiceImpl implements EcoNewsService {
 
     private final ModelMapper modelMapper;
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
+
+    private final ActivityFeedService activityFeedService;
 
     private final NewsSubscriberService newsSubscriberService;
 
@@ -62,12 +77,22 @@ public class EcoNewsServiceImpl implements EcoNewsService {
 
     private final FileService fileService;
 
+    private final UserCountersRepo userCountersRepo;
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    private final RelatedContentIndex relatedNewsIndex =
+        new RelatedContentIndex(AppConstant.RECOMMENDED_ECO_NEWS_AMOUNT);
+
+    private final Object indexesLock = new Object();
+
     /**
      * {@inheritDoc}
      *
      * @author Yuriy Olkhovskyi.
      */
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public AddEcoNewsDtoResponse save(AddEcoNewsDtoRequest addEcoNewsDtoRequest,
                                       MultipartFile image, String email) {
@@ -94,9 +119,18 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.ECO_NEWS_NOT_SAVED);
         }
-
-        rabbitTemplate.convertAndSend(sendEmailTopic, RabbitConstants.ADD_ECO_NEWS_ROUTING_KEY,
+        userCountersRepo.addPublishedNews(toSave.getAuthor().getId(), 1);
+        Long id = toSave.getId();
+        ZonedDateTime creationDate = toSave.getCreationDate();
+        List<String> tagNames = toSave.getTags().stream().map(Tag::getName).collect(Collectors.toList());
+        changeIndexesAfterCommit(() -> {
+            tagIndex.add(id, creationDate, tagNames);
+            relatedNewsIndex.add(id, creationDate, tagNames);
+        });
+
+        outboxService.send(sendEmailTopic, RabbitConstants.ADD_ECO_NEWS_ROUTING_KEY,
             buildAddEcoNewsMessage(toSave));
+        activityFeedService.publish(toSave.getAuthor().getId(), ActivityType.ECO_NEWS, toSave.getId());
 
         return modelMapper.map(toSave, AddEcoNewsDtoResponse.class);
     }
@@ -128,8 +162,9 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public List<EcoNewsDto> getThreeRecommendedEcoNews(Long openedEcoNewsId) {
-        List<EcoNews> ecoNewsList = ecoNewsRepo.getThreeRecommendedEcoNews(openedEcoNewsId);
-        return ecoNewsList
+        loadIndexes();
+        List<Long> ids = relatedNewsIndex.getRelated(openedEcoNewsId);
+        return findAllByIdInOrder(ids)
                 .stream()
                 .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
                 .collect(Collectors.toList());
@@ -163,20 +198,18 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public PageableDto<EcoNewsDto> find(Pageable page, List<String> tags) {
-        List<String> lowerCaseTags = tags.stream()
-            .map(String::toLowerCase)
-            .collect(Collectors.toList());
-        Page<EcoNews> pages = ecoNewsRepo.find(page, lowerCaseTags);
-
-        List<EcoNewsDto> ecoNewsDtos = pages.stream()
+        loadIndexes();
+        Page<Long> ids = tagIndex.findAny(page, tags);
+        List<EcoNewsDto> ecoNewsDtos = findAllByIdInOrder(ids.getContent())
+            .stream()
             .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
             .collect(Collectors.toList());
 
         return new PageableDto<>(
             ecoNewsDtos,
-            pages.getTotalElements(),
-            pages.getPageable().getPageNumber(),
-            pages.getTotalPages()
+            ids.getTotalElements(),
+            ids.getPageable().getPageNumber(),
+            ids.getTotalPages()
         );
     }
 
@@ -210,9 +243,72 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @author Yuriy Olkhovskyi.
      */
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public void delete(Long id) {
-        ecoNewsRepo.deleteById(findById(id).getId());
+        EcoNews ecoNews = findById(id);
+        ecoNewsRepo.deleteById(ecoNews.getId());
+        userCountersRepo.addPublishedNews(ecoNews.getAuthor().getId(), -1);
+        changeIndexesAfterCommit(() -> {
+            tagIndex.remove(id);
+            relatedNewsIndex.remove(id);
+        });
+    }
+
+    /**
+     * Method rebuilds tag and recommendation indexes from the database, so that news changed
+     * bypassing this service become visible in tag search and recommendations.
+     */
+    @Scheduled(fixedDelay = AppConstant.TAG_INDEX_REBUILD_DELAY)
+    public void rebuildIndexes() {
+        synchronized (indexesLock) {
+            List<TagIndexEntry> entries = ecoNewsRepo.findAllTagIndexEntries();
+            tagIndex.rebuild(entries);
+            relatedNewsIndex.rebuild(entries);
+        }
+    }
+
+    /**
+     * Method builds tag and recommendation indexes on first use. Concurrent requests wait for one
+     * rebuild instead of each reading all news.
+     */
+    private void loadIndexes() {
+        if (tagIndex.isLoaded() && relatedNewsIndex.isLoaded()) {
+            return;
+        }
+        synchronized (indexesLock) {
+            if (!tagIndex.isLoaded() || !relatedNewsIndex.isLoaded()) {
+                rebuildIndexes();
+            }
+        }
+    }
+
+    /**
+     * Method applies a change of indexes after commit, so a rolled back transaction leaves them intact.
+     * The change waits for a running rebuild and is applied to the rebuilt indexes instead of being
+     * replaced by them.
+     */
+    private void changeIndexesAfterCommit(Runnable change) {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (indexesLock) {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Method returns {@link EcoNews} by ids keeping order of the ids.
+     *
+     * @param ids list of {@link EcoNews} ids.
+     * @return list of found {@link EcoNews}.
+     */
+    private List<EcoNews> findAllByIdInOrder(List<Long> ids) {
+        Map<Long, EcoNews> ecoNewsById = ecoNewsRepo.findAllById(ids).stream()
+            .collect(Collectors.toMap(EcoNews::getId, Function.identity()));
+        return ids.stream()
+            .map(ecoNewsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
     /**
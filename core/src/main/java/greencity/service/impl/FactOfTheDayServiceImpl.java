@@ -20,6 +20,7 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of {@link FactOfTheDayService}.
@@ -93,6 +94,7 @@ public class FactOfTheDayServiceImpl implements FactOfTheDayService {
     /**
      * {@inheritDoc}
      */
+    @Transactional
     @Override
     public FactOfTheDayPostDTO saveFactOfTheDayAndTranslations(FactOfTheDayPostDTO factPost) {
         FactOfTheDay factOfTheDay = FactOfTheDay.builder()
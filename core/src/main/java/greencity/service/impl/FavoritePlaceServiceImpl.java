@@ -1,18 +1,31 @@
 package greencity.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusRequestDto;
+import greencity.dto.location.MapBoundsDto;
 import greencity.dto.place.PlaceByBoundsDto;
 import greencity.dto.place.PlaceInfoDto;
 import greencity.entity.FavoritePlace;
+import greencity.entity.Place;
 import greencity.entity.User;
+import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.WrongIdException;
+import greencity.index.FavoritePlaceEntry;
 import greencity.repository.FavoritePlaceRepo;
 import greencity.service.FavoritePlaceService;
 import greencity.service.PlaceService;
 import greencity.service.UserService;
+import greencity.utils.TransactionUtils;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +41,10 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
     private final UserService userService;
     private final PlaceService placeService;
     private final ModelMapper modelMapper;
+    private final Cache<Long, Map<Long, FavoritePlaceEntry>> favoritePlacesByUserId = Caffeine.newBuilder()
+        .maximumSize(AppConstant.FAVORITE_PLACES_CACHE_MAX_SIZE)
+        .expireAfterWrite(AppConstant.FAVORITE_PLACES_CACHE_TTL, TimeUnit.MILLISECONDS)
+        .build();
 
     /**
      * {@inheritDoc}
@@ -45,8 +62,11 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
             throw new WrongIdException(String.format(
                 ErrorMessage.FAVORITE_PLACE_ALREADY_EXISTS, favoritePlaceDto.getPlaceId(), userEmail));
         }
-        favoritePlace.setUser(User.builder().email(userEmail).id(userService.findIdByEmail(userEmail)).build());
-        return modelMapper.map(repo.save(favoritePlace), FavoritePlaceDto.class);
+        Long userId = userService.findIdByEmail(userEmail);
+        favoritePlace.setUser(User.builder().email(userEmail).id(userId).build());
+        FavoritePlace saved = repo.save(favoritePlace);
+        evictFavoritePlaces(userId);
+        return modelMapper.map(saved, FavoritePlaceDto.class);
     }
 
     /**
@@ -63,7 +83,9 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
             throw new WrongIdException(ErrorMessage.FAVORITE_PLACE_NOT_FOUND + favoritePlaceDto.getPlaceId());
         }
         favoritePlace.setName(favoritePlaceDto.getName());
-        return modelMapper.map(repo.save(favoritePlace), FavoritePlaceDto.class);
+        FavoritePlace saved = repo.save(favoritePlace);
+        evictFavoritePlaces(favoritePlace.getUser().getId());
+        return modelMapper.map(saved, FavoritePlaceDto.class);
     }
 
     /**
@@ -92,6 +114,7 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
             throw new WrongIdException(ErrorMessage.FAVORITE_PLACE_NOT_FOUND);
         }
         repo.delete(favoritePlace);
+        evictFavoritePlaces(favoritePlace.getUser().getId());
         return favoritePlace.getId();
     }
 
@@ -120,12 +143,9 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
     public PlaceInfoDto getInfoFavoritePlace(Long placeId) {
         log.info(LogMessage.IN_GET_ACCESS_PLACE_AS_FAVORITE_PLACE, placeId);
         FavoritePlace favoritePlace = findByPlaceId(placeId);
-        PlaceInfoDto placeInfoDto =
-            modelMapper.map(
-                placeService
-                    .findById(favoritePlace.getPlace().getId()),
-                PlaceInfoDto.class);
-        placeInfoDto.setRate(placeService.averageRate(favoritePlace.getPlace().getId()));
+        Place place = placeService.findById(favoritePlace.getPlace().getId());
+        PlaceInfoDto placeInfoDto = modelMapper.map(place, PlaceInfoDto.class);
+        placeInfoDto.setRate(place.getAverageRate());
         placeInfoDto.setName(favoritePlace.getName());
         return placeInfoDto;
     }
@@ -142,6 +162,54 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
         if (favoritePlace == null) {
             throw new WrongIdException(ErrorMessage.FAVORITE_PLACE_NOT_FOUND);
         }
-        return modelMapper.map(repo.findByPlaceIdAndUserEmail(placeId, email), PlaceByBoundsDto.class);
+        return modelMapper.map(favoritePlace, PlaceByBoundsDto.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FavoritePlaceStatusDto> getStatuses(FavoritePlaceStatusRequestDto request, Long userId) {
+        log.info(LogMessage.IN_GET_FAVORITE_PLACE_STATUSES, userId);
+        MapBoundsDto bounds = request.getMapBoundsDto();
+        if (request.getPlaceIds() == null && bounds == null) {
+            throw new BadRequestException(ErrorMessage.FAVORITE_PLACE_STATUSES_WITHOUT_CRITERIA);
+        }
+        Map<Long, FavoritePlaceEntry> favoritePlaces = getFavoritePlaces(userId);
+        if (request.getPlaceIds() != null) {
+            return request.getPlaceIds().stream()
+                .map(placeId -> toStatus(placeId, favoritePlaces.get(placeId)))
+                .collect(Collectors.toList());
+        }
+        return favoritePlaces.values().stream()
+            .filter(entry -> isInBounds(entry, bounds))
+            .map(entry -> toStatus(entry.getPlaceId(), entry))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Method returns {@link FavoritePlaceEntry}s of {@link User} by {@link Place} id, loading them once per
+     * {@link AppConstant#FAVORITE_PLACES_CACHE_TTL} or after a change of favorite places of the user.
+     */
+    private Map<Long, FavoritePlaceEntry> getFavoritePlaces(Long userId) {
+        return favoritePlacesByUserId.get(userId, id -> repo.findAllEntriesByUserId(id).stream()
+            .collect(Collectors.toMap(FavoritePlaceEntry::getPlaceId, Function.identity(), (first, second) -> first)));
+    }
+
+    /**
+     * Method drops cached favorite places of {@link User}. Inside a transaction they are dropped again
+     * after commit, in case they were loaded from data read before the commit.
+     */
+    private void evictFavoritePlaces(Long userId) {
+        TransactionUtils.nowAndAfterCommit(() -> favoritePlacesByUserId.invalidate(userId));
+    }
+
+    private static FavoritePlaceStatusDto toStatus(Long placeId, FavoritePlaceEntry entry) {
+        return new FavoritePlaceStatusDto(placeId, entry != null, entry == null ? null : entry.getName());
+    }
+
+    private static boolean isInBounds(FavoritePlaceEntry entry, MapBoundsDto bounds) {
+        return entry.getLat() > bounds.getSouthWestLat() && entry.getLat() < bounds.getNorthEastLat()
+            && entry.getLng() > bounds.getSouthWestLng() && entry.getLng() < bounds.getNorthEastLng();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.dto.fact.HabitFactDTO;
 import greencity.dto.fact.HabitFactPostDTO;
@@ -9,6 +10,7 @@ import greencity.entity.HabitFact;
 import greencity.exception.exceptions.NotDeletedException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotUpdatedException;
+import greencity.index.RandomContentPool;
 import greencity.repository.FactTranslationRepo;
 import greencity.repository.HabitDictionaryRepo;
 import greencity.repository.HabitFactRepo;
@@ -17,6 +19,7 @@ import java.util.List;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
@@ -30,6 +33,8 @@ public class HabitFactServiceImpl implements HabitFactService {
     private HabitDictionaryRepo habitDictionaryRepo;
     private FactTranslationRepo factTranslationRepo;
     private final ModelMapper modelMapper;
+    private final RandomContentPool randomFactPool = new RandomContentPool();
+    private final Object randomFactPoolLock = new Object();
 
     /**
      * Constructor with parameters.
@@ -66,7 +71,8 @@ public class HabitFactServiceImpl implements HabitFactService {
      */
     @Override
     public LanguageTranslationDTO getRandomHabitFactByHabitIdAndLanguage(Long id, String language) {
-        return modelMapper.map(factTranslationRepo.getRandomFactTranslationByHabitIdAndLanguage(language, id)
+        return modelMapper.map(getRandomFactPool().pickRandom(id, language)
+                .flatMap(factTranslationRepo::findById)
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_FACT_NOT_FOUND_BY_ID + id)),
             LanguageTranslationDTO.class);
     }
@@ -108,7 +114,9 @@ public class HabitFactServiceImpl implements HabitFactService {
      */
     @Override
     public HabitFact save(HabitFactPostDTO fact) {
-        return habitFactRepo.save(modelMapper.map(fact, HabitFact.class));
+        HabitFact saved = habitFactRepo.save(modelMapper.map(fact, HabitFact.class));
+        invalidateRandomFactPool();
+        return saved;
     }
 
     /**
@@ -124,7 +132,9 @@ public class HabitFactServiceImpl implements HabitFactService {
         return habitFactRepo.findById(id)
             .map(employee -> {
                 employee.setHabitDictionary(habitDictionaryRepo.findById(fact.getHabitDictionary().getId()).get());
-                return habitFactRepo.save(employee);
+                HabitFact updated = habitFactRepo.save(employee);
+                invalidateRandomFactPool();
+                return updated;
             })
             .orElseThrow(() -> new NotUpdatedException(ErrorMessage.HABIT_FACT_NOT_UPDATED_BY_ID));
     }
@@ -135,6 +145,46 @@ public class HabitFactServiceImpl implements HabitFactService {
             throw new NotDeletedException(ErrorMessage.HABIT_FACT_NOT_DELETED_BY_ID);
         }
         habitFactRepo.deleteById(id);
+        invalidateRandomFactPool();
         return id;
     }
+
+    /**
+     * Method reloads in-memory pool of facts used by {@link #getRandomHabitFactByHabitIdAndLanguage}.
+     * Runs periodically to pick up translations changed bypassing this service.
+     */
+    @Scheduled(fixedDelay = AppConstant.RANDOM_CONTENT_POOL_REFRESH_DELAY)
+    public void refreshRandomFactPool() {
+        synchronized (randomFactPoolLock) {
+            randomFactPool.rebuild(factTranslationRepo.findAllRandomContentPoolEntries());
+        }
+    }
+
+    /**
+     * Method returns pool of facts, loading it on first use. Concurrent requests wait for one load
+     * instead of each reading all translations.
+     *
+     * @return loaded {@link RandomContentPool}.
+     */
+    private RandomContentPool getRandomFactPool() {
+        if (randomFactPool.isLoaded()) {
+            return randomFactPool;
+        }
+        synchronized (randomFactPoolLock) {
+            if (!randomFactPool.isLoaded()) {
+                refreshRandomFactPool();
+            }
+        }
+        return randomFactPool;
+    }
+
+    /**
+     * Method drops pool of facts after they were changed. A running reload is finished first, so it
+     * cannot publish facts read before the change.
+     */
+    private void invalidateRandomFactPool() {
+        synchronized (randomFactPoolLock) {
+            randomFactPool.invalidate();
+        }
+    }
 }
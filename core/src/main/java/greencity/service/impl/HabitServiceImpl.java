@@ -6,10 +6,13 @@ import greencity.dto.habitstatistic.HabitDto;
 import greencity.entity.Habit;
 import greencity.entity.HabitDictionaryTranslation;
 import greencity.entity.User;
+import greencity.entity.enums.ActivityType;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.WrongIdException;
 import greencity.repository.HabitDictionaryTranslationRepo;
 import greencity.repository.HabitRepo;
+import greencity.repository.UserCountersRepo;
+import greencity.service.ActivityFeedService;
 import greencity.service.HabitService;
 import greencity.service.HabitStatusService;
 import java.util.List;
@@ -30,6 +33,8 @@ public class HabitServiceImpl implements HabitService {
     private HabitDictionaryTranslationRepo habitDictionaryTranslationRepo;
     private HabitRepo habitRepo;
     private HabitStatusService habitStatusService;
+    private UserCountersRepo userCountersRepo;
+    private ActivityFeedService activityFeedService;
     private final ModelMapper modelMapper;
 
     /**
@@ -74,10 +79,13 @@ public class HabitServiceImpl implements HabitService {
         if (!habit.getUsers().contains(user)) {
             habit.getUsers().add(user);
             habitStatusService.saveByHabit(habit, user);
+            userCountersRepo.addHabit(user.getId(), habit.getStatusHabit(), 1);
+            activityFeedService.publish(user.getId(), ActivityType.HABIT, habitId);
         } else {
             habitStatusService.deleteByUser(user.getId());
             habit.getUsers().remove(user);
             habitRepo.save(habit);
+            userCountersRepo.addHabit(user.getId(), habit.getStatusHabit(), -1);
         }
 
         return modelMapper.map(habitRepo.save(habit), HabitCreateDto.class);
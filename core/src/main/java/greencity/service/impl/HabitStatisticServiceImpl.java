@@ -26,9 +26,10 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -43,6 +44,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @EnableCaching
 public class HabitStatisticServiceImpl implements HabitStatisticService {
+    private static final int HABIT_STATISTIC_DAYS = 21;
+
     private final HabitStatisticRepo habitStatisticRepo;
     private final HabitRepo habitRepo;
     private final HabitService habitService;
@@ -160,9 +163,16 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
      */
     @Override
     public List<HabitDto> findAllHabitsAndTheirStatistics(Long id, Boolean status, String language) {
-        return findAllHabitsByStatus(id, status)
+        List<Habit> habits = findAllHabitsByStatus(id, status);
+        Map<Long, List<HabitStatistic>> statisticsByHabitId = habitStatisticRepo
+            .findAllInFirstDaysOfHabits(habits.stream().map(Habit::getId).collect(Collectors.toList()),
+                HABIT_STATISTIC_DAYS)
+            .stream()
+            .collect(Collectors.groupingBy(habitStatistic -> habitStatistic.getHabit().getId()));
+        return habits
             .stream()
-            .map(habit -> convertHabitToHabitDto(habit, language))
+            .map(habit -> convertHabitToHabitDto(habit,
+                statisticsByHabitId.getOrDefault(habit.getId(), Collections.emptyList()), language))
             .collect(Collectors.toList());
     }
 
@@ -229,18 +239,23 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
             .collect(Collectors.toList());
     }
 
-    private HabitDto convertHabitToHabitDto(Habit habit, String language) {
+    /**
+     * Method builds {@link HabitDto} with statistic for every day of the habit window.
+     *
+     * @param habit           {@link Habit}.
+     * @param habitStatistics {@link HabitStatistic} of the habit within the window, sorted by date.
+     * @param language        language code.
+     * @return {@link HabitDto}.
+     */
+    private HabitDto convertHabitToHabitDto(Habit habit, List<HabitStatistic> habitStatistics, String language) {
         List<HabitStatisticDto> result = new ArrayList<>();
-        List<HabitStatistic> habitStatistics = habit.getHabitStatistics();
         ZonedDateTime zonedDateTime = habit.getCreateDate();
         int counter = 0;
 
-        habitStatistics.sort(Comparator.comparing(HabitStatistic::getCreatedOn));
-
-        for (int i = 0; i < 21; i++) {
+        for (int i = 0; i < HABIT_STATISTIC_DAYS; i++) {
             if (counter < habitStatistics.size()
                 && zonedDateTime.toLocalDate().equals(habitStatistics.get(counter).getCreatedOn().toLocalDate())) {
-                result.add(new HabitStatisticDto(habit.getHabitStatistics().get(counter)));
+                result.add(new HabitStatisticDto(habitStatistics.get(counter)));
                 counter++;
             } else {
                 result.add(new HabitStatisticDto(null, HabitRate.DEFAULT, zonedDateTime, 0));
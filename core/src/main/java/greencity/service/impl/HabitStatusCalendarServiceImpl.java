@@ -93,4 +93,15 @@ public class HabitStatusCalendarServiceImpl implements HabitStatusCalendarServic
 
         return dates;
     }
+
+    /**
+     * Method return all enrolled dates of {@link HabitStatus}.
+     *
+     * @param habitStatus target {@link HabitStatus}
+     * @return {@link List} of {@link LocalDate}
+     */
+    @Override
+    public List<LocalDate> findAllEnrolledDates(HabitStatus habitStatus) {
+        return habitStatusCalendarRepo.findAllEnrollDatesByHabitStatus(habitStatus);
+    }
 }
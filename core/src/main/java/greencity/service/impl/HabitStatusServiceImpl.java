@@ -1,5 +1,6 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.dto.habitstatus.HabitStatusDto;
 import greencity.entity.Habit;
@@ -7,14 +8,12 @@ import greencity.entity.HabitStatus;
 import greencity.entity.HabitStatusCalendar;
 import greencity.entity.User;
 import greencity.exception.exceptions.BadRequestException;
+import greencity.index.DayBitmap;
 import greencity.repository.HabitStatusRepo;
 import greencity.service.HabitStatusCalendarService;
 import greencity.service.HabitStatusService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Period;
-import java.util.Collections;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
@@ -41,6 +40,7 @@ public class HabitStatusServiceImpl implements HabitStatusService {
         habitStatus.setUser(user);
         habitStatus.setCreateDate(LocalDateTime.now());
         habitStatus.setLastEnrollmentDate(LocalDateTime.now());
+        habitStatus.setEnrollmentBitmapStart(habitStatus.getCreateDate().toLocalDate());
         habitStatusRepo.save(habitStatus);
     }
 
@@ -75,31 +75,16 @@ public class HabitStatusServiceImpl implements HabitStatusService {
     @Override
     public HabitStatusDto enrollHabit(Long habitId, Long userId) {
         HabitStatus habitStatus = habitStatusRepo.findByHabitIdAndUserId(habitId, userId);
-        int workingDays = habitStatus.getWorkingDays();
-        habitStatus.setWorkingDays(++workingDays);
+        DayBitmap enrollments = getEnrollments(habitStatus);
         LocalDate todayDate = LocalDate.now();
-        HabitStatusCalendar habitCalendar;
-        LocalDate lastEnrollmentDate =
-            habitStatusCalendarService.findTopByEnrollDateAndHabitStatus(habitStatus);
-        long intervalBetweenDates = 0;
 
-        if (lastEnrollmentDate != null) {
-            intervalBetweenDates = Period.between(lastEnrollmentDate, todayDate).getDays();
-        }
-
-        if ((intervalBetweenDates == 1) | lastEnrollmentDate == null) {
-            int habitStreak = habitStatus.getHabitStreak();
-            habitStatus.setHabitStreak(++habitStreak);
-            habitCalendar = new HabitStatusCalendar(todayDate, habitStatus);
-            habitStatusCalendarService.save(habitCalendar);
-        } else if (intervalBetweenDates > 1) {
-            habitStatus.setHabitStreak(1);
-            habitCalendar = new HabitStatusCalendar(todayDate, habitStatus);
-            habitStatusCalendarService.save(habitCalendar);
-        } else if (intervalBetweenDates < 1) {
+        if (enrollments.contains(todayDate)) {
             throw new BadRequestException(ErrorMessage.HABIT_HAS_BEEN_ALREADY_ENROLLED);
         }
 
+        habitStatusCalendarService.save(new HabitStatusCalendar(todayDate, habitStatus));
+        enrollments.add(todayDate);
+        setEnrollments(habitStatus, enrollments);
         habitStatus.setLastEnrollmentDate(LocalDateTime.now());
 
         return modelMapper.map(habitStatusRepo.save(habitStatus), HabitStatusDto.class);
@@ -114,26 +99,20 @@ public class HabitStatusServiceImpl implements HabitStatusService {
     @Override
     public void unenrollHabit(LocalDate date, Long habitId, Long userId) {
         HabitStatus habitStatus = habitStatusRepo.findByHabitIdAndUserId(habitId, userId);
-        int daysStreak = checkHabitStreakAfterDate(date, habitStatus);
-        habitStatus.setHabitStreak(daysStreak + 1);
-        int workingDays = habitStatus.getWorkingDays();
-
-        if (workingDays == 0) {
-            habitStatus.setWorkingDays(0);
-        } else {
-            habitStatus.setWorkingDays(--workingDays);
+        DayBitmap enrollments = getEnrollments(habitStatus);
+
+        if (!enrollments.contains(date)) {
+            throw new BadRequestException(ErrorMessage.HABIT_IS_NOT_ENROLLED);
         }
 
-        habitStatusRepo.save(habitStatus);
         HabitStatusCalendar habitStatusCalendar =
-            habitStatusCalendarService
-                .findHabitStatusCalendarByEnrollDateAndHabitStatus(date, habitStatus);
-
+            habitStatusCalendarService.findHabitStatusCalendarByEnrollDateAndHabitStatus(date, habitStatus);
         if (habitStatusCalendar != null) {
             habitStatusCalendarService.delete(habitStatusCalendar);
-        } else {
-            throw new BadRequestException(ErrorMessage.HABIT_IS_NOT_ENROLLED);
         }
+        enrollments.remove(date);
+        setEnrollments(habitStatus, enrollments);
+        habitStatusRepo.save(habitStatus);
     }
 
     /**
@@ -144,67 +123,59 @@ public class HabitStatusServiceImpl implements HabitStatusService {
      */
     @Override
     public void enrollHabitInDate(Long habitId, Long userId, LocalDate date) {
+        checkEnrollmentDate(date);
         HabitStatus habitStatus = habitStatusRepo.findByHabitIdAndUserId(habitId, userId);
-        HabitStatusCalendar habitCalendarOnDate =
-            habitStatusCalendarService.findHabitStatusCalendarByEnrollDateAndHabitStatus(date, habitStatus);
+        DayBitmap enrollments = getEnrollments(habitStatus);
 
-        int daysStreakAfterDate = checkHabitStreakAfterDate(date, habitStatus);
-        int daysStreakBeforeDate = checkHabitStreakBeforeDate(date, habitStatus);
-
-        if (daysStreakBeforeDate != 0) {
-            daysStreakBeforeDate += 1;
-        }
-
-        if (habitCalendarOnDate == null) {
-            HabitStatusCalendar habitStatusCalendar = new HabitStatusCalendar(date, habitStatus);
-            habitStatusCalendarService.save(habitStatusCalendar);
-
-            if (Period.between(date, LocalDate.now()).getDays() == daysStreakAfterDate + 1) {
-                if ((daysStreakAfterDate + daysStreakBeforeDate) == 1) {
-                    habitStatus.setHabitStreak(daysStreakAfterDate + daysStreakBeforeDate + 1);
-                } else {
-                    habitStatus.setHabitStreak(daysStreakAfterDate + daysStreakBeforeDate + 2);
-                }
-            }
-
-            habitStatus.setWorkingDays(habitStatus.getWorkingDays() + 1);
-            habitStatusRepo.save(habitStatus);
-        } else {
+        if (enrollments.contains(date)) {
             throw new BadRequestException(ErrorMessage.HABIT_HAS_BEEN_ALREADY_IN_THAT_DAY);
         }
-    }
-
-    private int checkHabitStreakAfterDate(LocalDate dateTime, HabitStatus habitStatus) {
-        int daysStreak = 0;
 
-        List<LocalDate> enrollDates = habitStatusCalendarService.findEnrolledDatesAfter(dateTime, habitStatus);
-        Collections.sort(enrollDates);
+        habitStatusCalendarService.save(new HabitStatusCalendar(date, habitStatus));
+        enrollments.add(date);
+        setEnrollments(habitStatus, enrollments);
+        habitStatusRepo.save(habitStatus);
+    }
 
-        for (int i = 0; i < enrollDates.size() - 1; i++) {
-            if (Period.between(enrollDates.get(i), enrollDates.get(i + 1)).getDays() == 1) {
-                daysStreak++;
-            } else {
-                daysStreak = 0;
-            }
+    /**
+     * Method rejects dates in the future or more than {@link AppConstant#HABIT_ENROLLMENT_MAX_DAYS_BACK}
+     * days ago, so an enrollment can not stretch the bitmap without limit.
+     *
+     * @param date date we want enroll
+     */
+    private void checkEnrollmentDate(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (date.isAfter(today) || date.isBefore(today.minusDays(AppConstant.HABIT_ENROLLMENT_MAX_DAYS_BACK))) {
+            throw new BadRequestException(ErrorMessage.HABIT_ENROLLMENT_DATE_OUT_OF_RANGE);
         }
-        return daysStreak;
     }
 
-    private int checkHabitStreakBeforeDate(LocalDate dateTime, HabitStatus habitStatus) {
-        int daysStreak = 0;
-
-        List<LocalDate> enrollDates = habitStatusCalendarService.findEnrolledDatesBefore(dateTime, habitStatus);
-        Collections.sort(enrollDates);
-        Collections.reverse(enrollDates);
-
-        for (int i = 0; i < enrollDates.size() - 1; i++) {
-            if (Period.between(enrollDates.get(i + 1), enrollDates.get(i)).getDays() == 1) {
-                daysStreak++;
-            } else {
-                return daysStreak;
-            }
+    /**
+     * Method returns enrolled days of {@link HabitStatus}. Habit statuses created before the bitmap
+     * was introduced get it built from {@link HabitStatusCalendar} once and stored with the next save.
+     *
+     * @param habitStatus target {@link HabitStatus}
+     * @return {@link DayBitmap} of enrolled days
+     */
+    private DayBitmap getEnrollments(HabitStatus habitStatus) {
+        if (habitStatus.getEnrollmentBitmapStart() != null) {
+            return new DayBitmap(habitStatus.getEnrollmentBitmapStart(), habitStatus.getEnrollmentBitmap());
         }
+        return DayBitmap.of(habitStatus.getCreateDate().toLocalDate(),
+            habitStatusCalendarService.findAllEnrolledDates(habitStatus));
+    }
 
-        return daysStreak;
+    /**
+     * Method stores enrolled days in {@link HabitStatus} and recalculates working days and streak,
+     * where streak is the run of consecutive enrolled days ending with the latest enrollment.
+     *
+     * @param habitStatus target {@link HabitStatus}
+     * @param enrollments {@link DayBitmap} of enrolled days
+     */
+    private void setEnrollments(HabitStatus habitStatus, DayBitmap enrollments) {
+        habitStatus.setEnrollmentBitmapStart(enrollments.getStart());
+        habitStatus.setEnrollmentBitmap(enrollments.toByteArray());
+        habitStatus.setWorkingDays(enrollments.count());
+        habitStatus.setHabitStreak(enrollments.streak());
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,7 @@ import greencity.message.SendReportEmailMessage;
 import greencity.repository.PlaceRepo;
 import greencity.repository.UserRepo;
 import greencity.service.NotificationService;
+import greencity.service.OutboxService;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
@@ -34,6 +35,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final UserRepo userRepo;
     private final PlaceRepo placeRepo;
     private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     @Value("${messaging.rabbit.email.topic}")
     private String sendEmailTopic;
     private final ModelMapper modelMapper;
@@ -45,32 +47,37 @@ public class NotificationServiceImpl implements NotificationService {
     @Autowired
     public NotificationServiceImpl(UserRepo userRepo, PlaceRepo placeRepo,
                                    RabbitTemplate rabbitTemplate,
+                                   OutboxService outboxService,
                                    ModelMapper modelMapper) {
         this.userRepo = userRepo;
         this.placeRepo = placeRepo;
         this.rabbitTemplate = rabbitTemplate;
+        this.outboxService = outboxService;
         this.modelMapper = modelMapper;
     }
 
     @Override
     public void sendImmediatelyReport(Place newPlace) {
         log.info(LogMessage.IN_SEND_IMMEDIATELY_REPORT, newPlace.getName());
+        sendImmediatelyReports(Collections.singletonList(newPlace));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendImmediatelyReports(List<Place> newPlaces) {
+        log.info(LogMessage.IN_SEND_IMMEDIATELY_REPORTS, newPlaces.size());
+        if (newPlaces.isEmpty()) {
+            return;
+        }
         EmailNotification emailNotification = EmailNotification.IMMEDIATELY;
         List<PlaceAuthorDto> subscribers = getSubscribers(emailNotification);
-
-        Map<CategoryDto, List<PlaceNotificationDto>> categoriesDtoWithPlacesDtoMap = new HashMap<>();
-        CategoryDto map = modelMapper.map(newPlace.getCategory(), CategoryDto.class);
-        List<PlaceNotificationDto> placeDtoList =
-            Collections.singletonList(modelMapper.map(newPlace, PlaceNotificationDto.class));
-        categoriesDtoWithPlacesDtoMap.put(map, placeDtoList);
-
-        List<PlaceAuthorDto> placeAuthorDto = subscribers.stream()
-            .map(o -> modelMapper.map(o, PlaceAuthorDto.class))
-            .collect(Collectors.toList());
-
-
-        rabbitTemplate.convertAndSend(sendEmailTopic, SEND_REPORT_ROUTING_KEY,
-            new SendReportEmailMessage(placeAuthorDto, categoriesDtoWithPlacesDtoMap, emailNotification.toString()));
+        if (!subscribers.isEmpty()) {
+            outboxService.send(sendEmailTopic, SEND_REPORT_ROUTING_KEY,
+                new SendReportEmailMessage(subscribers, getCategoriesDtoWithPlacesDtoMap(newPlaces),
+                    emailNotification.toString()));
+        }
     }
 
     /**
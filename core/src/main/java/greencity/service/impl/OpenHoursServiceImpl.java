@@ -47,6 +47,27 @@ public class OpenHoursServiceImpl implements OpenHoursService {
     public OpeningHours save(OpeningHours hours) {
         log.info(LogMessage.IN_SAVE);
 
+        checkAndSaveBreakTime(hours);
+        return hoursRepo.save(hours);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OpeningHours> saveAll(List<OpeningHours> hours) {
+        log.info(LogMessage.IN_SAVE);
+
+        hours.forEach(this::checkAndSaveBreakTime);
+        return hoursRepo.saveAll(hours);
+    }
+
+    /**
+     * Method checks open, close and break time of {@link OpeningHours} and saves its break time.
+     *
+     * @param hours - entity of OpeningHours.
+     */
+    private void checkAndSaveBreakTime(OpeningHours hours) {
         if (hours.getOpenTime().getHour() > hours.getCloseTime().getHour()) {
             throw new BadRequestException(ErrorMessage.CLOSE_TIME_LATE_THAN_OPEN_TIME);
         }
@@ -59,7 +80,6 @@ public class OpenHoursServiceImpl implements OpenHoursService {
                 throw new BadRequestException(ErrorMessage.WRONG_BREAK_TIME);
             }
         }
-        return hoursRepo.save(hours);
     }
 
     /**
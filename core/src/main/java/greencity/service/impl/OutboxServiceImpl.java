@@ -0,0 +1,166 @@
+package greencity.service.impl;
+
+import greencity.constant.AppConstant;
+import greencity.constant.LogMessage;
+import greencity.entity.OutboxMessage;
+import greencity.repository.OutboxMessageRepo;
+import greencity.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The class provides implementation of the {@code OutboxService}.
+ */
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+    private final OutboxMessageRepo outboxMessageRepo;
+    private final RabbitTemplate rabbitTemplate;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    /**
+     * Constructor.
+     */
+    @Autowired
+    public OutboxServiceImpl(OutboxMessageRepo outboxMessageRepo,
+                             RabbitTemplate rabbitTemplate,
+                             MeterRegistry meterRegistry) {
+        this.outboxMessageRepo = outboxMessageRepo;
+        this.rabbitTemplate = rabbitTemplate;
+        this.publishedCounter = meterRegistry.counter("outbox.published");
+        this.failedCounter = meterRegistry.counter("outbox.failed");
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+            .description("Messages waiting in the outbox")
+            .register(meterRegistry);
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest message waiting in the outbox")
+            .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void send(String exchange, String routingKey, Object message) {
+        Message converted = rabbitTemplate.getMessageConverter().toMessage(message, new MessageProperties());
+        ZonedDateTime now = ZonedDateTime.now();
+        outboxMessageRepo.save(OutboxMessage.builder()
+            .exchange(exchange)
+            .routingKey(routingKey)
+            .contentType(converted.getMessageProperties().getContentType())
+            .payload(converted.getBody())
+            .createdDate(now)
+            .attempts(0)
+            .nextAttemptDate(now)
+            .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Scheduled(fixedDelay = AppConstant.OUTBOX_RELAY_DELAY)
+    @Transactional
+    @Override
+    public int relay() {
+        List<OutboxMessage> batch =
+            outboxMessageRepo.findDueForPublishing(ZonedDateTime.now(), AppConstant.OUTBOX_BATCH_SIZE);
+        Map<OutboxMessage, CorrelationData> sent = new LinkedHashMap<>();
+        for (OutboxMessage outboxMessage : batch) {
+            CorrelationData correlationData = new CorrelationData(String.valueOf(outboxMessage.getId()));
+            try {
+                rabbitTemplate.send(outboxMessage.getExchange(), outboxMessage.getRoutingKey(),
+                    toMessage(outboxMessage), correlationData);
+                sent.put(outboxMessage, correlationData);
+            } catch (AmqpException e) {
+                postpone(outboxMessage);
+            }
+        }
+        List<Long> published = new ArrayList<>();
+        sent.forEach((outboxMessage, correlationData) -> {
+            if (isConfirmed(correlationData)) {
+                published.add(outboxMessage.getId());
+            } else {
+                postpone(outboxMessage);
+            }
+        });
+        if (!published.isEmpty()) {
+            outboxMessageRepo.deleteAllByIdIn(published);
+            publishedCounter.increment(published.size());
+        }
+        updateLag();
+        return published.size();
+    }
+
+    private Message toMessage(OutboxMessage outboxMessage) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(outboxMessage.getContentType());
+        return new Message(outboxMessage.getPayload(), properties);
+    }
+
+    /**
+     * Waits for the publisher confirm of the message.
+     *
+     * @param correlationData - correlation data the message was sent with.
+     * @return {@code true} if the broker acknowledged the message in time.
+     */
+    private boolean isConfirmed(CorrelationData correlationData) {
+        try {
+            return correlationData.getFuture()
+                .get(AppConstant.OUTBOX_CONFIRM_TIMEOUT, TimeUnit.MILLISECONDS)
+                .isAck();
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Schedules the next attempt with exponential backoff.
+     *
+     * @param outboxMessage - message that was not published.
+     */
+    private void postpone(OutboxMessage outboxMessage) {
+        int attempts = outboxMessage.getAttempts() + 1;
+        long delay = AppConstant.OUTBOX_RETRY_DELAY << Math.min(attempts - 1, 16);
+        outboxMessage.setAttempts(attempts);
+        outboxMessage.setNextAttemptDate(
+            ZonedDateTime.now().plus(Duration.ofMillis(Math.min(delay, AppConstant.OUTBOX_MAX_RETRY_DELAY))));
+        failedCounter.increment();
+        log.warn(LogMessage.OUTBOX_MESSAGE_NOT_PUBLISHED, outboxMessage.getId(), attempts);
+    }
+
+    private void updateLag() {
+        ZonedDateTime oldest = outboxMessageRepo.findOldestCreatedDate();
+        pending.set(oldest == null ? 0 : outboxMessageRepo.count());
+        lagMillis.set(oldest == null ? 0 : Duration.between(oldest, ZonedDateTime.now()).toMillis());
+    }
+}
@@ -6,6 +6,7 @@ import greencity.dto.comment.AddCommentDto;
 import greencity.dto.comment.CommentAdminDto;
 import greencity.dto.comment.CommentReturnDto;
 import greencity.entity.Comment;
+import greencity.entity.Estimate;
 import greencity.entity.Place;
 import greencity.entity.User;
 import greencity.exception.exceptions.BadRequestException;
@@ -15,6 +16,7 @@ import greencity.service.PhotoService;
 import greencity.service.PlaceCommentService;
 import greencity.service.PlaceService;
 import greencity.service.UserService;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -23,10 +25,14 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The class provides implementation of the {@code CommentService}.
  *
+ * <p>Rates of saved and deleted estimates are added to the rating aggregates of the place in the
+ * same transaction, so the average rate never needs to be computed from all estimates.
+ *
  * @author Marian Milian
  * @version 1.0
  */
@@ -56,6 +62,7 @@ public class PlaceCommentServiceImpl implements PlaceCommentService {
      *
      * @author Marian Milian
      */
+    @Transactional
     @Override
     public CommentReturnDto save(Long placeId, AddCommentDto addCommentDto, String email) {
         Place place = placeService.findById(placeId);
@@ -75,7 +82,12 @@ public class PlaceCommentServiceImpl implements PlaceCommentService {
             photo.setComment(comment);
         });
 
-        return modelMapper.map(placeCommentRepo.save(comment), CommentReturnDto.class);
+        Comment saved = placeCommentRepo.save(comment);
+        Estimate estimate = comment.getEstimate();
+        if (estimate != null && estimate.getRate() != null) {
+            placeService.updateRating(place.getId(), estimate.getRate(), 1);
+        }
+        return modelMapper.map(saved, CommentReturnDto.class);
     }
 
     /**
@@ -83,10 +95,18 @@ public class PlaceCommentServiceImpl implements PlaceCommentService {
      *
      * @author Marian Milian
      */
+    @Transactional
     @Override
     public void deleteById(Long id) {
-        placeCommentRepo.delete(placeCommentRepo.findById(id)
-            .orElseThrow(() -> new NotFoundException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION)));
+        Comment comment = placeCommentRepo.findById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
+        List<Byte> rates = new ArrayList<>();
+        collectRates(comment, rates);
+        placeCommentRepo.delete(comment);
+        if (!rates.isEmpty()) {
+            long sum = rates.stream().mapToLong(Byte::longValue).sum();
+            placeService.updateRating(comment.getPlace().getId(), -sum, -rates.size());
+        }
     }
 
     /**
@@ -106,4 +126,16 @@ public class PlaceCommentServiceImpl implements PlaceCommentService {
             comments.getTotalPages()
         );
     }
+
+    /**
+     * Collects rates of the comment and of all its replies, which are deleted together with it.
+     */
+    private static void collectRates(Comment comment, List<Byte> rates) {
+        if (comment.getEstimate() != null && comment.getEstimate().getRate() != null) {
+            rates.add(comment.getEstimate().getRate());
+        }
+        if (comment.getComments() != null) {
+            comment.getComments().forEach(reply -> collectRates(reply, rates));
+        }
+    }
 }
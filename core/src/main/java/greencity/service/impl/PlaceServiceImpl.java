@@ -1,11 +1,14 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.dto.PageableDto;
 import greencity.dto.discount.DiscountValueDto;
 import greencity.dto.filter.FilterDistanceDto;
 import greencity.dto.filter.FilterPlaceDto;
+import greencity.dto.location.LocationDto;
+import greencity.dto.location.MapBoundsDto;
 import greencity.dto.openhours.OpeningHoursDto;
 import greencity.dto.place.*;
 import greencity.entity.*;
@@ -13,23 +16,29 @@ import greencity.entity.enums.PlaceStatus;
 import greencity.entity.enums.ROLE;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.PlaceStatusException;
+import greencity.index.MarkerCluster;
+import greencity.index.MarkerClusterIndex;
+import greencity.index.PlaceMarker;
+import greencity.index.WeekMinutesBitmap;
 import greencity.message.SendChangePlaceStatusEmailMessage;
 import greencity.repository.PlaceRepo;
 import greencity.repository.options.PlaceFilter;
 import greencity.service.*;
+import greencity.utils.TransactionUtils;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,8 +61,13 @@ public class PlaceServiceImpl implements PlaceService {
     private final DiscountService discountService;
     private final NotificationService notificationService;
     private final ZoneId datasourceTimezone;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     private final ProposePlaceService proposePlaceService;
+    private final MarkerClusterIndex markerClusterIndex = new MarkerClusterIndex(
+        AppConstant.MARKER_CLUSTERS_MAX_ZOOM, AppConstant.MARKER_CLUSTER_CELL_SIZE,
+        AppConstant.MARKER_CLUSTERS_MAX_CELLS, AppConstant.MARKER_CLUSTERS_MAX_MARKERS);
+    private final Object markerClusterIndexLock = new Object();
+    private final AtomicBoolean markerClustersChanged = new AtomicBoolean();
     @Value("${messaging.rabbit.email.topic}")
     private String sendEmailTopic;
 
@@ -71,7 +85,7 @@ public class PlaceServiceImpl implements PlaceService {
                             DiscountService discountService,
                             NotificationService notificationService,
                             @Qualifier(value = "datasourceTimezone") ZoneId datasourceTimezone,
-                            RabbitTemplate rabbitTemplate,
+                            OutboxService outboxService,
                             ProposePlaceServiceImpl proposePlaceService) {
         this.placeRepo = placeRepo;
         this.modelMapper = modelMapper;
@@ -83,7 +97,7 @@ public class PlaceServiceImpl implements PlaceService {
         this.discountService = discountService;
         this.notificationService = notificationService;
         this.datasourceTimezone = datasourceTimezone;
-        this.rabbitTemplate = rabbitTemplate;
+        this.outboxService = outboxService;
         this.proposePlaceService = proposePlaceService;
     }
 
@@ -121,8 +135,14 @@ public class PlaceServiceImpl implements PlaceService {
         place.setCategory(categoryService.findByName(dto.getCategory().getName()));
         proposePlaceService.saveDiscountValuesWithPlace(place.getDiscountValues(), place);
         proposePlaceService.savePhotosWithPlace(place.getPhotos(), place);
+        place.setOpenMinutes(computeOpenMinutes(place.getOpeningHoursList()));
 
-        return placeRepo.save(place);
+        Place saved = placeRepo.save(place);
+        if (saved.getStatus() == PlaceStatus.APPROVED) {
+            markMarkerClustersChanged();
+        }
+        proposePlaceService.updateDuplicateIndex(saved);
+        return saved;
     }
 
     /**
@@ -162,6 +182,8 @@ public class PlaceServiceImpl implements PlaceService {
 
         updateOpening(dto.getOpeningHoursList(), updatedPlace);
         updateDiscount(dto.getDiscountValues(), updatedPlace);
+        markMarkerClustersChanged();
+        proposePlaceService.updateDuplicateIndex(updatedPlace);
 
         return updatedPlace;
     }
@@ -178,15 +200,14 @@ public class PlaceServiceImpl implements PlaceService {
 
         Set<DiscountValue> discountsOld = discountService.findAllByPlaceId(updatedPlace.getId());
         discountService.deleteAllByPlaceId(updatedPlace.getId());
-        Set<DiscountValue> newDiscounts = new HashSet<>();
+        List<DiscountValue> newDiscounts = new ArrayList<>();
         discounts.forEach(d -> {
             DiscountValue discount = modelMapper.map(d, DiscountValue.class);
             discount.setSpecification(specificationService.findByName(d.getSpecification().getName()));
             discount.setPlace(updatedPlace);
-            discountService.save(discount);
             newDiscounts.add(discount);
         });
-        discountsOld.addAll(newDiscounts);
+        discountsOld.addAll(discountService.saveAll(newDiscounts));
     }
 
     /**
@@ -201,14 +222,32 @@ public class PlaceServiceImpl implements PlaceService {
 
         Set<OpeningHours> openingHoursSetOld = openingHoursService.findAllByPlaceId(updatedPlace.getId());
         openingHoursService.deleteAllByPlaceId(updatedPlace.getId());
-        Set<OpeningHours> hours = new HashSet<>();
+        List<OpeningHours> hours = new ArrayList<>();
         hoursUpdateDtoSet.forEach(h -> {
             OpeningHours openingHours = modelMapper.map(h, OpeningHours.class);
             openingHours.setPlace(updatedPlace);
-            openingHoursService.save(openingHours);
             hours.add(openingHours);
         });
-        openingHoursSetOld.addAll(hours);
+        openingHoursSetOld.addAll(openingHoursService.saveAll(hours));
+        updatedPlace.setOpenMinutes(computeOpenMinutes(hours));
+    }
+
+    /**
+     * Method computes {@link WeekMinutesBitmap} of minutes when the place is open, without its breaks.
+     *
+     * @param openingHours - opening hours of the place.
+     * @return bytes of the bitmap or {@code null} if the place is never open.
+     */
+    private byte[] computeOpenMinutes(Collection<OpeningHours> openingHours) {
+        WeekMinutesBitmap openMinutes = new WeekMinutesBitmap(null);
+        openingHours.forEach(hours -> {
+            openMinutes.add(hours.getWeekDay(), hours.getOpenTime(), hours.getCloseTime());
+            BreakTime breakTime = hours.getBreakTime();
+            if (breakTime != null) {
+                openMinutes.remove(hours.getWeekDay(), breakTime.getStartTime(), breakTime.getEndTime());
+            }
+        });
+        return openMinutes.isEmpty() ? null : openMinutes.toByteArray();
     }
 
     /**
@@ -216,6 +255,7 @@ public class PlaceServiceImpl implements PlaceService {
      *
      * @author Nazar Vladyka
      */
+    @Transactional
     @Override
     public void deleteById(Long id) {
         log.info(LogMessage.IN_DELETE_BY_ID, id);
@@ -256,6 +296,7 @@ public class PlaceServiceImpl implements PlaceService {
      *
      * @author Nazar Vladyka
      */
+    @Transactional
     @Override
     public UpdatePlaceStatusDto updateStatus(Long id, PlaceStatus status) {
         log.info(LogMessage.IN_UPDATE_PLACE_STATUS, id, status);
@@ -268,12 +309,24 @@ public class PlaceServiceImpl implements PlaceService {
             notificationService.sendImmediatelyReport(updatable);
         }
         if (oldStatus.equals(PlaceStatus.PROPOSED)) {
-            rabbitTemplate.convertAndSend(sendEmailTopic, CHANGE_PLACE_STATUS_ROUTING_KEY,
-                new SendChangePlaceStatusEmailMessage(updatable.getAuthor().getName(),
-                    updatable.getName(), updatable.getStatus().toString().toLowerCase(),
-                    updatable.getAuthor().getEmail()));
+            sendChangePlaceStatusEmail(updatable);
         }
-        return modelMapper.map(placeRepo.save(updatable), UpdatePlaceStatusDto.class);
+        UpdatePlaceStatusDto updated = modelMapper.map(placeRepo.save(updatable), UpdatePlaceStatusDto.class);
+        markMarkerClustersChanged();
+        proposePlaceService.updateDuplicateIndex(updatable);
+        return updated;
+    }
+
+    /**
+     * Method for notifying author of {@link Place} about the new status of the place.
+     *
+     * @param place - {@link Place} with the new status.
+     */
+    private void sendChangePlaceStatusEmail(Place place) {
+        outboxService.send(sendEmailTopic, CHANGE_PLACE_STATUS_ROUTING_KEY,
+            new SendChangePlaceStatusEmailMessage(place.getAuthor().getName(),
+                place.getName(), place.getStatus().toString().toLowerCase(),
+                place.getAuthor().getEmail()));
     }
 
     /**
@@ -286,12 +339,38 @@ public class PlaceServiceImpl implements PlaceService {
     public List<UpdatePlaceStatusDto> updateStatuses(BulkUpdatePlaceStatusDto dto) {
         log.info(LogMessage.IN_UPDATE_PLACE_STATUSES, dto);
 
-        List<UpdatePlaceStatusDto> updatedPlaces = new ArrayList<>();
-        for (Long id : dto.getIds()) {
-            updatedPlaces.add(updateStatus(id, dto.getStatus()));
+        PlaceStatus status = dto.getStatus();
+        Set<Long> ids = new LinkedHashSet<>(dto.getIds());
+        Map<Long, Place> placesById = placeRepo.findAllWithAuthorAndCategoryByIdIn(ids).stream()
+            .collect(Collectors.toMap(Place::getId, place -> place));
+        List<Place> updatable = new ArrayList<>();
+        for (Long id : ids) {
+            Place place = Optional.ofNullable(placesById.get(id))
+                .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + id));
+            checkPlaceStatuses(place.getStatus(), status, id);
+            updatable.add(place);
         }
+        List<Place> proposed = updatable.stream()
+            .filter(place -> place.getStatus().equals(PlaceStatus.PROPOSED))
+            .collect(Collectors.toList());
 
-        return updatedPlaces;
+        ZonedDateTime modifiedDate = ZonedDateTime.now(datasourceTimezone);
+        placeRepo.updateStatuses(ids, status, modifiedDate);
+        markMarkerClustersChanged();
+        updatable.forEach(place -> {
+            place.setStatus(status);
+            place.setModifiedDate(modifiedDate);
+            proposePlaceService.updateDuplicateIndex(place);
+        });
+
+        if (status.equals(PlaceStatus.APPROVED)) {
+            notificationService.sendImmediatelyReports(updatable);
+        }
+        proposed.forEach(this::sendChangePlaceStatusEmail);
+
+        return updatable.stream()
+            .map(place -> modelMapper.map(place, UpdatePlaceStatusDto.class))
+            .collect(Collectors.toList());
     }
 
     /**
@@ -330,7 +409,7 @@ public class PlaceServiceImpl implements PlaceService {
                 .findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + id));
         PlaceInfoDto placeInfoDto = modelMapper.map(place, PlaceInfoDto.class);
-        placeInfoDto.setRate(placeRepo.getAverageRate(id));
+        placeInfoDto.setRate(place.getAverageRate());
         return placeInfoDto;
     }
 
@@ -347,6 +426,15 @@ public class PlaceServiceImpl implements PlaceService {
         return modelMapper.map(place, PlaceUpdateDto.class);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PlaceDuplicateDto> findDuplicates(Long id) {
+        log.info(LogMessage.IN_FIND_DUPLICATES, id);
+        return proposePlaceService.findDuplicates(findById(id));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -360,6 +448,93 @@ public class PlaceServiceImpl implements PlaceService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlaceClustersDto findClustersByMapsBounds(MapBoundsDto mapBoundsDto, int zoom) {
+        List<PlaceClusterDto> clusters = new ArrayList<>();
+        List<PlaceByBoundsDto> places = new ArrayList<>();
+        getMarkerClusterIndex().find(zoom, mapBoundsDto.getSouthWestLat(), mapBoundsDto.getSouthWestLng(),
+            mapBoundsDto.getNorthEastLat(), mapBoundsDto.getNorthEastLng())
+            .forEach(cluster -> {
+                if (cluster.getCount() == 1) {
+                    places.add(toPlaceByBoundsDto(cluster.getMarker()));
+                } else {
+                    clusters.add(toPlaceClusterDto(cluster));
+                }
+            });
+        return new PlaceClustersDto(clusters, places);
+    }
+
+    private PlaceByBoundsDto toPlaceByBoundsDto(PlaceMarker marker) {
+        return PlaceByBoundsDto.builder()
+            .id(marker.getPlaceId())
+            .name(marker.getName())
+            .location(new LocationDto(marker.getLocationId(), marker.getLat(), marker.getLng(), marker.getAddress()))
+            .rate(marker.getRate())
+            .build();
+    }
+
+    private PlaceClusterDto toPlaceClusterDto(MarkerCluster cluster) {
+        return PlaceClusterDto.builder()
+            .count(cluster.getCount())
+            .lat(cluster.getLat())
+            .lng(cluster.getLng())
+            .bounds(new MapBoundsDto(cluster.getNorthEastLat(), cluster.getNorthEastLng(),
+                cluster.getSouthWestLat(), cluster.getSouthWestLng()))
+            .build();
+    }
+
+    /**
+     * Method rebuilds {@link MarkerClusterIndex} of approved places. Rates of places change without
+     * marking the index as changed, so it is also rebuilt periodically.
+     */
+    @Scheduled(fixedDelay = AppConstant.MARKER_CLUSTERS_REBUILD_DELAY)
+    public void rebuildMarkerClusterIndex() {
+        synchronized (markerClusterIndexLock) {
+            markerClustersChanged.set(false);
+            markerClusterIndex.rebuild(placeRepo.findAllPlaceMarkers(PlaceStatus.APPROVED));
+        }
+    }
+
+    /**
+     * Method rebuilds {@link MarkerClusterIndex} in the background after places on the map were changed.
+     * Queries keep using the previous clusters until the rebuilt ones replace them.
+     */
+    @Scheduled(fixedDelay = AppConstant.MARKER_CLUSTERS_REFRESH_DELAY)
+    public void refreshChangedMarkerClusters() {
+        if (markerClustersChanged.get()) {
+            rebuildMarkerClusterIndex();
+        }
+    }
+
+    /**
+     * Method returns {@link MarkerClusterIndex}, building it on first use. Concurrent requests wait for
+     * one rebuild instead of each reading all places.
+     *
+     * @return loaded {@link MarkerClusterIndex} of approved places.
+     */
+    private MarkerClusterIndex getMarkerClusterIndex() {
+        if (markerClusterIndex.isLoaded()) {
+            return markerClusterIndex;
+        }
+        synchronized (markerClusterIndexLock) {
+            if (!markerClusterIndex.isLoaded()) {
+                rebuildMarkerClusterIndex();
+            }
+        }
+        return markerClusterIndex;
+    }
+
+    /**
+     * Method marks {@link MarkerClusterIndex} as changed after places on the map were changed. Inside a
+     * transaction it is marked after commit, so the rebuild reads the committed places.
+     */
+    private void markMarkerClustersChanged() {
+        TransactionUtils.afterCommit(() -> markerClustersChanged.set(true));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -379,7 +554,16 @@ public class PlaceServiceImpl implements PlaceService {
     @Override
     public Double averageRate(Long id) {
         log.info(LogMessage.IN_AVERAGE_RATE, id);
-        return placeRepo.getAverageRate(id);
+        return findById(id).getAverageRate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void updateRating(Long id, long sum, int count) {
+        placeRepo.updateRating(id, sum, count);
     }
 
     /**
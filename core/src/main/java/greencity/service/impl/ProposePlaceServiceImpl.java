@@ -1,21 +1,36 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.dto.location.LocationAddressAndGeoDto;
 import greencity.dto.openhours.OpeningHoursDto;
+import greencity.dto.place.PlaceDuplicateDto;
 import greencity.entity.DiscountValue;
+import greencity.entity.Location;
 import greencity.entity.Photo;
 import greencity.entity.Place;
+import greencity.entity.enums.PlaceStatus;
 import greencity.exception.exceptions.BadRequestException;
+import greencity.index.PlaceLocationEntry;
+import greencity.index.PlaceProximityIndex;
+import greencity.repository.PlaceRepo;
 import greencity.service.LocationService;
 import greencity.service.PhotoService;
 import greencity.service.ProposePlaceService;
 import greencity.service.SpecificationService;
-import lombok.AllArgsConstructor;
+import greencity.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link ProposePlaceService}.
@@ -23,11 +38,37 @@ import java.util.Set;
  * @author Marian Datsko
  */
 @Service
-@AllArgsConstructor
 public class ProposePlaceServiceImpl implements ProposePlaceService {
+    private static final List<PlaceStatus> DUPLICATE_STATUSES =
+        Arrays.asList(PlaceStatus.PROPOSED, PlaceStatus.APPROVED);
     private final SpecificationService specService;
     private final PhotoService photoService;
     private final LocationService locationService;
+    private final PlaceRepo placeRepo;
+    private final PlaceProximityIndex duplicateIndex;
+    private final Object duplicateIndexLock = new Object();
+    private final double minNameSimilarity;
+
+    /**
+     * Constructor.
+     *
+     * @param duplicateRadius   radius in meters, within which places are checked for duplicates.
+     * @param minNameSimilarity least similarity of names, for which a place is shown as a duplicate.
+     */
+    @Autowired
+    public ProposePlaceServiceImpl(SpecificationService specService,
+                                   PhotoService photoService,
+                                   LocationService locationService,
+                                   PlaceRepo placeRepo,
+                                   @Value("${duplicatePlaces.radiusMeters:150}") double duplicateRadius,
+                                   @Value("${duplicatePlaces.minNameSimilarity:0.6}") double minNameSimilarity) {
+        this.specService = specService;
+        this.photoService = photoService;
+        this.locationService = locationService;
+        this.placeRepo = placeRepo;
+        this.duplicateIndex = new PlaceProximityIndex(duplicateRadius);
+        this.minNameSimilarity = minNameSimilarity;
+    }
 
     /**
      * Method check if input location is new.
@@ -80,4 +121,124 @@ public class ProposePlaceServiceImpl implements ProposePlaceService {
             disc.setPlace(place);
         });
     }
+
+    /**
+     * Method finds places within the duplicate radius of the given one, whose names differ by at most
+     * the share of characters allowed by the least name similarity.
+     */
+    @Override
+    public List<PlaceDuplicateDto> findDuplicates(Place place) {
+        Location location = place.getLocation();
+        String name = normalizeName(place.getName());
+        return getDuplicateIndex().findNear(location.getLat(), location.getLng()).stream()
+            .filter(entry -> !entry.getPlaceId().equals(place.getId()))
+            .map(entry -> PlaceDuplicateDto.builder()
+                .id(entry.getPlaceId())
+                .name(entry.getName())
+                .address(entry.getAddress())
+                .lat(entry.getLat())
+                .lng(entry.getLng())
+                .status(entry.getStatus())
+                .distance(PlaceProximityIndex.distance(
+                    location.getLat(), location.getLng(), entry.getLat(), entry.getLng()))
+                .nameSimilarity(nameSimilarity(name, normalizeName(entry.getName())))
+                .build())
+            .filter(duplicate -> duplicate.getNameSimilarity() >= minNameSimilarity)
+            .sorted(Comparator.comparing(PlaceDuplicateDto::getNameSimilarity).reversed()
+                .thenComparing(PlaceDuplicateDto::getDistance))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Method applies the place to the index of duplicates after commit, so a proposal is compared with
+     * other recent proposals before the next rebuild of the index. Places which are neither proposed nor
+     * approved are removed from it. The change waits for a running rebuild and is applied to the rebuilt
+     * index instead of being replaced by it.
+     */
+    @Override
+    public void updateDuplicateIndex(Place place) {
+        Long id = place.getId();
+        Location location = place.getLocation();
+        if (location == null || !DUPLICATE_STATUSES.contains(place.getStatus())) {
+            TransactionUtils.afterCommit(() -> changeDuplicateIndex(() -> duplicateIndex.remove(id)));
+            return;
+        }
+        PlaceLocationEntry entry = new PlaceLocationEntry(id, place.getName(),
+            location.getLat(), location.getLng(), location.getAddress(), place.getStatus());
+        TransactionUtils.afterCommit(() -> changeDuplicateIndex(() -> duplicateIndex.add(entry)));
+    }
+
+    /**
+     * Method rebuilds the index of duplicates from proposed and approved places.
+     */
+    @Scheduled(fixedDelay = AppConstant.DUPLICATE_PLACES_REBUILD_DELAY)
+    public void rebuildDuplicateIndex() {
+        synchronized (duplicateIndexLock) {
+            duplicateIndex.rebuild(placeRepo.findAllPlaceLocationEntries(DUPLICATE_STATUSES));
+        }
+    }
+
+    /**
+     * Method returns the index of duplicates, building it on first use. Concurrent requests wait for one
+     * rebuild instead of each reading all places.
+     *
+     * @return loaded {@link PlaceProximityIndex} of proposed and approved places.
+     */
+    private PlaceProximityIndex getDuplicateIndex() {
+        if (duplicateIndex.isLoaded()) {
+            return duplicateIndex;
+        }
+        synchronized (duplicateIndexLock) {
+            if (!duplicateIndex.isLoaded()) {
+                rebuildDuplicateIndex();
+            }
+        }
+        return duplicateIndex;
+    }
+
+    private void changeDuplicateIndex(Runnable change) {
+        synchronized (duplicateIndexLock) {
+            change.run();
+        }
+    }
+
+    /**
+     * Method brings a name to lower case letters and digits without diacritics, separated by single spaces.
+     */
+    private static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFKD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{L}\\p{N}]+", " ")
+            .trim();
+    }
+
+    /**
+     * Method computes one minus the Levenshtein distance of the names divided by the length of the longer one.
+     */
+    private static double nameSimilarity(String first, String second) {
+        int longer = Math.max(first.length(), second.length());
+        if (longer == 0) {
+            return 0;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return 1 - (double) previous[second.length()] / longer;
+    }
 }
@@ -8,10 +8,12 @@ import greencity.dto.tipsandtrickscomment.TipsAndTricksCommentDto;
 import greencity.entity.TipsAndTricks;
 import greencity.entity.TipsAndTricksComment;
 import greencity.entity.User;
+import greencity.entity.enums.ActivityType;
 import greencity.entity.enums.ROLE;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.repository.TipsAndTricksCommentRepo;
+import greencity.service.ActivityFeedService;
 import greencity.service.TipsAndTricksCommentService;
 import greencity.service.TipsAndTricksService;
 import java.util.List;
@@ -27,6 +29,7 @@ import org.springframework.stereotype.Service;
 public class TipsAndTricksCommentServiceImpl implements TipsAndTricksCommentService {
     private TipsAndTricksCommentRepo tipsAndTricksCommentRepo;
     private TipsAndTricksService tipsAndTricksService;
+    private ActivityFeedService activityFeedService;
     private ModelMapper modelMapper;
 
     /**
@@ -66,8 +69,10 @@ public class TipsAndTricksCommentServiceImpl implements TipsAndTricksCommentServ
             }
         }
 
-        return modelMapper
+        AddTipsAndTricksCommentDtoResponse response = modelMapper
             .map(tipsAndTricksCommentRepo.save(tipsAndTricksComment), AddTipsAndTricksCommentDtoResponse.class);
+        activityFeedService.publish(user.getId(), ActivityType.TIPS_AND_TRICKS_COMMENT, tipsandtricksId);
+        return response;
     }
 
     /**
@@ -1,5 +1,6 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
 import greencity.dto.PageableDto;
@@ -7,15 +8,25 @@ import greencity.dto.search.SearchTipsAndTricksDto;
 import greencity.dto.tipsandtricks.TipsAndTricksDtoManagement;
 import greencity.dto.tipsandtricks.TipsAndTricksDtoRequest;
 import greencity.dto.tipsandtricks.TipsAndTricksDtoResponse;
+import greencity.entity.Tag;
 import greencity.entity.TipsAndTricks;
+import greencity.entity.enums.ActivityType;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
+import greencity.index.TagIndex;
 import greencity.repository.TipsAndTricksRepo;
+import greencity.repository.UserCountersRepo;
+import greencity.service.ActivityFeedService;
 import greencity.service.FileService;
 import greencity.service.TagsService;
 import greencity.service.TipsAndTricksService;
 import greencity.service.UserService;
+import greencity.utils.TransactionUtils;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -24,9 +35,12 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -43,10 +57,19 @@ public class TipsAndTricksServiceImpl implements TipsAndTricksService {
 
     private final FileService fileService;
 
+    private final UserCountersRepo userCountersRepo;
+
+    private final ActivityFeedService activityFeedService;
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    private final Object tagIndexLock = new Object();
+
     /**
      * {@inheritDoc}
      */
     @CacheEvict(value = CacheConstants.TIPS_AND_TRICKS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public TipsAndTricksDtoResponse save(TipsAndTricksDtoRequest tipsAndTricksDtoRequest, MultipartFile image,
                                          String email) {
@@ -66,6 +89,12 @@ public class TipsAndTricksServiceImpl implements TipsAndTricksService {
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.TIPS_AND_TRICKS_NOT_SAVED);
         }
+        userCountersRepo.addWrittenTipsAndTricks(toSave.getAuthor().getId(), 1);
+        Long id = toSave.getId();
+        ZonedDateTime creationDate = toSave.getCreationDate();
+        List<String> tagNames = getTagNames(toSave);
+        changeTagIndexAfterCommit(() -> tagIndex.add(id, creationDate, tagNames));
+        activityFeedService.publish(toSave.getAuthor().getId(), ActivityType.TIPS_AND_TRICKS, toSave.getId());
 
         return modelMapper.map(toSave, TipsAndTricksDtoResponse.class);
     }
@@ -74,10 +103,12 @@ public class TipsAndTricksServiceImpl implements TipsAndTricksService {
      * {@inheritDoc}
      */
     @CacheEvict(value = CacheConstants.TIPS_AND_TRICKS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public void update(TipsAndTricksDtoManagement tipsAndTricksDtoManagement,
                        MultipartFile image) {
         TipsAndTricks toUpdate = findById(tipsAndTricksDtoManagement.getId());
+        Long previousAuthorId = toUpdate.getAuthor().getId();
         toUpdate.setTitle(tipsAndTricksDtoManagement.getTitle());
         toUpdate.setText(tipsAndTricksDtoManagement.getText());
         toUpdate.setTags(tagService.findTipsAndTricksTagsByNames(tipsAndTricksDtoManagement.getTags()));
@@ -88,6 +119,13 @@ public class TipsAndTricksServiceImpl implements TipsAndTricksService {
             toUpdate.setImagePath(fileService.upload(image).toString());
         }
         tipsAndTricksRepo.save(toUpdate);
+        if (!previousAuthorId.equals(toUpdate.getAuthor().getId())) {
+            userCountersRepo.addWrittenTipsAndTricks(previousAuthorId, -1);
+            userCountersRepo.addWrittenTipsAndTricks(toUpdate.getAuthor().getId(), 1);
+        }
+        Long id = toUpdate.getId();
+        List<String> tagNames = getTagNames(toUpdate);
+        changeTagIndexAfterCommit(() -> tagIndex.updateTags(id, tagNames));
     }
 
     /**
@@ -110,10 +148,13 @@ public class TipsAndTricksServiceImpl implements TipsAndTricksService {
         if (tags == null || tags.isEmpty()) {
             pages = tipsAndTricksRepo.findAllByOrderByCreationDateDesc(page);
         } else {
-            List<String> lowerCaseTags = tags.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
-            pages = tipsAndTricksRepo.find(page, lowerCaseTags);
+            Page<Long> ids = getTagIndex().findAny(page, tags);
+            Map<Long, TipsAndTricks> tipsAndTricksById = tipsAndTricksRepo.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(TipsAndTricks::getId, Function.identity()));
+            pages = new PageImpl<>(ids.stream()
+                .map(tipsAndTricksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()), ids.getPageable(), ids.getTotalElements());
         }
         return getPagesWithTipsAndTricksResponseDto(pages);
     }
@@ -145,18 +186,70 @@ public class TipsAndTricksServiceImpl implements TipsAndTricksService {
      * {@inheritDoc}
      */
     @CacheEvict(value = CacheConstants.TIPS_AND_TRICKS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public void delete(Long id) {
-        tipsAndTricksRepo.deleteById(findById(id).getId());
+        TipsAndTricks tipsAndTricks = findById(id);
+        tipsAndTricksRepo.deleteById(tipsAndTricks.getId());
+        userCountersRepo.addWrittenTipsAndTricks(tipsAndTricks.getAuthor().getId(), -1);
+        changeTagIndexAfterCommit(() -> tagIndex.remove(id));
     }
 
     /**
      * {@inheritDoc}
      */
     @CacheEvict(value = CacheConstants.TIPS_AND_TRICKS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public void deleteAll(List<Long> listId) {
-        listId.forEach(id -> tipsAndTricksRepo.deleteById(findById(id).getId()));
+        listId.forEach(this::delete);
+    }
+
+    /**
+     * Method rebuilds tag index from the database, so that tips & tricks changed bypassing this service
+     * become visible in tag search.
+     */
+    @Scheduled(fixedDelay = AppConstant.TAG_INDEX_REBUILD_DELAY)
+    public void rebuildTagIndex() {
+        synchronized (tagIndexLock) {
+            tagIndex.rebuild(tipsAndTricksRepo.findAllTagIndexEntries());
+        }
+    }
+
+    /**
+     * Method returns tag index, building it on first use.
+     *
+     * @return loaded {@link TagIndex} of tips & tricks.
+     */
+    private TagIndex getTagIndex() {
+        if (tagIndex.isLoaded()) {
+            return tagIndex;
+        }
+        synchronized (tagIndexLock) {
+            if (!tagIndex.isLoaded()) {
+                rebuildTagIndex();
+            }
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Method applies a change of tag index after commit, so a rolled back transaction leaves it intact.
+     * The change waits for a running rebuild and is applied to the rebuilt index instead of being
+     * replaced by it.
+     */
+    private void changeTagIndexAfterCommit(Runnable change) {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (tagIndexLock) {
+                change.run();
+            }
+        });
+    }
+
+    private List<String> getTagNames(TipsAndTricks tipsAndTricks) {
+        return tipsAndTricks.getTags().stream()
+            .map(Tag::getName)
+            .collect(Collectors.toList());
     }
 
     /**
@@ -1,5 +1,7 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
+import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.dto.PageableDto;
@@ -11,25 +13,35 @@ import greencity.dto.habitstatistic.HabitDictionaryDto;
 import greencity.dto.habitstatistic.HabitIdDto;
 import greencity.dto.user.*;
 import greencity.entity.*;
+import greencity.entity.enums.ActivityType;
 import greencity.entity.enums.EmailNotification;
 import greencity.entity.enums.GoalStatus;
 import greencity.entity.enums.ROLE;
 import greencity.entity.enums.UserStatus;
 import greencity.entity.localization.GoalTranslation;
 import greencity.exception.exceptions.*;
+import greencity.index.FriendSuggestion;
+import greencity.index.FriendshipGraph;
+import greencity.index.RatingLeaderboard;
 import greencity.repository.*;
 import greencity.repository.options.UserFilter;
+import greencity.service.ActivityFeedService;
 import greencity.service.FileService;
 import greencity.service.HabitDictionaryService;
 import greencity.service.HabitService;
 import greencity.service.UserService;
+import greencity.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,6 +50,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static greencity.constant.ErrorMessage.*;
@@ -64,6 +77,12 @@ public class UserServiceImpl implements UserService {
     private final FileService fileService;
     private final TipsAndTricksRepo tipsAndTricksRepo;
     private final EcoNewsRepo ecoNewsRepo;
+    private final UserCountersRepo userCountersRepo;
+    private final ActivityFeedService activityFeedService;
+    private final FriendshipGraph friendshipGraph = new FriendshipGraph();
+    private final Object friendshipGraphLock = new Object();
+    private final RatingLeaderboard ratingLeaderboard = new RatingLeaderboard();
+    private final Object ratingLeaderboardLock = new Object();
     @Value("${greencity.time.after.last.activity}")
     private long timeAfterLastActivity;
 
@@ -77,7 +96,18 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User save(User user) {
-        return userRepo.save(user);
+        boolean created = user.getId() == null;
+        User saved = userRepo.save(user);
+        if (created && saved.getUserStatus() != UserStatus.DEACTIVATED) {
+            Long id = saved.getId();
+            Float rating = saved.getRating() == null ? AppConstant.DEFAULT_RATING : saved.getRating();
+            TransactionUtils.afterCommit(() -> changeRatingLeaderboard(() -> {
+                if (ratingLeaderboard.isLoaded()) {
+                    ratingLeaderboard.update(id, rating);
+                }
+            }));
+        }
+        return saved;
     }
 
     /**
@@ -126,6 +156,10 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.USER_STATUS_CACHE_NAME, key = "#dto.id"),
+        @CacheEvict(value = CacheConstants.USER_ID_BY_EMAIL_CACHE_NAME, allEntries = true)
+    })
     @Override
     public void updateUser(UserManagementDto dto) {
         User user = findById(dto.getId());
@@ -150,6 +184,10 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.USER_STATUS_CACHE_NAME, key = "#id"),
+        @CacheEvict(value = CacheConstants.USER_ID_BY_EMAIL_CACHE_NAME, allEntries = true)
+    })
     @Override
     public void deleteById(Long id) {
         User user = findById(id);
@@ -170,6 +208,7 @@ public class UserServiceImpl implements UserService {
      *
      * @author Zakhar Skaletskyi
      */
+    @Cacheable(value = CacheConstants.USER_ID_BY_EMAIL_CACHE_NAME)
     @Override
     public Long findIdByEmail(String email) {
         log.info(LogMessage.IN_FIND_ID_BY_EMAIL, email);
@@ -177,6 +216,16 @@ public class UserServiceImpl implements UserService {
             () -> new WrongEmailException(ErrorMessage.USER_NOT_FOUND_BY_EMAIL));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Cacheable(value = CacheConstants.USER_STATUS_CACHE_NAME)
+    @Override
+    public UserStatus findStatusById(Long id) {
+        return userRepo.findUserStatusById(id)
+            .orElseThrow(() -> new WrongIdException(USER_NOT_FOUND_BY_ID + id));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -191,13 +240,22 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @CacheEvict(value = CacheConstants.USER_STATUS_CACHE_NAME, key = "#id")
     @Override
     public UserStatusDto updateStatus(Long id, UserStatus userStatus, String email) {
         checkUpdatableUser(id, email);
         accessForUpdateUserStatus(id, email);
         User user = findById(id);
         user.setUserStatus(userStatus);
-        return modelMapper.map(userRepo.save(user), UserStatusDto.class);
+        UserStatusDto userStatusDto = modelMapper.map(userRepo.save(user), UserStatusDto.class);
+        changeRatingLeaderboard(() -> {
+            if (userStatus == UserStatus.DEACTIVATED) {
+                ratingLeaderboard.remove(id);
+            } else if (ratingLeaderboard.isLoaded()) {
+                ratingLeaderboard.update(id, user.getRating());
+            }
+        });
+        return userStatusDto;
     }
 
     /**
@@ -275,32 +333,13 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public List<UserGoalResponseDto> getUserGoals(Long userId, String language) {
-        List<UserGoalResponseDto> userGoalResponseDtos = userGoalRepo
-            .findAllByUserId(userId)
-            .stream()
-            .map(userGoal -> modelMapper.map(userGoal, UserGoalResponseDto.class))
-            .collect(Collectors.toList());
+        List<UserGoalResponseDto> userGoalResponseDtos = userGoalRepo.findAllUserGoalResponseDtos(userId, language);
         if (userGoalResponseDtos.isEmpty()) {
             throw new UserHasNoGoalsException(USER_HAS_NO_GOALS);
         }
-        userGoalResponseDtos.stream().forEach(el -> setTextForAnyUserGoal(el, userId, language));
         return userGoalResponseDtos;
     }
 
-    /**
-     * Method for setting text either for UserGoal with localization or for CustomGoal.
-     *
-     * @param userId id of the current user.
-     * @param dto    {@link UserGoalResponseDto}
-     */
-    private UserGoalResponseDto setTextForAnyUserGoal(UserGoalResponseDto dto, Long userId, String language) {
-        String text = userGoalRepo.findGoalByUserGoalId(dto.getId()).isPresent()
-            ? goalTranslationRepo.findByUserIdLangAndUserGoalId(userId, language, dto.getId()).getText()
-            : customGoalRepo.findByUserGoalIdAndUserId(dto.getId(), userId).getText();
-        dto.setText(text);
-        return dto;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -328,49 +367,56 @@ public class UserServiceImpl implements UserService {
         List<UserCustomGoalDto> customGoalDtos = bulkDto.getUserCustomGoal();
         User user = userRepo.findById(userId)
             .orElseThrow(() -> new WrongIdException(USER_NOT_FOUND_BY_ID + userId));
-        if (goalDtos == null && customGoalDtos != null) {
-            saveCustomGoalsForUserGoals(user, customGoalDtos);
+        List<UserGoal> newUserGoals = new ArrayList<>();
+        if (goalDtos != null) {
+            newUserGoals.addAll(convertGoalsToUserGoals(user, goalDtos));
         }
-        if (goalDtos != null && customGoalDtos == null) {
-            saveGoalForUserGoal(user, goalDtos);
+        if (customGoalDtos != null) {
+            newUserGoals.addAll(convertCustomGoalsToUserGoals(user, customGoalDtos));
         }
-        if (goalDtos != null && customGoalDtos != null) {
-            saveGoalForUserGoal(user, goalDtos);
-            saveCustomGoalsForUserGoals(user, customGoalDtos);
+        if (!newUserGoals.isEmpty()) {
+            user.getUserGoals().addAll(newUserGoals);
+            userGoalRepo.saveAll(newUserGoals);
         }
         return getUserGoals(userId, language);
     }
 
     /**
-     * Method save user goals with goal dictionary.
+     * Method converts goal dtos to new user goals, so that they are saved in one batch.
      *
-     * @param user  {@link User} current user
-     * @param goals list {@link UserGoalDto} for saving
-     * @author Bogdan Kuzenko
+     * @param user     {@link User} current user
+     * @param goalDtos list of {@link UserGoalDto} for saving
+     * @return list of {@link UserGoal}
      */
-    private void saveGoalForUserGoal(User user, List<UserGoalDto> goals) {
-        for (UserGoalDto el : goals) {
-            UserGoal userGoal = modelMapper.map(el, UserGoal.class);
-            userGoal.setUser(user);
-            user.getUserGoals().add(userGoal);
-            userGoalRepo.saveAll(user.getUserGoals());
-        }
+    private List<UserGoal> convertGoalsToUserGoals(User user, List<UserGoalDto> goalDtos) {
+        return goalDtos.stream()
+            .map(dto -> toUserGoal(user, modelMapper.map(dto, UserGoal.class)))
+            .collect(Collectors.toList());
     }
 
     /**
-     * Method save user goals with custom goal dictionary.
+     * Method converts custom goal dtos to new user goals, so that they are saved in one batch.
      *
-     * @param user        {@link User} current user
-     * @param customGoals list {@link UserCustomGoalDto} for saving
-     * @author Bogdan Kuzenko
+     * @param user           {@link User} current user
+     * @param customGoalDtos list of {@link UserCustomGoalDto} for saving
+     * @return list of {@link UserGoal}
      */
-    private void saveCustomGoalsForUserGoals(User user, List<UserCustomGoalDto> customGoals) {
-        for (UserCustomGoalDto el1 : customGoals) {
-            UserGoal userGoal = modelMapper.map(el1, UserGoal.class);
-            userGoal.setUser(user);
-            user.getUserGoals().add(userGoal);
-        }
-        userGoalRepo.saveAll(user.getUserGoals());
+    private List<UserGoal> convertCustomGoalsToUserGoals(User user, List<UserCustomGoalDto> customGoalDtos) {
+        return customGoalDtos.stream()
+            .map(dto -> toUserGoal(user, modelMapper.map(dto, UserGoal.class)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Method assigns the mapped user goal to the user.
+     *
+     * @param user     {@link User} current user
+     * @param userGoal {@link UserGoal} mapped from a dto
+     * @return the same {@link UserGoal}
+     */
+    private UserGoal toUserGoal(User user, UserGoal userGoal) {
+        userGoal.setUser(user);
+        return userGoal;
     }
 
     /**
@@ -412,11 +458,10 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public UserGoalResponseDto updateUserGoalStatus(Long userId, Long goalId, String language) {
-        UserGoal userGoal;
         User user = userRepo.findById(userId)
             .orElseThrow(() -> new WrongIdException(USER_NOT_FOUND_BY_ID + userId));
         if (user.getUserGoals().stream().anyMatch(o -> o.getId().equals(goalId))) {
-            userGoal = userGoalRepo.getOne(goalId);
+            UserGoal userGoal = userGoalRepo.getOne(goalId);
             if (userGoal.getStatus().equals(GoalStatus.DONE)) {
                 userGoal.setStatus(GoalStatus.ACTIVE);
                 userGoal.setDateCompleted(null);
@@ -429,9 +474,8 @@ public class UserServiceImpl implements UserService {
         } else {
             throw new UserGoalStatusNotUpdatedException(USER_HAS_NO_SUCH_GOAL + goalId);
         }
-        UserGoalResponseDto updatedUserGoal = modelMapper.map(userGoal, UserGoalResponseDto.class);
-        setTextForAnyUserGoal(updatedUserGoal, userId, language);
-        return updatedUserGoal;
+        return userGoalRepo.findUserGoalResponseDto(userId, goalId, language)
+            .orElseThrow(() -> new NotFoundException(USER_GOAL_NOT_FOUND + goalId));
     }
 
     /**
@@ -492,12 +536,16 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @Transactional
     @Override
     public List<HabitCreateDto> createUserHabit(Long userId, List<HabitIdDto> habitIdDto, String language) {
         if (checkHabitId(userId, habitIdDto)) {
             User user = userRepo.findById(userId)
                 .orElseThrow(() -> new WrongIdException(USER_NOT_FOUND_BY_ID + userId));
             List<Habit> habits = habitRepo.saveAll(convertToHabit(habitIdDto, user));
+            long acquired = habits.stream().filter(habit -> Boolean.TRUE.equals(habit.getStatusHabit())).count();
+            userCountersRepo.addHabits(userId, acquired, habits.size() - acquired);
+            habits.forEach(habit -> activityFeedService.publish(userId, ActivityType.HABIT, habit.getId()));
             return convertToHabitCreateDto(habits, language);
         } else {
             throw new WrongIdException(ErrorMessage.HABIT_IS_SAVED);
@@ -614,8 +662,13 @@ public class UserServiceImpl implements UserService {
         int countHabit = habitRepo.countHabitByUserId(userId);
         if (!habitStatisticRepo.findAllByHabitId(habit.getId()).isEmpty() && countHabit > 1) {
             habitRepo.updateHabitStatusById(habit.getId(), false);
+            if (Boolean.TRUE.equals(habit.getStatusHabit())) {
+                habit.getUsers().forEach(user -> userCountersRepo.addHabits(user.getId(), -1, 1));
+            }
         } else if (countHabit > 1) {
+            List<Long> userIds = habit.getUsers().stream().map(User::getId).collect(Collectors.toList());
             habitRepo.deleteById(habit.getId());
+            userIds.forEach(id -> userCountersRepo.addHabit(id, habit.getStatusHabit(), -1));
         } else {
             throw new NotDeletedException(ErrorMessage.NOT_DELETE_LAST_HABIT);
         }
@@ -703,21 +756,15 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void deleteUserFriendById(Long userId, Long friendId) {
-        List<User> allUserFriends = getAllUserFriends(userId);
         findById(friendId);
         if (userId.equals(friendId)) {
             throw new CheckRepeatingValueException(OWN_USER_ID + friendId);
         }
-        if (!allUserFriends.isEmpty()) {
-            List<Long> listUserId = allUserFriends.stream().map(User::getId).collect(Collectors.toList());
-            if (listUserId.contains(friendId)) {
-                userRepo.deleteUserFriendById(userId, friendId);
-            } else {
-                throw new NotDeletedException(USER_FRIENDS_LIST + friendId);
-            }
-        } else {
+        if (!getFriendshipGraph().areFriends(userId, friendId)) {
             throw new NotDeletedException(USER_FRIENDS_LIST + friendId);
         }
+        userRepo.deleteUserFriendById(userId, friendId);
+        changeFriendshipGraphAfterCommit(() -> friendshipGraph.remove(userId, friendId));
     }
 
     /**
@@ -730,19 +777,15 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void addNewFriend(Long userId, Long friendId) {
-        List<User> allUserFriends = getAllUserFriends(userId);
         findById(friendId);
         if (userId.equals(friendId)) {
             throw new CheckRepeatingValueException(OWN_USER_ID + friendId);
         }
-        if (!allUserFriends.isEmpty()) {
-            allUserFriends.forEach(user -> {
-                if (user.getId().equals(friendId)) {
-                    throw new CheckRepeatingValueException(FRIEND_EXISTS + friendId);
-                }
-            });
+        if (getFriendshipGraph().areFriends(userId, friendId)) {
+            throw new CheckRepeatingValueException(FRIEND_EXISTS + friendId);
         }
         userRepo.addNewFriend(userId, friendId);
+        changeFriendshipGraphAfterCommit(() -> friendshipGraph.add(userId, friendId));
     }
 
     /**
@@ -753,7 +796,7 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public List<UserProfilePictureDto> getSixFriendsWithTheHighestRating(Long userId) {
-        List<UserProfilePictureDto> userProfilePictureDtoList = userRepo.getSixFriendsWithTheHighestRating(userId)
+        List<UserProfilePictureDto> userProfilePictureDtoList = findAllByIdInOrder(findTopRatedFriends(userId))
             .stream()
             .map(user -> modelMapper.map(user, UserProfilePictureDto.class))
             .collect(Collectors.toList());
@@ -763,6 +806,162 @@ public class UserServiceImpl implements UserService {
         return userProfilePictureDtoList;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UserFriendSuggestionDto> getFriendSuggestions(Long userId) {
+        List<FriendSuggestion> suggestions =
+            getFriendshipGraph().suggestFriends(userId, AppConstant.FRIEND_SUGGESTIONS_AMOUNT);
+        Map<Long, User> usersById = userRepo.findAllById(suggestions.stream()
+            .map(FriendSuggestion::getUserId)
+            .collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        return suggestions.stream()
+            .filter(suggestion -> usersById.containsKey(suggestion.getUserId()))
+            .map(suggestion -> {
+                User user = usersById.get(suggestion.getUserId());
+                return UserFriendSuggestionDto.builder()
+                    .id(user.getId())
+                    .name(user.getName())
+                    .profilePicturePath(user.getProfilePicturePath())
+                    .mutualFriends(suggestion.getMutualFriends())
+                    .build();
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LeaderboardEntryDto> getLeaderboard(int limit) {
+        RatingLeaderboard leaderboard = getRatingLeaderboard();
+        List<Long> userIds = leaderboard.getTop(Math.max(1, Math.min(limit, AppConstant.LEADERBOARD_MAX_SIZE)));
+        List<User> users = findAllByIdInOrder(userIds);
+        List<LeaderboardEntryDto> entries = new ArrayList<>(users.size());
+        for (User user : users) {
+            entries.add(toLeaderboardEntryDto(user, leaderboard.getRank(user.getId())));
+        }
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LeaderboardEntryDto getLeaderboardPosition(Long userId) {
+        int rank = getRatingLeaderboard().getRank(userId);
+        if (rank == 0) {
+            throw new NotFoundException(USER_NOT_ON_LEADERBOARD + userId);
+        }
+        return toLeaderboardEntryDto(findById(userId), rank);
+    }
+
+    private List<Long> findTopRatedFriends(Long userId) {
+        return getRatingLeaderboard()
+            .getTopAmong(getFriendshipGraph().getFriends(userId), AppConstant.TOP_RATED_FRIENDS_AMOUNT);
+    }
+
+    private LeaderboardEntryDto toLeaderboardEntryDto(User user, int rank) {
+        return LeaderboardEntryDto.builder()
+            .rank(rank)
+            .id(user.getId())
+            .name(user.getName())
+            .profilePicturePath(user.getProfilePicturePath())
+            .rating(user.getRating())
+            .build();
+    }
+
+    /**
+     * Method rebuilds rating leaderboard from the database, so that ratings and statuses changed
+     * bypassing this service become visible.
+     */
+    @Scheduled(fixedDelay = AppConstant.RATING_LEADERBOARD_REBUILD_DELAY)
+    public void rebuildRatingLeaderboard() {
+        synchronized (ratingLeaderboardLock) {
+            ratingLeaderboard.rebuild(userRepo.findAllUserRatingEntries());
+        }
+    }
+
+    /**
+     * Method returns rating leaderboard, building it on first use.
+     *
+     * @return loaded {@link RatingLeaderboard}.
+     */
+    private RatingLeaderboard getRatingLeaderboard() {
+        if (ratingLeaderboard.isLoaded()) {
+            return ratingLeaderboard;
+        }
+        synchronized (ratingLeaderboardLock) {
+            if (!ratingLeaderboard.isLoaded()) {
+                rebuildRatingLeaderboard();
+            }
+        }
+        return ratingLeaderboard;
+    }
+
+    /**
+     * Method applies a change of rating leaderboard. The change waits for a running rebuild and is
+     * applied to the rebuilt leaderboard instead of being replaced by it.
+     */
+    private void changeRatingLeaderboard(Runnable change) {
+        synchronized (ratingLeaderboardLock) {
+            change.run();
+        }
+    }
+
+    /**
+     * Method rebuilds friendship graph from the database, so that friendships changed
+     * bypassing this service become visible.
+     */
+    @Scheduled(fixedDelay = AppConstant.FRIENDSHIP_GRAPH_REBUILD_DELAY)
+    public void rebuildFriendshipGraph() {
+        synchronized (friendshipGraphLock) {
+            friendshipGraph.rebuild(userRepo.findAllFriendshipEntries());
+        }
+    }
+
+    /**
+     * Method returns friendship graph, building it on first use.
+     *
+     * @return loaded {@link FriendshipGraph}.
+     */
+    private FriendshipGraph getFriendshipGraph() {
+        if (friendshipGraph.isLoaded()) {
+            return friendshipGraph;
+        }
+        synchronized (friendshipGraphLock) {
+            if (!friendshipGraph.isLoaded()) {
+                rebuildFriendshipGraph();
+            }
+        }
+        return friendshipGraph;
+    }
+
+    /**
+     * Method applies a change of friendship graph after commit, so a rolled back transaction leaves it
+     * intact. The change waits for a running rebuild and is applied to the rebuilt graph instead of
+     * being replaced by it.
+     */
+    private void changeFriendshipGraphAfterCommit(Runnable change) {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (friendshipGraphLock) {
+                change.run();
+            }
+        });
+    }
+
+    private List<User> findAllByIdInOrder(List<Long> ids) {
+        Map<Long, User> usersById = userRepo.findAllById(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+            .map(usersById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Save user profile information {@link User}.
      *
@@ -842,12 +1041,35 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Method return user profile statistics {@link User}.
+     * Statistics are read from the user's {@link UserCounters}, and computed from the source tables
+     * only for users whose counters were not created yet.
      *
      * @param userId - {@link User}'s id
      * @author Marian Datsko
      */
     @Override
     public UserProfileStatisticsDto getUserProfileStatistics(Long userId) {
+        return userCountersRepo.findById(userId)
+            .map(counters -> UserProfileStatisticsDto.builder()
+                .amountWrittenTipsAndTrick(counters.getWrittenTipsAndTricks())
+                .amountPublishedNews(counters.getPublishedNews())
+                .amountHabitsAcquired(counters.getAcquiredHabits())
+                .amountHabitsInProgress(counters.getHabitsInProgress())
+                .build())
+            .orElseGet(() -> countUserProfileStatistics(userId));
+    }
+
+    /**
+     * Method reconciles {@link UserCounters} of all users with the source tables once a day.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void reconcileUserCounters() {
+        int reconciled = userCountersRepo.reconcileAll();
+        log.info(LogMessage.IN_RECONCILE_USER_COUNTERS, reconciled);
+    }
+
+    private UserProfileStatisticsDto countUserProfileStatistics(Long userId) {
         Long amountOfPublishedNewsByUserId = ecoNewsRepo.getAmountOfPublishedNewsByUserId(userId);
         Long amountOfWrittenTipsAndTrickByUserId = tipsAndTricksRepo.getAmountOfWrittenTipsAndTrickByUserId(userId);
         Long amountOfAcquiredHabitsByUserId = habitStatisticRepo.getAmountOfAcquiredHabitsByUserId(userId);
@@ -873,14 +1095,10 @@ public class UserServiceImpl implements UserService {
             .id(userId)
             .onlineStatus(checkIfTheUserIsOnline(userId))
             .build();
-        List<User> sixFriendsWithTheHighestRating = userRepo.getSixFriendsWithTheHighestRating(userId);
-        List<UserWithOnlineStatusDto> sixFriendsWithOnlineStatusDtos = new ArrayList<>();
-        if (!sixFriendsWithTheHighestRating.isEmpty()) {
-            sixFriendsWithOnlineStatusDtos = sixFriendsWithTheHighestRating
-                .stream()
-                .map(u -> new UserWithOnlineStatusDto(u.getId(), checkIfTheUserIsOnline(u.getId())))
-                .collect(Collectors.toList());
-        }
+        List<UserWithOnlineStatusDto> sixFriendsWithOnlineStatusDtos = findTopRatedFriends(userId)
+            .stream()
+            .map(id -> new UserWithOnlineStatusDto(id, checkIfTheUserIsOnline(id)))
+            .collect(Collectors.toList());
         return UserAndFriendsWithOnlineStatusDto.builder()
             .user(userWithOnlineStatusDto)
             .friends(sixFriendsWithOnlineStatusDtos)
@@ -919,9 +1137,11 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+    @CacheEvict(value = CacheConstants.USER_STATUS_CACHE_NAME, key = "#id")
     @Override
     public void deactivateUser(Long id) {
         User foundUser = findById(id);
         foundUser.setUserStatus(UserStatus.DEACTIVATED);
+        changeRatingLeaderboard(() -> ratingLeaderboard.remove(id));
     }
 }
\ No newline at end of file
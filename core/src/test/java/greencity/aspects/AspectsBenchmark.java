@@ -0,0 +1,193 @@
+package greencity.aspects;
+
+import greencity.annotations.CurrentUserId;
+import greencity.annotations.EventPublishing;
+import greencity.entity.enums.UserStatus;
+import greencity.event.CustomApplicationEvent;
+import greencity.security.jwt.UserPrincipal;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Compares one advised call of {@link EventPublishingAspect} and {@link CurrentUserIdValidationAspect}
+ * with the same advice doing the reflective lookups on every call, as it did before the metadata was
+ * cached. Both sides of a pair publish the same events and validate the same user id.
+ *
+ * <p>Timings need a quiet machine, so the benchmark is not a test. Run it with {@link #main} after
+ * {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AspectsBenchmark {
+    private static final String BODY = "body";
+
+    private ApplicationEvent lastEvent;
+    private ApplicationEventPublisher publisher;
+    private EventPublishingAspect eventPublishingAspect;
+    private EventPublishing eventAnnotation;
+    private JoinPoint publisherJoinPoint;
+    private CurrentUserIdValidationAspect currentUserIdValidationAspect;
+    private JoinPoint controllerJoinPoint;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AspectsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Prepares the aspects, join points and an authenticated user visible to every benchmark thread.
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        publisher = event -> lastEvent = (ApplicationEvent) event;
+        eventPublishingAspect = new EventPublishingAspect(publisher, null);
+        Method publish = Publisher.class.getMethod("publish");
+        eventAnnotation = publish.getAnnotation(EventPublishing.class);
+        publisherJoinPoint = joinPoint(new Publisher(), publish);
+
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            new UserPrincipal(1L, "user@mail.com", UserStatus.ACTIVATED), null));
+        currentUserIdValidationAspect = new CurrentUserIdValidationAspect(null);
+        controllerJoinPoint = joinPoint(new Controller(),
+            Controller.class.getMethod("get", String.class, Long.class), "name", 1L);
+    }
+
+    @Benchmark
+    public ApplicationEvent eventPublishingReflective() {
+        eventPublishingAdviceReflective(publisherJoinPoint, eventAnnotation, BODY);
+        return lastEvent;
+    }
+
+    @Benchmark
+    public ApplicationEvent eventPublishingCached() {
+        eventPublishingAspect.eventPublishingAdvice(publisherJoinPoint, eventAnnotation, BODY);
+        return lastEvent;
+    }
+
+    @Benchmark
+    public JoinPoint currentUserIdValidationReflective() {
+        validateCurrentUserIdParameterReflective(controllerJoinPoint);
+        return controllerJoinPoint;
+    }
+
+    @Benchmark
+    public JoinPoint currentUserIdValidationCached() {
+        currentUserIdValidationAspect.validateCurrentUserIdParameter(controllerJoinPoint);
+        return controllerJoinPoint;
+    }
+
+    /**
+     * {@link EventPublishingAspect#eventPublishingAdvice} as it was before the constructors were cached.
+     */
+    private void eventPublishingAdviceReflective(JoinPoint jp, EventPublishing annotation, Object body) {
+        if (body != null || annotation.isNullTriggers()) {
+            for (Class<? extends CustomApplicationEvent> eventClass : annotation.eventClass()) {
+                try {
+                    publisher.publishEvent(eventClass.getConstructor(Object.class, body.getClass())
+                        .newInstance(jp.getTarget(), body));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link CurrentUserIdValidationAspect#validateCurrentUserIdParameter} as it was before the positions
+     * were cached.
+     */
+    private static void validateCurrentUserIdParameterReflective(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Annotation[][] annotations;
+        try {
+            annotations = joinPoint.getTarget().getClass()
+                .getMethod(method.getName(), parameterTypes).getParameterAnnotations();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation parameterAnnotation : annotations[i]) {
+                if (parameterAnnotation.annotationType().equals(CurrentUserId.class)
+                    && parameterTypes[i].equals(Long.class)) {
+                    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                    Long currentUserId = ((UserPrincipal) authentication.getPrincipal()).getId();
+                    if (!currentUserId.equals(joinPoint.getArgs()[i])) {
+                        throw new IllegalStateException("Not a current user");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Join point that answers only what the aspects ask for, so no mocking framework is timed.
+     */
+    private static JoinPoint joinPoint(Object target, Method method, Object... args) {
+        MethodSignature signature = (MethodSignature) Proxy.newProxyInstance(
+            AspectsBenchmark.class.getClassLoader(), new Class<?>[] {MethodSignature.class},
+            (proxy, invoked, invokedArgs) -> method);
+        return (JoinPoint) Proxy.newProxyInstance(
+            AspectsBenchmark.class.getClassLoader(), new Class<?>[] {JoinPoint.class},
+            (proxy, invoked, invokedArgs) -> {
+                switch (invoked.getName()) {
+                    case "getTarget":
+                        return target;
+                    case "getSignature":
+                        return signature;
+                    case "getArgs":
+                        return args;
+                    default:
+                        throw new UnsupportedOperationException(invoked.getName());
+                }
+            });
+    }
+
+    public static class BodyEvent extends CustomApplicationEvent<String> {
+        public BodyEvent(Object source, String body) {
+            super(source, body);
+        }
+    }
+
+    public static class Publisher {
+        @EventPublishing(eventClass = BodyEvent.class)
+        public String publish() {
+            return BODY;
+        }
+    }
+
+    public static class Controller {
+        public void get(String name, @CurrentUserId Long userId) {
+            // only the signature is used
+        }
+    }
+}
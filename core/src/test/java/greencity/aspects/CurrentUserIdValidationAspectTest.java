@@ -0,0 +1,109 @@
+package greencity.aspects;
+
+import greencity.annotations.CurrentUserId;
+import greencity.entity.enums.UserStatus;
+import greencity.exception.exceptions.NotCurrentUserException;
+import greencity.security.jwt.UserPrincipal;
+import greencity.service.UserService;
+import java.lang.reflect.Method;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class CurrentUserIdValidationAspectTest {
+    @InjectMocks
+    private CurrentUserIdValidationAspect aspect;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private JoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            new UserPrincipal(1L, "user@mail.com", UserStatus.ACTIVATED), null));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(new TestController());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validateFindsAnnotatedParameterDeclaredInTargetClass() throws NoSuchMethodException {
+        adviseGet("name", 2L, 1L);
+
+        assertDoesNotThrow(() -> aspect.validateCurrentUserIdParameter(joinPoint));
+        verify(userService, never()).findIdByEmail(anyString());
+    }
+
+    @Test
+    void validateRejectsIdOfOtherUser() throws NoSuchMethodException {
+        adviseGet("name", 1L, 2L);
+
+        assertThrows(NotCurrentUserException.class, () -> aspect.validateCurrentUserIdParameter(joinPoint));
+    }
+
+    @Test
+    void validateSkipsMethodWithoutAnnotatedParameter() throws NoSuchMethodException {
+        when(signature.getMethod()).thenReturn(TestController.class.getMethod("find", Long.class));
+        when(joinPoint.getArgs()).thenReturn(new Object[] {2L});
+
+        assertDoesNotThrow(() -> aspect.validateCurrentUserIdParameter(joinPoint));
+    }
+
+    @Test
+    void validateLooksUpIdByEmailForOtherPrincipals() throws NoSuchMethodException {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("user@mail.com", null));
+        when(userService.findIdByEmail("user@mail.com")).thenReturn(1L);
+        adviseGet("name", 2L, 1L);
+
+        assertDoesNotThrow(() -> aspect.validateCurrentUserIdParameter(joinPoint));
+        verify(userService).findIdByEmail("user@mail.com");
+    }
+
+    private void adviseGet(Object... args) throws NoSuchMethodException {
+        Method method = TestApi.class.getMethod("get", String.class, Long.class, Long.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(joinPoint.getArgs()).thenReturn(args);
+    }
+
+    interface TestApi {
+        void get(String name, Long placeId, Long userId);
+    }
+
+    static class TestController implements TestApi {
+        @Override
+        public void get(String name, Long placeId, @CurrentUserId Long userId) {
+            // only the signature is used
+        }
+
+        public void find(Long placeId) {
+            // only the signature is used
+        }
+    }
+}
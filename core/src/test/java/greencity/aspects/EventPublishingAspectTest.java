@@ -0,0 +1,179 @@
+package greencity.aspects;
+
+import greencity.annotations.EventPublishing;
+import greencity.event.CustomApplicationEvent;
+import greencity.exception.exceptions.EventCreationException;
+import java.util.List;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Events are created through public constructors, so the test and its events are public.
+ */
+@ExtendWith(SpringExtension.class)
+public class EventPublishingAspectTest {
+    private static final Object SOURCE = new Object();
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private JoinPoint joinPoint;
+
+    private EventPublishingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new EventPublishingAspect(publisher, rabbitTemplate);
+        when(joinPoint.getTarget()).thenReturn(SOURCE);
+    }
+
+    @Test
+    void adviceCreatesEventsWithBodyOrSourceOnly() throws NoSuchMethodException {
+        aspect.eventPublishingAdvice(joinPoint, annotation("publish"), "body");
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(publisher, times(2)).publishEvent(events.capture());
+        List<ApplicationEvent> published = events.getAllValues();
+        assertTrue(published.get(0) instanceof BodyEvent);
+        assertEquals("body", ((BodyEvent) published.get(0)).getBody());
+        assertSame(SOURCE, published.get(0).getSource());
+        assertTrue(published.get(1) instanceof SourceOnlyEvent);
+        assertNull(((SourceOnlyEvent) published.get(1)).getBody());
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+    }
+
+    @Test
+    void adviceCreatesEventWithSourceOnlyForNullBody() throws NoSuchMethodException {
+        aspect.eventPublishingAdvice(joinPoint, annotation("publishOnNull"), null);
+
+        ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertTrue(event.getValue() instanceof BodyEvent);
+        assertNull(((BodyEvent) event.getValue()).getBody());
+    }
+
+    @Test
+    void adviceSkipsNullBodyByDefault() throws NoSuchMethodException {
+        aspect.eventPublishingAdvice(joinPoint, annotation("publish"), null);
+
+        verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+    }
+
+    @Test
+    void adviceSendsBodyToRabbit() throws NoSuchMethodException {
+        aspect.eventPublishingAdvice(joinPoint, annotation("send"), "body");
+
+        verify(rabbitTemplate).convertAndSend("exchange", "routing.key", "body");
+        verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+    }
+
+    @Test
+    void adviceThrowsWhenEventHasNoSuitableConstructor() throws NoSuchMethodException {
+        EventPublishing eventAnnotation = annotation("publishWithoutConstructor");
+
+        assertThrows(EventCreationException.class,
+            () -> aspect.eventPublishingAdvice(joinPoint, eventAnnotation, "body"));
+    }
+
+    @Test
+    void adviceWrapsExceptionOfEventConstructor() throws NoSuchMethodException {
+        EventPublishing eventAnnotation = annotation("publishFailing");
+
+        assertThrows(EventCreationException.class,
+            () -> aspect.eventPublishingAdvice(joinPoint, eventAnnotation, "body"));
+    }
+
+    @Test
+    void advicePropagatesErrorOfEventConstructor() throws NoSuchMethodException {
+        EventPublishing eventAnnotation = annotation("publishFailing");
+
+        assertThrows(LinkageError.class,
+            () -> aspect.eventPublishingAdvice(joinPoint, eventAnnotation, "error"));
+    }
+
+    private static EventPublishing annotation(String method) throws NoSuchMethodException {
+        return Publisher.class.getMethod(method).getAnnotation(EventPublishing.class);
+    }
+
+    public static class BodyEvent extends CustomApplicationEvent<String> {
+        public BodyEvent(Object source, String body) {
+            super(source, body);
+        }
+
+        public BodyEvent(Object source) {
+            super(source);
+        }
+    }
+
+    public static class SourceOnlyEvent extends CustomApplicationEvent<Object> {
+        public SourceOnlyEvent(Object source) {
+            super(source);
+        }
+    }
+
+    public static class NoSuitableConstructorEvent extends CustomApplicationEvent<Object> {
+        public NoSuitableConstructorEvent(Object source, Integer body) {
+            super(source, body);
+        }
+    }
+
+    public static class FailingEvent extends CustomApplicationEvent<String> {
+        public FailingEvent(Object source, String body) {
+            super(source, body);
+            if ("error".equals(body)) {
+                throw new LinkageError(body);
+            }
+            throw new IllegalArgumentException(body);
+        }
+    }
+
+    static class Publisher {
+        @EventPublishing(eventClass = {BodyEvent.class, SourceOnlyEvent.class})
+        public String publish() {
+            return "body";
+        }
+
+        @EventPublishing(eventClass = BodyEvent.class, isNullTriggers = true)
+        public String publishOnNull() {
+            return null;
+        }
+
+        @EventPublishing(rabbitEnabled = true, exchange = "exchange", routingKey = "routing.key")
+        public String send() {
+            return "body";
+        }
+
+        @EventPublishing(eventClass = NoSuitableConstructorEvent.class)
+        public String publishWithoutConstructor() {
+            return "body";
+        }
+
+        @EventPublishing(eventClass = FailingEvent.class)
+        public String publishFailing() {
+            return "body";
+        }
+    }
+}
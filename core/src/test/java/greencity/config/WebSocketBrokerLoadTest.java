@@ -0,0 +1,141 @@
+package greencity.config;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Connects thousands of local STOMP clients to the broker and broadcasts to all of them.
+ *
+ * <p>The test takes a while, so it runs only on demand:
+ * {@code mvn test -Dtest=WebSocketBrokerLoadTest -Dwebsocket.loadTest=true}. Amount of clients and
+ * messages can be changed with {@code websocket.loadTest.clients} and {@code websocket.loadTest.messages}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "websocket.loadTest", matches = "true")
+@SpringBootTest(classes = WebSocketBrokerLoadTest.Broker.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class WebSocketBrokerLoadTest {
+    private static final String DESTINATION = "/topic/load";
+    private static final String PROBE = "probe";
+    private static final int CLIENTS = Integer.getInteger("websocket.loadTest.clients", 3000);
+    private static final int MESSAGES = Integer.getInteger("websocket.loadTest.messages", 20);
+
+    @Configuration
+    @Import(WebSocketConfig.class)
+    @ImportAutoConfiguration({PropertyPlaceholderAutoConfiguration.class,
+        ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+        WebSocketServletAutoConfiguration.class, MetricsAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class})
+    static class Broker {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Autowired
+    private WebSocketBrokerMetrics metrics;
+
+    private ThreadPoolTaskScheduler heartbeatScheduler;
+    private WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(4);
+        heartbeatScheduler.initialize();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.stream()
+            .filter(StompSession::isConnected)
+            .forEach(StompSession::disconnect);
+        heartbeatScheduler.shutdown();
+    }
+
+    @Test
+    void broadcastReachesEveryClient() throws Exception {
+        Set<StompSession> subscribed = ConcurrentHashMap.newKeySet();
+        CountDownLatch ready = new CountDownLatch(CLIENTS);
+        CountDownLatch delivered = new CountDownLatch(CLIENTS * MESSAGES);
+        String url = "ws://localhost:" + port + "/socket/websocket";
+        for (int i = 0; i < CLIENTS; i++) {
+            StompSession session = stompClient.connect(url, new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS);
+            session.subscribe(DESTINATION, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return String.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    if (!PROBE.equals(payload)) {
+                        delivered.countDown();
+                    } else if (subscribed.add(session)) {
+                        ready.countDown();
+                    }
+                }
+            });
+            sessions.add(session);
+        }
+        // subscriptions are handled asynchronously, so probe until every client is known to the broker
+        while (!ready.await(100, TimeUnit.MILLISECONDS)) {
+            messagingTemplate.convertAndSend(DESTINATION, PROBE);
+        }
+        assertEquals(CLIENTS, metrics.getSessions());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            messagingTemplate.convertAndSend(DESTINATION, "message " + i);
+        }
+        assertTrue(delivered.await(60, TimeUnit.SECONDS),
+            () -> delivered.getCount() + " of " + CLIENTS * MESSAGES + " messages were not delivered");
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        log.info("Delivered {} messages to {} clients in {} ms ({} messages/sec)",
+            MESSAGES, CLIENTS, millis, CLIENTS * MESSAGES * 1000L / millis);
+        assertEquals(0, metrics.getDroppedSessions());
+    }
+}
@@ -0,0 +1,84 @@
+package greencity.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class WebSocketBrokerMetricsTest {
+    private WebSocketBrokerMetrics metrics;
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new WebSocketBrokerMetrics();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void sessionCounterCountsOpenAndDroppedSessions() throws Exception {
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        WebSocketSession first = mock(WebSocketSession.class);
+        WebSocketSession second = mock(WebSocketSession.class);
+        WebSocketHandler decorated = metrics.sessionCounter().decorate(handler);
+
+        decorated.afterConnectionEstablished(first);
+        decorated.afterConnectionEstablished(second);
+        assertEquals(2, metrics.getSessions());
+
+        decorated.afterConnectionClosed(first, CloseStatus.NORMAL);
+        decorated.afterConnectionClosed(second, CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertEquals(0, metrics.getSessions());
+        assertEquals(1, metrics.getDroppedSessions());
+        verify(handler).afterConnectionEstablished(first);
+        verify(handler).afterConnectionClosed(second, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void countersCountOnlySentMessages() {
+        Message<String> message = MessageBuilder.withPayload("like").build();
+        MessageChannel channel = mock(MessageChannel.class);
+        ChannelInterceptor inbound = metrics.inboundCounter();
+        ChannelInterceptor outbound = metrics.outboundCounter();
+        metrics.bindTo(registry);
+
+        inbound.afterSendCompletion(message, channel, true, null);
+        inbound.afterSendCompletion(message, channel, false, null);
+        outbound.afterSendCompletion(message, channel, true, null);
+        outbound.afterSendCompletion(message, channel, true, null);
+
+        assertEquals(1, registry.get("websocket.messages").tag("direction", "inbound").functionCounter().count());
+        assertEquals(2, registry.get("websocket.messages").tag("direction", "outbound").functionCounter().count());
+    }
+
+    @Test
+    void bindToRegistersSessionAndChannelMeters() throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+        metrics.monitor("inbound", executor);
+        metrics.sessionCounter().decorate(mock(WebSocketHandler.class))
+            .afterConnectionEstablished(mock(WebSocketSession.class));
+
+        metrics.bindTo(registry);
+
+        assertEquals(1, registry.get("websocket.sessions").gauge().value());
+        assertEquals(0, registry.get("websocket.sessions.dropped").functionCounter().count());
+        assertNotNull(registry.get("websocket.channel.queued").tag("channel", "inbound").gauge());
+        assertNotNull(registry.get("websocket.channel.active").tag("channel", "inbound").gauge());
+        executor.shutdown();
+    }
+}
@@ -10,6 +10,7 @@ import greencity.dto.habitstatistic.HabitIdDto;
 import greencity.dto.user.*;
 import greencity.entity.User;
 import greencity.entity.enums.ROLE;
+import greencity.service.ActivityFeedService;
 import greencity.service.CustomGoalService;
 import greencity.service.HabitStatisticService;
 import greencity.service.UserService;
@@ -51,6 +52,8 @@ class UserControllerTest {
     private HabitStatisticService habitStatisticService;
     @Mock
     private CustomGoalService customGoalService;
+    @Mock
+    private ActivityFeedService activityFeedService;
 
     @BeforeEach
     public void setup() {
@@ -478,6 +481,38 @@ class UserControllerTest {
         verify(userService).getSixFriendsWithTheHighestRating(eq(1L));
     }
 
+    @Test
+    void getFriendSuggestionsTest() throws Exception {
+        mockMvc.perform(get(userLink + "/{userId}/friendSuggestions/", 1))
+            .andExpect(status().isOk());
+
+        verify(userService).getFriendSuggestions(eq(1L));
+    }
+
+    @Test
+    void getLeaderboardTest() throws Exception {
+        mockMvc.perform(get(userLink + "/leaderboard").param("limit", "20"))
+            .andExpect(status().isOk());
+
+        verify(userService).getLeaderboard(eq(20));
+    }
+
+    @Test
+    void getLeaderboardPositionTest() throws Exception {
+        mockMvc.perform(get(userLink + "/{userId}/rank", 1))
+            .andExpect(status().isOk());
+
+        verify(userService).getLeaderboardPosition(eq(1L));
+    }
+
+    @Test
+    void getFeedTest() throws Exception {
+        mockMvc.perform(get(userLink + "/{userId}/feed", 1).param("cursor", "40"))
+            .andExpect(status().isOk());
+
+        verify(activityFeedService).getFeed(eq(1L), eq(40L), eq(20));
+    }
+
     @Test
     void saveTest() throws Exception {
         Principal principal = mock(Principal.class);
@@ -0,0 +1,89 @@
+package greencity.converters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClustersDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares payload size and serialization time of map markers in JSON and in the binary format of
+ * {@link PlaceMarkersHttpMessageConverter}.
+ *
+ * <p>Timings need a quiet machine, so the benchmark runs only on demand:
+ * {@code mvn test -Dtest=PlaceMarkersEncodingBenchmarkTest -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PlaceMarkersEncodingBenchmarkTest {
+    private static final int[] MARKER_AMOUNTS = {100, 1000, 5000};
+    private static final int WARM_UP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareWithJson() throws Exception {
+        for (int amount : MARKER_AMOUNTS) {
+            List<PlaceByBoundsDto> places = generatePlaces(amount);
+            PlaceClustersDto markers = new PlaceClustersDto(null, places);
+            byte[] json = objectMapper.writeValueAsBytes(places);
+            byte[] binary = PlaceMarkersHttpMessageConverter.encode(markers);
+
+            long jsonNanos = measure(() -> objectMapper.writeValueAsBytes(places));
+            long binaryNanos = measure(() -> PlaceMarkersHttpMessageConverter.encode(markers));
+
+            log.info("{} markers: JSON {} bytes ({} gzipped) in {} us, binary {} bytes ({} gzipped) in {} us",
+                amount, json.length, gzip(json).length, TimeUnit.NANOSECONDS.toMicros(jsonNanos),
+                binary.length, gzip(binary).length, TimeUnit.NANOSECONDS.toMicros(binaryNanos));
+            assertTrue(binary.length < json.length);
+        }
+    }
+
+    private static List<PlaceByBoundsDto> generatePlaces(int amount) {
+        Random random = new Random(amount);
+        List<PlaceByBoundsDto> places = new ArrayList<>(amount);
+        long id = 0;
+        for (int i = 0; i < amount; i++) {
+            id += 1 + random.nextInt(3);
+            Double rate = random.nextBoolean() ? null : 1 + random.nextInt(41) / 10.0;
+            places.add(PlaceMarkersHttpMessageConverterTest.place(id, "Place " + id,
+                49.7 + random.nextDouble() * 0.3, 23.9 + random.nextDouble() * 0.3,
+                "вулиця " + random.nextInt(500) + ", " + (1 + random.nextInt(120)), rate));
+        }
+        return places;
+    }
+
+    /**
+     * Returns average time of one call after a warm-up.
+     */
+    private static long measure(Callable<?> serialization) throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            serialization.call();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            serialization.call();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,157 @@
+package greencity.converters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.dto.location.LocationDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClusterDto;
+import greencity.dto.place.PlaceClustersDto;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceMarkersHttpMessageConverterTest {
+    private final PlaceMarkersHttpMessageConverter converter = new PlaceMarkersHttpMessageConverter();
+
+    @Test
+    void canWriteOnlyMarkersInMarkersFormat() {
+        assertTrue(converter.canWrite(new ParameterizedTypeReference<List<PlaceByBoundsDto>>() {
+        }.getType(), List.class, PlaceMarkersHttpMessageConverter.MARKERS));
+        assertTrue(converter.canWrite(PlaceClustersDto.class, PlaceClustersDto.class, null));
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<String>>() {
+        }.getType(), List.class, PlaceMarkersHttpMessageConverter.MARKERS));
+        assertFalse(converter.canWrite(PlaceClustersDto.class, PlaceClustersDto.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(PlaceClustersDto.class, PlaceMarkersHttpMessageConverter.MARKERS));
+    }
+
+    @Test
+    void encodeWritesClustersAndPlacesInOrderOfIds() {
+        PlaceClusterDto cluster = new PlaceClusterDto(12, 49.84, 24.03, new MapBoundsDto(49.9, 24.1, 49.8, 24.0));
+        PlaceClustersDto markers = new PlaceClustersDto(Collections.singletonList(cluster), Arrays.asList(
+            place(7L, "Forum", 50.45, 30.52, "вулиця Під Дубом, 7Б", 4.5),
+            place(3L, "Cafe", -36.85, 174.76, null, null)));
+
+        Decoder decoder = new Decoder(PlaceMarkersHttpMessageConverter.encode(markers));
+
+        assertEquals(1, decoder.in.get());
+        assertEquals(1, decoder.varint());
+        assertEquals(12, decoder.varint());
+        decoder.coordinates();
+        assertEquals(49.84, decoder.lat, 1e-9);
+        assertEquals(24.03, decoder.lng, 1e-9);
+        assertEquals(49.8, decoder.lat + decoder.signedVarint() / 1e5, 1e-9);
+        assertEquals(24.0, decoder.lng + decoder.signedVarint() / 1e5, 1e-9);
+        assertEquals(49.9, decoder.lat + decoder.signedVarint() / 1e5, 1e-9);
+        assertEquals(24.1, decoder.lng + decoder.signedVarint() / 1e5, 1e-9);
+        assertEquals(2, decoder.varint());
+
+        assertEquals(3, decoder.varint());
+        decoder.coordinates();
+        assertEquals(-36.85, decoder.lat, 1e-9);
+        assertEquals(174.76, decoder.lng, 1e-9);
+        assertEquals(0, decoder.in.get());
+        assertEquals(3, decoder.varint());
+        assertEquals("Cafe", decoder.string());
+        assertNull(decoder.string());
+
+        assertEquals(4, decoder.varint());
+        decoder.coordinates();
+        assertEquals(50.45, decoder.lat, 1e-9);
+        assertEquals(30.52, decoder.lng, 1e-9);
+        assertEquals(46, decoder.in.get());
+        assertEquals(7, decoder.varint());
+        assertEquals("Forum", decoder.string());
+        assertEquals("вулиця Під Дубом, 7Б", decoder.string());
+        assertFalse(decoder.in.hasRemaining());
+    }
+
+    @Test
+    void writeEncodesListOfPlaces() throws Exception {
+        List<PlaceByBoundsDto> places = Collections.singletonList(place(1L, "Forum", 49.84, 24.02, "address", null));
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(places, new ParameterizedTypeReference<List<PlaceByBoundsDto>>() {
+        }.getType(), PlaceMarkersHttpMessageConverter.MARKERS, message);
+
+        byte[] expected =
+            PlaceMarkersHttpMessageConverter.encode(new PlaceClustersDto(Collections.emptyList(), places));
+        assertArrayEquals(expected, message.getBodyAsBytes());
+        assertEquals(PlaceMarkersHttpMessageConverter.MARKERS, message.getHeaders().getContentType());
+        assertEquals(expected.length, message.getHeaders().getContentLength());
+    }
+
+    @Test
+    void encodedMarkersAreSmallerThanJson() throws Exception {
+        List<PlaceByBoundsDto> places = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            places.add(place(id, "Place " + id, 49.8 + id * 1e-4, 24.0 + id * 1e-4, "Street " + id, 4.0));
+        }
+
+        int binary = PlaceMarkersHttpMessageConverter.encode(new PlaceClustersDto(null, places)).length;
+        int json = new ObjectMapper().writeValueAsBytes(places).length;
+
+        assertTrue(binary * 3 < json, () -> binary + " bytes of markers, " + json + " bytes of JSON");
+    }
+
+    static PlaceByBoundsDto place(Long id, String name, double lat, double lng, String address, Double rate) {
+        return new PlaceByBoundsDto(id, name, new LocationDto(id, lat, lng, address), rate);
+    }
+
+    /**
+     * Reads the format written by {@link PlaceMarkersHttpMessageConverter}.
+     */
+    private static final class Decoder {
+        private final ByteBuffer in;
+        private double lat;
+        private double lng;
+
+        private Decoder(byte[] bytes) {
+            in = ByteBuffer.wrap(bytes);
+        }
+
+        private long varint() {
+            long result = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = in.get();
+                result |= (long) (next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            return result;
+        }
+
+        private long signedVarint() {
+            long value = varint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private void coordinates() {
+            lat += signedVarint() / 1e5;
+            lng += signedVarint() / 1e5;
+        }
+
+        private String string() {
+            int length = (int) varint();
+            if (length == 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length - 1];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package greencity.index;
+
+import greencity.entity.enums.ActivityType;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ActivityTimelineTest {
+    @Test
+    void addKeepsNewestFirstAndIgnoresDuplicates() {
+        ActivityTimeline timeline = new ActivityTimeline(5, Arrays.asList(entry(4), entry(2)), true);
+
+        timeline.add(entry(7));
+        timeline.add(entry(3));
+        timeline.add(entry(7));
+
+        assertEquals(Arrays.asList(7L, 4L, 3L, 2L), ids(timeline.findPage(null, 10)));
+    }
+
+    @Test
+    void addToFullTimelineEvictsOldest() {
+        ActivityTimeline timeline = new ActivityTimeline(3, Arrays.asList(entry(3), entry(2), entry(1)), true);
+
+        timeline.add(entry(5));
+        timeline.add(entry(4));
+        timeline.add(entry(0));
+
+        assertEquals(Arrays.asList(5L, 4L, 3L), ids(timeline.findPage(null, 3)));
+        assertFalse(timeline.findPage(null, 4).isPresent());
+    }
+
+    @Test
+    void findPageStartsAfterCursor() {
+        ActivityTimeline timeline = new ActivityTimeline(5, Arrays.asList(entry(9), entry(6), entry(4)), true);
+
+        assertEquals(Arrays.asList(6L, 4L), ids(timeline.findPage(9L, 2)));
+        assertEquals(Collections.singletonList(4L), ids(timeline.findPage(5L, 2)));
+        assertEquals(Collections.emptyList(), ids(timeline.findPage(4L, 2)));
+    }
+
+    @Test
+    void findPageOfIncompleteTimelineAsksForPersistedFeed() {
+        ActivityTimeline timeline = new ActivityTimeline(2, Arrays.asList(entry(9), entry(6), entry(4)), false);
+
+        assertEquals(Collections.singletonList(9L), ids(timeline.findPage(null, 1)));
+        assertFalse(timeline.findPage(9L, 2).isPresent());
+        assertFalse(timeline.findPage(6L, 1).isPresent());
+    }
+
+    private static ActivityEntry entry(long id) {
+        return new ActivityEntry(id, 1L, ActivityType.ECO_NEWS, id, ZonedDateTime.now());
+    }
+
+    private static List<Long> ids(Optional<List<ActivityEntry>> page) {
+        return page.get().stream().map(ActivityEntry::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package greencity.index;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DayBitmapTest {
+    private static final LocalDate START = LocalDate.of(2020, 5, 1);
+
+    @Test
+    void streakCountsConsecutiveDaysEndingWithLatest() {
+        DayBitmap bitmap = DayBitmap.of(START, Arrays.asList(
+            START, START.plusDays(1), START.plusDays(5), START.plusDays(6), START.plusDays(7)));
+
+        assertEquals(5, bitmap.count());
+        assertEquals(3, bitmap.streak());
+        assertEquals(2, bitmap.streakEndingAt(START.plusDays(1)));
+        assertEquals(0, bitmap.streakEndingAt(START.plusDays(3)));
+        assertEquals(START.plusDays(7), bitmap.last());
+    }
+
+    @Test
+    void addBeforeStartMovesStart() {
+        DayBitmap bitmap = DayBitmap.of(START, Arrays.asList(START, START.plusDays(1)));
+
+        bitmap.add(START.minusDays(1));
+
+        assertEquals(START.minusDays(1), bitmap.getStart());
+        assertEquals(3, bitmap.streak());
+        assertTrue(bitmap.contains(START));
+    }
+
+    @Test
+    void removeBreaksStreak() {
+        DayBitmap bitmap = DayBitmap.of(START, Arrays.asList(START, START.plusDays(1), START.plusDays(2)));
+
+        bitmap.remove(START.plusDays(1));
+
+        assertFalse(bitmap.contains(START.plusDays(1)));
+        assertEquals(1, bitmap.streak());
+        assertEquals(2, bitmap.count());
+    }
+
+    @Test
+    void survivesByteArrayRoundTrip() {
+        DayBitmap bitmap = DayBitmap.of(START, Arrays.asList(START.plusDays(3), START.plusDays(4)));
+
+        DayBitmap restored = new DayBitmap(bitmap.getStart(), bitmap.toByteArray());
+
+        assertEquals(2, restored.streak());
+        assertTrue(restored.contains(START.plusDays(4)));
+    }
+
+    @Test
+    void emptyBitmap() {
+        DayBitmap bitmap = new DayBitmap(START, null);
+
+        assertNull(bitmap.last());
+        assertEquals(0, bitmap.streak());
+        assertFalse(bitmap.contains(START.minusDays(1)));
+    }
+
+    @Test
+    void farDatesAreNotContained() {
+        DayBitmap bitmap = DayBitmap.of(START, Arrays.asList(START, START.plusDays(1)));
+
+        bitmap.remove(LocalDate.MAX);
+
+        assertFalse(bitmap.contains(LocalDate.MAX));
+        assertFalse(bitmap.contains(LocalDate.MIN));
+        assertEquals(2, bitmap.count());
+    }
+}
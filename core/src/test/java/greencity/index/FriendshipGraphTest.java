@@ -0,0 +1,59 @@
+package greencity.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FriendshipGraphTest {
+    private FriendshipGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new FriendshipGraph();
+        graph.rebuild(Arrays.asList(
+            new FriendshipEntry(1L, 4L),
+            new FriendshipEntry(1L, 2L),
+            new FriendshipEntry(1L, 3L),
+            new FriendshipEntry(2L, 5L),
+            new FriendshipEntry(3L, 5L),
+            new FriendshipEntry(3L, 6L),
+            new FriendshipEntry(3L, 1L)));
+    }
+
+    @Test
+    void areFriendsFollowsDirection() {
+        assertTrue(graph.areFriends(1L, 2L));
+        assertFalse(graph.areFriends(2L, 1L));
+        assertFalse(graph.areFriends(7L, 1L));
+    }
+
+    @Test
+    void addAndRemoveKeepCount() {
+        graph.add(1L, 7L);
+        graph.add(1L, 7L);
+        graph.remove(1L, 2L);
+        graph.remove(1L, 8L);
+
+        assertEquals(3, graph.countFriends(1L));
+        assertTrue(graph.areFriends(1L, 7L));
+        assertFalse(graph.areFriends(1L, 2L));
+    }
+
+    @Test
+    void getFriendsReturnsAscendingIds() {
+        assertEquals(Arrays.asList(2L, 3L, 4L), graph.getFriends(1L));
+        assertEquals(Collections.emptyList(), graph.getFriends(7L));
+    }
+
+    @Test
+    void suggestFriendsRanksByMutualFriends() {
+        assertEquals(Arrays.asList(new FriendSuggestion(5L, 2), new FriendSuggestion(6L, 1)),
+            graph.suggestFriends(1L, 5));
+        assertEquals(Collections.singletonList(new FriendSuggestion(5L, 2)), graph.suggestFriends(1L, 1));
+    }
+}
@@ -0,0 +1,119 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarkerClusterIndexTest {
+    private MarkerClusterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MarkerClusterIndex(15, 64, 1024, 3);
+        index.rebuild(Arrays.asList(
+            marker(1L, 49.84000, 24.02000),
+            marker(2L, 49.84001, 24.02001),
+            marker(3L, 49.84002, 24.02002),
+            marker(4L, 50.45, 30.52),
+            marker(5L, -36.85, 174.76)));
+    }
+
+    @Test
+    void findGroupsNearbyMarkersWhenZoomedOut() {
+        List<MarkerCluster> clusters = index.find(5, 48, 22, 52, 32);
+
+        assertEquals(2, clusters.size());
+        MarkerCluster lviv = clusters.stream().filter(cluster -> cluster.getCount() == 3).findFirst().get();
+        assertEquals(1L, lviv.getMarker().getPlaceId());
+        assertEquals(49.84001, lviv.getLat(), 1e-9);
+        assertEquals(24.02001, lviv.getLng(), 1e-9);
+        assertEquals(49.84, lviv.getSouthWestLat(), 1e-9);
+        assertEquals(49.84002, lviv.getNorthEastLat(), 1e-9);
+    }
+
+    @Test
+    void findReturnsSeparateMarkersAboveMaxZoom() {
+        assertEquals(1, index.find(15, 49.83, 24.01, 49.85, 24.03).size());
+
+        List<Long> ids = index.find(16, 49.83, 24.01, 49.85, 24.03).stream()
+            .map(cluster -> cluster.getMarker().getPlaceId())
+            .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    void findKeepsClusterWhenMarkersExceedLimit() {
+        index.rebuild(Arrays.asList(
+            marker(1L, 49.84000, 24.02000),
+            marker(2L, 49.84001, 24.02001),
+            marker(3L, 49.84002, 24.02002),
+            marker(4L, 49.84003, 24.02003)));
+
+        List<MarkerCluster> clusters = index.find(17, 49.83, 24.01, 49.85, 24.03);
+
+        assertEquals(1, clusters.size());
+        assertEquals(4, clusters.get(0).getCount());
+    }
+
+    @Test
+    void findUsesCoarserZoomForLargeBounds() {
+        List<MarkerCluster> clusters = index.find(15, -85, -180, 85, 180);
+
+        assertTrue(clusters.size() <= 1024);
+        assertEquals(5, clusters.stream().mapToInt(MarkerCluster::getCount).sum());
+    }
+
+    @Test
+    void findHandlesBoundsAcrossAntimeridian() {
+        List<MarkerCluster> clusters = index.find(3, -50, 170, -20, -170);
+
+        assertEquals(1, clusters.size());
+        assertEquals(5L, clusters.get(0).getMarker().getPlaceId());
+    }
+
+    @Test
+    void everyZoomLevelContainsAllMarkers() {
+        Random random = new Random(7);
+        List<PlaceMarker> markers = new ArrayList<>();
+        for (long id = 0; id < 2000; id++) {
+            markers.add(marker(id, 44 + random.nextDouble() * 8, 22 + random.nextDouble() * 18));
+        }
+        index = new MarkerClusterIndex(15, 64, 100_000, 10_000);
+        index.rebuild(markers);
+
+        for (int zoom = 0; zoom <= 16; zoom++) {
+            assertEquals(markers.size(), index.find(zoom, 44, 22, 52, 40).stream()
+                .mapToInt(MarkerCluster::getCount)
+                .sum());
+        }
+    }
+
+    @Test
+    void invalidateUnloadsIndex() {
+        assertTrue(index.isLoaded());
+
+        index.invalidate();
+
+        assertFalse(index.isLoaded());
+        assertTrue(index.find(5, 48, 22, 52, 32).isEmpty());
+    }
+
+    @Test
+    void constructorRejectsCellSizeThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new MarkerClusterIndex(15, 60, 1024, 1000));
+    }
+
+    private static PlaceMarker marker(Long id, double lat, double lng) {
+        return new PlaceMarker(id, "place " + id, id, lat, lng, "address", 0L, 0);
+    }
+}
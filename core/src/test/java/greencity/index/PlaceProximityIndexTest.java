@@ -0,0 +1,118 @@
+package greencity.index;
+
+import greencity.entity.enums.PlaceStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceProximityIndexTest {
+    private PlaceProximityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceProximityIndex(150);
+        index.rebuild(Arrays.asList(
+            entry(1L, 49.84970, 24.02230),
+            entry(2L, 49.85070, 24.02230),
+            entry(3L, 49.84970, 24.02500),
+            entry(4L, 0.0, 179.9995),
+            entry(5L, 0.0, -179.9995),
+            entry(6L, 89.9995, 0.0),
+            entry(7L, 89.9995, 180.0)));
+    }
+
+    @Test
+    void findNearReturnsPlacesWithinRadius() {
+        assertEquals(Arrays.asList(1L, 2L), ids(index.findNear(49.8502, 24.0223)));
+    }
+
+    @Test
+    void findNearHandlesAntimeridian() {
+        assertEquals(Arrays.asList(4L, 5L), ids(index.findNear(0.0, 180.0)));
+    }
+
+    @Test
+    void findNearHandlesPlacesAroundPole() {
+        assertEquals(Arrays.asList(6L, 7L), ids(index.findNear(89.9999, 90.0)));
+    }
+
+    @Test
+    void findNearMatchesFullScan() {
+        Random random = new Random(3);
+        List<PlaceLocationEntry> entries = new ArrayList<>();
+        for (long id = 0; id < 2000; id++) {
+            entries.add(entry(id, 60 + random.nextDouble() * 0.02, 30 + random.nextDouble() * 0.04));
+        }
+        index.rebuild(entries);
+
+        for (PlaceLocationEntry point : entries.subList(0, 200)) {
+            Set<Long> expected = entries.stream()
+                .filter(entry -> PlaceProximityIndex.distance(point.getLat(), point.getLng(),
+                    entry.getLat(), entry.getLng()) <= 150)
+                .map(PlaceLocationEntry::getPlaceId)
+                .collect(Collectors.toCollection(TreeSet::new));
+            assertEquals(expected, new TreeSet<>(ids(index.findNear(point.getLat(), point.getLng()))));
+        }
+    }
+
+    @Test
+    void addMakesPlaceVisibleInLoadedIndex() {
+        index.add(entry(8L, 49.84971, 24.02231));
+
+        assertEquals(Arrays.asList(1L, 2L, 8L), ids(index.findNear(49.8497, 24.0223)));
+    }
+
+    @Test
+    void addMovesPlaceToItsNewLocation() {
+        index.add(entry(1L, 50.4501, 30.5234));
+
+        assertEquals(Collections.singletonList(2L), ids(index.findNear(49.8497, 24.0223)));
+        assertEquals(Collections.singletonList(1L), ids(index.findNear(50.4501, 30.5234)));
+    }
+
+    @Test
+    void removeHidesPlaceInLoadedIndex() {
+        index.remove(1L);
+
+        assertEquals(Collections.singletonList(2L), ids(index.findNear(49.8497, 24.0223)));
+    }
+
+    @Test
+    void invalidateUnloadsIndex() {
+        index.invalidate();
+        index.add(entry(8L, 49.84971, 24.02231));
+
+        assertFalse(index.isLoaded());
+        assertTrue(index.findNear(49.8497, 24.0223).isEmpty());
+    }
+
+    @Test
+    void distanceBetweenLvivAndKyiv() {
+        assertEquals(468_000, PlaceProximityIndex.distance(49.8397, 24.0297, 50.4501, 30.5234), 2_000);
+    }
+
+    @Test
+    void constructorRejectsRadiusBelowOneMeter() {
+        assertThrows(IllegalArgumentException.class, () -> new PlaceProximityIndex(0.5));
+    }
+
+    private static List<Long> ids(List<PlaceLocationEntry> entries) {
+        return entries.stream().map(PlaceLocationEntry::getPlaceId).sorted().collect(Collectors.toList());
+    }
+
+    private static PlaceLocationEntry entry(Long id, double lat, double lng) {
+        return new PlaceLocationEntry(id, "place " + id, lat, lng, "address", PlaceStatus.APPROVED);
+    }
+}
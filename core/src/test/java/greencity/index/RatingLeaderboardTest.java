@@ -0,0 +1,101 @@
+package greencity.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RatingLeaderboardTest {
+    private RatingLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new RatingLeaderboard();
+        leaderboard.rebuild(Arrays.asList(
+            new UserRatingEntry(1L, 3.0f),
+            new UserRatingEntry(2L, 5.0f),
+            new UserRatingEntry(3L, 5.0f),
+            new UserRatingEntry(4L, null),
+            new UserRatingEntry(5L, 1.0f)));
+    }
+
+    @Test
+    void getTopOrdersByRatingThenId() {
+        assertEquals(Arrays.asList(2L, 3L, 1L), leaderboard.getTop(3));
+        assertEquals(Arrays.asList(2L, 3L, 1L, 5L, 4L), leaderboard.getTop(10));
+    }
+
+    @Test
+    void getRankCountsFromOne() {
+        assertEquals(1, leaderboard.getRank(2L));
+        assertEquals(2, leaderboard.getRank(3L));
+        assertEquals(5, leaderboard.getRank(4L));
+        assertEquals(0, leaderboard.getRank(6L));
+    }
+
+    @Test
+    void updateMovesUser() {
+        leaderboard.update(5L, 9.0f);
+        leaderboard.update(6L, 4.0f);
+
+        assertEquals(Arrays.asList(5L, 2L, 3L, 6L, 1L, 4L), leaderboard.getTop(10));
+        assertEquals(4, leaderboard.getRank(6L));
+        assertEquals(6, leaderboard.size());
+    }
+
+    @Test
+    void removeDropsUser() {
+        leaderboard.remove(2L);
+        leaderboard.remove(7L);
+
+        assertEquals(0, leaderboard.getRank(2L));
+        assertNull(leaderboard.getRating(2L));
+        assertEquals(1, leaderboard.getRank(3L));
+        assertEquals(4, leaderboard.size());
+    }
+
+    @Test
+    void getTopAmongRanksOnlyGivenUsers() {
+        assertEquals(Arrays.asList(3L, 1L), leaderboard.getTopAmong(Arrays.asList(5L, 1L, 3L, 8L), 2));
+        assertEquals(Collections.emptyList(), leaderboard.getTopAmong(Arrays.asList(1L, 3L), 0));
+    }
+
+    @Test
+    void ranksMatchSortedOrderAfterManyUpdates() {
+        Random random = new Random(42);
+        float[] ratings = new float[500];
+        List<UserRatingEntry> entries = new ArrayList<>();
+        for (int id = 0; id < ratings.length; id++) {
+            ratings[id] = random.nextInt(50);
+            entries.add(new UserRatingEntry((long) id, ratings[id]));
+        }
+        leaderboard.rebuild(entries);
+        for (int i = 0; i < 2000; i++) {
+            int id = random.nextInt(ratings.length);
+            ratings[id] = random.nextInt(50);
+            leaderboard.update((long) id, ratings[id]);
+        }
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 0; id < ratings.length; id++) {
+            expected.add(id);
+        }
+        expected = expected.stream()
+            .sorted(Comparator.<Long>comparingDouble(id -> -ratings[id.intValue()])
+                .thenComparing(Comparator.naturalOrder()))
+            .collect(Collectors.toList());
+
+        assertEquals(expected, leaderboard.getTop(ratings.length));
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            assertEquals(rank, leaderboard.getRank(expected.get(rank - 1)));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package greencity.index;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RelatedContentIndexTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    private RelatedContentIndex relatedContentIndex;
+
+    @BeforeEach
+    void setUp() {
+        relatedContentIndex = new RelatedContentIndex(2);
+        relatedContentIndex.rebuild(Arrays.asList(
+            new TagIndexEntry(1L, NOW.minusDays(4), "news"),
+            new TagIndexEntry(1L, NOW.minusDays(4), "events"),
+            new TagIndexEntry(2L, NOW.minusDays(3), "news"),
+            new TagIndexEntry(2L, NOW.minusDays(3), "events"),
+            new TagIndexEntry(3L, NOW.minusDays(2), "news"),
+            new TagIndexEntry(4L, NOW.minusDays(1), "ads")));
+    }
+
+    @Test
+    void getRelatedRanksBySharedTagsThenRecency() {
+        assertEquals(Arrays.asList(2L, 3L), relatedContentIndex.getRelated(1L));
+        assertEquals(Arrays.asList(2L, 1L), relatedContentIndex.getRelated(3L));
+    }
+
+    @Test
+    void getRelatedFillsUpWithNewest() {
+        assertEquals(Arrays.asList(3L, 2L), relatedContentIndex.getRelated(4L));
+    }
+
+    @Test
+    void addOffersNewContentToRelatedLists() {
+        relatedContentIndex.add(5L, NOW, Arrays.asList("News", "Events"));
+
+        assertEquals(Arrays.asList(5L, 2L), relatedContentIndex.getRelated(1L));
+        assertEquals(Arrays.asList(2L, 1L), relatedContentIndex.getRelated(5L));
+    }
+
+    @Test
+    void removeRecomputesAffectedLists() {
+        relatedContentIndex.remove(2L);
+
+        assertEquals(Arrays.asList(3L, 4L), relatedContentIndex.getRelated(1L));
+        assertEquals(Arrays.asList(1L, 4L), relatedContentIndex.getRelated(3L));
+    }
+
+    @Test
+    void getRelatedConsidersOnlyNewestItemsOfEveryTag() {
+        RelatedContentIndex boundedIndex = new RelatedContentIndex(2, 1);
+        boundedIndex.rebuild(Arrays.asList(
+            new TagIndexEntry(1L, NOW.minusDays(4), "news"),
+            new TagIndexEntry(2L, NOW.minusDays(3), "news"),
+            new TagIndexEntry(3L, NOW.minusDays(2), "news"),
+            new TagIndexEntry(4L, NOW.minusDays(1), "ads")));
+
+        assertEquals(Arrays.asList(2L, 4L), boundedIndex.getRelated(3L));
+        assertEquals(Arrays.asList(3L, 4L), boundedIndex.getRelated(1L));
+    }
+
+    @Test
+    void getRelatedSkipsRemovedContentOutsideCandidates() {
+        RelatedContentIndex boundedIndex = new RelatedContentIndex(2, 1);
+        boundedIndex.rebuild(Arrays.asList(
+            new TagIndexEntry(1L, NOW.minusDays(1), "news"),
+            new TagIndexEntry(2L, NOW.minusDays(2), "news"),
+            new TagIndexEntry(3L, NOW.minusDays(3), "news")));
+
+        boundedIndex.remove(1L);
+
+        assertEquals(Arrays.asList(3L), boundedIndex.getRelated(2L));
+        assertEquals(Arrays.asList(2L), boundedIndex.getRelated(3L));
+    }
+}
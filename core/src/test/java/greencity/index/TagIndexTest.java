@@ -0,0 +1,76 @@
+package greencity.index;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagIndexTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new TagIndex();
+        tagIndex.rebuild(Arrays.asList(
+            new TagIndexEntry(1L, NOW.minusDays(3), "news"),
+            new TagIndexEntry(1L, NOW.minusDays(3), "events"),
+            new TagIndexEntry(2L, NOW.minusDays(2), "news"),
+            new TagIndexEntry(3L, NOW.minusDays(1), "events")));
+    }
+
+    @Test
+    void findAnyReturnsNewestFirst() {
+        Page<Long> actual = tagIndex.findAny(PageRequest.of(0, 5), Arrays.asList("News", "events"));
+
+        assertEquals(Arrays.asList(3L, 2L, 1L), actual.getContent());
+        assertEquals(3, actual.getTotalElements());
+    }
+
+    @Test
+    void findAllIntersectsTags() {
+        Page<Long> actual = tagIndex.findAll(PageRequest.of(0, 5), Arrays.asList("news", "events"));
+
+        assertEquals(Collections.singletonList(1L), actual.getContent());
+    }
+
+    @Test
+    void findAnyPagesById() {
+        Page<Long> actual = tagIndex.findAny(PageRequest.of(1, 2), Arrays.asList("news", "events"));
+
+        assertEquals(Collections.singletonList(1L), actual.getContent());
+        assertEquals(2, actual.getTotalPages());
+    }
+
+    @Test
+    void addUpdateAndRemove() {
+        tagIndex.add(4L, NOW, Collections.singletonList("Ads"));
+        tagIndex.updateTags(2L, Collections.singletonList("ads"));
+        tagIndex.remove(1L);
+
+        assertEquals(Arrays.asList(4L, 2L),
+            tagIndex.findAny(PageRequest.of(0, 5), Collections.singletonList("ads")).getContent());
+        assertEquals(Collections.emptyList(),
+            tagIndex.findAny(PageRequest.of(0, 5), Collections.singletonList("news")).getContent());
+    }
+
+    @Test
+    void addOlderContentInvalidatesIndex() {
+        tagIndex.add(4L, NOW.minusDays(5), Collections.singletonList("news"));
+
+        assertFalse(tagIndex.isLoaded());
+    }
+
+    @Test
+    void findByUnknownTag() {
+        assertTrue(tagIndex.findAny(PageRequest.of(0, 5), Collections.singletonList("unknown")).isEmpty());
+    }
+}
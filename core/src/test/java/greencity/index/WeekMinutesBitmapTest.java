@@ -0,0 +1,57 @@
+package greencity.index;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeekMinutesBitmapTest {
+    @Test
+    void containsOpenMinutesExceptBreak() {
+        WeekMinutesBitmap bitmap = new WeekMinutesBitmap(null);
+
+        bitmap.add(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(18, 0));
+        bitmap.remove(DayOfWeek.TUESDAY, LocalTime.of(13, 0), LocalTime.of(14, 0));
+
+        assertTrue(bitmap.contains(DayOfWeek.TUESDAY, LocalTime.of(9, 0)));
+        assertTrue(bitmap.contains(DayOfWeek.TUESDAY, LocalTime.of(12, 59, 30)));
+        assertFalse(bitmap.contains(DayOfWeek.TUESDAY, LocalTime.of(13, 30)));
+        assertTrue(bitmap.contains(DayOfWeek.TUESDAY, LocalTime.of(14, 0)));
+        assertFalse(bitmap.contains(DayOfWeek.TUESDAY, LocalTime.of(18, 0)));
+        assertFalse(bitmap.contains(DayOfWeek.MONDAY, LocalTime.of(10, 0)));
+    }
+
+    @Test
+    void toByteArrayKeepsFullWeekAndRoundTrips() {
+        WeekMinutesBitmap bitmap = new WeekMinutesBitmap(null);
+        bitmap.add(DayOfWeek.MONDAY, LocalTime.of(0, 0), LocalTime.of(0, 10));
+
+        byte[] bytes = bitmap.toByteArray();
+        WeekMinutesBitmap restored = new WeekMinutesBitmap(bytes);
+
+        assertEquals(WeekMinutesBitmap.BYTES, bytes.length);
+        assertEquals((byte) 0xFF, bytes[0]);
+        assertEquals(0x03, bytes[1]);
+        assertTrue(restored.contains(DayOfWeek.MONDAY, LocalTime.of(0, 9)));
+        assertFalse(restored.contains(DayOfWeek.MONDAY, LocalTime.of(0, 10)));
+    }
+
+    @Test
+    void indexOfCountsFromMondayMidnight() {
+        assertEquals(0, WeekMinutesBitmap.indexOf(DayOfWeek.MONDAY, LocalTime.MIDNIGHT));
+        assertEquals(WeekMinutesBitmap.MINUTES_PER_WEEK - 1,
+            WeekMinutesBitmap.indexOf(DayOfWeek.SUNDAY, LocalTime.of(23, 59)));
+    }
+
+    @Test
+    void addIgnoresEmptyInterval() {
+        WeekMinutesBitmap bitmap = new WeekMinutesBitmap(null);
+
+        bitmap.add(DayOfWeek.FRIDAY, LocalTime.of(20, 0), LocalTime.of(8, 0));
+
+        assertTrue(bitmap.isEmpty());
+    }
+}
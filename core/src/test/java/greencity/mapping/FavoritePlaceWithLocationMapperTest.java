@@ -18,13 +18,15 @@ public class FavoritePlaceWithLocationMapperTest {
     @Test
     public void convertTest() {
         FavoritePlace favoritePlace = ModelUtils.getFavoritePlace();
+        favoritePlace.getPlace().setRatingSum(9);
+        favoritePlace.getPlace().setRatingCount(2);
         LocationDto location = new LocationDto();
         location.setId(favoritePlace.getPlace().getLocation().getId());
         location.setLng(favoritePlace.getPlace().getLocation().getLng());
         location.setLat(favoritePlace.getPlace().getLocation().getLat());
         location.setAddress(favoritePlace.getPlace().getLocation().getAddress());
 
-        PlaceByBoundsDto expected = new PlaceByBoundsDto(favoritePlace.getId(), favoritePlace.getName(), location);
+        PlaceByBoundsDto expected = new PlaceByBoundsDto(favoritePlace.getId(), favoritePlace.getName(), location, 4.5);
 
         assertEquals(expected, favoritePlaceWithLocationMapper.convert(favoritePlace));
     }
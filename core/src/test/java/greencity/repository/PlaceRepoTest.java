@@ -0,0 +1,40 @@
+package greencity.repository;
+
+import greencity.entity.Place;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.junit.Assert.assertEquals;
+
+@DataJpaTest
+@RunWith(SpringRunner.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PlaceRepoTest {
+
+    @Autowired
+    private PlaceRepo placeRepo;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @Sql("file:src/test/resources/sql/single_place.sql")
+    public void updateOfPlaceLoadedBeforeRatingChangeKeepsRatingTest() {
+        Place place = placeRepo.findById(1L).orElseThrow(IllegalStateException::new);
+        placeRepo.updateRating(1L, 5, 1);
+        place.setName("bar");
+        placeRepo.saveAndFlush(place);
+        entityManager.clear();
+
+        Place updated = placeRepo.findById(1L).orElseThrow(IllegalStateException::new);
+        assertEquals("bar", updated.getName());
+        assertEquals(5L, updated.getRatingSum());
+        assertEquals(1, updated.getRatingCount());
+    }
+}
@@ -0,0 +1,75 @@
+package greencity.repository;
+
+import greencity.dto.user.UserGoalResponseDto;
+import greencity.entity.Goal;
+import greencity.entity.User;
+import greencity.entity.UserGoal;
+import greencity.entity.enums.GoalStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RunWith(SpringRunner.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserGoalRepoTest {
+    private static final int GOALS_AMOUNT = 100;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private UserGoalRepo userGoalRepo;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Sql("file:src/test/resources/sql/user_with_goal.sql")
+    public void saveAllIsBatchedTest() {
+        User user = entityManager.find(User.class, 1L);
+        Goal goal = entityManager.find(Goal.class, 1L);
+        List<UserGoal> userGoals = new ArrayList<>();
+        for (int i = 0; i < GOALS_AMOUNT; i++) {
+            userGoals.add(UserGoal.builder().user(user).goal(goal).status(GoalStatus.ACTIVE).build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userGoalRepo.saveAll(userGoals);
+        entityManager.flush();
+
+        assertEquals(GOALS_AMOUNT, statistics.getEntityInsertCount());
+        int batches = GOALS_AMOUNT / BATCH_SIZE;
+        assertTrue("inserts and id fetches are expected to be batched, got "
+                + statistics.getPrepareStatementCount() + " statements",
+            statistics.getPrepareStatementCount() <= 2 * batches + 1);
+    }
+
+    @Test
+    @Sql("file:src/test/resources/sql/user_goals_with_translations.sql")
+    public void findAllUserGoalResponseDtosKeepsGoalWithoutTranslationTest() {
+        List<UserGoalResponseDto> goals = userGoalRepo.findAllUserGoalResponseDtos(1L, "ua");
+
+        assertEquals(2, goals.size());
+        assertEquals(Arrays.asList(1L, 2L), Arrays.asList(goals.get(0).getId(), goals.get(1).getId()));
+        assertEquals("Купити пляшку", goals.get(0).getText());
+        assertNull(goals.get(1).getText());
+    }
+}
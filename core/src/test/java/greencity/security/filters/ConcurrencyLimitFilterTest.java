@@ -0,0 +1,107 @@
+package greencity.security.filters;
+
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConcurrencyLimitFilterTest {
+    private static final String ADDRESS = "10.0.0.1";
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter("/ownSecurity/**", 1);
+    }
+
+    @Test
+    void releasesSlotAfterSynchronousRequest() throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/ownSecurity/signIn"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(0, filter.countInProgress(ADDRESS));
+    }
+
+    @Test
+    void rejectsRequestsOverLimitUntilAsyncRequestCompletes() throws ServletException, IOException {
+        MockHttpServletRequest first = request("/ownSecurity/signIn");
+        first.setAsyncSupported(true);
+        filter.doFilter(first, new MockHttpServletResponse(),
+            (request, response) -> request.startAsync());
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/ownSecurity/signUp"), rejected, chain);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertNull(chain.getRequest());
+        assertEquals(1, filter.countInProgress(ADDRESS));
+
+        ((MockAsyncContext) first.getAsyncContext()).complete();
+
+        assertEquals(0, filter.countInProgress(ADDRESS));
+    }
+
+    @Test
+    void skipsOtherPaths() throws ServletException, IOException {
+        MockHttpServletRequest first = request("/place/filter");
+        first.setAsyncSupported(true);
+        filter.doFilter(first, new MockHttpServletResponse(),
+            (request, response) -> request.startAsync());
+
+        assertEquals(0, filter.countInProgress(ADDRESS));
+    }
+
+    @Test
+    void limitsClientAddressForwardedByProxy() throws ServletException, IOException {
+        MockHttpServletRequest first = request("/ownSecurity/signIn");
+        first.addHeader("X-Forwarded-For", "203.0.113.7");
+        first.setAsyncSupported(true);
+        new MockFilterChain(servlet(true), new RemoteIpFilter(), filter)
+            .doFilter(first, new MockHttpServletResponse());
+
+        MockHttpServletRequest second = request("/ownSecurity/signIn");
+        second.addHeader("X-Forwarded-For", "203.0.113.8");
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        new MockFilterChain(servlet(false), new RemoteIpFilter(), filter)
+            .doFilter(second, accepted);
+
+        assertEquals(HttpStatus.OK.value(), accepted.getStatus());
+        assertEquals(1, filter.countInProgress("203.0.113.7"));
+        assertEquals(0, filter.countInProgress(ADDRESS));
+    }
+
+    private static HttpServlet servlet(boolean async) {
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                if (async) {
+                    request.startAsync();
+                }
+            }
+        };
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.setRemoteAddr(ADDRESS);
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package greencity.security.google;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CachingGoogleIdTokenVerifierTest {
+    private static final String CLIENT_ID = "client-id";
+    private static final JsonFactory JSON_FACTORY = JacksonFactory.getDefaultInstance();
+
+    private GoogleCertificatesEndpoint endpoint;
+    private CachingGoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        endpoint = new GoogleCertificatesEndpoint();
+        GooglePublicKeysStore store = new GooglePublicKeysStore(endpoint, JSON_FACTORY, "http://localhost/certs",
+            Clock.systemUTC());
+        GoogleIdTokenVerifier claimsVerifier = new GoogleIdTokenVerifier.Builder(endpoint, JSON_FACTORY)
+            .setAudience(Collections.singletonList(CLIENT_ID))
+            .build();
+        verifier = new CachingGoogleIdTokenVerifier(claimsVerifier, store, Clock.systemUTC(),
+            Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void verifyReturnsPayloadOfSignedToken() throws Exception {
+        String idToken = sign(GoogleCertificatesEndpoint.signingKey(), CLIENT_ID, "test@gmail.com");
+
+        GoogleIdToken.Payload payload = verifier.verify(idToken);
+
+        assertEquals("test@gmail.com", payload.getEmail());
+    }
+
+    @Test
+    void verifyRemembersVerifiedToken() throws Exception {
+        String idToken = sign(GoogleCertificatesEndpoint.signingKey(), CLIENT_ID, "test@gmail.com");
+
+        GoogleIdToken.Payload first = verifier.verify(idToken);
+        GoogleIdToken.Payload second = verifier.verify(idToken);
+
+        assertEquals(first, second);
+        assertEquals(1, endpoint.getRequests());
+    }
+
+    @Test
+    void verifyRejectsTokenOfOtherAudience() throws Exception {
+        String idToken = sign(GoogleCertificatesEndpoint.signingKey(), "other-client", "test@gmail.com");
+
+        assertNull(verifier.verify(idToken));
+    }
+
+    @Test
+    void verifyRejectsTokenSignedWithUnknownKey() throws Exception {
+        PrivateKey unknownKey = KeyPairGenerator.getInstance("RSA").generateKeyPair().getPrivate();
+        String idToken = sign(unknownKey, CLIENT_ID, "test@gmail.com");
+
+        assertNull(verifier.verify(idToken));
+    }
+
+    private static String sign(PrivateKey key, String audience, String email) throws Exception {
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+            .setAlgorithm("RS256")
+            .setKeyId(GoogleCertificatesEndpoint.KEY_ID);
+        long now = System.currentTimeMillis() / 1000;
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+            .setEmail(email);
+        payload.setIssuer("https://accounts.google.com")
+            .setAudience(audience)
+            .setIssuedAtTimeSeconds(now)
+            .setExpirationTimeSeconds(now + 3600);
+        return JsonWebSignature.signUsingRsaSha256(key, JSON_FACTORY, header, payload);
+    }
+}
@@ -0,0 +1,55 @@
+package greencity.security.google;
+
+import com.google.api.client.json.jackson2.JacksonFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GooglePublicKeysStoreTest {
+    private static final Instant NOW = Instant.parse("2020-05-01T10:00:00Z");
+
+    private GoogleCertificatesEndpoint endpoint;
+    private GooglePublicKeysStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        endpoint = new GoogleCertificatesEndpoint();
+        store = new GooglePublicKeysStore(endpoint, JacksonFactory.getDefaultInstance(), "http://localhost/certs",
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void getPublicKeysFetchesOnceAndExpiresByCacheHeaders() throws Exception {
+        assertEquals(1, store.getPublicKeys().size());
+        assertEquals(1, store.getPublicKeys().size());
+
+        assertEquals(1, endpoint.getRequests());
+        assertEquals(NOW.plusSeconds(3600), store.getExpirationTime());
+    }
+
+    @Test
+    void refreshIfExpiringSkipsFreshKeys() throws Exception {
+        store.getPublicKeys();
+
+        store.refreshIfExpiring();
+
+        assertEquals(1, endpoint.getRequests());
+    }
+
+    @Test
+    void refreshIfExpiringKeepsLastKnownKeysWhenEndpointFails() throws Exception {
+        endpoint.setCacheControl("public, max-age=60");
+        store.getPublicKeys();
+        endpoint.setFailing(true);
+
+        store.refreshIfExpiring();
+
+        assertEquals(2, endpoint.getRequests());
+        assertEquals(1, store.getPublicKeys().size());
+        assertEquals(NOW.plusSeconds(60), store.getExpirationTime());
+    }
+}
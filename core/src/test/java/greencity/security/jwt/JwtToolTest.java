@@ -1,8 +1,12 @@
 package greencity.security.jwt;
 
 import static greencity.constant.AppConstant.AUTHORITIES;
+import static greencity.constant.AppConstant.USER_ID_CLAIM;
+import static greencity.constant.AppConstant.USER_STATUS_CLAIM;
 import greencity.entity.User;
 import greencity.entity.enums.ROLE;
+import greencity.entity.enums.UserStatus;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import java.util.List;
 import java.util.UUID;
@@ -41,14 +45,20 @@ public class JwtToolTest {
 
     @Test
     public void createAccessToken() {
-        final String accessToken = jwtTool.createAccessToken(expectedEmail, expectedRole);
-        System.out.println(accessToken);
-        String actualEmail =  Jwts.parser()
+        User user = User.builder()
+            .id(1L)
+            .email(expectedEmail)
+            .role(expectedRole)
+            .userStatus(UserStatus.ACTIVATED)
+            .build();
+        final String accessToken = jwtTool.createAccessToken(user);
+        Claims claims = Jwts.parser()
             .setSigningKey(jwtTool.getAccessTokenKey())
             .parseClaimsJws(accessToken)
-            .getBody()
-            .getSubject();
-        assertEquals(expectedEmail, actualEmail);
+            .getBody();
+        assertEquals(expectedEmail, claims.getSubject());
+        assertEquals(Long.valueOf(1L), claims.get(USER_ID_CLAIM, Long.class));
+        assertEquals(UserStatus.ACTIVATED.name(), claims.get(USER_STATUS_CLAIM, String.class));
         @SuppressWarnings({"unchecked, rawtype"})
         List<String> authorities = (List<String>) Jwts.parser()
             .setSigningKey(jwtTool.getAccessTokenKey())
@@ -1,9 +1,18 @@
 package greencity.security.providers;
 
+import static greencity.constant.AppConstant.AUTHORITIES;
+import static greencity.constant.AppConstant.USER_ID_CLAIM;
+import static greencity.constant.AppConstant.USER_STATUS_CLAIM;
 import greencity.entity.enums.ROLE;
+import greencity.entity.enums.UserStatus;
 import greencity.security.jwt.JwtTool;
+import greencity.security.jwt.UserPrincipal;
+import greencity.service.UserService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Collections;
 import java.util.Date;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -13,6 +22,9 @@ import org.junit.Test;
 import org.mockito.Mock;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -26,35 +38,29 @@ public class JwtAuthenticationProviderTest {
     @Mock
     JwtTool jwtTool;
 
+    @Mock
+    UserService userService;
+
     private JwtAuthenticationProvider jwtAuthenticationProvider;
 
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtTool);
+        jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtTool, userService);
     }
 
     @Test
     public void authenticateWithValidAccessToken() {
-        final String accessToken = "eyJhbGciOiJIUzI1NiJ9"
-            + ".eyJzdWIiOiJ0ZXN0QGdtYWlsLmNvbSIsImF1dGhvcml0aWVzIjpbIlJPTEVfVVN"
-            + "FUiJdLCJpYXQiOjE1NzU4NDUzNTAsImV4cCI6NjE1NzU4NDUyOTB9"
-            + ".x1D799yGc0dj2uWDQYusnLyG5r6-Rjj6UgBhp2JjVDE";
         when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
-        Date expectedExpiration = new Date(61575845290000L); // 3921 year
-        Date actualExpiration = Jwts.parser()
-            .setSigningKey(jwtTool.getAccessTokenKey())
-            .parseClaimsJws(accessToken)
-            .getBody()
-            .getExpiration();
-        assertEquals(expectedExpiration, actualExpiration);
+        when(userService.findStatusById(1L)).thenReturn(UserStatus.ACTIVATED);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-            accessToken,
+            createAccessToken(1L, UserStatus.ACTIVATED),
             null
         );
         Authentication actual = jwtAuthenticationProvider.authenticate(authentication);
         final String expectedEmail = "test@gmail.com";
-        assertEquals(expectedEmail, actual.getPrincipal());
+        assertEquals(new UserPrincipal(1L, expectedEmail, UserStatus.ACTIVATED), actual.getPrincipal());
+        assertEquals(expectedEmail, actual.getName());
         assertEquals(
             Stream.of(expectedRole)
                 .map(ROLE::toString)
@@ -65,6 +71,32 @@ public class JwtAuthenticationProviderTest {
         assertEquals("", actual.getCredentials());
     }
 
+    @Test(expected = CredentialsExpiredException.class)
+    public void authenticateAfterUserStatusChanged() {
+        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
+        when(userService.findStatusById(1L)).thenReturn(UserStatus.BLOCKED);
+        jwtAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(
+            createAccessToken(1L, UserStatus.ACTIVATED), null));
+    }
+
+    @Test(expected = DisabledException.class)
+    public void authenticateDeactivatedUser() {
+        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
+        when(userService.findStatusById(1L)).thenReturn(UserStatus.DEACTIVATED);
+        jwtAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(
+            createAccessToken(1L, UserStatus.DEACTIVATED), null));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void authenticateWithAccessTokenWithoutUserId() {
+        final String accessToken = "eyJhbGciOiJIUzI1NiJ9"
+            + ".eyJzdWIiOiJ0ZXN0QGdtYWlsLmNvbSIsImF1dGhvcml0aWVzIjpbIlJPTEVfVVN"
+            + "FUiJdLCJpYXQiOjE1NzU4NDUzNTAsImV4cCI6NjE1NzU4NDUyOTB9"
+            + ".x1D799yGc0dj2uWDQYusnLyG5r6-Rjj6UgBhp2JjVDE";
+        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
+        jwtAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(accessToken, null));
+    }
+
     @Test(expected = ExpiredJwtException.class)
     public void authenticateWithExpiredAccessToken() {
         when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
@@ -90,4 +122,16 @@ public class JwtAuthenticationProviderTest {
         );
         jwtAuthenticationProvider.authenticate(authentication);
     }
-}
\ No newline at end of file
+
+    private String createAccessToken(Long userId, UserStatus userStatus) {
+        Claims claims = Jwts.claims().setSubject("test@gmail.com");
+        claims.put(AUTHORITIES, Collections.singleton(expectedRole.name()));
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(USER_STATUS_CLAIM, userStatus.name());
+        return Jwts.builder()
+            .setClaims(claims)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(SignatureAlgorithm.HS256, "123123123")
+            .compact();
+    }
+}
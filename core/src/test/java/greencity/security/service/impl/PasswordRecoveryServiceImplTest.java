@@ -11,6 +11,7 @@ import greencity.repository.UserRepo;
 import greencity.security.events.UpdatePasswordEvent;
 import greencity.security.jwt.JwtTool;
 import greencity.security.repository.RestorePasswordEmailRepo;
+import greencity.service.OutboxService;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.Test;
@@ -21,7 +22,6 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -37,7 +37,7 @@ public class PasswordRecoveryServiceImplTest {
     @Mock
     private UserRepo userRepo;
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxService outboxService;
     @InjectMocks
     private PasswordRecoveryServiceImpl passwordRecoveryService;
     @Value("${messaging.rabbit.email.topic}")
@@ -75,7 +75,7 @@ public class PasswordRecoveryServiceImplTest {
                 .token(token)
                 .build(), "expiryDate"
         ));
-        verify(rabbitTemplate).convertAndSend(
+        verify(outboxService).send(
             refEq(sendEmailTopic),
             refEq(PASSWORD_RECOVERY_ROUTING_KEY),
             refEq(new PasswordRecoveryMessage(
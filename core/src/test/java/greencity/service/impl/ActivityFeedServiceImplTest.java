@@ -0,0 +1,129 @@
+package greencity.service.impl;
+
+import greencity.constant.AppConstant;
+import greencity.constant.RabbitConstants;
+import greencity.dto.feed.FeedItemDto;
+import greencity.dto.feed.FeedPageDto;
+import greencity.entity.Activity;
+import greencity.entity.User;
+import greencity.entity.enums.ActivityType;
+import greencity.message.FriendActivityMessage;
+import greencity.repository.ActivityRepo;
+import greencity.repository.UserRepo;
+import greencity.service.OutboxService;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityFeedServiceImplTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    @Mock
+    private ActivityRepo activityRepo;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private ActivityFeedServiceImpl activityFeedService;
+
+    private final User actor = User.builder().id(2L).name("Friend").build();
+
+    @BeforeEach
+    void setUp() {
+        activityFeedService = new ActivityFeedServiceImpl(activityRepo, userRepo, outboxService);
+    }
+
+    @Test
+    void publishStoresActivityAndSendsMessage() {
+        when(activityRepo.save(any(Activity.class))).thenAnswer(invocation -> {
+            Activity activity = invocation.getArgument(0);
+            activity.setId(10L);
+            return activity;
+        });
+
+        activityFeedService.publish(2L, ActivityType.ECO_NEWS, 5L);
+
+        ArgumentCaptor<FriendActivityMessage> captor = ArgumentCaptor.forClass(FriendActivityMessage.class);
+        verify(outboxService).send(eq(RabbitConstants.ACTIVITY_FEED_EXCHANGE_NAME),
+            eq(RabbitConstants.FRIEND_ACTIVITY_ROUTING_KEY), captor.capture());
+        assertEquals(10L, captor.getValue().getActivityId());
+        assertEquals(2L, captor.getValue().getActorId());
+        assertEquals(ActivityType.ECO_NEWS, captor.getValue().getType());
+        assertEquals(5L, captor.getValue().getTargetId());
+    }
+
+    @Test
+    void fanOutWithoutLoadedTimelinesOnlyWritesFeeds() {
+        activityFeedService.fanOut(message(10L));
+
+        verify(activityRepo).fanOut(10L, 2L);
+        verify(userRepo, never()).findAllIdsByFriendId(any());
+    }
+
+    @Test
+    void getFeedServesLoadedTimelineAndAddsDeliveredActivities() {
+        when(activityRepo.findFeed(1L, Long.MAX_VALUE, AppConstant.FEED_TIMELINE_CAPACITY + 1))
+            .thenReturn(Collections.singletonList(activity(7L)));
+        when(userRepo.findAllById(anyList())).thenReturn(Collections.singletonList(actor));
+        when(userRepo.findAllIdsByFriendId(2L)).thenReturn(Arrays.asList(1L, 3L));
+        activityFeedService.getFeed(1L, null, 20);
+
+        activityFeedService.fanOut(message(10L));
+        FeedPageDto page = activityFeedService.getFeed(1L, null, 20);
+
+        assertEquals(Arrays.asList(10L, 7L), ids(page.getItems()));
+        assertEquals("Friend", page.getItems().get(0).getActorName());
+        assertNull(page.getNextCursor());
+        verify(activityRepo, times(1)).findFeed(any(), any(), eq(AppConstant.FEED_TIMELINE_CAPACITY + 1));
+    }
+
+    @Test
+    void getFeedReadsOlderPagesFromPersistedFeed() {
+        List<Activity> newest = LongStream.rangeClosed(0, AppConstant.FEED_TIMELINE_CAPACITY)
+            .mapToObj(offset -> activity(1000L - offset))
+            .collect(Collectors.toList());
+        when(activityRepo.findFeed(1L, Long.MAX_VALUE, AppConstant.FEED_TIMELINE_CAPACITY + 1)).thenReturn(newest);
+        when(activityRepo.findFeed(1L, 300L, 2)).thenReturn(Arrays.asList(activity(299L), activity(298L)));
+        when(userRepo.findAllById(anyList())).thenReturn(Collections.singletonList(actor));
+
+        FeedPageDto page = activityFeedService.getFeed(1L, 300L, 2);
+
+        assertEquals(Arrays.asList(299L, 298L), ids(page.getItems()));
+        assertEquals(298L, page.getNextCursor());
+    }
+
+    private static FriendActivityMessage message(Long activityId) {
+        return new FriendActivityMessage(activityId, 2L, ActivityType.HABIT, 3L, NOW);
+    }
+
+    private static Activity activity(Long id) {
+        return new Activity(id, 2L, ActivityType.ECO_NEWS, 5L, NOW);
+    }
+
+    private static List<Long> ids(List<FeedItemDto> items) {
+        return items.stream().map(FeedItemDto::getId).collect(Collectors.toList());
+    }
+}
@@ -15,6 +15,7 @@ import greencity.entity.localization.AdviceTranslation;
 import greencity.exception.exceptions.NotDeletedException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotUpdatedException;
+import greencity.index.RandomContentPoolEntry;
 import greencity.repository.AdviceRepo;
 import greencity.repository.AdviceTranslationRepo;
 import greencity.repository.HabitDictionaryRepo;
@@ -65,12 +66,27 @@ public class AdviceServiceImplTest {
 
     @Test
     public void getRandomAdviceByHabitIdAndLanguage() {
-        when(adviceTranslationRepo.getRandomAdviceTranslationByHabitIdAndLanguage("en", 1L))
-            .thenReturn(Optional.of(adviceTranslation));
+        when(adviceTranslationRepo.findAllRandomContentPoolEntries())
+            .thenReturn(Collections.singletonList(new RandomContentPoolEntry(1L, "en", 1L)));
+        when(adviceTranslationRepo.findById(1L)).thenReturn(Optional.of(adviceTranslation));
         when(modelMapper.map(adviceTranslation, LanguageTranslationDTO.class)).thenReturn(languageTranslationDTO);
         assertEquals(languageTranslationDTO, adviceService.getRandomAdviceByHabitIdAndLanguage(1L, "en"));
     }
 
+    @Test
+    public void getRandomAdviceLoadsPoolOnce() {
+        when(adviceTranslationRepo.findAllRandomContentPoolEntries())
+            .thenReturn(Collections.singletonList(new RandomContentPoolEntry(1L, "en", 1L)));
+        for (int i = 0; i < 2; i++) {
+            try {
+                adviceService.getRandomAdviceByHabitIdAndLanguage(2L, "en");
+            } catch (NotFoundException e) {
+                // no content for the habit, the pool is still loaded
+            }
+        }
+        verify(adviceTranslationRepo, times(1)).findAllRandomContentPoolEntries();
+    }
+
     @Test(expected = NotFoundException.class)
     public void getRandomAdviceByHabitIdFailed() {
         adviceService.getRandomAdviceByHabitIdAndLanguage(1L, "en");
@@ -0,0 +1,64 @@
+package greencity.service.impl;
+
+import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.repository.EcoNewsCommentRepo;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikesBroadcastServiceImplTest {
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Mock
+    private EcoNewsCommentRepo ecoNewsCommentRepo;
+
+    private CommentLikesBroadcastServiceImpl broadcastService;
+
+    @BeforeEach
+    void setUp() {
+        broadcastService = new CommentLikesBroadcastServiceImpl(messagingTemplate, ecoNewsCommentRepo);
+    }
+
+    @Test
+    void flushSendsCurrentAmountPerCommentToEcoNewsTopic() {
+        AmountCommentLikesDto first = AmountCommentLikesDto.builder().id(1L).amountLikes(6).build();
+        AmountCommentLikesDto second = AmountCommentLikesDto.builder().id(2L).amountLikes(1).build();
+        when(ecoNewsCommentRepo.countLikesByIds(new HashSet<>(Arrays.asList(1L, 2L))))
+            .thenReturn(Arrays.asList(first, second));
+        broadcastService.submit(3L, 1L);
+        broadcastService.submit(3L, 1L);
+        broadcastService.submit(4L, 2L);
+
+        assertEquals(2, broadcastService.flush());
+
+        verify(messagingTemplate).convertAndSend("/topic/econews/3/comment", first);
+        verify(messagingTemplate).convertAndSend("/topic/econews/4/comment", second);
+    }
+
+    @Test
+    void flushWithoutChangesSendsNothing() {
+        when(ecoNewsCommentRepo.countLikesByIds(Collections.singleton(1L)))
+            .thenReturn(Collections.singletonList(AmountCommentLikesDto.builder().id(1L).amountLikes(5).build()));
+        broadcastService.submit(3L, 1L);
+        broadcastService.flush();
+
+        assertEquals(0, broadcastService.flush());
+        verify(ecoNewsCommentRepo, times(1)).countLikesByIds(any());
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(AmountCommentLikesDto.class));
+    }
+}
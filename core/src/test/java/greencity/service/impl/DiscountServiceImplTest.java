@@ -8,7 +8,9 @@ import static org.mockito.Mockito.when;
 import greencity.entity.DiscountValue;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.repository.DiscountValuesRepo;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.Test;
@@ -32,6 +34,13 @@ public class DiscountServiceImplTest {
         assertEquals(discountValue, discountService.save(discountValue));
     }
 
+    @Test
+    public void saveAll() {
+        List<DiscountValue> discountValues = Arrays.asList(new DiscountValue(), new DiscountValue());
+        when(discountValuesRepo.saveAll(discountValues)).thenReturn(discountValues);
+        assertEquals(discountValues, discountService.saveAll(discountValues));
+    }
+
     @Test
     public void findById() {
         DiscountValue genericEntity = new DiscountValue();
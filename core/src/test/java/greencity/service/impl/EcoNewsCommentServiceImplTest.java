@@ -16,6 +16,8 @@ import greencity.exception.exceptions.NotFoundException;
 import greencity.mapping.AddEcoNewsCommentDtoResponseMapper;
 import greencity.mapping.EcoNewsCommentDtoMapper;
 import greencity.repository.EcoNewsCommentRepo;
+import greencity.service.ActivityFeedService;
+import greencity.service.CommentLikesBroadcastService;
 import greencity.service.EcoNewsService;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -45,6 +47,10 @@ public class EcoNewsCommentServiceImplTest {
     private EcoNewsService ecoNewsService;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private ActivityFeedService activityFeedService;
+    @Mock
+    private CommentLikesBroadcastService commentLikesBroadcastService;
     @InjectMocks
     private EcoNewsCommentServiceImpl ecoNewsCommentService;
 
@@ -304,6 +310,7 @@ public class EcoNewsCommentServiceImplTest {
 
         ecoNewsCommentService.like(commentId, getUser());
         verify(ecoNewsCommentRepo).save(any(EcoNewsComment.class));
+        verify(commentLikesBroadcastService).submit(ecoNewsComment.getEcoNews().getId(), commentId);
         assertEquals(1, ecoNewsComment.getUsersLiked().size());
     }
 
@@ -11,10 +11,13 @@ import greencity.dto.econews.EcoNewsDto;
 import greencity.dto.search.SearchNewsDto;
 import greencity.entity.EcoNews;
 import greencity.entity.Tag;
+import greencity.entity.enums.ActivityType;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
+import greencity.index.TagIndexEntry;
 import greencity.message.AddEcoNewsMessage;
 import greencity.repository.EcoNewsRepo;
+import greencity.repository.UserCountersRepo;
 import greencity.service.*;
 import java.io.IOException;
 import java.net.MalformedURLException;
@@ -25,12 +28,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -48,7 +52,7 @@ class EcoNewsServiceImplTest {
     ModelMapper modelMapper;
 
     @Mock
-    RabbitTemplate rabbitTemplate;
+    OutboxService outboxService;
 
     @Mock
     NewsSubscriberService newsSubscriberService;
@@ -65,6 +69,12 @@ class EcoNewsServiceImplTest {
     @Mock
     FileService fileService;
 
+    @Mock
+    UserCountersRepo userCountersRepo;
+
+    @Mock
+    ActivityFeedService activityFeedService;
+
     @InjectMocks
     private EcoNewsServiceImpl ecoNewsService;
 
@@ -94,8 +104,10 @@ class EcoNewsServiceImplTest {
 
         addEcoNewsDtoResponse.setTitle("Title");
 
-        verify(rabbitTemplate).convertAndSend(null, RabbitConstants.ADD_ECO_NEWS_ROUTING_KEY,
+        verify(outboxService).send(null, RabbitConstants.ADD_ECO_NEWS_ROUTING_KEY,
             new AddEcoNewsMessage(Collections.emptyList(), addEcoNewsDtoResponse));
+        verify(userCountersRepo).addPublishedNews(ModelUtils.getUser().getId(), 1);
+        verify(activityFeedService).publish(ecoNews.getAuthor().getId(), ActivityType.ECO_NEWS, ecoNews.getId());
     }
 
     @Test
@@ -202,13 +214,13 @@ class EcoNewsServiceImplTest {
     void find() {
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
         PageRequest pageRequest = PageRequest.of(0, 2);
-        Page<EcoNews> page = new PageImpl<>(ecoNews, pageRequest, ecoNews.size());
         List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
         PageableDto<EcoNewsDto> pageableDto = new PageableDto<>(dtoList, dtoList.size(), 0,1);
 
         when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
-        when(ecoNewsRepo.find(pageRequest, Collections.singletonList(ModelUtils.getTag().getName())))
-            .thenReturn(page);
+        when(ecoNewsRepo.findAllTagIndexEntries()).thenReturn(Collections.singletonList(
+            new TagIndexEntry(1L, ecoNews.get(0).getCreationDate(), ModelUtils.getTag().getName())));
+        when(ecoNewsRepo.findAllById(Collections.singletonList(1L))).thenReturn(ecoNews);
 
         PageableDto<EcoNewsDto> actual =
             ecoNewsService.find(pageRequest, Collections.singletonList(ModelUtils.getTag().getName()));
@@ -236,6 +248,59 @@ class EcoNewsServiceImplTest {
         ecoNewsService.delete(1L);
 
         verify(ecoNewsRepo, times(1)).deleteById(1L);
+        verify(userCountersRepo).addPublishedNews(ModelUtils.getUser().getId(), -1);
+    }
+
+    @Test
+    void deleteRemovesNewsFromIndexesAfterCommit() {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        List<String> tags = Collections.singletonList(tag.getName());
+        when(ecoNewsRepo.findAllTagIndexEntries()).thenReturn(Collections.singletonList(
+            new TagIndexEntry(1L, ecoNews.getCreationDate(), tag.getName())));
+        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
+        when(ecoNewsRepo.findAllById(anyList())).thenReturn(Collections.emptyList());
+        ecoNewsService.find(pageRequest, tags);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ecoNewsService.delete(1L);
+            assertEquals(1, ecoNewsService.find(pageRequest, tags).getTotalElements());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, ecoNewsService.find(pageRequest, tags).getTotalElements());
+        verify(ecoNewsRepo, times(1)).findAllTagIndexEntries();
+    }
+
+    @Test
+    void deleteCommittedDuringRebuildIsAppliedToRebuiltIndexes() throws InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        List<String> tags = Collections.singletonList(tag.getName());
+        List<TagIndexEntry> entries = Collections.singletonList(
+            new TagIndexEntry(1L, ecoNews.getCreationDate(), tag.getName()));
+        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
+        when(ecoNewsRepo.findAllById(anyList())).thenReturn(Collections.emptyList());
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            ecoNewsService.delete(1L);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Thread commit = new Thread(() -> synchronizations.forEach(TransactionSynchronization::afterCommit));
+        when(ecoNewsRepo.findAllTagIndexEntries()).thenAnswer(invocation -> {
+            commit.start();
+            commit.join(100);
+            return entries;
+        });
+        ecoNewsService.rebuildIndexes();
+        commit.join();
+
+        assertEquals(0, ecoNewsService.find(pageRequest, tags).getTotalElements());
     }
 
     @Test
@@ -256,12 +321,13 @@ class EcoNewsServiceImplTest {
     void getThreeRecommendedEcoNews() {
         List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
 
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.ofNullable(ecoNews));
-        when(ecoNewsRepo.getThreeRecommendedEcoNews(1L)).thenReturn(Collections.singletonList(ecoNews));
-        when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
+        when(ecoNewsRepo.findAllTagIndexEntries()).thenReturn(Arrays.asList(
+            new TagIndexEntry(1L, ecoNews.getCreationDate(), tag.getName()),
+            new TagIndexEntry(2L, ecoNews.getCreationDate(), tag.getName())));
+        when(ecoNewsRepo.findAllById(Collections.singletonList(1L))).thenReturn(Collections.singletonList(ecoNews));
         when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(dtoList.get(0));
 
-        List<EcoNewsDto> actual = ecoNewsService.getThreeRecommendedEcoNews(1L);
+        List<EcoNewsDto> actual = ecoNewsService.getThreeRecommendedEcoNews(2L);
 
         assertEquals(dtoList, actual);
     }
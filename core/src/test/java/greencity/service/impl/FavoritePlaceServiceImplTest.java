@@ -4,15 +4,24 @@ import greencity.ModelUtils;
 import greencity.TestConst;
 import greencity.constant.ErrorMessage;
 import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusDto;
+import greencity.dto.favoriteplace.FavoritePlaceStatusRequestDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
 import greencity.dto.place.PlaceInfoDto;
 import greencity.entity.FavoritePlace;
 import greencity.entity.Place;
+import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.WrongIdException;
+import greencity.index.FavoritePlaceEntry;
 import greencity.repository.FavoritePlaceRepo;
 import greencity.service.PlaceService;
 import greencity.service.UserService;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +31,7 @@ import org.modelmapper.ModelMapper;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -206,8 +216,7 @@ public class FavoritePlaceServiceImplTest {
         FavoritePlace fp = ModelUtils.getFavoritePlace();
         when(repo.findByPlaceId(anyLong())).thenReturn(fp);
         when(modelMapper.map(any(Place.class), eq(PlaceInfoDto.class))).thenReturn(placeInfoDto);
-        when(placeService.findById(anyLong())).thenReturn(new Place());
-        when(placeService.averageRate(anyLong())).thenReturn(2.0);
+        when(placeService.findById(anyLong())).thenReturn(Place.builder().ratingSum(4).ratingCount(2).build());
         assertEquals(placeInfoDto, favoritePlaceService.getInfoFavoritePlace(fp.getId()));
     }
 
@@ -236,4 +245,71 @@ public class FavoritePlaceServiceImplTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getFavoritePlaceWithLocationTest() {
+        FavoritePlace fp = ModelUtils.getFavoritePlace();
+        PlaceByBoundsDto placeByBoundsDto = new PlaceByBoundsDto();
+        when(repo.findByPlaceIdAndUserEmail(anyLong(), anyString())).thenReturn(fp);
+        when(modelMapper.map(fp, PlaceByBoundsDto.class)).thenReturn(placeByBoundsDto);
+
+        assertEquals(placeByBoundsDto, favoritePlaceService.getFavoritePlaceWithLocation(3L, TestConst.EMAIL));
+        verify(repo, times(1)).findByPlaceIdAndUserEmail(3L, TestConst.EMAIL);
+    }
+
+    @Test
+    public void getStatusesByPlaceIdsTest() {
+        when(repo.findAllEntriesByUserId(1L)).thenReturn(getFavoritePlaceEntries());
+        FavoritePlaceStatusRequestDto request = FavoritePlaceStatusRequestDto.builder()
+            .placeIds(new LinkedHashSet<>(Arrays.asList(1L, 2L, 3L)))
+            .build();
+
+        List<FavoritePlaceStatusDto> expected = Arrays.asList(
+            new FavoritePlaceStatusDto(1L, true, "home"),
+            new FavoritePlaceStatusDto(2L, false, null),
+            new FavoritePlaceStatusDto(3L, true, "work"));
+        assertEquals(expected, favoritePlaceService.getStatuses(request, 1L));
+        assertEquals(expected, favoritePlaceService.getStatuses(request, 1L));
+        verify(repo, times(1)).findAllEntriesByUserId(1L);
+    }
+
+    @Test
+    public void getStatusesByMapBoundsTest() {
+        when(repo.findAllEntriesByUserId(1L)).thenReturn(getFavoritePlaceEntries());
+        FavoritePlaceStatusRequestDto request = FavoritePlaceStatusRequestDto.builder()
+            .mapBoundsDto(new MapBoundsDto(49.9, 24.1, 49.8, 24.0))
+            .build();
+
+        assertEquals(Collections.singletonList(new FavoritePlaceStatusDto(1L, true, "home")),
+            favoritePlaceService.getStatuses(request, 1L));
+    }
+
+    @Test
+    public void getStatusesWithoutCriteriaTest() {
+        FavoritePlaceStatusRequestDto request = new FavoritePlaceStatusRequestDto();
+
+        assertThrows(BadRequestException.class, () -> favoritePlaceService.getStatuses(request, 1L));
+    }
+
+    @Test
+    public void getStatusesAfterDeleteReloadsFavoritePlacesTest() {
+        FavoritePlace fp = ModelUtils.getFavoritePlace();
+        when(repo.findAllEntriesByUserId(1L)).thenReturn(getFavoritePlaceEntries(), Collections.emptyList());
+        when(repo.findByPlaceIdAndUserEmail(anyLong(), anyString())).thenReturn(fp);
+        FavoritePlaceStatusRequestDto request = FavoritePlaceStatusRequestDto.builder()
+            .placeIds(Collections.singleton(1L))
+            .build();
+
+        assertTrue(favoritePlaceService.getStatuses(request, 1L).get(0).isFavorite());
+        favoritePlaceService.deleteByUserEmailAndPlaceId(1L, TestConst.EMAIL);
+
+        assertFalse(favoritePlaceService.getStatuses(request, 1L).get(0).isFavorite());
+        verify(repo, times(2)).findAllEntriesByUserId(1L);
+    }
+
+    private static List<FavoritePlaceEntry> getFavoritePlaceEntries() {
+        return Arrays.asList(
+            new FavoritePlaceEntry(1L, "home", 49.84, 24.03),
+            new FavoritePlaceEntry(3L, "work", 50.45, 30.52));
+    }
+}
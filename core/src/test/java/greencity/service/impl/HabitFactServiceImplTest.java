@@ -16,6 +16,7 @@ import greencity.entity.HabitFact;
 import greencity.exception.exceptions.NotDeletedException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotUpdatedException;
+import greencity.index.RandomContentPoolEntry;
 import greencity.repository.FactTranslationRepo;
 import greencity.repository.HabitDictionaryRepo;
 import greencity.repository.HabitFactRepo;
@@ -65,11 +66,27 @@ public class HabitFactServiceImplTest {
 
     @Test
     public void getRandomHabitFactByHabitId() {
-        when(factTranslationRepo.getRandomFactTranslationByHabitIdAndLanguage("en", 1L)).thenReturn(Optional.of(factTranslation));
+        when(factTranslationRepo.findAllRandomContentPoolEntries())
+            .thenReturn(Collections.singletonList(new RandomContentPoolEntry(1L, "en", 1L)));
+        when(factTranslationRepo.findById(1L)).thenReturn(Optional.of(factTranslation));
         when(modelMapper.map(factTranslation, LanguageTranslationDTO.class)).thenReturn(languageTranslationDTO);
         assertEquals(languageTranslationDTO, habitFactService.getRandomHabitFactByHabitIdAndLanguage(1L, "en"));
     }
 
+    @Test
+    public void getRandomHabitFactLoadsPoolOnce() {
+        when(factTranslationRepo.findAllRandomContentPoolEntries())
+            .thenReturn(Collections.singletonList(new RandomContentPoolEntry(1L, "en", 1L)));
+        for (int i = 0; i < 2; i++) {
+            try {
+                habitFactService.getRandomHabitFactByHabitIdAndLanguage(2L, "en");
+            } catch (NotFoundException e) {
+                // no content for the habit, the pool is still loaded
+            }
+        }
+        verify(factTranslationRepo, times(1)).findAllRandomContentPoolEntries();
+    }
+
     @Test(expected = NotFoundException.class)
     public void getRandomHabitFactByHabitIdFailed() {
         habitFactService.getRandomHabitFactByHabitIdAndLanguage(1L, "en");
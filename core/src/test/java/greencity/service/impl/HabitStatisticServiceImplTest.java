@@ -6,6 +6,7 @@ import greencity.dto.habitstatistic.CalendarUsefulHabitsDto;
 import greencity.dto.habitstatistic.HabitItemsAmountStatisticDto;
 import greencity.dto.habitstatistic.HabitStatisticDto;
 import greencity.dto.habitstatistic.UpdateHabitStatisticDto;
+import greencity.dto.user.HabitDictionaryDto;
 import greencity.dto.user.HabitLogItemDto;
 import greencity.entity.*;
 import greencity.entity.enums.HabitRate;
@@ -240,6 +241,33 @@ class HabitStatisticServiceImplTest {
         assertEquals(calendarUsefulHabitsDto, habitStatisticService.getInfoAboutUserHabits(anyLong()));
     }
 
+    @Test
+    void findAllHabitsAndTheirStatisticsTest() {
+        HabitDictionaryTranslation translation = HabitDictionaryTranslation.builder()
+            .name("name").description("description").habitItem("item")
+            .language(Language.builder().code("en").build())
+            .build();
+        HabitDictionary habitDictionary = HabitDictionary.builder()
+            .habitDictionaryTranslations(Collections.singletonList(translation))
+            .build();
+        Habit activeHabit = new Habit(1L, habitDictionary, null, true,
+            zonedDateTime, Collections.emptyList(), null);
+        HabitStatistic firstDayStatistic = new HabitStatistic(1L, HabitRate.GOOD, zonedDateTime, 10, activeHabit);
+
+        when(habitRepo.findAllByUserId(1L)).thenReturn(Optional.of(Collections.singletonList(activeHabit)));
+        when(habitStatisticRepo.findAllInFirstDaysOfHabits(Collections.singletonList(1L), 21))
+            .thenReturn(Collections.singletonList(firstDayStatistic));
+        when(modelMapper.map(habitDictionary, HabitDictionaryDto.class)).thenReturn(new HabitDictionaryDto());
+
+        List<HabitStatisticDto> actual = habitStatisticService.findAllHabitsAndTheirStatistics(1L, true, "en")
+            .get(0).getHabitStatistics();
+
+        assertEquals(21, actual.size());
+        assertEquals(new HabitStatisticDto(firstDayStatistic), actual.get(0));
+        assertEquals(new HabitStatisticDto(null, HabitRate.DEFAULT, zonedDateTime.plusDays(1), 0), actual.get(1));
+        verify(habitStatisticRepo, never()).findAllByHabitId(anyLong());
+    }
+
     @Test
     void findAllHabitsAndTheirStatisticsExceptionTest() {
         when(habitRepo.findAllByUserId(1L)).thenReturn(Optional.of(Collections.emptyList()));
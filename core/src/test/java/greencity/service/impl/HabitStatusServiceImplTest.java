@@ -0,0 +1,139 @@
+package greencity.service.impl;
+
+import greencity.dto.habitstatus.HabitStatusDto;
+import greencity.entity.HabitStatus;
+import greencity.entity.HabitStatusCalendar;
+import greencity.exception.exceptions.BadRequestException;
+import greencity.index.DayBitmap;
+import greencity.repository.HabitStatusRepo;
+import greencity.service.HabitStatusCalendarService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class HabitStatusServiceImplTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @InjectMocks
+    private HabitStatusServiceImpl habitStatusService;
+
+    @Mock
+    private HabitStatusRepo habitStatusRepo;
+
+    @Mock
+    private HabitStatusCalendarService habitStatusCalendarService;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    @Test
+    void enrollHabitRecomputesWorkingDaysAndStreak() {
+        HabitStatus habitStatus = habitStatus(TODAY.minusDays(3), Arrays.asList(
+            TODAY.minusDays(3), TODAY.minusDays(1)));
+        when(habitStatusRepo.findByHabitIdAndUserId(1L, 1L)).thenReturn(habitStatus);
+        when(habitStatusRepo.save(habitStatus)).thenReturn(habitStatus);
+        HabitStatusDto habitStatusDto = new HabitStatusDto();
+        when(modelMapper.map(habitStatus, HabitStatusDto.class)).thenReturn(habitStatusDto);
+
+        assertEquals(habitStatusDto, habitStatusService.enrollHabit(1L, 1L));
+
+        assertEquals(3, habitStatus.getWorkingDays());
+        assertEquals(2, habitStatus.getHabitStreak());
+        assertTrue(enrollments(habitStatus).contains(TODAY));
+        verify(habitStatusCalendarService).save(any(HabitStatusCalendar.class));
+    }
+
+    @Test
+    void enrollHabitTwiceADayThrowsBadRequest() {
+        HabitStatus habitStatus = habitStatus(TODAY.minusDays(1), Arrays.asList(TODAY));
+        when(habitStatusRepo.findByHabitIdAndUserId(1L, 1L)).thenReturn(habitStatus);
+
+        assertThrows(BadRequestException.class, () -> habitStatusService.enrollHabit(1L, 1L));
+        verify(habitStatusRepo, never()).save(any());
+    }
+
+    @Test
+    void unenrollHabitOfLastDayRecomputesStreak() {
+        HabitStatus habitStatus = habitStatus(TODAY.minusDays(3), Arrays.asList(
+            TODAY.minusDays(3), TODAY.minusDays(1), TODAY));
+        when(habitStatusRepo.findByHabitIdAndUserId(1L, 1L)).thenReturn(habitStatus);
+
+        habitStatusService.unenrollHabit(TODAY, 1L, 1L);
+
+        assertEquals(2, habitStatus.getWorkingDays());
+        assertEquals(1, habitStatus.getHabitStreak());
+        assertFalse(enrollments(habitStatus).contains(TODAY));
+        verify(habitStatusRepo).save(habitStatus);
+    }
+
+    @Test
+    void unenrollHabitOfFarDateThrowsBadRequest() {
+        HabitStatus habitStatus = habitStatus(TODAY.minusDays(1), Arrays.asList(TODAY));
+        when(habitStatusRepo.findByHabitIdAndUserId(1L, 1L)).thenReturn(habitStatus);
+
+        assertThrows(BadRequestException.class,
+            () -> habitStatusService.unenrollHabit(LocalDate.of(9999, 1, 1), 1L, 1L));
+        verify(habitStatusRepo, never()).save(any());
+    }
+
+    @Test
+    void enrollHabitInDateBeforeBitmapStartMovesStart() {
+        HabitStatus habitStatus = habitStatus(TODAY.minusDays(1), Arrays.asList(TODAY.minusDays(1), TODAY));
+        when(habitStatusRepo.findByHabitIdAndUserId(1L, 1L)).thenReturn(habitStatus);
+
+        habitStatusService.enrollHabitInDate(1L, 1L, TODAY.minusDays(2));
+
+        assertEquals(TODAY.minusDays(2), habitStatus.getEnrollmentBitmapStart());
+        assertEquals(3, habitStatus.getWorkingDays());
+        assertEquals(3, habitStatus.getHabitStreak());
+        verify(habitStatusRepo).save(habitStatus);
+    }
+
+    @Test
+    void enrollHabitInDateInFutureThrowsBadRequest() {
+        assertThrows(BadRequestException.class,
+            () -> habitStatusService.enrollHabitInDate(1L, 1L, TODAY.plusDays(1)));
+        assertThrows(BadRequestException.class,
+            () -> habitStatusService.enrollHabitInDate(1L, 1L, LocalDate.of(9999, 1, 1)));
+        verify(habitStatusRepo, never()).save(any());
+    }
+
+    @Test
+    void enrollHabitInDateTooLongAgoThrowsBadRequest() {
+        assertThrows(BadRequestException.class,
+            () -> habitStatusService.enrollHabitInDate(1L, 1L, TODAY.minusYears(2)));
+        verify(habitStatusRepo, never()).save(any());
+    }
+
+    private static HabitStatus habitStatus(LocalDate start, List<LocalDate> enrolledDates) {
+        DayBitmap enrollments = DayBitmap.of(start, enrolledDates);
+        return HabitStatus.builder()
+            .createDate(LocalDateTime.now().minusDays(10))
+            .enrollmentBitmapStart(enrollments.getStart())
+            .enrollmentBitmap(enrollments.toByteArray())
+            .workingDays(enrollments.count())
+            .habitStreak(enrollments.streak())
+            .build();
+    }
+
+    private static DayBitmap enrollments(HabitStatus habitStatus) {
+        return new DayBitmap(habitStatus.getEnrollmentBitmapStart(), habitStatus.getEnrollmentBitmap());
+    }
+}
@@ -11,6 +11,7 @@ import greencity.entity.enums.EmailNotification;
 import greencity.message.SendReportEmailMessage;
 import greencity.repository.PlaceRepo;
 import greencity.repository.UserRepo;
+import greencity.service.OutboxService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -46,6 +47,9 @@ class NotificationServiceImplTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    @Mock
+    private OutboxService outboxService;
+
     @Test
     void sendImmediatelyReportTest() {
         EmailNotification emailNotification = EmailNotification.IMMEDIATELY;
@@ -68,8 +72,45 @@ class NotificationServiceImplTest {
 
         notificationService.sendImmediatelyReport(place);
 
-        verify(rabbitTemplate, Mockito.times(1))
-                .convertAndSend(any(), anyString(), any(SendReportEmailMessage.class));
+        verify(outboxService, Mockito.times(1))
+                .send(any(), anyString(), any(SendReportEmailMessage.class));
+    }
+
+    @Test
+    void sendImmediatelyReportsTest() {
+        EmailNotification emailNotification = EmailNotification.IMMEDIATELY;
+        Category category = ModelUtils.getCategory();
+        User user = ModelUtils.getUser();
+        Place first = ModelUtils.getPlace();
+        first.setCategory(category);
+        Place second = ModelUtils.getPlace();
+        second.setId(2L);
+        second.setCategory(category);
+
+        when(userRepo.findAllByEmailNotification(emailNotification))
+                .thenReturn(Collections.singletonList(user));
+        when(modelMapper.map(user, PlaceAuthorDto.class))
+                .thenReturn(new PlaceAuthorDto(1L, "dto", "email"));
+        when(modelMapper.map(category, CategoryDto.class))
+                .thenReturn(new CategoryDto("category"));
+        when(modelMapper.map(any(Place.class), eq(PlaceNotificationDto.class)))
+                .thenReturn(new PlaceNotificationDto("name", new CategoryDto("category")));
+
+        notificationService.sendImmediatelyReports(Arrays.asList(first, second));
+
+        verify(userRepo, times(1)).findAllByEmailNotification(emailNotification);
+        verify(outboxService, Mockito.times(1))
+                .send(any(), anyString(), any(SendReportEmailMessage.class));
+    }
+
+    @Test
+    void sendImmediatelyReportsWithoutSubscribersTest() {
+        when(userRepo.findAllByEmailNotification(EmailNotification.IMMEDIATELY))
+                .thenReturn(Collections.emptyList());
+
+        notificationService.sendImmediatelyReports(Collections.singletonList(ModelUtils.getPlace()));
+
+        verify(outboxService, never()).send(any(), anyString(), any(SendReportEmailMessage.class));
     }
 
     @Test
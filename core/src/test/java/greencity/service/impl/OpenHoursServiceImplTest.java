@@ -43,6 +43,26 @@ public class OpenHoursServiceImplTest {
         assertEquals(openingHours, openHoursService.save(openingHours));
     }
 
+    @Test
+    public void saveAllTest() {
+        List<OpeningHours> hours = Arrays.asList(
+            OpeningHours.builder().openTime(LocalTime.of(9, 0)).closeTime(LocalTime.of(20, 0)).build(),
+            OpeningHours.builder().openTime(LocalTime.of(10, 0)).closeTime(LocalTime.of(18, 0)).build());
+
+        when(openHoursRepo.saveAll(hours)).thenReturn(hours);
+
+        assertEquals(hours, openHoursService.saveAll(hours));
+        Mockito.verify(openHoursRepo, Mockito.never()).save(any(OpeningHours.class));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void saveAllWithWrongCloseTimeTest() {
+        List<OpeningHours> hours = Collections.singletonList(
+            OpeningHours.builder().openTime(LocalTime.of(20, 0)).closeTime(LocalTime.of(9, 0)).build());
+
+        openHoursService.saveAll(hours);
+    }
+
     @Test
     public void saveTestWithBreakTime() {
         BreakTime breakTime = BreakTime.builder()
@@ -0,0 +1,107 @@
+package greencity.service.impl;
+
+import greencity.entity.OutboxMessage;
+import greencity.repository.OutboxMessageRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+    @Mock
+    private OutboxMessageRepo outboxMessageRepo;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxMessageRepo, rabbitTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void sendStoresConvertedMessage() {
+        SimpleMessageConverter converter = new SimpleMessageConverter();
+        when(rabbitTemplate.getMessageConverter()).thenReturn(converter);
+
+        outboxService.send("exchange", "key", "body");
+
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxMessageRepo).save(captor.capture());
+        assertEquals("exchange", captor.getValue().getExchange());
+        assertEquals("key", captor.getValue().getRoutingKey());
+        assertArrayEquals("body".getBytes(), captor.getValue().getPayload());
+        assertEquals(0, captor.getValue().getAttempts());
+        verify(rabbitTemplate, never()).send(any(), any(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void relayDeletesConfirmedAndPostponesRejectedMessages() {
+        OutboxMessage confirmed = getOutboxMessage(1L);
+        OutboxMessage rejected = getOutboxMessage(2L);
+        when(outboxMessageRepo.findDueForPublishing(any(), anyInt())).thenReturn(Arrays.asList(confirmed, rejected));
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = "1".equals(correlationData.getId());
+            correlationData.getFuture().set(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq("key"), any(Message.class), any(CorrelationData.class));
+
+        assertEquals(1, outboxService.relay());
+
+        verify(outboxMessageRepo).deleteAllByIdIn(Collections.singletonList(1L));
+        assertEquals(1, rejected.getAttempts());
+        assertTrue(rejected.getNextAttemptDate().isAfter(ZonedDateTime.now()));
+    }
+
+    @Test
+    void relayPostponesMessagesWhenBrokerIsUnavailable() {
+        OutboxMessage message = getOutboxMessage(1L);
+        when(outboxMessageRepo.findDueForPublishing(any(), anyInt())).thenReturn(Collections.singletonList(message));
+        doThrow(new AmqpConnectException(new RuntimeException()))
+            .when(rabbitTemplate).send(any(), any(), any(Message.class), any(CorrelationData.class));
+
+        assertEquals(0, outboxService.relay());
+
+        verify(outboxMessageRepo, never()).deleteAllByIdIn(any());
+        assertEquals(1, message.getAttempts());
+    }
+
+    private OutboxMessage getOutboxMessage(Long id) {
+        return OutboxMessage.builder()
+            .id(id)
+            .exchange("exchange")
+            .routingKey("key")
+            .payload(new byte[] {1})
+            .createdDate(ZonedDateTime.now())
+            .attempts(0)
+            .nextAttemptDate(ZonedDateTime.now())
+            .build();
+    }
+}
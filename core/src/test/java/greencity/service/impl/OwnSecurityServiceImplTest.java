@@ -13,11 +13,11 @@ import greencity.security.jwt.JwtTool;
 import greencity.security.repository.OwnSecurityRepo;
 import greencity.security.service.OwnSecurityService;
 import greencity.security.service.impl.OwnSecurityServiceImpl;
+import greencity.service.OutboxService;
 import greencity.service.UserService;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -41,7 +41,7 @@ public class OwnSecurityServiceImplTest {
     JwtTool jwtTool;
 
     @Mock
-    RabbitTemplate rabbitTemplate;
+    OutboxService outboxService;
 
     private OwnSecurityService ownSecurityService;
 
@@ -58,7 +58,7 @@ public class OwnSecurityServiceImplTest {
     public void init() {
         initMocks(this);
         ownSecurityService = new OwnSecurityServiceImpl(ownSecurityRepo, userService, passwordEncoder,
-            jwtTool, 1, rabbitTemplate, defaultProfilePicture);
+            jwtTool, 1, outboxService, defaultProfilePicture);
 
         verifiedUser = User.builder()
             .email("test@gmail.com")
@@ -90,7 +90,7 @@ public class OwnSecurityServiceImplTest {
         ownSecurityService.signUp(new OwnSignUpDto());
 
         verify(userService, times(1)).save(any(User.class));
-        verify(rabbitTemplate, times(1)).convertAndSend(
+        verify(outboxService, times(1)).send(
             refEq(sendEmailTopic),
             refEq(VERIFY_EMAIL_ROUTING_KEY),
             refEq(new VerifyEmailMessage(
@@ -108,14 +108,14 @@ public class OwnSecurityServiceImplTest {
     public void signIn() {
         when(userService.findByEmail(anyString())).thenReturn(verifiedUser);
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtTool.createAccessToken(anyString(), any(ROLE.class))).thenReturn("new-access-token");
+        when(jwtTool.createAccessToken(any(User.class))).thenReturn("new-access-token");
         when(jwtTool.createRefreshToken(any(User.class))).thenReturn("new-refresh-token");
 
         ownSecurityService.signIn(ownSignInDto);
 
         verify(userService, times(1)).findByEmail(anyString());
         verify(passwordEncoder, times(1)).matches(anyString(), anyString());
-        verify(jwtTool, times(1)).createAccessToken(anyString(), any(ROLE.class));
+        verify(jwtTool, times(1)).createAccessToken(any(User.class));
         verify(jwtTool, times(1)).createRefreshToken(any(User.class));
     }
 
@@ -123,7 +123,7 @@ public class OwnSecurityServiceImplTest {
     public void signInNotVerifiedUser() {
         when(userService.findByEmail(anyString())).thenReturn(notVerifiedUser);
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtTool.createAccessToken(anyString(), any(ROLE.class))).thenReturn("new-access-token");
+        when(jwtTool.createAccessToken(any(User.class))).thenReturn("new-access-token");
         when(jwtTool.createRefreshToken(any(User.class))).thenReturn("new-refresh-token");
 
         ownSecurityService.signIn(ownSignInDto);
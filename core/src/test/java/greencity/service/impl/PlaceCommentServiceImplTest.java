@@ -6,6 +6,7 @@ import greencity.dto.comment.AddCommentDto;
 import greencity.dto.comment.CommentAdminDto;
 import greencity.dto.comment.CommentReturnDto;
 import greencity.entity.Comment;
+import greencity.entity.Estimate;
 import greencity.repository.PlaceCommentRepo;
 import greencity.service.PlaceService;
 import greencity.service.UserService;
@@ -74,6 +75,33 @@ public class PlaceCommentServiceImplTest {
         when(placeCommentRepo.save(any())).thenReturn(comment);
         placeCommentService.save(1L, addCommentDto, "email");
         verify(placeCommentRepo, times(1)).save(comment);
+        verify(placeService, never()).updateRating(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void saveWithEstimateUpdatesRatingTest() {
+        AddCommentDto addCommentDto = ModelUtils.getAddCommentDto();
+        Comment comment = ModelUtils.getComment();
+        comment.setEstimate(Estimate.builder().rate((byte) 4).build());
+        when(placeService.findById(anyLong())).thenReturn(ModelUtils.getPlace());
+        when(userService.findByEmail(anyString())).thenReturn(ModelUtils.getUser());
+        when(modelMapper.map(addCommentDto, Comment.class)).thenReturn(comment);
+        when(placeCommentRepo.save(any())).thenReturn(comment);
+        placeCommentService.save(1L, addCommentDto, "email");
+        verify(placeService).updateRating(1L, 4, 1);
+    }
+
+    @Test
+    public void deleteByIdRemovesRatesOfRepliesTest() {
+        Comment reply = ModelUtils.getComment();
+        reply.setEstimate(Estimate.builder().rate((byte) 2).build());
+        Comment comment = ModelUtils.getComment();
+        comment.setEstimate(Estimate.builder().rate((byte) 5).build());
+        comment.setComments(Collections.singletonList(reply));
+        when(placeCommentRepo.findById(anyLong())).thenReturn(Optional.of(comment));
+        placeCommentService.deleteById(1L);
+        verify(placeCommentRepo).delete(comment);
+        verify(placeService).updateRating(1L, -7, -2);
     }
 
 
@@ -4,6 +4,7 @@ import greencity.dto.PageableDto;
 import greencity.dto.category.CategoryDto;
 import greencity.dto.discount.DiscountValueDto;
 import greencity.dto.location.LocationAddressAndGeoDto;
+import greencity.dto.location.MapBoundsDto;
 import greencity.dto.openhours.OpeningHoursDto;
 import greencity.dto.photo.PhotoAddDto;
 import greencity.dto.place.*;
@@ -12,23 +13,33 @@ import greencity.entity.enums.PlaceStatus;
 import greencity.entity.enums.ROLE;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.PlaceStatusException;
+import greencity.index.PlaceMarker;
+import greencity.index.WeekMinutesBitmap;
 import greencity.repository.PlaceRepo;
 import greencity.service.*;
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.sql.Connection;
 import java.time.ZonedDateTime;
 import java.util.*;
+import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.modelmapper.ModelMapper;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -134,7 +145,7 @@ class PlaceServiceImplTest {
     private NotificationService notificationService;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxService outboxService;
 
     private ZoneId zoneId = ZoneId.of("Europe/Kiev");
 
@@ -160,7 +171,7 @@ class PlaceServiceImplTest {
         MockitoAnnotations.initMocks(this);
         placeService = new PlaceServiceImpl(placeRepo, modelMapper , categoryService,
             locationService, specificationService, userService, openingHoursService, discountService,
-            notificationService, zoneId, rabbitTemplate,proposePlaceMapper);
+            notificationService, zoneId, outboxService,proposePlaceMapper);
     }
 
     @Test
@@ -171,6 +182,34 @@ class PlaceServiceImplTest {
         when(placeRepo.save(place)).thenReturn(place);
 
         assertEquals(place, placeService.save(placeAddDto, user.getEmail()));
+        verify(proposePlaceMapper).updateDuplicateIndex(place);
+    }
+
+    @Test
+    void saveComputesOpenMinutesWithoutBreakTest() {
+        OpeningHours hours = OpeningHours.builder()
+            .weekDay(DayOfWeek.MONDAY)
+            .openTime(LocalTime.of(9, 0))
+            .closeTime(LocalTime.of(18, 0))
+            .breakTime(BreakTime.builder().startTime(LocalTime.of(13, 0)).endTime(LocalTime.of(14, 0)).build())
+            .build();
+        Place newPlace = Place.builder()
+            .name("Test")
+            .openingHoursList(Collections.singleton(hours))
+            .discountValues(discountValues)
+            .photos(photos)
+            .build();
+        when(modelMapper.map(placeAddDto, Place.class)).thenReturn(newPlace);
+        when(userService.findByEmail(anyString())).thenReturn(user);
+        when(categoryService.findByName(anyString())).thenReturn(category);
+        when(placeRepo.save(newPlace)).thenReturn(newPlace);
+
+        WeekMinutesBitmap openMinutes = new WeekMinutesBitmap(
+            placeService.save(placeAddDto, user.getEmail()).getOpenMinutes());
+
+        assertTrue(openMinutes.contains(DayOfWeek.MONDAY, LocalTime.of(10, 0)));
+        assertFalse(openMinutes.contains(DayOfWeek.MONDAY, LocalTime.of(13, 30)));
+        assertFalse(openMinutes.contains(DayOfWeek.TUESDAY, LocalTime.of(10, 0)));
     }
 
     @Test
@@ -183,7 +222,6 @@ class PlaceServiceImplTest {
             .status(PlaceStatus.PROPOSED)
             .modifiedDate(ZonedDateTime.now())
             .build();
-        doNothing().when(rabbitTemplate).convertAndSend((Object) any(), any(), any());
         when(placeRepo.findById(anyLong())).thenReturn(Optional.of(genericEntity));
         when(placeRepo.save(any())).thenReturn(genericEntity);
         placeService.updateStatus(1L, PlaceStatus.DECLINED);
@@ -249,11 +287,12 @@ class PlaceServiceImplTest {
     @Test
     void getInfoByIdTest() {
         PlaceInfoDto gen = new PlaceInfoDto();
-        when(placeRepo.findById(anyLong())).thenReturn(Optional.of(place));
+        Place ratedPlace = Place.builder().id(1L).ratingSum(3).ratingCount(2).build();
+        when(placeRepo.findById(anyLong())).thenReturn(Optional.of(ratedPlace));
         when(modelMapper.map(any(), any())).thenReturn(gen);
-        when(placeRepo.getAverageRate(anyLong())).thenReturn(1.5);
         PlaceInfoDto res = placeService.getInfoById(anyLong());
         assertEquals(gen, res);
+        assertEquals(1.5, res.getRate());
     }
 
     @Test
@@ -279,9 +318,101 @@ class PlaceServiceImplTest {
      */
     @Test
     void averageRate() {
-        Double averageRate = 4.0;
-        when(placeRepo.getAverageRate(anyLong())).thenReturn(averageRate);
-        assertEquals(averageRate, placeService.averageRate(2L));
+        Place ratedPlace = Place.builder().id(2L).ratingSum(12).ratingCount(3).build();
+        when(placeRepo.findById(2L)).thenReturn(Optional.of(ratedPlace));
+        assertEquals(4.0, placeService.averageRate(2L));
+    }
+
+    @Test
+    void averageRateWithoutEstimates() {
+        when(placeRepo.findById(2L)).thenReturn(Optional.of(Place.builder().id(2L).build()));
+        assertNull(placeService.averageRate(2L));
+    }
+
+    @Test
+    void updateRatingTest() {
+        placeService.updateRating(2L, -5, -1);
+        verify(placeRepo).updateRating(2L, -5, -1);
+    }
+
+    @Test
+    void findClustersByMapsBoundsTest() {
+        when(placeRepo.findAllPlaceMarkers(PlaceStatus.APPROVED)).thenReturn(Arrays.asList(
+            new PlaceMarker(1L, "first", 1L, 49.84, 24.02, "first address", 9L, 2),
+            new PlaceMarker(2L, "second", 2L, 49.84001, 24.02001, "second address", 0L, 0),
+            new PlaceMarker(3L, "third", 3L, 50.45, 30.52, "third address", 0L, 0)));
+
+        PlaceClustersDto zoomedOut = placeService.findClustersByMapsBounds(new MapBoundsDto(52.0, 32.0, 48.0, 22.0), 5);
+        PlaceClustersDto zoomedIn =
+            placeService.findClustersByMapsBounds(new MapBoundsDto(49.85, 24.03, 49.83, 24.01), 16);
+
+        assertEquals(1, zoomedOut.getClusters().size());
+        assertEquals(2, zoomedOut.getClusters().get(0).getCount());
+        assertEquals(new MapBoundsDto(49.84001, 24.02001, 49.84, 24.02), zoomedOut.getClusters().get(0).getBounds());
+        assertEquals(1, zoomedOut.getPlaces().size());
+        assertEquals(3L, zoomedOut.getPlaces().get(0).getId());
+        assertTrue(zoomedIn.getClusters().isEmpty());
+        assertEquals(2, zoomedIn.getPlaces().size());
+        assertEquals(4.5, zoomedIn.getPlaces().get(0).getRate());
+        assertEquals("second address", zoomedIn.getPlaces().get(1).getLocation().getAddress());
+        verify(placeRepo, times(1)).findAllPlaceMarkers(PlaceStatus.APPROVED);
+    }
+
+    @Test
+    void deleteByIdOfProposedPlaceSendsEmailInsideTransaction() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        ProxyFactory proxyFactory = new ProxyFactory(placeService);
+        proxyFactory.addAdvice(new TransactionInterceptor(new DataSourceTransactionManager(dataSource),
+            new AnnotationTransactionAttributeSource()));
+        PlaceService transactionalPlaceService = (PlaceService) proxyFactory.getProxy();
+        when(placeRepo.findById(1L)).thenReturn(Optional.of(genericEntity1));
+        when(placeRepo.save(genericEntity1)).thenReturn(genericEntity1);
+        doAnswer(invocation -> {
+            assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(outboxService).send(any(), anyString(), any());
+
+        transactionalPlaceService.deleteById(1L);
+
+        assertEquals(PlaceStatus.DELETED, genericEntity1.getStatus());
+        verify(outboxService).send(any(), anyString(), any());
+    }
+
+    @Test
+    void updateStatusRefreshesMarkerClustersInBackground() {
+        MapBoundsDto bounds = new MapBoundsDto(52.0, 32.0, 48.0, 22.0);
+        Place proposed = Place.builder().id(1L).author(user).status(PlaceStatus.PROPOSED).build();
+        PlaceMarker marker = new PlaceMarker(1L, "first", 1L, 49.84, 24.02, "first address", 0L, 0);
+        when(placeRepo.findAllPlaceMarkers(PlaceStatus.APPROVED))
+            .thenReturn(Collections.emptyList())
+            .thenReturn(Collections.singletonList(marker));
+        when(placeRepo.findById(anyLong())).thenReturn(Optional.of(proposed));
+        when(placeRepo.save(any())).thenReturn(proposed);
+        placeService.findClustersByMapsBounds(bounds, 5);
+        placeService.refreshChangedMarkerClusters();
+
+        placeService.updateStatus(1L, PlaceStatus.APPROVED);
+        assertTrue(placeService.findClustersByMapsBounds(bounds, 5).getPlaces().isEmpty());
+        placeService.refreshChangedMarkerClusters();
+
+        assertEquals(1, placeService.findClustersByMapsBounds(bounds, 5).getPlaces().size());
+        verify(placeRepo, times(2)).findAllPlaceMarkers(PlaceStatus.APPROVED);
+        verify(proposePlaceMapper).updateDuplicateIndex(proposed);
+    }
+
+    @Test
+    void findDuplicatesTest() {
+        List<PlaceDuplicateDto> duplicates = Collections.singletonList(PlaceDuplicateDto.builder()
+            .id(2L)
+            .name("test1")
+            .distance(12.0)
+            .nameSimilarity(1.0)
+            .build());
+        when(placeRepo.findById(1L)).thenReturn(Optional.of(genericEntity1));
+        when(proposePlaceMapper.findDuplicates(genericEntity1)).thenReturn(duplicates);
+
+        assertEquals(duplicates, placeService.findDuplicates(1L));
     }
 
     @Test
@@ -296,14 +427,45 @@ class PlaceServiceImplTest {
             new UpdatePlaceStatusDto(2L, PlaceStatus.DECLINED)
         );
 
-        when(placeRepo.findById(anyLong()))
-            .thenReturn(Optional.of(genericEntity1))
-            .thenReturn(Optional.of(genericEntity2));
+        when(placeRepo.findAllWithAuthorAndCategoryByIdIn(anyCollection()))
+            .thenReturn(Arrays.asList(genericEntity2, genericEntity1));
         when(modelMapper.map(any(), any()))
             .thenReturn(new UpdatePlaceStatusDto(1L, PlaceStatus.DECLINED))
             .thenReturn(new UpdatePlaceStatusDto(2L, PlaceStatus.DECLINED));
 
         assertEquals(expected, placeService.updateStatuses(requestDto));
+        verify(placeRepo).updateStatuses(anyCollection(), eq(PlaceStatus.DECLINED), any());
+        verify(placeRepo, never()).save(any());
+        verify(outboxService, times(2)).send(any(), anyString(), any());
+        verify(notificationService, never()).sendImmediatelyReports(anyList());
+    }
+
+    @Test
+    void updateStatusesToApprovedSendsOneReportTest() {
+        BulkUpdatePlaceStatusDto requestDto = new BulkUpdatePlaceStatusDto(
+            Arrays.asList(1L, 2L),
+            PlaceStatus.APPROVED
+        );
+        when(placeRepo.findAllWithAuthorAndCategoryByIdIn(anyCollection()))
+            .thenReturn(Arrays.asList(genericEntity1, genericEntity2));
+
+        placeService.updateStatuses(requestDto);
+
+        verify(notificationService).sendImmediatelyReports(Arrays.asList(genericEntity1, genericEntity2));
+        verify(notificationService, never()).sendImmediatelyReport(any(Place.class));
+    }
+
+    @Test
+    void updateStatusesGivenMissingPlaceThenThrowException() {
+        BulkUpdatePlaceStatusDto requestDto = new BulkUpdatePlaceStatusDto(
+            Arrays.asList(1L, 3L),
+            PlaceStatus.DECLINED
+        );
+        when(placeRepo.findAllWithAuthorAndCategoryByIdIn(anyCollection()))
+            .thenReturn(Collections.singletonList(genericEntity1));
+
+        assertThrows(NotFoundException.class, () -> placeService.updateStatuses(requestDto));
+        verify(placeRepo, never()).updateStatuses(anyCollection(), any(), any());
     }
 
     @Test
@@ -318,9 +480,8 @@ class PlaceServiceImplTest {
     void bulkDelete() {
         List<Long> request = Arrays.asList(1L, 2L);
 
-        when(placeRepo.findById(anyLong()))
-            .thenReturn(Optional.of(genericEntity1))
-            .thenReturn(Optional.of(genericEntity2));
+        when(placeRepo.findAllWithAuthorAndCategoryByIdIn(anyCollection()))
+            .thenReturn(Arrays.asList(genericEntity1, genericEntity2));
         when(modelMapper.map(any(), any()))
             .thenReturn(new UpdatePlaceStatusDto(1L, PlaceStatus.DELETED))
             .thenReturn(new UpdatePlaceStatusDto(2L, PlaceStatus.DELETED));
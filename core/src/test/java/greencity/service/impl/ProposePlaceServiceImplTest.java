@@ -3,30 +3,42 @@ package greencity.service.impl;
 import greencity.ModelUtils;
 import greencity.dto.location.LocationAddressAndGeoDto;
 import greencity.dto.openhours.OpeningHoursDto;
+import greencity.dto.place.PlaceDuplicateDto;
 import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
 import greencity.exception.exceptions.BadRequestException;
+import greencity.index.PlaceLocationEntry;
+import greencity.repository.PlaceRepo;
 import greencity.service.LocationService;
 import greencity.service.PhotoService;
 import greencity.service.SpecificationService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
 class ProposePlaceServiceImplTest {
 
-    @InjectMocks
     private ProposePlaceServiceImpl proposePlaceService;
 
     @Mock
@@ -38,6 +50,15 @@ class ProposePlaceServiceImplTest {
     @Mock
     private LocationService locationService;
 
+    @Mock
+    private PlaceRepo placeRepo;
+
+    @BeforeEach
+    void setUp() {
+        proposePlaceService =
+            new ProposePlaceServiceImpl(specService, photoService, locationService, placeRepo, 150, 0.6);
+    }
+
     @Test
     void checkLocationValues() {
         Location location = ModelUtils.getLocation();
@@ -84,4 +105,80 @@ class ProposePlaceServiceImplTest {
         proposePlaceService.saveDiscountValuesWithPlace(Collections.singleton(discountValue), place);
         assertEquals(Collections.singleton(discountValueTest), Collections.singleton(discountValue));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findDuplicatesReturnsNearbyPlacesWithSimilarNames() {
+        when(placeRepo.findAllPlaceLocationEntries(any())).thenReturn(Arrays.asList(
+            new PlaceLocationEntry(1L, "Forum", 49.84970, 24.02230, "address", PlaceStatus.PROPOSED),
+            new PlaceLocationEntry(2L, "Forum-2", 49.84990, 24.02250, "address", PlaceStatus.APPROVED),
+            new PlaceLocationEntry(3L, "Forum", 49.84985, 24.02240, "address", PlaceStatus.APPROVED),
+            new PlaceLocationEntry(4L, "Kredens Cafe", 49.84980, 24.02235, "address", PlaceStatus.APPROVED),
+            new PlaceLocationEntry(5L, "Forum", 49.86, 24.03, "address", PlaceStatus.APPROVED)));
+        Place place = Place.builder()
+            .id(1L)
+            .name("FORUM!")
+            .location(Location.builder().lat(49.84970).lng(24.02230).build())
+            .build();
+
+        List<PlaceDuplicateDto> duplicates = proposePlaceService.findDuplicates(place);
+
+        assertEquals(Arrays.asList(3L, 2L),
+            duplicates.stream().map(PlaceDuplicateDto::getId).collect(Collectors.toList()));
+        assertEquals(1.0, duplicates.get(0).getNameSimilarity(), 1e-9);
+        assertEquals(18.2, duplicates.get(0).getDistance(), 0.1);
+    }
+
+    @Test
+    void updateDuplicateIndexMakesPlaceVisibleWithoutRebuild() {
+        when(placeRepo.findAllPlaceLocationEntries(any())).thenReturn(Collections.emptyList());
+        Place proposed = Place.builder()
+            .id(1L)
+            .name("Green cafe")
+            .status(PlaceStatus.PROPOSED)
+            .location(ModelUtils.getLocation())
+            .build();
+        Place duplicate = Place.builder()
+            .id(2L)
+            .name("Green caffe")
+            .location(ModelUtils.getLocation())
+            .build();
+        proposePlaceService.findDuplicates(duplicate);
+
+        proposePlaceService.updateDuplicateIndex(proposed);
+
+        assertEquals(Collections.singletonList(1L), proposePlaceService.findDuplicates(duplicate).stream()
+            .map(PlaceDuplicateDto::getId)
+            .collect(Collectors.toList()));
+        verify(placeRepo, times(1)).findAllPlaceLocationEntries(any());
+    }
+
+    @Test
+    void updateDuplicateIndexRemovesRejectedPlaceWithoutRebuild() {
+        when(placeRepo.findAllPlaceLocationEntries(any())).thenReturn(Collections.singletonList(
+            new PlaceLocationEntry(1L, "Forum", 49.84970, 24.02230, "address", PlaceStatus.PROPOSED)));
+        Place rejected = Place.builder()
+            .id(1L)
+            .name("Forum")
+            .status(PlaceStatus.DECLINED)
+            .location(Location.builder().lat(49.84970).lng(24.02230).build())
+            .build();
+        Place duplicate = Place.builder()
+            .id(2L)
+            .name("Forum")
+            .location(Location.builder().lat(49.84970).lng(24.02230).build())
+            .build();
+        assertEquals(1, proposePlaceService.findDuplicates(duplicate).size());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            proposePlaceService.updateDuplicateIndex(rejected);
+            assertEquals(1, proposePlaceService.findDuplicates(duplicate).size());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(proposePlaceService.findDuplicates(duplicate).isEmpty());
+        verify(placeRepo, times(1)).findAllPlaceLocationEntries(any());
+    }
+}
@@ -10,6 +10,7 @@ import greencity.entity.TipsAndTricksComment;
 import greencity.entity.User;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.repository.TipsAndTricksCommentRepo;
+import greencity.service.ActivityFeedService;
 import greencity.service.TipsAndTricksService;
 import java.util.*;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,8 @@ class TipsAndTricksCommentServiceImplTest {
     private TipsAndTricksService tipsAndTricksService;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private ActivityFeedService activityFeedService;
     @InjectMocks
     private TipsAndTricksCommentServiceImpl tipsAndTricksCommentService;
 
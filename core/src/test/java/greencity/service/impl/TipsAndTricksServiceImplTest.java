@@ -10,7 +10,10 @@ import greencity.entity.Tag;
 import greencity.entity.TipsAndTricks;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
+import greencity.index.TagIndexEntry;
 import greencity.repository.TipsAndTricksRepo;
+import greencity.repository.UserCountersRepo;
+import greencity.service.ActivityFeedService;
 import greencity.service.FileService;
 import greencity.service.TagsService;
 import java.io.IOException;
@@ -47,6 +50,10 @@ class TipsAndTricksServiceImplTest {
     private ModelMapper modelMapper;
     @Mock
     private UserServiceImpl userService;
+    @Mock
+    private UserCountersRepo userCountersRepo;
+    @Mock
+    private ActivityFeedService activityFeedService;
     @InjectMocks
     private TipsAndTricksServiceImpl tipsAndTricksService;
 
@@ -67,6 +74,7 @@ class TipsAndTricksServiceImplTest {
             tipsAndTricksService.save(tipsAndTricksDtoRequest, null, ModelUtils.getUser().getEmail());
 
         assertEquals(tipsAndTricksDtoResponse, actual);
+        verify(userCountersRepo).addWrittenTipsAndTricks(ModelUtils.getUser().getId(), 1);
     }
 
     @Test
@@ -128,8 +136,9 @@ class TipsAndTricksServiceImplTest {
         PageableDto<TipsAndTricksDtoResponse> pageableDto = new PageableDto<>(dtoList, dtoList.size(), 0,1);
 
         when(modelMapper.map(tipsAndTricks.get(0), TipsAndTricksDtoResponse.class)).thenReturn(dtoList.get(0));
-        when(tipsAndTricksRepo.find(pageRequest, Collections.singletonList(ModelUtils.getTag().getName())))
-            .thenReturn(page);
+        when(tipsAndTricksRepo.findAllTagIndexEntries()).thenReturn(Collections.singletonList(
+            new TagIndexEntry(1L, tipsAndTricks.get(0).getCreationDate(), ModelUtils.getTag().getName())));
+        when(tipsAndTricksRepo.findAllById(Collections.singletonList(1L))).thenReturn(tipsAndTricks);
         when((tipsAndTricksRepo.findAllByOrderByCreationDateDesc(pageRequest))).thenReturn(page);
 
         PageableDto<TipsAndTricksDtoResponse> actual =
@@ -169,6 +178,7 @@ class TipsAndTricksServiceImplTest {
         tipsAndTricksService.delete(1L);
 
         verify(tipsAndTricksRepo, times(1)).deleteById(1L);
+        verify(userCountersRepo).addWrittenTipsAndTricks(ModelUtils.getUser().getId(), -1);
     }
 
     @Test
@@ -17,7 +17,10 @@ import greencity.entity.enums.ROLE;
 import greencity.entity.enums.UserStatus;
 import greencity.entity.localization.GoalTranslation;
 import greencity.exception.exceptions.*;
+import greencity.index.FriendshipEntry;
+import greencity.index.UserRatingEntry;
 import greencity.repository.*;
+import greencity.service.ActivityFeedService;
 import greencity.service.FileService;
 import greencity.service.HabitDictionaryService;
 import java.net.MalformedURLException;
@@ -25,6 +28,7 @@ import java.net.URL;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 import junit.framework.TestCase;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,6 +45,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.MalformedURLException;
@@ -83,6 +89,15 @@ public class UserServiceImplTest {
     @Mock
     HabitDictionaryTranslationRepo habitDictionaryTranslationRepo;
 
+    @Mock
+    TipsAndTricksRepo tipsAndTricksRepo;
+
+    @Mock
+    EcoNewsRepo ecoNewsRepo;
+
+    @Mock
+    UserCountersRepo userCountersRepo;
+
     private User user =
         User.builder()
             .id(1L)
@@ -111,6 +126,7 @@ public class UserServiceImplTest {
             .habitDictionary(new HabitDictionary())
             .statusHabit(true)
             .createDate(ZonedDateTime.now())
+            .users(Collections.singletonList(user))
             .build();
     private String language = "uk";
     private List<GoalTranslation> goalTranslations = Arrays.asList(
@@ -124,6 +140,8 @@ public class UserServiceImplTest {
     @InjectMocks
     private UserServiceImpl userService;
     @Mock
+    private ActivityFeedService activityFeedService;
+    @Mock
     private ModelMapper modelMapper;
 
     @Test
@@ -239,6 +257,18 @@ public class UserServiceImplTest {
         );
     }
 
+    @Test
+    public void findStatusById() {
+        when(userRepo.findUserStatusById(1L)).thenReturn(Optional.of(UserStatus.BLOCKED));
+        assertEquals(UserStatus.BLOCKED, userService.findStatusById(1L));
+    }
+
+    @Test
+    public void findStatusByIdNotFound() {
+        when(userRepo.findUserStatusById(1L)).thenReturn(Optional.empty());
+        assertThrows(WrongIdException.class, () -> userService.findStatusById(1L));
+    }
+
     @Test
     public void findByPage() {
         int pageNumber = 0;
@@ -344,35 +374,19 @@ public class UserServiceImplTest {
 
     @Test
     public void getUserGoalsTest() {
-        UserGoal customUserGoal = ModelUtils.getCustomUserGoal();
-        UserGoal predefinedUserGoal = ModelUtils.getPredefinedUserGoal();
-        List<UserGoal> userGoals = Arrays.asList(customUserGoal, predefinedUserGoal);
-        UserGoalResponseDto customDtoWithoutText =
-            UserGoalResponseDto.builder().id(1L).status(GoalStatus.ACTIVE).build();
-        UserGoalResponseDto predefinedDtoWithoutText =
-            UserGoalResponseDto.builder().id(2L).status(GoalStatus.ACTIVE).build();
         UserGoalResponseDto customUserGoalDto = ModelUtils.getCustomUserGoalDto();
         UserGoalResponseDto predefinedUserGoalDto = ModelUtils.getPredefinedUserGoalDto();
         List<UserGoalResponseDto> userGoalDtos = Arrays.asList(customUserGoalDto, predefinedUserGoalDto);
-        List<GoalTranslation> goalTranslations = ModelUtils.getGoalTranslations();
-        CustomGoal customGoal = CustomGoal.builder().id(8L).text("Buy electric car").build();
-
-        when(userGoalRepo.findAllByUserId(user.getId())).thenReturn(userGoals);
-        when(modelMapper.map(userGoals.get(0), UserGoalResponseDto.class)).thenReturn(customDtoWithoutText);
-        when(modelMapper.map(userGoals.get(1), UserGoalResponseDto.class)).thenReturn(predefinedDtoWithoutText);
-        when(userGoalRepo.findGoalByUserGoalId(userGoals.get(0).getId())).thenReturn(Optional.empty());
-        when(userGoalRepo.findGoalByUserGoalId(userGoals.get(1).getId()))
-            .thenReturn(Optional.of(predefinedUserGoal.getGoal()));
-        when(goalTranslationRepo.findByUserIdLangAndUserGoalId(anyLong(), anyString(), anyLong()))
-            .thenReturn(goalTranslations.get(0));
-        when(customGoalRepo.findByUserGoalIdAndUserId(anyLong(), anyLong())).thenReturn(customGoal);
+
+        when(userGoalRepo.findAllUserGoalResponseDtos(user.getId(), "en")).thenReturn(userGoalDtos);
 
         assertEquals(userService.getUserGoals(user.getId(), "en"), userGoalDtos);
+        verify(userGoalRepo, never()).findAllByUserId(anyLong());
     }
 
     @Test
     public void getUserGoalsUserHasNoGoalTest() {
-        when(userGoalRepo.findAllByUserId(user.getId())).thenReturn(Collections.emptyList());
+        when(userGoalRepo.findAllUserGoalResponseDtos(user.getId(), "en")).thenReturn(Collections.emptyList());
         assertThrows(UserHasNoGoalsException.class, () ->
             userService.getUserGoals(user.getId(), "en")
         );
@@ -401,11 +415,9 @@ public class UserServiceImplTest {
         UserGoal userGoal = new UserGoal(1L, null, null, customgoal, GoalStatus.DISABLED, null);
         when(userGoalRepo.getOne(userGoal.getId())).thenReturn(userGoal);
         user.setUserGoals(Collections.singletonList(userGoal));
-        when(modelMapper.map(any(), eq(UserGoalResponseDto.class))).thenReturn(
-            new UserGoalResponseDto(1L, null, GoalStatus.ACTIVE));
         when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userGoalRepo.findGoalByUserGoalId(anyLong())).thenReturn(Optional.empty());
-        when(customGoalRepo.findByUserGoalIdAndUserId(anyLong(), anyLong())).thenReturn(customgoal);
+        when(userGoalRepo.findUserGoalResponseDto(user.getId(), userGoal.getId(), "en"))
+            .thenReturn(Optional.of(new UserGoalResponseDto(1L, "foo", GoalStatus.DISABLED)));
         UserGoalResponseDto result = userService.updateUserGoalStatus(user.getId(), userGoal.getId(), "en");
         assertEquals("foo", result.getText());
         verify(userGoalRepo, times(0)).save(userGoal);
@@ -416,12 +428,9 @@ public class UserServiceImplTest {
         UserGoal userGoal = ModelUtils.getPredefinedUserGoal();
         when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
         when(userGoalRepo.getOne(userGoal.getId())).thenReturn(userGoal);
-        when(modelMapper.map(any(), eq(UserGoalResponseDto.class)))
-            .thenReturn(new UserGoalResponseDto(2L, null, GoalStatus.DONE));
         user.setUserGoals(Collections.singletonList(userGoal));
-        when(userGoalRepo.findGoalByUserGoalId(anyLong())).thenReturn(Optional.of(userGoal.getGoal()));
-        when(goalTranslationRepo.findByUserIdLangAndUserGoalId(anyLong(), anyString(), anyLong()))
-            .thenReturn(goalTranslations.get(0));
+        when(userGoalRepo.findUserGoalResponseDto(user.getId(), userGoal.getId(), "en"))
+            .thenReturn(Optional.of(new UserGoalResponseDto(2L, goalTranslations.get(0).getText(), GoalStatus.DONE)));
         UserGoalResponseDto userGoalResponseDto =
             userService.updateUserGoalStatus(user.getId(), userGoal.getId(), "en");
 
@@ -436,12 +445,10 @@ public class UserServiceImplTest {
         CustomGoal customgoal = CustomGoal.builder().id(3L).text("foo").build();
         UserGoal userGoal = new UserGoal(1L, null, null, customgoal, GoalStatus.DONE, null);
         when(userGoalRepo.getOne(userGoal.getId())).thenReturn(userGoal);
-        when(modelMapper.map(any(), eq(UserGoalResponseDto.class)))
-            .thenReturn(new UserGoalResponseDto(1L, null, GoalStatus.ACTIVE));
         user.setUserGoals(Collections.singletonList(userGoal));
         when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userGoalRepo.findGoalByUserGoalId(anyLong())).thenReturn(Optional.empty());
-        when(customGoalRepo.findByUserGoalIdAndUserId(anyLong(), anyLong())).thenReturn(customgoal);
+        when(userGoalRepo.findUserGoalResponseDto(user.getId(), userGoal.getId(), "en"))
+            .thenReturn(Optional.of(new UserGoalResponseDto(1L, "foo", GoalStatus.ACTIVE)));
         UserGoalResponseDto userGoalResponseDto =
             userService.updateUserGoalStatus(user.getId(), userGoal.getId(), "en");
         UserGoalResponseDto expectedUserGoalResponseDto = new UserGoalResponseDto(1L, "foo", GoalStatus.ACTIVE);
@@ -469,17 +476,12 @@ public class UserServiceImplTest {
         BulkSaveUserGoalDto nullUserGoalsDto =
             new BulkSaveUserGoalDto(null, Collections.singletonList(userCustomGoalDto));
         UserGoal customUserGoal = ModelUtils.getCustomUserGoal();
-        List<UserGoal> userGoals = Collections.singletonList(customUserGoal);
         UserGoalResponseDto customUserGoalDto = ModelUtils.getCustomUserGoalDto();
         List<UserGoalResponseDto> userGoalDtos = Collections.singletonList(customUserGoalDto);
-        CustomGoal customGoal = CustomGoal.builder().id(8L).text("Buy electric car").build();
 
         when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
         when(modelMapper.map(userCustomGoalDto, UserGoal.class)).thenReturn(customUserGoal);
-        when(userGoalRepo.findAllByUserId(user.getId())).thenReturn(userGoals);
-        when(modelMapper.map(userGoals.get(0), UserGoalResponseDto.class)).thenReturn(userGoalDtos.get(0));
-        when(customGoalRepo.findByUserGoalIdAndUserId(userGoalDtos.get(0).getId(), user.getId()))
-            .thenReturn(customGoal);
+        when(userGoalRepo.findAllUserGoalResponseDtos(user.getId(), "en")).thenReturn(userGoalDtos);
 
         List<UserGoalResponseDto> result = userService.saveUserGoals(user.getId(), nullUserGoalsDto, "en");
         assertEquals("Buy electric car", result.get(0).getText());
@@ -494,19 +496,12 @@ public class UserServiceImplTest {
         BulkSaveUserGoalDto nullCustomGoalsDto = new BulkSaveUserGoalDto(
             Collections.singletonList(userGoalDto), null);
         UserGoal predefinedUserGoal = ModelUtils.getPredefinedUserGoal();
-        List<UserGoal> userGoals = Collections.singletonList(predefinedUserGoal);
         UserGoalResponseDto predefinedUserGoalDto = ModelUtils.getPredefinedUserGoalDto();
         List<UserGoalResponseDto> userGoalDtos = Collections.singletonList(predefinedUserGoalDto);
-        List<GoalTranslation> goalTranslations = ModelUtils.getGoalTranslations();
 
         when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
         when(modelMapper.map(userGoalDto, UserGoal.class)).thenReturn(predefinedUserGoal);
-        when(userGoalRepo.findAllByUserId(user.getId())).thenReturn(userGoals);
-        when(modelMapper.map(userGoals.get(0), UserGoalResponseDto.class)).thenReturn(userGoalDtos.get(0));
-        when(userGoalRepo.findGoalByUserGoalId(userGoals.get(0).getId()))
-            .thenReturn(Optional.of(predefinedUserGoal.getGoal()));
-        when(goalTranslationRepo.findByUserIdLangAndUserGoalId(anyLong(), anyString(), anyLong()))
-            .thenReturn(goalTranslations.get(0));
+        when(userGoalRepo.findAllUserGoalResponseDtos(user.getId(), "en")).thenReturn(userGoalDtos);
 
         List<UserGoalResponseDto> result = userService.saveUserGoals(user.getId(), nullCustomGoalsDto, "en");
         assertEquals("Buy a bamboo toothbrush", result.get(0).getText());
@@ -523,29 +518,18 @@ public class UserServiceImplTest {
             Collections.singletonList(userGoalDto), Collections.singletonList(userCustomGoalDto));
         UserGoal customUserGoal = ModelUtils.getCustomUserGoal();
         UserGoal predefinedUserGoal = ModelUtils.getPredefinedUserGoal();
-        List<UserGoal> userGoals = Arrays.asList(customUserGoal, predefinedUserGoal);
         UserGoalResponseDto customUserGoalDto = ModelUtils.getCustomUserGoalDto();
         UserGoalResponseDto predefinedUserGoalDto = ModelUtils.getPredefinedUserGoalDto();
         List<UserGoalResponseDto> userGoalDtos = Arrays.asList(customUserGoalDto, predefinedUserGoalDto);
-        List<GoalTranslation> goalTranslations = ModelUtils.getGoalTranslations();
-        CustomGoal customGoal = CustomGoal.builder().id(8L).text("Buy electric car").build();
 
         when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
         when(modelMapper.map(userGoalDto, UserGoal.class)).thenReturn(predefinedUserGoal);
         when(modelMapper.map(userCustomGoalDto, UserGoal.class)).thenReturn(customUserGoal);
-        when(userGoalRepo.findAllByUserId(user.getId())).thenReturn(userGoals);
-        when(modelMapper.map(userGoals.get(0), UserGoalResponseDto.class)).thenReturn(userGoalDtos.get(0));
-        when(modelMapper.map(userGoals.get(1), UserGoalResponseDto.class)).thenReturn(userGoalDtos.get(1));
-        when(userGoalRepo.findGoalByUserGoalId(userGoals.get(0).getId())).thenReturn(Optional.empty());
-        when(userGoalRepo.findGoalByUserGoalId(userGoals.get(1).getId()))
-            .thenReturn(Optional.of(predefinedUserGoal.getGoal()));
-        when(goalTranslationRepo.findByUserIdLangAndUserGoalId(anyLong(), anyString(), anyLong()))
-            .thenReturn(goalTranslations.get(0));
-        when(customGoalRepo.findByUserGoalIdAndUserId(anyLong(), anyLong())).thenReturn(customGoal);
+        when(userGoalRepo.findAllUserGoalResponseDtos(user.getId(), "en")).thenReturn(userGoalDtos);
 
         List<UserGoalResponseDto> result = userService.saveUserGoals(user.getId(), userGoalsAndCustomGoalsDto, "en");
         assertEquals("Buy electric car", result.get(0).getText());
-        verify(userGoalRepo, times(2)).saveAll(user.getUserGoals());
+        verify(userGoalRepo).saveAll(user.getUserGoals());
         verify(modelMapper).map(userGoalDto, UserGoal.class);
         verify(modelMapper).map(userCustomGoalDto, UserGoal.class);
     }
@@ -682,6 +666,7 @@ public class UserServiceImplTest {
         when(habitStatisticRepo.findAllByHabitId(1L)).thenReturn(Collections.emptyList());
         userService.deleteHabitByUserIdAndHabitDictionary(user.getId(), habit.getId());
         verify(habitRepo, times(1)).deleteById(habit.getId());
+        verify(userCountersRepo).addHabit(user.getId(), true, -1);
     }
 
     @Test
@@ -705,6 +690,7 @@ public class UserServiceImplTest {
         when(habitRepo.countHabitByUserId(user.getId())).thenReturn(2);
         userService.deleteHabitByUserIdAndHabitDictionary(user.getId(), habit.getId());
         verify(habitRepo).updateHabitStatusById(habit.getId(), false);
+        verify(userCountersRepo).addHabits(user.getId(), -1, 1);
     }
 
     @Test
@@ -757,12 +743,21 @@ public class UserServiceImplTest {
 
     @Test
     void deleteUserFriendByIdTest() {
-        List<User> list = Collections.singletonList(user2);
-        when(userRepo.getAllUserFriends(anyLong())).thenReturn(list);
+        when(userRepo.findAllFriendshipEntries())
+            .thenReturn(Collections.singletonList(new FriendshipEntry(user.getId(), user2.getId())));
         when(userRepo.findById(anyLong())).thenReturn(Optional.of(user2));
         userService.deleteUserFriendById(user.getId(), user2.getId());
         verify(userRepo).deleteUserFriendById(user.getId(), user2.getId());
+        assertThrows(NotDeletedException.class, () ->
+            userService.deleteUserFriendById(user.getId(), user2.getId()));
+    }
 
+    @Test
+    void deleteUserFriendByIdGivenNotFriendThenThrowException() {
+        when(userRepo.findById(anyLong())).thenReturn(Optional.of(user2));
+        assertThrows(NotDeletedException.class, () ->
+            userService.deleteUserFriendById(user.getId(), user2.getId()));
+        verify(userRepo, never()).deleteUserFriendById(anyLong(), anyLong());
     }
 
     @Test
@@ -775,11 +770,51 @@ public class UserServiceImplTest {
 
     @Test
     void addNewFriendTest() {
-        when(userRepo.getAllUserFriends(anyLong())).thenReturn(Collections.singletonList(user));
         when(userRepo.findById(anyLong())).thenReturn(Optional.of(user2));
-        user.setUserFriends(Collections.singletonList(user2));
         userService.addNewFriend(1L, 2L);
         verify(userRepo).addNewFriend(1L, 2L);
+        assertThrows(CheckRepeatingValueException.class, () ->
+            userService.addNewFriend(1L, 2L));
+        verify(userRepo, times(1)).findAllFriendshipEntries();
+    }
+
+    @Test
+    void addNewFriendRolledBackLeavesFriendshipGraphIntact() {
+        when(userRepo.findById(anyLong())).thenReturn(Optional.of(user2));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.addNewFriend(1L, 2L);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        userService.addNewFriend(1L, 2L);
+        verify(userRepo, times(2)).addNewFriend(1L, 2L);
+    }
+
+    @Test
+    void addNewFriendCommittedDuringRebuildIsAppliedToRebuiltGraph() throws InterruptedException {
+        when(userRepo.findById(anyLong())).thenReturn(Optional.of(user2));
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            userService.addNewFriend(1L, 2L);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Thread commit = new Thread(() -> synchronizations.forEach(TransactionSynchronization::afterCommit));
+        when(userRepo.findAllFriendshipEntries()).thenAnswer(invocation -> {
+            commit.start();
+            commit.join(100);
+            return Collections.emptyList();
+        });
+        userService.rebuildFriendshipGraph();
+        commit.join();
+
+        assertThrows(CheckRepeatingValueException.class, () -> userService.addNewFriend(1L, 2L));
     }
 
     @Test
@@ -793,11 +828,100 @@ public class UserServiceImplTest {
     void getSixFriendsWithTheHighestRatingTest() {
         UserProfilePictureDto e = new UserProfilePictureDto();
         List<UserProfilePictureDto> list = Collections.singletonList(e);
-        when(userRepo.getSixFriendsWithTheHighestRating(1L)).thenReturn(Collections.singletonList(user));
-        when(modelMapper.map(user, UserProfilePictureDto.class)).thenReturn(e);
+        when(userRepo.findAllFriendshipEntries())
+            .thenReturn(Collections.singletonList(new FriendshipEntry(1L, 2L)));
+        when(userRepo.findAllUserRatingEntries())
+            .thenReturn(Arrays.asList(new UserRatingEntry(1L, 0f), new UserRatingEntry(2L, 1.5f)));
+        when(userRepo.findAllById(Collections.singletonList(2L))).thenReturn(Collections.singletonList(user2));
+        when(modelMapper.map(user2, UserProfilePictureDto.class)).thenReturn(e);
         assertEquals(list, userService.getSixFriendsWithTheHighestRating(1L));
     }
 
+    @Test
+    void getFriendSuggestionsTest() {
+        when(userRepo.findAllFriendshipEntries()).thenReturn(Arrays.asList(
+            new FriendshipEntry(1L, 3L),
+            new FriendshipEntry(1L, 4L),
+            new FriendshipEntry(3L, 2L),
+            new FriendshipEntry(4L, 2L),
+            new FriendshipEntry(4L, 1L)));
+        when(userRepo.findAllById(Collections.singletonList(2L))).thenReturn(Collections.singletonList(user2));
+        UserFriendSuggestionDto expected = UserFriendSuggestionDto.builder()
+            .id(2L)
+            .name(user2.getName())
+            .mutualFriends(2)
+            .build();
+
+        assertEquals(Collections.singletonList(expected), userService.getFriendSuggestions(1L));
+    }
+
+    @Test
+    void getLeaderboardTest() {
+        when(userRepo.findAllUserRatingEntries())
+            .thenReturn(Arrays.asList(new UserRatingEntry(1L, 0f), new UserRatingEntry(2L, 1.5f)));
+        when(userRepo.findAllById(Arrays.asList(2L, 1L))).thenReturn(Arrays.asList(user, user2));
+        List<LeaderboardEntryDto> leaderboard = userService.getLeaderboard(1000);
+
+        assertEquals(Arrays.asList(2L, 1L), leaderboard.stream()
+            .map(LeaderboardEntryDto::getId)
+            .collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1, 2), leaderboard.stream()
+            .map(LeaderboardEntryDto::getRank)
+            .collect(Collectors.toList()));
+    }
+
+    @Test
+    void getLeaderboardPositionTest() {
+        when(userRepo.findAllUserRatingEntries())
+            .thenReturn(Arrays.asList(new UserRatingEntry(1L, 0f), new UserRatingEntry(2L, 1.5f)));
+        when(userRepo.findById(1L)).thenReturn(Optional.of(user));
+
+        assertEquals(2, userService.getLeaderboardPosition(1L).getRank());
+        assertThrows(NotFoundException.class, () -> userService.getLeaderboardPosition(3L));
+    }
+
+    @Test
+    void getLeaderboardReturnsAtLeastOneUserTest() {
+        when(userRepo.findAllUserRatingEntries())
+            .thenReturn(Arrays.asList(new UserRatingEntry(1L, 0f), new UserRatingEntry(2L, 1.5f)));
+        when(userRepo.findAllById(Collections.singletonList(2L))).thenReturn(Collections.singletonList(user2));
+
+        assertEquals(1, userService.getLeaderboard(-1).size());
+    }
+
+    @Test
+    void getLeaderboardPositionLoadsLeaderboardOnceTest() {
+        when(userRepo.findAllUserRatingEntries())
+            .thenReturn(Arrays.asList(new UserRatingEntry(1L, 0f), new UserRatingEntry(2L, 1.5f)));
+        when(userRepo.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.getLeaderboardPosition(1L);
+        userService.getLeaderboardPosition(1L);
+        verify(userRepo, times(1)).findAllUserRatingEntries();
+    }
+
+    @Test
+    void saveAddsCreatedUserToLeaderboardAfterCommitTest() {
+        when(userRepo.findAllUserRatingEntries())
+            .thenReturn(Collections.singletonList(new UserRatingEntry(2L, 1.5f)));
+        userService.getLeaderboard(10);
+        User created = User.builder().name("New").email("new@gmail.com").userStatus(UserStatus.ACTIVATED).build();
+        User saved = User.builder().id(3L).name("New").email("new@gmail.com").userStatus(UserStatus.ACTIVATED).build();
+        when(userRepo.save(created)).thenReturn(saved);
+        when(userRepo.findById(3L)).thenReturn(Optional.of(saved));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.save(created);
+            assertThrows(NotFoundException.class, () -> userService.getLeaderboardPosition(3L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(2, userService.getLeaderboardPosition(3L).getRank());
+    }
+
     @Test
     void saveUserProfileTest() throws MalformedURLException {
         UserProfileDtoRequest request = new UserProfileDtoRequest();
@@ -868,4 +992,35 @@ public class UserServiceImplTest {
         when(userRepo.findLastActivityTimeById(anyLong())).thenReturn(Optional.of(userLastActivityTime));
         assertFalse(userService.checkIfTheUserIsOnline(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserProfileStatisticsFromCountersTest() {
+        when(userCountersRepo.findById(1L)).thenReturn(Optional.of(new UserCounters(1L, 2L, 3L, 4L, 5L)));
+        UserProfileStatisticsDto expected = UserProfileStatisticsDto.builder()
+            .amountPublishedNews(2L)
+            .amountWrittenTipsAndTrick(3L)
+            .amountHabitsAcquired(4L)
+            .amountHabitsInProgress(5L)
+            .build();
+
+        assertEquals(expected, userService.getUserProfileStatistics(1L));
+        verify(ecoNewsRepo, never()).getAmountOfPublishedNewsByUserId(anyLong());
+    }
+
+    @Test
+    void getUserProfileStatisticsWithoutCountersTest() {
+        when(userCountersRepo.findById(1L)).thenReturn(Optional.empty());
+        when(ecoNewsRepo.getAmountOfPublishedNewsByUserId(1L)).thenReturn(2L);
+        when(tipsAndTricksRepo.getAmountOfWrittenTipsAndTrickByUserId(1L)).thenReturn(3L);
+        when(habitStatisticRepo.getAmountOfAcquiredHabitsByUserId(1L)).thenReturn(4L);
+        when(habitStatisticRepo.getAmountOfHabitsInProgressByUserId(1L)).thenReturn(5L);
+        UserProfileStatisticsDto expected = UserProfileStatisticsDto.builder()
+            .amountPublishedNews(2L)
+            .amountWrittenTipsAndTrick(3L)
+            .amountHabitsAcquired(4L)
+            .amountHabitsInProgress(5L)
+            .build();
+
+        assertEquals(expected, userService.getUserProfileStatistics(1L));
+    }
+}
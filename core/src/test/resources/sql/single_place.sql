@@ -0,0 +1,2 @@
+INSERT INTO places (id, name)
+VALUES (1, 'foo');
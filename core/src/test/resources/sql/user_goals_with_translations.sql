@@ -0,0 +1,27 @@
+INSERT INTO users (id,
+                   date_of_registration,
+                   email,
+                   email_notification,
+                   name,
+                   last_visit,
+                   role,
+                   user_status,
+                   refresh_token_key)
+VALUES (1, current_date, 'foo@bar.com', 1, 'foo', current_date, 1, 1, 'quux');
+
+INSERT INTO languages (id, code)
+VALUES (1, 'en'),
+       (2, 'ua');
+
+INSERT INTO goals (id)
+VALUES (1),
+       (2);
+
+INSERT INTO goal_translations (id, text, goal_id, language_id)
+VALUES (1, 'Buy a bottle', 1, 1),
+       (2, 'Купити пляшку', 1, 2),
+       (3, 'Buy a bag', 2, 1);
+
+INSERT INTO user_goals (id, user_id, goal_id, status)
+VALUES (1, 1, 1, 'ACTIVE'),
+       (2, 1, 2, 'ACTIVE');
@@ -0,0 +1,13 @@
+INSERT INTO users (id,
+                   date_of_registration,
+                   email,
+                   email_notification,
+                   name,
+                   last_visit,
+                   role,
+                   user_status,
+                   refresh_token_key)
+VALUES (1, current_date, 'foo@bar.com', 1, 'foo', current_date, 1, 1, 'quux');
+
+INSERT INTO goals (id)
+VALUES (1);